@@ -0,0 +1,33 @@
+package seedu.address.benchmarkutil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * A benchmark of processing the recorded articles used by the tests, a news article, a short page and a long
+ * encyclopedia article, as articles are processed when they are saved or shown.
+ */
+public abstract class ArticleBenchmark extends AverageTimeBenchmark {
+
+    /** The link the articles are taken to have been fetched from. */
+    protected static final String BASE_URL = "https://www.example.com/articles/";
+
+    @Param({"/ModelManagerTest/ProPublica.html", "/ModelManagerTest/NUS_School_of_Computing.html",
+        "/view/BrowserPanelTest/wikipedia.html"})
+    protected String fixture;
+
+    protected byte[] articleContent;
+    protected String rawHtml;
+
+    /**
+     * Reads the recorded article.
+     */
+    @Setup
+    public final void readArticle() throws IOException {
+        articleContent = BenchmarkData.readFixture(fixture);
+        rawHtml = new String(articleContent, StandardCharsets.UTF_8);
+    }
+}
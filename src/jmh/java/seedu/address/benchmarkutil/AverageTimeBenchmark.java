@@ -0,0 +1,27 @@
+package seedu.address.benchmarkutil;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The settings shared by every benchmark, which JMH applies to the benchmarks of the classes extending it:
+ * the average time of an operation, in milliseconds unless a subclass declares another {@code OutputTimeUnit},
+ * measured in one forked JVM over 5 one-second iterations after 3 one-second warmup iterations.
+ * Subclasses hold the state of their benchmarks, which is shared by all the threads running them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public abstract class AverageTimeBenchmark {
+}
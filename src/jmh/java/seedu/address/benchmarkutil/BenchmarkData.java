@@ -0,0 +1,135 @@
+package seedu.address.benchmarkutil;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.EntryBook;
+import seedu.address.model.entry.Description;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+import seedu.address.model.entry.Title;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates the data used by the benchmarks.
+ * Generated data is the same from run to run, so that results can be compared between commits.
+ */
+public class BenchmarkData {
+
+    public static final String[] WORDS = {"java", "release", "performance", "garbage", "collector", "compiler",
+        "security", "cloud", "kernel", "database", "index", "network", "browser", "feed", "reader", "article",
+        "design", "pattern", "testing", "benchmark", "latency", "throughput", "memory", "cache", "thread",
+        "stream", "parser", "markup", "style", "layout", "server", "client", "protocol", "storage", "query"};
+    public static final String[] TAGS = {"tech", "news", "java", "web", "science", "longread", "tutorial",
+        "opinion"};
+
+    /** Number of distinct hosts the generated links are spread over. */
+    private static final int NUM_HOSTS = 1000;
+    private static final long SEED = 2103;
+
+    /**
+     * Returns {@code count} entries with distinct links and random titles, descriptions and tags.
+     */
+    public static List<Entry> generateEntries(int count) {
+        Random random = new Random(SEED);
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(new Entry(
+                    new Title(generatePhrase(random, 4, 8)),
+                    new Description(generatePhrase(random, 10, 20)),
+                    new Link(generateUrl(i)),
+                    generateTags(random)));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns an entry book of {@code count} generated entries.
+     */
+    public static EntryBook generateEntryBook(int count) {
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(generateEntries(count));
+        return entryBook;
+    }
+
+    /**
+     * Returns an entry whose link is not that of any generated entry.
+     */
+    public static Entry generateUnusedEntry() {
+        return new Entry(new Title("unused"), new Description("unused"), new Link(generateUrl(-1)),
+                new HashSet<>());
+    }
+
+    /**
+     * Returns an RSS 2.0 feed of {@code count} items with distinct links.
+     */
+    public static String generateRssFeed(int count) {
+        Random random = new Random(SEED);
+        StringBuilder feed = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<rss version=\"2.0\"><channel>\n")
+                .append("<title>Generated feed</title><link>https://feed.example.com/</link>")
+                .append("<description>Generated feed</description>\n");
+        for (int i = 0; i < count; i++) {
+            feed.append("<item><title>").append(generatePhrase(random, 4, 8)).append("</title>")
+                    .append("<link>").append(generateUrl(i)).append("</link>")
+                    .append("<description>&lt;p&gt;").append(generatePhrase(random, 10, 20))
+                    .append("&lt;/p&gt;</description></item>\n");
+        }
+        return feed.append("</channel></rss>\n").toString();
+    }
+
+    /**
+     * Reads a recorded fixture from the classpath, e.g. {@code /ModelManagerTest/ProPublica.html}.
+     */
+    public static byte[] readFixture(String resourcePath) throws IOException {
+        try (InputStream fixture = BenchmarkData.class.getResourceAsStream(resourcePath)) {
+            if (fixture == null) {
+                throw new IOException("Fixture not found: " + resourcePath);
+            }
+            return fixture.readAllBytes();
+        }
+    }
+
+    /**
+     * Returns a phrase of between {@code minWords} and {@code maxWords} random words.
+     */
+    private static String generatePhrase(Random random, int minWords, int maxWords) {
+        int numWords = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder phrase = new StringBuilder(WORDS[random.nextInt(WORDS.length)]);
+        for (int i = 1; i < numWords; i++) {
+            phrase.append(' ').append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return phrase.toString();
+    }
+
+    /**
+     * Returns up to two random tags.
+     */
+    private static Set<Tag> generateTags(Random random) {
+        Set<Tag> tags = new HashSet<>();
+        int numTags = random.nextInt(3);
+        for (int i = 0; i < numTags; i++) {
+            tags.add(new Tag(TAGS[random.nextInt(TAGS.length)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns the link of the {@code index}-th generated entry.
+     */
+    private static URL generateUrl(int index) {
+        try {
+            return new URL("https://site" + Math.floorMod(index, NUM_HOSTS) + ".example.com/articles/" + index);
+        } catch (MalformedURLException mue) {
+            throw new AssertionError("Generated links are valid", mue);
+        }
+    }
+}
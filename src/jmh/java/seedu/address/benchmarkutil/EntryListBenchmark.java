@@ -0,0 +1,35 @@
+package seedu.address.benchmarkutil;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+
+/**
+ * A benchmark of searching or indexing an observable list of generated entries, as the entry lists of
+ * entry books are searched and indexed.
+ * Every such benchmark runs on lists of the same sizes, so that their results can be compared with each other.
+ */
+public abstract class EntryListBenchmark extends AverageTimeBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    protected int size;
+
+    protected ObservableList<Entry> entries;
+
+    /**
+     * Generates the entries, then sets up the rest of the benchmark.
+     */
+    @Setup
+    public final void setUpEntries() {
+        entries = FXCollections.observableArrayList(BenchmarkData.generateEntries(size));
+        setUp();
+    }
+
+    /**
+     * Sets up what the benchmark needs besides {@code entries}, e.g. an index of them.
+     */
+    protected abstract void setUp();
+}
@@ -0,0 +1,94 @@
+package seedu.address.commons.core;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.LogManager;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.mocks.ModelManagerStub;
+
+/**
+ * Benchmarks the overhead of logging on executing a command,
+ * with logging turned off, written to the log file directly, and written by an {@code AsyncLogHandler}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LoggingBenchmark extends AverageTimeBenchmark {
+
+    private static final String COMMAND = "list";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
+
+    @Param({"off", "sync", "async"})
+    private String logging;
+
+    private Path logFile;
+    private Handler handler;
+    private LogicManager logic;
+
+    @Setup
+    public void setUp() throws IOException {
+        logFile = Files.createTempFile("benchmark", ".log");
+        FileHandler fileHandler = new FileHandler(logFile.toString());
+        fileHandler.setFormatter(new SimpleFormatter());
+        if (logging.equals("async")) {
+            // the same policy as the application's log handler
+            handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP_OLDEST,
+                    fileHandler);
+        } else {
+            handler = fileHandler;
+        }
+    }
+
+    /**
+     * Starts each iteration with a new {@code LogicManager}, so that the command history does not grow without bound,
+     * and points the loggers created by {@code LogsCenter} at the benchmarked handler.
+     */
+    @Setup(Level.Iteration)
+    public void setUpLogic() {
+        logic = new LogicManager(new ModelManagerStub());
+        java.util.logging.Level level = logging.equals("off") ? java.util.logging.Level.OFF
+                : java.util.logging.Level.INFO;
+        for (String name : Collections.list(LogManager.getLogManager().getLoggerNames())) {
+            Logger logger = LogManager.getLogManager().getLogger(name);
+            if (logger == null || logger.getUseParentHandlers()) {
+                // not created by LogsCenter
+                continue;
+            }
+            Arrays.stream(logger.getHandlers()).forEach(logger::removeHandler);
+            logger.addHandler(handler);
+            logger.setLevel(level);
+        }
+    }
+
+    /**
+     * Closes the handler, writing out any buffered messages, and deletes the log file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        handler.close();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public CommandResult executeCommand() throws CommandException, ParseException {
+        return logic.execute(COMMAND);
+    }
+}
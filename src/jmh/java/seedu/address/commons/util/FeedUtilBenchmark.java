@@ -0,0 +1,45 @@
+package seedu.address.commons.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import com.rometools.rome.feed.synd.SyndFeed;
+import com.rometools.rome.io.FeedException;
+import com.rometools.rome.io.SyndFeedInput;
+import com.rometools.rome.io.XmlReader;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.model.EntryBook;
+
+/**
+ * Benchmarks converting a parsed feed to an entry book.
+ * The entries are added one at a time and checked for duplicates, which takes time quadratic in their number,
+ * so only smaller feeds are benchmarked by default.
+ */
+public class FeedUtilBenchmark extends AverageTimeBenchmark {
+
+    private static final String FEED_URL = "https://feed.example.com/rss.xml";
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private SyndFeed syndFeed;
+
+    @Setup
+    public void setUp() throws IOException, FeedException {
+        byte[] feed = BenchmarkData.generateRssFeed(size).getBytes(StandardCharsets.UTF_8);
+        syndFeed = new SyndFeedInput().build(new XmlReader(new ByteArrayInputStream(feed)));
+    }
+
+    @Benchmark
+    public EntryBook serializeToEntryBook() {
+        return FeedUtil.serializeToEntryBook(syndFeed, FEED_URL, Collections.emptySet());
+    }
+}
@@ -0,0 +1,32 @@
+package seedu.address.commons.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.ArticleBenchmark;
+
+/**
+ * Benchmarks extracting recorded articles, with and without the article having been extracted before.
+ */
+public class ReadabilityUtilBenchmark extends ArticleBenchmark {
+
+    @Param({"false", "true"})
+    private boolean cached;
+
+    /**
+     * Forgets the article extracted by the previous call, unless measuring extraction from the cache.
+     */
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        if (!cached) {
+            ReadabilityUtil.clearCache();
+        }
+    }
+
+    @Benchmark
+    public ExtractedArticle extractArticle() {
+        return ReadabilityUtil.extractArticle(rawHtml, BASE_URL);
+    }
+}
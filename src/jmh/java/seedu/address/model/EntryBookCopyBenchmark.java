@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Benchmarks copying an entry book by sharing its entries, as {@code ModelManager#clone()} does,
+ * and changing the copy afterwards, which copies the shared entries.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntryBookCopyBenchmark extends AverageTimeBenchmark {
+
+    // generating an entry book checks every pair of entries for duplicates, so larger books take too long
+    @Param({"1000", "10000"})
+    private int size;
+
+    private EntryBook entryBook;
+    private Entry unusedEntry;
+
+    @Setup
+    public void setUp() {
+        entryBook = BenchmarkData.generateEntryBook(size);
+        unusedEntry = BenchmarkData.generateUnusedEntry();
+    }
+
+    @Benchmark
+    public EntryBook copy() {
+        return new EntryBook(entryBook);
+    }
+
+    /**
+     * Copies the entry book and replaces an entry of the copy, which stops it sharing its entries.
+     */
+    @Benchmark
+    public EntryBook copyAndChange() {
+        EntryBook copy = new EntryBook(entryBook);
+        copy.setEntry(copy.getEntryList().get(0), unusedEntry);
+        return copy;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import javafx.collections.transformation.FilteredList;
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+
+/**
+ * Benchmarks filtering the displayed entry list for a find command searching every field,
+ * by the {@code FilteredList} alone and with the predicate precomputed in parallel, as large lists are filtered.
+ */
+public class FilteredEntryListBenchmark extends EntryListBenchmark {
+
+    private FilteredList<Entry> filteredEntries;
+    private EntryContainsSearchTermsPredicate predicate;
+
+    @Override
+    protected void setUp() {
+        filteredEntries = new FilteredList<>(entries);
+
+        FindEntryDescriptor all = new FindEntryDescriptor();
+        all.setAll("garbage collector");
+        predicate = new EntryContainsSearchTermsPredicate(all);
+    }
+
+    /**
+     * Filters the list by testing the predicate on every entry, as lists below the parallel threshold are.
+     */
+    @Benchmark
+    public int filter_serial() {
+        // a new predicate every time, as the filtered list is only refiltered when its predicate changes
+        filteredEntries.setPredicate(predicate::test);
+        return filteredEntries.size();
+    }
+
+    /**
+     * Tests the predicate on the entries in parallel first, then filters the list by the precomputed results.
+     */
+    @Benchmark
+    public int filter_parallel() {
+        PrecomputedPredicate<Entry> precomputedPredicate =
+                PrecomputedPredicate.evaluate(new ArrayList<>(entries), predicate);
+        filteredEntries.setPredicate(precomputedPredicate);
+        precomputedPredicate.forgetMatches();
+        return filteredEntries.size();
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import javafx.collections.FXCollections;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks displaying the results of a saved search from a {@code SavedSearchView}, and keeping the view up to
+ * date as an entry is added and deleted, against filtering every entry by the search again as {@code find} does.
+ */
+public class SavedSearchViewBenchmark extends EntryListBenchmark {
+
+    private FilteredList<Entry> filteredEntries;
+    private EntryContainsSearchTermsPredicate predicate;
+    private SavedSearchView view;
+    private Entry matchingEntry;
+
+    @Override
+    protected void setUp() {
+        filteredEntries = new FilteredList<>(entries);
+
+        // about one in eight entries is tagged longread, and one in five of those has "garbage" in its title
+        FindEntryDescriptor descriptor = new FindEntryDescriptor();
+        descriptor.setTitle("garbage");
+        descriptor.setRequiredTags(Set.of(new Tag("longread")));
+        predicate = new EntryContainsSearchTermsPredicate(descriptor);
+
+        view = new SavedSearchView(predicate, List.of(entries, FXCollections.observableArrayList()));
+        view.getMatches();
+        matchingEntry = entries.stream().filter(predicate).findFirst().get();
+    }
+
+    @Benchmark
+    public int view_display() {
+        return new FilteredList<>(view.getMatches(), Model.PREDICATE_SHOW_ALL_ENTRIES).size();
+    }
+
+    /**
+     * Adds a matching entry and deletes it again, so that the view and the list keep their sizes.
+     */
+    @Benchmark
+    public int view_entryAddedAndDeleted() {
+        entries.add(matchingEntry);
+        entries.remove(entries.size() - 1);
+        return view.getMatches().size();
+    }
+
+    /**
+     * Filters every entry by the search again, as {@code find} does.
+     */
+    @Benchmark
+    public int refilter() {
+        // a new predicate every time, as the filtered list is only refiltered when its predicate changes
+        filteredEntries.setPredicate(predicate::test);
+        return filteredEntries.size();
+    }
+}
@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Benchmarks undoing and redoing the deletion of every entry of an entry book, as {@code deleteall} deletes them,
+ * through the {@code UndoHistory}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UndoHistoryBenchmark extends AverageTimeBenchmark {
+
+    // generating an entry book checks every pair of entries for duplicates, so larger books take too long
+    @Param({"1000", "10000"})
+    private int size;
+
+    private UndoHistory history;
+
+    @Setup
+    public void setUp() {
+        List<Entry> entries = BenchmarkData.generateEntries(size);
+
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(entries);
+        history = new UndoHistory(List.of(entryBook));
+        for (int i = entries.size() - 1; i >= 0; i--) {
+            entryBook.removeEntry(entries.get(i));
+        }
+        history.commit();
+    }
+
+    /**
+     * Undoes the deletion of every entry, restoring them all, then redoes it.
+     */
+    @Benchmark
+    public UndoHistory undoAndRedo() {
+        history.undo();
+        history.redo();
+        return history;
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.entry;
+
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks filtering entries with an {@code EntryContainsSearchTermsPredicate}, as the find command does.
+ */
+public class EntryContainsSearchTermsPredicateBenchmark extends EntryListBenchmark {
+
+    private EntryContainsSearchTermsPredicate titlePredicate;
+    private EntryContainsSearchTermsPredicate allFieldsPredicate;
+    private EntryContainsSearchTermsPredicate tagPredicate;
+
+    @Override
+    protected void setUp() {
+        FindEntryDescriptor title = new FindEntryDescriptor();
+        title.setTitle("garbage collector");
+        titlePredicate = new EntryContainsSearchTermsPredicate(title);
+
+        FindEntryDescriptor all = new FindEntryDescriptor();
+        all.setAll("nonexistent");
+        allFieldsPredicate = new EntryContainsSearchTermsPredicate(all);
+
+        FindEntryDescriptor tag = new FindEntryDescriptor();
+        tag.setTags(Set.of(new Tag("longread")));
+        tagPredicate = new EntryContainsSearchTermsPredicate(tag);
+    }
+
+    @Benchmark
+    public long filter_title() {
+        return entries.stream().filter(titlePredicate).count();
+    }
+
+    /**
+     * Searches every field for a word which matches nothing, the slowest search.
+     */
+    @Benchmark
+    public long filter_allFieldsNoMatch() {
+        return entries.stream().filter(allFieldsPredicate).count();
+    }
+
+    @Benchmark
+    public long filter_tag() {
+        return entries.stream().filter(tagPredicate).count();
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.model.entry;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.benchmarkutil.EntryListBenchmark;
+
+/**
+ * Benchmarks finding a near-duplicate of an imported entry in a {@code NearDuplicateIndex},
+ * as {@code refresh} does for every entry of a feed.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NearDuplicateIndexBenchmark extends EntryListBenchmark {
+
+    private NearDuplicateIndex index;
+    private Entry syndicatedEntry;
+
+    @Override
+    protected void setUp() {
+        index = new NearDuplicateIndex(entries);
+
+        // the same story as an entry in the middle of the list, syndicated under another link
+        Entry story = entries.get(size / 2);
+        syndicatedEntry = new Entry(story.getTitle(), new Description(story.getDescription().value + " (via Wire)"),
+                BenchmarkData.generateUnusedEntry().getLink(), story.getTags());
+        index.findNearDuplicate(syndicatedEntry);
+    }
+
+    @Benchmark
+    public Optional<Entry> findNearDuplicate() {
+        return index.findNearDuplicate(syndicatedEntry);
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.model.entry;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.logic.commands.RankCommand;
+
+/**
+ * Benchmarks ranking the entries of a {@code RankedSearchIndex} by their relevance to a query,
+ * keeping the most relevant in a bounded heap as {@code rank} does.
+ */
+public class RankedSearchIndexBenchmark extends EntryListBenchmark {
+
+    /** A word in a few percent of the generated entries, and a word in most of them. */
+    private static final String QUERY = "kernel java";
+
+    private RankedSearchIndex index;
+
+    @Override
+    protected void setUp() {
+        index = new RankedSearchIndex(entries);
+        index.search(QUERY, RankCommand.MAX_RESULTS);
+    }
+
+    @Benchmark
+    public List<Entry> search() {
+        return index.search(QUERY, RankCommand.MAX_RESULTS);
+    }
+}
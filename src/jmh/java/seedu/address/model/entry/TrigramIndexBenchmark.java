@@ -0,0 +1,52 @@
+package seedu.address.model.entry;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.model.entry.util.WordTokenizer;
+
+/**
+ * Benchmarks finding the entries matching a phrase with typos in a {@code TrigramIndex}, as {@code find} does
+ * for the displayed entry book, against comparing the phrase with the words of every entry by edit distance,
+ * as the predicate of {@code find} does for the entries it is tested on.
+ */
+public class TrigramIndexBenchmark extends EntryListBenchmark {
+
+    /** "kernel" and "benchmark" with typos, which are each in about two fifths of the generated entries. */
+    private static final String QUERY = "kernl benchmrak";
+    /** A word in none of the generated entries, so that only the comparisons are measured. */
+    private static final String RARE_QUERY = "kuberentes";
+
+    private TrigramIndex index;
+    private List<String> queryWords;
+
+    @Override
+    protected void setUp() {
+        index = new TrigramIndex(entries);
+        index.getEntriesMatchingFuzzily(QUERY);
+        queryWords = WordTokenizer.toWords(QUERY);
+    }
+
+    @Benchmark
+    public List<Entry> index_commonWords() {
+        return index.getEntriesMatchingFuzzily(QUERY);
+    }
+
+    @Benchmark
+    public List<Entry> index_rareWord() {
+        return index.getEntriesMatchingFuzzily(RARE_QUERY);
+    }
+
+    /**
+     * Compares the query words with the words of every entry, without the index.
+     */
+    @Benchmark
+    public List<Entry> predicate_commonWords() {
+        return entries.stream()
+                .filter(entry -> TrigramIndex.matchesFuzzily(entry, queryWords))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.model.entry;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.benchmarkutil.BenchmarkData;
+
+/**
+ * Benchmarks adding to and searching a {@code UniqueEntryList}.
+ * Setting up the list checks its entries for duplicates, which takes time quadratic in its size,
+ * so only smaller lists are benchmarked by default.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueEntryListBenchmark extends AverageTimeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private final UniqueEntryList entryList = new UniqueEntryList();
+    private Entry lastEntry;
+    private Entry unusedEntry;
+
+    @Setup
+    public void setUp() {
+        List<Entry> entries = BenchmarkData.generateEntries(size);
+        entryList.setEntries(entries);
+        lastEntry = entries.get(size - 1);
+        unusedEntry = BenchmarkData.generateUnusedEntry();
+    }
+
+    @Benchmark
+    public boolean contains_present() {
+        return entryList.contains(lastEntry);
+    }
+
+    @Benchmark
+    public boolean contains_absent() {
+        return entryList.contains(unusedEntry);
+    }
+
+    /**
+     * Adds an entry, then removes it again so that the list keeps its size.
+     */
+    @Benchmark
+    public void addThenRemove() {
+        entryList.add(unusedEntry);
+        entryList.remove(unusedEntry);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.model.tag;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import seedu.address.benchmarkutil.EntryListBenchmark;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Benchmarks finding the entries with some tags and without others,
+ * by testing the tags of every entry and by looking them up in a {@link TagIndex}.
+ */
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TagIndexBenchmark extends EntryListBenchmark {
+
+    private TagIndex tagIndex;
+    private TagQuery query;
+
+    @Override
+    protected void setUp() {
+        tagIndex = new TagIndex(entries);
+        // entries tagged java or tutorial, and tech, but not opinion
+        query = new TagQuery(Set.of(new Tag("java"), new Tag("tutorial")), Set.of(new Tag("tech")),
+                Set.of(new Tag("opinion")));
+    }
+
+    @Benchmark
+    public List<Entry> scan() {
+        return entries.stream().filter(entry -> query.test(entry.getTags())).collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<Entry> index() {
+        return tagIndex.getEntriesMatching(query);
+    }
+}
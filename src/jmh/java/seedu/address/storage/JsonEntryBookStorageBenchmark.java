@@ -0,0 +1,68 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.benchmarkutil.AverageTimeBenchmark;
+import seedu.address.benchmarkutil.BenchmarkData;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyEntryBook;
+
+/**
+ * Benchmarks saving and reading entry books as JSON.
+ * Reading an entry book checks its entries for duplicates, which takes time quadratic in its size,
+ * so only smaller entry books are benchmarked by default.
+ */
+public class JsonEntryBookStorageBenchmark extends AverageTimeBenchmark {
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    private ReadOnlyEntryBook entryBook;
+    private Path savedFile;
+    private Path scratchFile;
+    private JsonEntryBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        entryBook = BenchmarkData.generateEntryBook(size);
+        savedFile = Files.createTempFile("benchmark", ".json");
+        scratchFile = Files.createTempFile("benchmark", ".json");
+        storage = new JsonEntryBookStorage(savedFile);
+        storage.saveEntryBook(entryBook);
+    }
+
+    /**
+     * Deletes the files written by the benchmarks.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(savedFile);
+        Files.deleteIfExists(scratchFile);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveEntryBook(entryBook, scratchFile);
+    }
+
+    @Benchmark
+    public ReadOnlyEntryBook read() throws DataConversionException {
+        return storage.readEntryBook().get();
+    }
+
+    /**
+     * Saves the entry book and reads it back, as when the application is restarted.
+     */
+    @Benchmark
+    public ReadOnlyEntryBook saveThenRead() throws IOException, DataConversionException {
+        storage.saveEntryBook(entryBook, scratchFile);
+        return storage.readEntryBook(scratchFile).get();
+    }
+}
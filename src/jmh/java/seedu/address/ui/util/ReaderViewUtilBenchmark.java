@@ -0,0 +1,41 @@
+package seedu.address.ui.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.ArticleBenchmark;
+import seedu.address.commons.util.ReadabilityUtil;
+
+/**
+ * Benchmarks generating the reader view of recorded articles.
+ */
+public class ReaderViewUtilBenchmark extends ArticleBenchmark {
+
+    private Document rawDocument;
+
+    /**
+     * Parses the article afresh for every call, as extracting the article modifies the document,
+     * and forgets the articles extracted by earlier calls.
+     */
+    @Setup(Level.Invocation)
+    public void parseArticle() {
+        rawDocument = Jsoup.parse(rawHtml, BASE_URL);
+        ReadabilityUtil.clearCache();
+    }
+
+    @Benchmark
+    public Document generateReaderViewFrom() {
+        return ReaderViewUtil.generateReaderViewFrom(rawDocument);
+    }
+
+    /**
+     * Parses and generates the reader view, as the browser panel does when an article is shown.
+     */
+    @Benchmark
+    public String generateReaderViewStringFrom() {
+        return ReaderViewUtil.generateReaderViewStringFrom(rawHtml, BASE_URL);
+    }
+}
@@ -0,0 +1,27 @@
+package seedu.address.util;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import seedu.address.benchmarkutil.ArticleBenchmark;
+
+/**
+ * Benchmarks making the links in recorded articles absolute, as is done before saving them for offline reading.
+ */
+public class AbsoluteUrlDocumentConverterBenchmark extends ArticleBenchmark {
+
+    private URL baseUrl;
+
+    @Setup
+    public void setUp() throws MalformedURLException {
+        baseUrl = new URL(BASE_URL);
+    }
+
+    @Benchmark
+    public byte[] convert() {
+        return AbsoluteUrlDocumentConverter.convert(baseUrl, articleContent);
+    }
+}
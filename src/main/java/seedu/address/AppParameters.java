@@ -2,6 +2,7 @@ package seedu.address;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.logging.Logger;
@@ -9,14 +10,19 @@ import java.util.logging.Logger;
 import javafx.application.Application;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.util.NetworkMode;
 
 /**
  * Represents the parsed command-line parameters given to the application.
  */
 public class AppParameters {
+    public static final Path DEFAULT_NETWORK_ARCHIVE_PATH = Paths.get("data", "network-archive");
+
     private static final Logger logger = LogsCenter.getLogger(AppParameters.class);
 
     private Path configPath;
+    private NetworkMode networkMode = NetworkMode.LIVE;
+    private Path networkArchivePath = DEFAULT_NETWORK_ARCHIVE_PATH;
 
     public Path getConfigPath() {
         return configPath;
@@ -26,12 +32,34 @@ public class AppParameters {
         this.configPath = configPath;
     }
 
+    public NetworkMode getNetworkMode() {
+        return networkMode;
+    }
+
+    public void setNetworkMode(NetworkMode networkMode) {
+        this.networkMode = networkMode;
+    }
+
+    public Path getNetworkArchivePath() {
+        return networkArchivePath;
+    }
+
+    public void setNetworkArchivePath(Path networkArchivePath) {
+        this.networkArchivePath = networkArchivePath;
+    }
+
     /**
      * Parses the application command-line parameters.
      */
     public static AppParameters parse(Application.Parameters parameters) {
+        return parse(parameters.getNamed());
+    }
+
+    /**
+     * Parses the named command-line parameters, given as a map from name to value.
+     */
+    public static AppParameters parse(Map<String, String> namedParameters) {
         AppParameters appParameters = new AppParameters();
-        Map<String, String> namedParameters = parameters.getNamed();
 
         String configPathParameter = namedParameters.get("config");
         if (configPathParameter != null && !FileUtil.isValidPath(configPathParameter)) {
@@ -40,6 +68,23 @@ public class AppParameters {
         }
         appParameters.setConfigPath(configPathParameter != null ? Paths.get(configPathParameter) : null);
 
+        String networkModeParameter = namedParameters.get("network");
+        if (networkModeParameter != null) {
+            try {
+                appParameters.setNetworkMode(NetworkMode.valueOf(networkModeParameter.toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException iae) {
+                logger.warning("Invalid network mode " + networkModeParameter + ". Using the network live.");
+            }
+        }
+
+        String networkArchiveParameter = namedParameters.get("network-archive");
+        if (networkArchiveParameter != null && !FileUtil.isValidPath(networkArchiveParameter)) {
+            logger.warning("Invalid network archive path " + networkArchiveParameter
+                    + ". Using default network archive path.");
+        } else if (networkArchiveParameter != null) {
+            appParameters.setNetworkArchivePath(Paths.get(networkArchiveParameter));
+        }
+
         return appParameters;
     }
 
@@ -54,11 +99,13 @@ public class AppParameters {
         }
 
         AppParameters otherAppParameters = (AppParameters) other;
-        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath());
+        return Objects.equals(getConfigPath(), otherAppParameters.getConfigPath())
+                && getNetworkMode() == otherAppParameters.getNetworkMode()
+                && getNetworkArchivePath().equals(otherAppParameters.getNetworkArchivePath());
     }
 
     @Override
     public int hashCode() {
-        return configPath.hashCode();
+        return Objects.hash(configPath, networkMode, networkArchivePath);
     }
 }
@@ -0,0 +1,129 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * An entry point which runs commands without the GUI, so that the app can be scripted,
+ * and recorded command logs can be replayed as load tests.
+ *
+ * Commands are read one per line from the given script file, or from standard input if no file is given.
+ * Blank lines and lines starting with {@code #} are skipped, and reading stops at an exit command.
+ * The time taken by every command is printed, followed by a summary of all the commands.
+ *
+ * Usage: {@code BatchApp [--config=CONFIG_FILE] [--network=live|record|replay] [--network-archive=DIRECTORY]
+ * [--quiet] [SCRIPT_FILE]}
+ */
+public class BatchApp extends MainApp {
+
+    public static final String COMMENT_PREFIX = "#";
+    public static final String QUIET_OPTION = "--quiet";
+    public static final String MESSAGE_COMMAND_TIMING = "%10.3f ms  %-6s %s";
+    public static final String MESSAGE_SUMMARY = "Ran %d commands, %d failed: %s";
+    public static final String STATUS_SUCCESS = "OK";
+    public static final String STATUS_FAILURE = "FAILED";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchApp.class);
+
+    /**
+     * Runs the commands in the script given in {@code args}, exiting with status 1 if any of them failed,
+     * or 2 if the script could not be read.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String scriptPath = null;
+        boolean isQuiet = false;
+        for (String arg : args) {
+            if (arg.equals(QUIET_OPTION)) {
+                isQuiet = true;
+            } else if (arg.startsWith("--") && arg.contains("=")) {
+                namedParameters.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                scriptPath = arg;
+            }
+        }
+
+        BatchApp app = new BatchApp();
+        app.initComponents(AppParameters.parse(namedParameters));
+        logger.info("Running commands from " + (scriptPath == null ? "standard input" : scriptPath));
+
+        int exitStatus;
+        try (BufferedReader reader = scriptPath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(Paths.get(scriptPath), StandardCharsets.UTF_8)) {
+            exitStatus = runCommands(app.logic, reader, System.out, isQuiet) == 0 ? 0 : 1;
+        } catch (IOException ioe) {
+            System.err.println("Could not read commands: " + ioe);
+            exitStatus = 2;
+        } finally {
+            app.stopComponents();
+        }
+        System.exit(exitStatus);
+    }
+
+    /**
+     * Executes every command read from {@code reader}, printing its timing and,
+     * unless {@code isQuiet}, its result to {@code out}.
+     * @return the number of commands which failed.
+     */
+    static int runCommands(Logic logic, BufferedReader reader, PrintStream out, boolean isQuiet)
+            throws IOException {
+        Timer commandTimer = new Timer();
+        int numFailed = 0;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            String commandText = line.trim();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                continue;
+            }
+
+            String feedback;
+            boolean isSuccessful;
+            boolean isExit = false;
+            long start = System.nanoTime();
+            try {
+                CommandResult result = logic.execute(commandText);
+                feedback = result.getFeedbackToUser();
+                isSuccessful = true;
+                isExit = result.isExit();
+            } catch (CommandException | ParseException e) {
+                feedback = e.getMessage();
+                isSuccessful = false;
+                numFailed++;
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            commandTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+            out.println(String.format(MESSAGE_COMMAND_TIMING, elapsedNanos / 1e6,
+                    isSuccessful ? STATUS_SUCCESS : STATUS_FAILURE, commandText));
+            if (!isQuiet) {
+                for (String feedbackLine : feedback.split("\n")) {
+                    out.println("    " + feedbackLine);
+                }
+            }
+            if (isExit) {
+                break;
+            }
+        }
+
+        out.println(String.format(MESSAGE_SUMMARY, commandTimer.getCount(), numFailed, commandTimer));
+        return numFailed;
+    }
+}
@@ -1,21 +1,29 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.parser.FindCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -34,6 +42,8 @@ import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 import seedu.address.util.Network;
+import seedu.address.util.NetworkArchive;
+import seedu.address.util.NetworkMode;
 
 /**
  * The main entry point to the application.
@@ -43,6 +53,8 @@ public class MainApp extends Application {
     public static final Version VERSION = new Version(1, 3, 1, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final String LIST_ENTRY_BOOK_NAME = "reading list";
+    private static final String ARCHIVES_ENTRY_BOOK_NAME = "archives";
 
     protected Ui ui;
     protected Logic logic;
@@ -50,12 +62,23 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /** Names of the entry books whose data files could not be read, and which were started empty instead. */
+    private final Set<String> unreadEntryBookNames = new HashSet<>();
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing README ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        ui = new UiManager(logic);
+    }
+
+    /**
+     * Initializes every component except the UI.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
@@ -63,18 +86,18 @@ public class MainApp extends Application {
         EntryBookStorage listEntryBookStorage = new JsonEntryBookStorage(userPrefs.getListEntryBookFilePath());
         EntryBookStorage archivesEntryBookStorage = new JsonEntryBookStorage(userPrefs.getArchivesEntryBookFilePath());
         EntryBookStorage feedsEntryBookStorage = new JsonEntryBookStorage(userPrefs.getFeedsEntryBookFilePath());
+        EntryBookStorage downloadQueueStorage = new JsonEntryBookStorage(userPrefs.getDownloadQueueFilePath());
         ArticleStorage articleStorage = new DataDirectoryArticleStorage(userPrefs.getArticleDataDirectoryPath());
 
         storage = new StorageManager(listEntryBookStorage, archivesEntryBookStorage, feedsEntryBookStorage,
-                userPrefsStorage, articleStorage);
+                downloadQueueStorage, userPrefsStorage, articleStorage);
 
         initLogging(config);
+        initNetwork(appParameters);
 
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model);
-
-        ui = new UiManager(logic);
     }
 
     /**
@@ -85,21 +108,72 @@ public class MainApp extends Application {
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
 
         ReadOnlyEntryBook initialListEntryBook = initEntryBook(storage::readListEntryBook, EntryBook::new,
-                "reading list");
+                LIST_ENTRY_BOOK_NAME);
         ReadOnlyEntryBook initialArchivesEntryBook = initEntryBook(storage::readArchivesEntryBook, EntryBook::new,
-                "archives");
+                ARCHIVES_ENTRY_BOOK_NAME);
         ReadOnlyEntryBook initialFeedEntryBook = initEntryBook(storage::readFeedsEntryBook, EntryBook::new,
                 "feed list");
 
-        return new ModelManager(initialListEntryBook, initialArchivesEntryBook, initialFeedEntryBook, userPrefs,
-                storage);
+        // the articles of an entry book which could not be read would never be renamed once the renaming is done
+        if (unreadEntryBookNames.contains(LIST_ENTRY_BOOK_NAME)
+                || unreadEntryBookNames.contains(ARCHIVES_ENTRY_BOOK_NAME)) {
+            logger.warning("Not renaming saved articles, as the reading list or archives could not be read");
+        } else {
+            migrateArticles(storage, initialListEntryBook, initialArchivesEntryBook);
+        }
+
+        ModelManager initialModel = new ModelManager(initialListEntryBook, initialArchivesEntryBook,
+                initialFeedEntryBook, userPrefs, storage);
+        initialModel.setUndoHistoryLimit(config.getUndoHistoryLimitInMegabytes() * 1024L * 1024L);
+        restoreSavedSearches(initialModel, userPrefs);
+
+        // resume the article downloads which were not finished in the previous session
+        ReadOnlyEntryBook unfinishedDownloads = initEntryBook(storage::readDownloadQueue, EntryBook::new,
+                "download queue");
+        initialModel.queueArticleDownloads(unfinishedDownloads.getEntryList());
+
+        return initialModel;
     }
 
+    /**
+     * Adds the searches saved in {@code userPrefs} to {@code model}, parsing the arguments of {@code find} they were
+     * saved with. Their results are only found when they are first displayed.
+     */
+    private void restoreSavedSearches(Model model, ReadOnlyUserPrefs userPrefs) {
+        FindCommandParser parser = new FindCommandParser();
+        userPrefs.getSavedSearches().forEach((name, findArguments) -> {
+            try {
+                model.addSavedSearch(name, findArguments, parser.parsePredicate(" " + findArguments));
+            } catch (ParseException e) {
+                logger.warning("Saved search " + name + " is not in the correct format, leaving it out: " + e);
+            }
+        });
+    }
+
+    /**
+     * Renames the saved articles of {@code listEntryBook} and {@code archivesEntryBook} by the canonical forms of
+     * their links, if they were saved before articles were named so.
+     */
+    private void migrateArticles(Storage storage, ReadOnlyEntryBook listEntryBook,
+            ReadOnlyEntryBook archivesEntryBook) {
+        try {
+            storage.migrateToCanonicalFilenames(getUrls(listEntryBook), getUrls(archivesEntryBook));
+        } catch (IOException e) {
+            logger.warning("Problem while renaming saved articles, some may not be available offline: " + e);
+        }
+    }
+
+    private static List<URL> getUrls(ReadOnlyEntryBook entryBook) {
+        return entryBook.getEntryList().stream()
+                .map(entry -> entry.getLink().value)
+                .collect(Collectors.toList());
+    }
 
     /**
      * Returns an initialized EntryBook given a method reference which reads it from storage and another function
      * which returns a sample EntryBook.
-     * Also takes in the name of the EntryBook initialized for logging messages.
+     * Also takes in the name of the EntryBook initialized for logging messages,
+     * which is recorded in {@code unreadEntryBookNames} if its data file could not be read.
      */
     private ReadOnlyEntryBook initEntryBook(
             DataConversionAndIoExceptionsThrowingSupplier<Optional<ReadOnlyEntryBook>> storageFetcher,
@@ -113,9 +187,11 @@ public class MainApp extends Application {
             }
             return fetchedEntryBook.orElseGet(sampleEntryBookSupplier);
         } catch (DataConversionException e) {
+            unreadEntryBookNames.add(entryBookName);
             logger.warning("Data file not in the correct format. Will be starting with an empty " + entryBookName);
             return new EntryBook();
         } catch (IOException e) {
+            unreadEntryBookNames.add(entryBookName);
             logger.warning("Problem while reading from the file. Will be starting with an empty " + entryBookName);
             return new EntryBook();
         }
@@ -123,6 +199,16 @@ public class MainApp extends Application {
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
+        MetricsCenter.init(config);
+    }
+
+    /**
+     * Records or replays the responses to network requests if asked to by {@code appParameters}.
+     */
+    private void initNetwork(AppParameters appParameters) {
+        if (appParameters.getNetworkMode() != NetworkMode.LIVE) {
+            Network.setMode(appParameters.getNetworkMode(), new NetworkArchive(appParameters.getNetworkArchivePath()));
+        }
     }
 
     /**
@@ -202,6 +288,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping README ] =============================");
+        stopComponents();
+    }
+
+    /**
+     * Stops background work, deletes the articles kept only for undoing, and saves the user preferences.
+     */
+    protected void stopComponents() {
+        model.stopArticleDownloads();
+        // nothing can be undone after the application stops
+        model.clearEntryBooksHistory();
         try {
             Network.stop();
         } catch (IOException e) {
@@ -212,6 +308,7 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        MetricsCenter.stop();
     }
 
     public static void main(String[] args) {
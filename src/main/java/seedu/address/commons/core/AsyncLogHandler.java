@@ -0,0 +1,212 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} which hands log records to other handlers on a background thread,
+ * so that logging does not do I/O on the calling thread (often the JavaFX application thread).
+ *
+ * Records wait in a bounded ring buffer. When it is full, the {@link OverflowPolicy} decides what to do,
+ * except that {@code SEVERE} records always wait for space so that they are never lost.
+ * The number of dropped records is itself logged once the buffer has room again.
+ */
+public class AsyncLogHandler extends Handler {
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drops the oldest buffered record to make room. */
+        DROP_OLDEST,
+        /** Drops the new record. */
+        DROP_NEWEST,
+        /** Makes the logging thread wait until there is room. */
+        BLOCK
+    }
+
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long FLUSH_TIMEOUT_MILLIS = 1000;
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final AtomicLong droppedCount = new AtomicLong();
+    // records buffered or being published
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final Object publishLock = new Object();
+    private final Thread worker;
+    private volatile boolean isClosed = false;
+
+    /**
+     * Creates a handler which buffers up to {@code capacity} records for the given {@code targets}.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... targets) {
+        this.targets = Arrays.asList(targets);
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        worker = new Thread(this::publishBufferedRecords, "Async log handler");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is inferred from the stack, so it must be done on the logging thread
+        record.getSourceClassName();
+
+        pendingCount.incrementAndGet();
+        if (buffer.offer(record)) {
+            return;
+        }
+        if (record.getLevel().intValue() >= Level.SEVERE.intValue() || overflowPolicy == OverflowPolicy.BLOCK) {
+            putUninterruptibly(record);
+            return;
+        }
+        droppedCount.incrementAndGet();
+        if (overflowPolicy == OverflowPolicy.DROP_OLDEST && buffer.poll() != null) {
+            pendingCount.decrementAndGet();
+            if (buffer.offer(record)) {
+                return;
+            }
+            // filled up again by another thread, give up on this record
+            droppedCount.incrementAndGet();
+        }
+        pendingCount.decrementAndGet();
+    }
+
+    /**
+     * Waits for room in the buffer, then adds the record.
+     */
+    private void putUninterruptibly(LogRecord record) {
+        boolean isInterrupted = false;
+        while (true) {
+            try {
+                buffer.put(record);
+                break;
+            } catch (InterruptedException ie) {
+                isInterrupted = true;
+            }
+        }
+        if (isInterrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publishes the buffered records to the target handlers until this handler is closed.
+     */
+    private void publishBufferedRecords() {
+        while (!isClosed) {
+            try {
+                LogRecord record = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (record != null) {
+                    publishToTargets(record);
+                    onPublished();
+                }
+            } catch (InterruptedException ie) {
+                // closed
+                return;
+            }
+        }
+    }
+
+    /**
+     * Publishes a record to every target handler, first reporting any records dropped before it.
+     */
+    private void publishToTargets(LogRecord record) {
+        synchronized (publishLock) {
+            long dropped = droppedCount.getAndSet(0);
+            if (dropped > 0) {
+                LogRecord droppedRecord = new LogRecord(Level.WARNING,
+                        dropped + " log records were dropped as they were logged faster than they could be written");
+                droppedRecord.setLoggerName(AsyncLogHandler.class.getSimpleName());
+                droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+                droppedRecord.setSourceMethodName("publish");
+                targets.forEach(target -> target.publish(droppedRecord));
+            }
+            targets.forEach(target -> target.publish(record));
+        }
+    }
+
+    /**
+     * Notifies threads waiting in {@link #flush()} that a record has been published.
+     */
+    private void onPublished() {
+        synchronized (publishLock) {
+            pendingCount.decrementAndGet();
+            publishLock.notifyAll();
+        }
+    }
+
+    /**
+     * Waits (for a short while at most) until all buffered records have been published,
+     * then flushes the target handlers.
+     * Once this handler is closed, the buffered records are published on the calling thread instead.
+     */
+    @Override
+    public void flush() {
+        if (worker.isAlive()) {
+            awaitPublished();
+        } else {
+            List<LogRecord> records = new ArrayList<>();
+            buffer.drainTo(records);
+            records.forEach(this::publishToTargets);
+            pendingCount.addAndGet(-records.size());
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Waits until the background thread has published all buffered records, or the flush timeout passes.
+     */
+    private void awaitPublished() {
+        long deadline = System.currentTimeMillis() + FLUSH_TIMEOUT_MILLIS;
+        synchronized (publishLock) {
+            long remainingMillis = FLUSH_TIMEOUT_MILLIS;
+            while (pendingCount.get() > 0 && remainingMillis > 0) {
+                try {
+                    publishLock.wait(remainingMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                remainingMillis = deadline - System.currentTimeMillis();
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread, publishes all buffered records and closes the target handlers.
+     */
+    @Override
+    public void close() {
+        isClosed = true;
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped since the last report of dropped records.
+     */
+    long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
@@ -15,6 +15,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private Path metricsDumpFilePath = Paths.get("metrics.txt");
+    private int metricsDumpIntervalInSeconds = 0; // not written by default
+    private int undoHistoryLimitInMegabytes = 64;
 
     public Level getLogLevel() {
         return logLevel;
@@ -32,6 +35,30 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public Path getMetricsDumpFilePath() {
+        return metricsDumpFilePath;
+    }
+
+    public void setMetricsDumpFilePath(Path metricsDumpFilePath) {
+        this.metricsDumpFilePath = metricsDumpFilePath;
+    }
+
+    public int getMetricsDumpIntervalInSeconds() {
+        return metricsDumpIntervalInSeconds;
+    }
+
+    public void setMetricsDumpIntervalInSeconds(int metricsDumpIntervalInSeconds) {
+        this.metricsDumpIntervalInSeconds = metricsDumpIntervalInSeconds;
+    }
+
+    public int getUndoHistoryLimitInMegabytes() {
+        return undoHistoryLimitInMegabytes;
+    }
+
+    public void setUndoHistoryLimitInMegabytes(int undoHistoryLimitInMegabytes) {
+        this.undoHistoryLimitInMegabytes = undoHistoryLimitInMegabytes;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -44,12 +71,16 @@ public class Config {
         Config o = (Config) other;
 
         return Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && Objects.equals(metricsDumpFilePath, o.metricsDumpFilePath)
+                && metricsDumpIntervalInSeconds == o.metricsDumpIntervalInSeconds
+                && undoHistoryLimitInMegabytes == o.undoHistoryLimitInMegabytes;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, metricsDumpFilePath, metricsDumpIntervalInSeconds,
+                undoHistoryLimitInMegabytes);
     }
 
     @Override
@@ -57,6 +88,9 @@ public class Config {
         StringBuilder sb = new StringBuilder();
         sb.append("Current log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nMetrics file Location : " + metricsDumpFilePath);
+        sb.append("\nMetrics written every : " + metricsDumpIntervalInSeconds + "s");
+        sb.append("\nUndo history limit : " + undoHistoryLimitInMegabytes + "MB");
         return sb.toString();
     }
 
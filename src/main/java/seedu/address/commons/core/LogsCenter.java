@@ -5,6 +5,7 @@ import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -14,15 +15,18 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread by an {@link AsyncLogHandler}, so logging does not block
+ *   the calling thread on I/O. Messages which are expensive to build should be logged lazily,
+ *   e.g. {@code logger.fine(() -> "..." + x)}, so that they are only built if they will be written.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_BUFFER_CAPACITY = 4096;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
@@ -43,8 +47,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -60,37 +63,41 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    private static synchronized void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
         }
-        logger.addHandler(consoleHandler);
+        logger.addHandler(asyncHandler);
     }
 
     /**
-     * Remove all the handlers from {@code logger}.
+     * Creates an {@code AsyncLogHandler} writing to the console and, if it can be opened, the log file.
+     * Buffered messages are written out when the JVM shuts down.
      */
-    private static void removeHandlers(Logger logger) {
-        Arrays.stream(logger.getHandlers())
-                .forEach(logger::removeHandler);
+    private static AsyncLogHandler createAsyncHandler() {
+        AsyncLogHandler handler;
+        try {
+            handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP_OLDEST,
+                    createConsoleHandler(), createFileHandler());
+        } catch (IOException e) {
+            handler = new AsyncLogHandler(LOG_BUFFER_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP_OLDEST,
+                    createConsoleHandler());
+            handler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
+        }
+        handler.setLevel(currentLogLevel);
+        Runtime.getRuntime().addShutdownHook(new Thread(handler::close, "Log flusher"));
+        return handler;
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Remove all the handlers from {@code logger}.
      */
-    private static void addFileHandler(Logger logger) {
-        try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
-        } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
-        }
+    private static void removeHandlers(Logger logger) {
+        Arrays.stream(logger.getHandlers())
+                .forEach(logger::removeHandler);
     }
 
     /**
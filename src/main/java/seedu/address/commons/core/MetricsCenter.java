@@ -0,0 +1,120 @@
+package seedu.address.commons.core;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.metrics.Counter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Keeps the in-process metrics of the app: named {@link Counter}s and {@link Timer}s which can be obtained
+ * from this class, in the same way as loggers are obtained from {@link LogsCenter}.
+ * Metrics are created on first use and live for the rest of the session.
+ *
+ * If enabled in the {@code config}, a summary of all metrics is periodically written to a file.
+ */
+public class MetricsCenter {
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+
+    private static final Map<String, Counter> counters = new ConcurrentSkipListMap<>();
+    private static final Map<String, Timer> timers = new ConcurrentSkipListMap<>();
+    private static ScheduledExecutorService dumpScheduler;
+    private static Path dumpFilePath;
+
+    /**
+     * Starts periodically writing the metrics to the file specified in the {@code config},
+     * if an interval is specified.
+     */
+    public static synchronized void init(Config config) {
+        stop();
+        int intervalInSeconds = config.getMetricsDumpIntervalInSeconds();
+        if (intervalInSeconds <= 0) {
+            return;
+        }
+        dumpFilePath = config.getMetricsDumpFilePath();
+        logger.info("Writing metrics to " + dumpFilePath + " every " + intervalInSeconds + "s");
+        dumpScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Metrics dump");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Path filePath = dumpFilePath;
+        dumpScheduler.scheduleAtFixedRate(() -> dumpQuietly(filePath),
+                intervalInSeconds, intervalInSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops periodically writing the metrics, if it was started, writing them one last time.
+     */
+    public static synchronized void stop() {
+        if (dumpScheduler != null) {
+            dumpScheduler.shutdownNow();
+            dumpScheduler = null;
+            dumpQuietly(dumpFilePath);
+        }
+    }
+
+    /**
+     * Returns the counter with the given name, creating it if it does not exist.
+     */
+    public static Counter getCounter(String name) {
+        return counters.computeIfAbsent(name, unused -> new Counter());
+    }
+
+    /**
+     * Returns the timer with the given name, creating it if it does not exist.
+     */
+    public static Timer getTimer(String name) {
+        return timers.computeIfAbsent(name, unused -> new Timer());
+    }
+
+    /**
+     * Returns one line per metric which has been used, sorted by name.
+     */
+    public static List<String> getSummary() {
+        List<String> summary = new ArrayList<>();
+        timers.forEach((name, timer) -> {
+            if (timer.getCount() > 0) {
+                summary.add(name + ": " + timer);
+            }
+        });
+        counters.forEach((name, counter) -> {
+            if (counter.getCount() > 0) {
+                summary.add(name + ": " + counter);
+            }
+        });
+        return summary;
+    }
+
+    /**
+     * Overwrites the given file with a summary of all metrics.
+     */
+    public static void dump(Path filePath) throws IOException {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Metrics at ").append(LocalDateTime.now()).append(System.lineSeparator());
+        getSummary().forEach(line -> sb.append(line).append(System.lineSeparator()));
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFile(filePath, sb.toString());
+    }
+
+    /**
+     * Writes the metrics to the given file, logging any failure.
+     */
+    private static void dumpQuietly(Path filePath) {
+        try {
+            dump(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Failed to write metrics to " + filePath + ": " + ioe);
+        }
+    }
+}
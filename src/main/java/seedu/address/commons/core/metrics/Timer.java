@@ -0,0 +1,132 @@
+package seedu.address.commons.core.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Records how long an operation takes.
+ *
+ * Synchronous operations are timed by passing them to {@link #time(TimedOperation)} or {@link #time(TimedAction)}:
+ * <pre>
+ *     Result result = timer.time(() -> compute());
+ * </pre>
+ * Asynchronous operations call {@link Context#close()} on the context returned by {@link #time()}
+ * when they complete.
+ */
+public class Timer {
+
+    private final Histogram nanos = new Histogram();
+    private final LongSupplier clock;
+
+    public Timer() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * @param clock returns the current time in nanoseconds.
+     */
+    Timer(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Starts timing an operation.
+     */
+    public Context time() {
+        return new Context(clock.getAsLong());
+    }
+
+    /**
+     * Runs {@code operation} and records how long it takes, whether it returns or throws.
+     */
+    public <T, E extends Exception> T time(TimedOperation<T, E> operation) throws E {
+        Context context = time();
+        try {
+            return operation.run();
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * Runs {@code action} and records how long it takes, whether it returns or throws.
+     */
+    public <E extends Exception> void time(TimedAction<E> action) throws E {
+        Context context = time();
+        try {
+            action.run();
+        } finally {
+            context.close();
+        }
+    }
+
+    public void record(long duration, TimeUnit unit) {
+        nanos.record(unit.toNanos(duration));
+    }
+
+    public long getCount() {
+        return nanos.getCount();
+    }
+
+    /**
+     * Returns the duration within which the given percentage of operations completed.
+     * @param percentile between 0 and 100.
+     */
+    public double getMillisAtPercentile(double percentile) {
+        return toMillis(nanos.getValueAtPercentile(percentile));
+    }
+
+    public double getMaxMillis() {
+        return toMillis(nanos.getMax());
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d calls, p50 %.1f ms, p99 %.1f ms, max %.1f ms",
+                getCount(), getMillisAtPercentile(50), getMillisAtPercentile(99), getMaxMillis());
+    }
+
+    /**
+     * A single timed operation. Only the first call to {@link #close()} is recorded.
+     */
+    public class Context implements AutoCloseable {
+        private final long startNanos;
+        private boolean isStopped = false;
+
+        private Context(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Stops timing the operation and records its duration.
+         */
+        @Override
+        public synchronized void close() {
+            if (isStopped) {
+                return;
+            }
+            isStopped = true;
+            record(clock.getAsLong() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+     * An operation timed by {@link #time(TimedOperation)}, which returns a result.
+     */
+    @FunctionalInterface
+    public interface TimedOperation<T, E extends Exception> {
+        T run() throws E;
+    }
+
+    /**
+     * An operation timed by {@link #time(TimedAction)}, which returns nothing.
+     */
+    @FunctionalInterface
+    public interface TimedAction<E extends Exception> {
+        void run() throws E;
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.commons.util;
+
+import java.util.Optional;
+
+import org.jsoup.nodes.Element;
+
+import net.dankito.readability4j.Article;
+
+/**
+ * The main content of a web page and its metadata, as extracted by Readability4J.
+ * Immutable: the article element is copied whenever it is requested, so it can be changed or moved freely.
+ */
+public class ExtractedArticle {
+
+    private final String title;
+    private final String excerpt;
+    private final String textContent;
+    private final Element articleContent;
+
+    private ExtractedArticle(String title, String excerpt, String textContent, Element articleContent) {
+        this.title = title;
+        this.excerpt = excerpt;
+        this.textContent = textContent;
+        this.articleContent = articleContent;
+    }
+
+    /**
+     * Returns the extracted parts of {@code article}.
+     * The article element is copied, so that it does not keep the rest of the parsed page in memory.
+     */
+    public static ExtractedArticle from(Article article) {
+        Element articleContent = article.getArticleContent();
+        return new ExtractedArticle(article.getTitle(), article.getExcerpt(), article.getTextContent(),
+                articleContent == null ? null : articleContent.clone());
+    }
+
+    public Optional<String> getTitle() {
+        return Optional.ofNullable(title);
+    }
+
+    public Optional<String> getExcerpt() {
+        return Optional.ofNullable(excerpt);
+    }
+
+    public Optional<String> getTextContent() {
+        return Optional.ofNullable(textContent);
+    }
+
+    /**
+     * Returns a copy of the element containing the main content of the page, without a parent.
+     */
+    public Optional<Element> getArticleContent() {
+        return Optional.ofNullable(articleContent).map(Element::clone);
+    }
+}
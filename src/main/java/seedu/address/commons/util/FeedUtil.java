@@ -20,6 +20,8 @@ import com.rometools.rome.io.SyndFeedInput;
 import com.rometools.rome.io.XmlReader;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
 import seedu.address.model.EntryBook;
 import seedu.address.model.entry.Description;
 import seedu.address.model.entry.Entry;
@@ -36,11 +38,18 @@ public class FeedUtil {
     public static final String DEFAULT_DESCRIPTION_TEXT = "imported from %s";
 
     private static final Logger logger = LogsCenter.getLogger(FeedUtil.class);
+    private static final Timer fetchTimer = MetricsCenter.getTimer("feed.fetch");
 
     /** Fetches URL as ROME SyndFeed. */
     public static SyndFeed fetchAsFeed(URL feedUrl) throws IOException, FeedException {
-        InputStream inputStream = Network.fetchAsStream(feedUrl);
-        return new SyndFeedInput().build(new XmlReader(inputStream));
+        // timed with an explicit context, as the feed is fetched and parsed by calls throwing different exceptions
+        Timer.Context fetchTime = fetchTimer.time();
+        try {
+            InputStream inputStream = Network.fetchAsStream(feedUrl);
+            return new SyndFeedInput().build(new XmlReader(inputStream));
+        } finally {
+            fetchTime.close();
+        }
     }
 
     /** Takes in URL of a feed and returns an {@code EntryBook}. */
@@ -0,0 +1,38 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.application.Platform;
+
+/**
+ * Helper functions for handing work to the JavaFX application thread.
+ */
+public class FxUtil {
+
+    /**
+     * Runs {@code action} on the JavaFX application thread, later, so that properties bound by the UI are only
+     * changed on that thread. If JavaFX has not been started, e.g. in batch mode or in tests without a UI,
+     * nothing can be bound to the properties, so {@code action} is run at once on the calling thread.
+     */
+    public static void runOnFxThread(Runnable action) {
+        requireNonNull(action);
+        try {
+            Platform.runLater(action);
+        } catch (IllegalStateException toolkitNotStarted) {
+            action.run();
+        }
+    }
+
+    /**
+     * Returns true if JavaFX has been started, so that work handed to {@link #runOnFxThread(Runnable)} runs later
+     * on the JavaFX application thread rather than at once on the calling thread.
+     */
+    public static boolean isToolkitStarted() {
+        try {
+            Platform.runLater(() -> { });
+            return true;
+        } catch (IllegalStateException toolkitNotStarted) {
+            return false;
+        }
+    }
+}
@@ -21,6 +21,8 @@ import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
 import seedu.address.commons.exceptions.DataConversionException;
 
 /**
@@ -29,6 +31,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 public class JsonUtil {
 
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
+    private static final Timer loadTimer = MetricsCenter.getTimer("storage.json.load");
+    private static final Timer saveTimer = MetricsCenter.getTimer("storage.json.save");
 
     private static ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
             .configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false)
@@ -67,7 +71,7 @@ public class JsonUtil {
         T jsonFile;
 
         try {
-            jsonFile = deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize);
+            jsonFile = loadTimer.time(() -> deserializeObjectFromJsonFile(filePath, classOfObjectToDeserialize));
         } catch (IOException e) {
             logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
             throw new DataConversionException(e);
@@ -87,7 +91,7 @@ public class JsonUtil {
         requireNonNull(filePath);
         requireNonNull(jsonFile);
 
-        serializeObjectToJsonFile(filePath, jsonFile);
+        saveTimer.time(() -> serializeObjectToJsonFile(filePath, jsonFile));
     }
 
 
@@ -0,0 +1,123 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Tests whether sentences contain a phrase, ignoring case.
+ *
+ * The phrase is case-folded and its Boyer-Moore-Horspool shift table built once, when the matcher is created,
+ * so that testing a sentence allocates nothing and usually skips over most of its characters.
+ * ASCII characters in sentences are compared and looked up without being folded.
+ * Characters are compared as {@link String#regionMatches(boolean, int, String, int, int)} compares them
+ * when ignoring case. Immutable, so a matcher may be shared between threads.
+ */
+public class PhraseMatcher {
+
+    /** Shift table size. Characters outside it share entries, which only makes their shifts shorter. */
+    private static final int SHIFT_TABLE_SIZE = 256;
+    private static final char[] ASCII_FOLDED = new char[128];
+
+    static {
+        for (char c = 0; c < ASCII_FOLDED.length; c++) {
+            ASCII_FOLDED[c] = Character.toLowerCase(c);
+        }
+    }
+
+    private final String phrase;
+    private final char[] foldedPhrase;
+    private final char[] upperCasePhrase;
+    private final int[] shifts = new int[SHIFT_TABLE_SIZE];
+
+    /**
+     * Creates a matcher for {@code phrase}, with leading and trailing whitespace removed.
+     * @param phrase cannot be null, cannot be empty
+     */
+    public PhraseMatcher(String phrase) {
+        requireNonNull(phrase);
+        this.phrase = phrase.trim();
+        checkArgument(!this.phrase.isEmpty(), "Phrase parameter cannot be empty");
+
+        foldedPhrase = new char[this.phrase.length()];
+        upperCasePhrase = new char[this.phrase.length()];
+        for (int i = 0; i < foldedPhrase.length; i++) {
+            foldedPhrase[i] = foldCase(this.phrase.charAt(i));
+            upperCasePhrase[i] = Character.toUpperCase(foldedPhrase[i]);
+        }
+
+        int lastIndex = foldedPhrase.length - 1;
+        Arrays.fill(shifts, foldedPhrase.length);
+        for (int i = 0; i < lastIndex; i++) {
+            // ASCII characters are looked up without folding, so both their cases need entries
+            shifts[foldedPhrase[i] % SHIFT_TABLE_SIZE] = lastIndex - i;
+            if (upperCasePhrase[i] < ASCII_FOLDED.length) {
+                shifts[upperCasePhrase[i]] = lastIndex - i;
+            }
+        }
+    }
+
+    /**
+     * Returns true if {@code sentence} contains the phrase, ignoring case.
+     * @param sentence cannot be null
+     */
+    public boolean isContainedIn(String sentence) {
+        requireNonNull(sentence);
+        int lastIndex = foldedPhrase.length - 1;
+        int start = 0;
+        while (start + lastIndex < sentence.length()) {
+            char lastChar = sentence.charAt(start + lastIndex);
+            if (matchesAt(lastChar, lastIndex)) {
+                int i = lastIndex - 1;
+                while (i >= 0 && matchesAt(sentence.charAt(start + i), i)) {
+                    i--;
+                }
+                if (i < 0) {
+                    return true;
+                }
+            }
+            start += lastChar < ASCII_FOLDED.length ? shifts[lastChar] : shifts[foldCase(lastChar) % SHIFT_TABLE_SIZE];
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code c} is equal to the phrase's character at {@code index}, ignoring case.
+     */
+    private boolean matchesAt(char c, int index) {
+        return c == foldedPhrase[index] || c == upperCasePhrase[index]
+                || (c >= ASCII_FOLDED.length && foldCase(c) == foldedPhrase[index]);
+    }
+
+    public String getPhrase() {
+        return phrase;
+    }
+
+    /**
+     * Returns the character which {@code c} and all characters equal to it ignoring case are folded to.
+     */
+    private static char foldCase(char c) {
+        if (c < ASCII_FOLDED.length) {
+            return ASCII_FOLDED[c];
+        }
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PhraseMatcher // instanceof handles nulls
+                && phrase.equals(((PhraseMatcher) other).phrase));
+    }
+
+    @Override
+    public int hashCode() {
+        return phrase.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return phrase;
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ExecutionException;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hashing;
+
+import net.dankito.readability4j.extended.Readability4JExtended;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Counter;
+import seedu.address.commons.core.metrics.Timer;
+
+/**
+ * Extracts the main content of web pages using Readability4J.
+ *
+ * Extraction takes tens of milliseconds for large pages, and the same page is often extracted more than once,
+ * e.g. when an entry is added and then shown in reader view. The articles extracted from the most recently used
+ * pages are thus cached, keyed by a hash of the page's HTML and base URL.
+ *
+ * All methods are thread-safe.
+ */
+public class ReadabilityUtil {
+
+    /** Number of extracted articles kept in the cache. */
+    public static final int CACHE_SIZE = 32;
+
+    private static final Cache<HashCode, ExtractedArticle> cache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_SIZE)
+            .build();
+
+    private static final Timer extractTimer = MetricsCenter.getTimer("readability.extract");
+    private static final Counter cacheHitCounter = MetricsCenter.getCounter("readability.cacheHits");
+    private static final Counter cacheMissCounter = MetricsCenter.getCounter("readability.cacheMisses");
+
+    /**
+     * Returns the article extracted from {@code html}, which is parsed with {@code baseUri} used to resolve
+     * relative links. Pages which were extracted recently are not extracted again.
+     */
+    public static ExtractedArticle extractArticle(String html, String baseUri) {
+        requireNonNull(html);
+        requireNonNull(baseUri);
+        HashCode key = Hashing.murmur3_128().newHasher()
+                .putUnencodedChars(baseUri)
+                .putChar('\0')
+                .putUnencodedChars(html)
+                .hash();
+
+        ExtractedArticle article = cache.getIfPresent(key);
+        if (article != null) {
+            cacheHitCounter.increment();
+            return article;
+        }
+        try {
+            // concurrent requests for the same page wait for a single extraction
+            return cache.get(key, () -> {
+                cacheMissCounter.increment();
+                return extractArticle(Jsoup.parse(html, baseUri));
+            });
+        } catch (ExecutionException ee) {
+            throw new IllegalStateException("Extraction does not throw checked exceptions", ee.getCause());
+        }
+    }
+
+    /**
+     * Returns the article extracted from {@code document}, without using the cache.
+     * The document is modified by the extraction.
+     */
+    public static ExtractedArticle extractArticle(Document document) {
+        return extractTimer.time(() ->
+                ExtractedArticle.from(new Readability4JExtended(document.baseUri(), document).parse()));
+    }
+
+    /**
+     * Removes every extracted article from the cache.
+     */
+    public static void clearCache() {
+        cache.invalidateAll();
+    }
+}
@@ -7,7 +7,6 @@ import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
 import java.util.Optional;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -50,6 +49,7 @@ public class StringUtil {
      *       containsPhraseIgnoreCase("ABc def", "bc d") == true
      *       containsPhraseIgnoreCase("ABc def", "b def") == false //phrase not in sentence
      *       </pre>
+     * Use a {@link PhraseMatcher} instead to test many sentences for the same phrase.
      * @param sentence cannot be null
      * @param phrase cannot be null, cannot be empty
      */
@@ -57,10 +57,7 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(phrase);
 
-        String preppedPhrase = phrase.trim();
-        checkArgument(!preppedPhrase.isEmpty(), "Phrase parameter cannot be empty");
-
-        return Pattern.compile(Pattern.quote(preppedPhrase), Pattern.CASE_INSENSITIVE).matcher(sentence).find();
+        return new PhraseMatcher(phrase).isContainedIn(sentence);
     }
 
     /**
@@ -21,6 +21,10 @@ import org.xml.sax.InputSource;
  */
 public class XmlUtil {
 
+    // factories are expensive to create, but are not thread-safe
+    private static final ThreadLocal<TransformerFactory> transformerFactory =
+            ThreadLocal.withInitial(TransformerFactory::newInstance);
+
     /**
      * Converts a XML Document to string
      * @param doc XML Document
@@ -28,7 +32,7 @@ public class XmlUtil {
      * @throws TransformerException
      */
     public static String convertDocumentToString(Document doc) throws TransformerException {
-        Transformer transformer = TransformerFactory.newInstance().newTransformer();
+        Transformer transformer = transformerFactory.get().newTransformer();
         transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
         StringWriter writer = new StringWriter();
         transformer.transform(new DOMSource(doc), new StreamResult(writer));
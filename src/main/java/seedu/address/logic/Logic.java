@@ -11,7 +11,9 @@ import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DownloadProgress;
 import seedu.address.model.ModelContext;
+import seedu.address.model.PagePosition;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.entry.Entry;
 import seedu.address.ui.ViewMode;
@@ -51,6 +53,20 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of entries */
     ObservableList<Entry> getFilteredEntryList();
 
+    /**
+     * Returns an unmodifiable view of the displayed page of the filtered list of entries.
+     *
+     * @see seedu.address.model.Model#getPagedEntryList()
+     */
+    ObservableList<Entry> getPagedEntryList();
+
+    /**
+     * Position of the displayed page in the filtered list of entries.
+     *
+     * @see seedu.address.model.Model#pagePositionProperty()
+     */
+    ReadOnlyProperty<PagePosition> pagePositionProperty();
+
     /**
      * Returns the link to the offline copy of the url given if it exists.
      *
@@ -139,4 +155,11 @@ public interface Logic {
      */
     ReadOnlyProperty<ModelContext> contextProperty();
 
+    /**
+     * Progress of the background article downloads.
+     *
+     * @see seedu.address.model.Model#downloadProgressProperty()
+     */
+    ReadOnlyProperty<DownloadProgress> downloadProgressProperty();
+
 }
@@ -10,6 +10,8 @@ import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
 import seedu.address.logic.commands.ArchivesCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -18,8 +20,10 @@ import seedu.address.logic.commands.GoogleNewsCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DownloadProgress;
 import seedu.address.model.Model;
 import seedu.address.model.ModelContext;
+import seedu.address.model.PagePosition;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.entry.Entry;
 import seedu.address.ui.ViewMode;
@@ -44,11 +48,19 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
 
+        // changes made since the last command, e.g. by background downloads, are undone as a step of their own
+        model.commitEntryBooks();
+        // timed with an explicit context, as parsing and executing the command throw different exceptions
+        Timer.Context executeTime = MetricsCenter.getTimer("logic.execute").time();
         try {
             Command command = model.getContext().getParser().parseCommand(commandText);
-            commandResult = command.execute(model, history);
+            commandResult = MetricsCenter.getTimer("command." + command.getClass().getSimpleName())
+                    .time(() -> command.execute(model, history));
         } finally {
+            executeTime.close();
             history.add(commandText);
+            // each command is undone as one step
+            model.commitEntryBooks();
         }
 
         return commandResult;
@@ -58,11 +70,14 @@ public class LogicManager implements Logic {
     public void executeCommand(Command command) {
         logger.info("----------------[COMMAND][" + command + "]");
 
+        model.commitEntryBooks();
         try {
             CommandResult commandResult = command.execute(model, history);
             setCommandResult(commandResult);
         } catch (CommandException ce) {
             setException(ce);
+        } finally {
+            model.commitEntryBooks();
         }
     }
 
@@ -106,6 +121,16 @@ public class LogicManager implements Logic {
         return model.getFilteredEntryList();
     }
 
+    @Override
+    public ObservableList<Entry> getPagedEntryList() {
+        return model.getPagedEntryList();
+    }
+
+    @Override
+    public ReadOnlyProperty<PagePosition> pagePositionProperty() {
+        return model.pagePositionProperty();
+    }
+
     @Override
     public ObservableList<String> getHistory() {
         return history.getHistory();
@@ -166,4 +191,9 @@ public class LogicManager implements Logic {
         return model.contextProperty();
     }
 
+    @Override
+    public ReadOnlyProperty<DownloadProgress> downloadProgressProperty() {
+        return model.downloadProgressProperty();
+    }
+
 }
@@ -61,7 +61,7 @@ public class AddCommand extends Command {
         autofill.extractFromUrl(url);
 
         Optional<byte[]> articleContent = Network.fetchArticleOptional(url);
-        articleContent.ifPresent(bytes -> autofill.extractFromHtml(new String(bytes)));
+        articleContent.ifPresent(bytes -> autofill.extractFromHtml(new String(bytes), url.toString()));
 
         Entry updatedEntry = autofill.getFilledEntry();
 
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
@@ -10,6 +11,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.util.CollectionUtil;
@@ -26,21 +28,32 @@ public class FindCommand extends Command {
 
     public static final String COMMAND_WORD = "find";
     public static final String COMMAND_ALIAS = "f";
+    public static final String REQUIRED_TAG_MARKER = "+";
+    public static final String EXCLUDED_TAG_MARKER = "-";
 
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all entries whose fields contain any of "
             + "the specified keyphrases and displays them as a list with index numbers.\n"
             + "Search is case-insensitive for all fields except tags.\n"
             + "Search is exact for tags.\n"
+            + "Search is typo-tolerant for the words of the " + PREFIX_FUZZY + " phrase, which must all be similar to "
+            + "words in the title or description.\n"
+            + "Tags prefixed by " + REQUIRED_TAG_MARKER + " must all be present, and tags prefixed by "
+            + EXCLUDED_TAG_MARKER + " must all be absent, in every entry found.\n"
             + "Parameters: INDEX (must be a positive integer) "
             + "[" + PREFIX_TITLE + "TITLE] "
             + "[" + PREFIX_DESCRIPTION + "DESCRIPTION] "
             + "[" + PREFIX_LINK + "LINK:] "
-            + "[" + PREFIX_TAG + "TAG]...\n"
+            + "[" + PREFIX_FUZZY + "FUZZY_PHRASE] "
+            + "[" + PREFIX_TAG + "[" + REQUIRED_TAG_MARKER + "|" + EXCLUDED_TAG_MARKER
+            + "]TAG]...\n"
             + "Example: " + COMMAND_WORD
             + PREFIX_TITLE + "Search this phrase in title"
-            + PREFIX_DESCRIPTION + "Search this phrase in desc";
+            + PREFIX_DESCRIPTION + "Search this phrase in desc "
+            + PREFIX_TAG + REQUIRED_TAG_MARKER + "java "
+            + PREFIX_TAG + EXCLUDED_TAG_MARKER + "beginner";
     public static final String MESSAGE_NO_SEARCH_TERMS = "At least one search term must be provided.";
+    public static final String MESSAGE_SEARCHING = "Searching...";
 
     private final EntryContainsSearchTermsPredicate predicate;
 
@@ -51,7 +64,13 @@ public class FindCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredEntryList(predicate);
+        CompletableFuture<Void> filtered = model.updateFilteredEntryList(predicate);
+        if (!filtered.isDone()) {
+            // long lists are searched in the background, and the entries found reported once they are displayed
+            filtered.thenRun(() -> model.setCommandResult(new CommandResult(
+                    String.format(Messages.MESSAGE_ENTRIES_LISTED_OVERVIEW, model.getFilteredEntryList().size()))));
+            return new CommandResult(MESSAGE_SEARCHING);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_ENTRIES_LISTED_OVERVIEW, model.getFilteredEntryList().size()));
     }
@@ -72,7 +91,10 @@ public class FindCommand extends Command {
         private String description;
         private String link;
         private String all;
+        private String fuzzy;
         private Set<Tag> tags;
+        private Set<Tag> requiredTags;
+        private Set<Tag> excludedTags;
 
         public FindEntryDescriptor() {}
 
@@ -85,14 +107,25 @@ public class FindCommand extends Command {
             setDescription(toCopy.description);
             setLink(toCopy.link);
             setAll(toCopy.all);
+            setFuzzy(toCopy.fuzzy);
             setTags(toCopy.tags);
+            setRequiredTags(toCopy.requiredTags);
+            setExcludedTags(toCopy.excludedTags);
         }
 
         /**
          * Returns true if at least one field is edited.
          */
         public boolean isAnyFieldEdited() {
-            return CollectionUtil.isAnyNonNull(title, link, description, all, tags);
+            return CollectionUtil.isAnyNonNull(title, link, description, all, fuzzy, tags, requiredTags, excludedTags);
+        }
+
+        /**
+         * Returns true if at least one field other than the required and excluded tags is edited,
+         * i.e. if there is a search term which entries may match.
+         */
+        public boolean isAnySearchTermEdited() {
+            return CollectionUtil.isAnyNonNull(title, link, description, all, fuzzy, tags);
         }
 
         public void setTitle(String title) {
@@ -127,6 +160,14 @@ public class FindCommand extends Command {
             return Optional.ofNullable(all);
         }
 
+        public void setFuzzy(String fuzzy) {
+            this.fuzzy = fuzzy;
+        }
+
+        public Optional<String> getFuzzy() {
+            return Optional.ofNullable(fuzzy);
+        }
+
         /**
          * Sets {@code tags} to this object's {@code tags}.
          * A defensive copy of {@code tags} is used internally.
@@ -144,6 +185,38 @@ public class FindCommand extends Command {
             return (tags != null) ? Optional.of(Collections.unmodifiableSet(tags)) : Optional.empty();
         }
 
+        /**
+         * Sets {@code requiredTags} to this object's {@code requiredTags}.
+         * A defensive copy of {@code requiredTags} is used internally.
+         */
+        public void setRequiredTags(Set<Tag> requiredTags) {
+            this.requiredTags = (requiredTags != null) ? new HashSet<>(requiredTags) : null;
+        }
+
+        /**
+         * Returns an unmodifiable set of the tags which every entry found must have.
+         * Returns {@code Optional#empty()} if {@code requiredTags} is null.
+         */
+        public Optional<Set<Tag>> getRequiredTags() {
+            return (requiredTags != null) ? Optional.of(Collections.unmodifiableSet(requiredTags)) : Optional.empty();
+        }
+
+        /**
+         * Sets {@code excludedTags} to this object's {@code excludedTags}.
+         * A defensive copy of {@code excludedTags} is used internally.
+         */
+        public void setExcludedTags(Set<Tag> excludedTags) {
+            this.excludedTags = (excludedTags != null) ? new HashSet<>(excludedTags) : null;
+        }
+
+        /**
+         * Returns an unmodifiable set of the tags which no entry found may have.
+         * Returns {@code Optional#empty()} if {@code excludedTags} is null.
+         */
+        public Optional<Set<Tag>> getExcludedTags() {
+            return (excludedTags != null) ? Optional.of(Collections.unmodifiableSet(excludedTags)) : Optional.empty();
+        }
+
         @Override
         public boolean equals(Object other) {
             // short circuit if same object
@@ -163,7 +236,10 @@ public class FindCommand extends Command {
                 && getDescription().equals(e.getDescription())
                 && getLink().equals(e.getLink())
                 && getAll().equals(e.getAll())
-                && getTags().equals(e.getTags());
+                && getFuzzy().equals(e.getFuzzy())
+                && getTags().equals(e.getTags())
+                && getRequiredTags().equals(e.getRequiredTags())
+                && getExcludedTags().equals(e.getExcludedTags());
         }
     }
 }
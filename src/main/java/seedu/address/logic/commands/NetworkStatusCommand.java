@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.util.Network;
+
+/**
+ * Shows the request limits and circuit breaker state of every host contacted in this session,
+ * how well articles are being prefetched, and whether responses are being recorded or replayed.
+ */
+public class NetworkStatusCommand extends Command {
+
+    public static final String COMMAND_WORD = "network";
+    public static final String MESSAGE_SUCCESS = "Hosts contacted in this session:\n%1$s";
+    public static final String MESSAGE_NO_HOSTS = "No hosts have been contacted in this session.";
+    public static final String MESSAGE_PREFETCH = "\nArticle prefetching: %1$s";
+    public static final String MESSAGE_MODE = "\nNetwork mode: %1$s";
+
+    private final Supplier<List<String>> hostStatusesSupplier;
+    private final Supplier<String> modeStatusSupplier;
+
+    public NetworkStatusCommand() {
+        this(Network::getHostStatuses, Network::getModeStatus);
+    }
+
+    NetworkStatusCommand(Supplier<List<String>> hostStatusesSupplier, Supplier<String> modeStatusSupplier) {
+        this.hostStatusesSupplier = hostStatusesSupplier;
+        this.modeStatusSupplier = modeStatusSupplier;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<String> hostStatuses = hostStatusesSupplier.get();
+        String otherStatuses = String.format(MESSAGE_PREFETCH, model.getPrefetchStatistics())
+                + String.format(MESSAGE_MODE, modeStatusSupplier.get());
+
+        if (hostStatuses.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_HOSTS + otherStatuses);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", hostStatuses)) + otherStatuses);
+    }
+
+}
@@ -0,0 +1,105 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.PagePosition;
+
+/**
+ * Displays another page of the displayed entry list.
+ */
+public class PageCommand extends Command {
+
+    public static final String COMMAND_WORD = "page";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays another page of the displayed entry list.\n"
+            + "Parameters: next, prev, first, last or PAGE_NUMBER (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " next";
+
+    public static final String MESSAGE_PAGE_SUCCESS = "Displaying page %1$d of %2$d";
+    public static final String MESSAGE_INVALID_PAGE = "There is no such page, there are %1$d pages";
+
+    /**
+     * The page to display, relative to the displayed page.
+     */
+    public enum Destination {
+        FIRST, PREVIOUS, NEXT, LAST, NUMBERED
+    }
+
+    private final Destination destination;
+    private final Index pageNumber;
+
+    /**
+     * Creates a {@code PageCommand} to display the page at {@code destination}, which must not be
+     * {@code NUMBERED}.
+     */
+    public PageCommand(Destination destination) {
+        requireNonNull(destination);
+        assert destination != Destination.NUMBERED : "Numbered pages need a page number";
+        this.destination = destination;
+        this.pageNumber = null;
+    }
+
+    /**
+     * Creates a {@code PageCommand} to display the page with {@code pageNumber}.
+     */
+    public PageCommand(Index pageNumber) {
+        requireNonNull(pageNumber);
+        this.destination = Destination.NUMBERED;
+        this.pageNumber = pageNumber;
+    }
+
+    public Destination getDestination() {
+        return destination;
+    }
+
+    public Optional<Index> getPageNumber() {
+        return Optional.ofNullable(pageNumber);
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        PagePosition position = model.pagePositionProperty().getValue();
+        int page = getPage(position);
+        if (page < 0 || page >= position.getNumPages()) {
+            throw new CommandException(String.format(MESSAGE_INVALID_PAGE, position.getNumPages()));
+        }
+        model.setPage(page);
+        return new CommandResult(String.format(MESSAGE_PAGE_SUCCESS, page + 1, position.getNumPages()));
+    }
+
+    /**
+     * Returns the zero-based number of the page to display, which may not exist, from the displayed {@code position}.
+     */
+    private int getPage(PagePosition position) {
+        switch (destination) {
+        case FIRST:
+            return 0;
+        case PREVIOUS:
+            return position.getPage() - 1;
+        case NEXT:
+            return position.getPage() + 1;
+        case LAST:
+            return position.getNumPages() - 1;
+        case NUMBERED:
+        default:
+            return pageNumber.getZeroBased();
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PageCommand // instanceof handles nulls
+                && destination == ((PageCommand) other).destination
+                && Objects.equals(pageNumber, ((PageCommand) other).pageNumber)); // state check
+    }
+}
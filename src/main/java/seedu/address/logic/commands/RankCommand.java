@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
+
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.EntryBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Ranks the entries of the displayed entry book by their relevance to the given keywords,
+ * and displays the most relevant of them, the most relevant first.
+ */
+public class RankCommand extends Command {
+
+    public static final String COMMAND_WORD = "rank";
+
+    /** The maximum number of entries displayed, the most relevant first. */
+    public static final int MAX_RESULTS = 100;
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Finds the entries whose title, description or tags contain any of the keywords, "
+            + "and displays the " + MAX_RESULTS + " most relevant of them, the most relevant first.\n"
+            + "Matches in titles count the most, then matches in tags, then matches in descriptions.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " java concurrency";
+
+    public static final String MESSAGE_SUCCESS = "%1$d entries ranked by relevance to: %2$s";
+
+    private final String keywords;
+
+    public RankCommand(String keywords) {
+        requireNonNull(keywords);
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Entry> rankedEntries = model.getEntriesRankedBy(keywords, MAX_RESULTS);
+
+        EntryBook toBeDisplayed = new EntryBook();
+        toBeDisplayed.setEntries(rankedEntries);
+        model.setRankedEntryBook(toBeDisplayed);
+        model.setContext(ModelContext.CONTEXT_RANKED);
+        model.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, rankedEntries.size(), keywords));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof RankCommand // instanceof handles nulls
+                && keywords.equals(((RankCommand) other).keywords)); // state check
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Redoes the changes made by the previous command which was undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_SUCCESS = "Redo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to redo!";
+    public static final String MESSAGE_HISTORY_CLEARED =
+            "The entries have changed since the command, so it cannot be redone. The undo history has been cleared.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canRedoEntryBooks()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        try {
+            model.redoEntryBooks();
+        } catch (IllegalStateException ise) {
+            throw new CommandException(MESSAGE_HISTORY_CLEARED, ise);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
@@ -23,9 +23,9 @@ public class RefreshAllEntriesCommand extends Command {
             + "Example: " + COMMAND_WORD;
 
     public static final String MESSAGE_TRIVIAL_SUCCESS = "No entries to refresh";
-    public static final String MESSAGE_SUCCESS = "Refreshed %d entries";
+    public static final String MESSAGE_SUCCESS = "Refreshed %d entries, %d of which changed";
     public static final String MESSAGE_PARTIAL_SUCCESS =
-        "Refreshed %d entries, but stopping at entry %d (%s) as it could not be refreshed.\n"
+        "Refreshed %d entries, %d of which changed, but stopping at entry %d (%s) as it could not be refreshed.\n"
             + "Please check that the links point to valid websites and that you are connected to the internet.";
     public static final String MESSAGE_FAILURE =
         "Stopping as the first entry could not be refreshed.\n"
@@ -44,10 +44,13 @@ public class RefreshAllEntriesCommand extends Command {
         }
 
         int numRefreshed = 0;
+        int numChanged = 0;
         for (int i = 0; i < numEntries; i++) {
-            Command refreshCommand = new RefreshEntryCommand(Index.fromZeroBased(i));
+            RefreshEntryCommand refreshCommand = new RefreshEntryCommand(Index.fromZeroBased(i));
             try {
-                refreshCommand.execute(model, history);
+                if (refreshCommand.refresh(model)) {
+                    numChanged++;
+                }
                 numRefreshed++;
             } catch (CommandException ce) {
                 if (i == 0) {
@@ -57,13 +60,14 @@ public class RefreshAllEntriesCommand extends Command {
                     return new CommandResult(String.format(
                         MESSAGE_PARTIAL_SUCCESS,
                         i,
+                        numChanged,
                         i + 1,
                         entryThatCouldNotBeRefreshed.getLink()));
                 }
             }
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, numRefreshed));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, numRefreshed, numChanged));
     }
 
     @Override
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
 
@@ -27,8 +28,10 @@ public class RefreshEntryCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1";
 
     public static final String MESSAGE_REFRESH_ENTRY_SUCCESS = "Refreshed Entry: %1$s";
+    public static final String MESSAGE_ENTRY_UNCHANGED = "Entry %1$s is already up to date";
     public static final String MESSAGE_COULD_NOT_FETCH_ARTICLE =
         "Could not fetch article. Are you connected to the internet?";
+    public static final String MESSAGE_COULD_NOT_SAVE_ARTICLE = "Could not save the refreshed article: %1$s";
 
     private final Index targetIndex;
 
@@ -38,6 +41,19 @@ public class RefreshEntryCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        if (refresh(model)) {
+            return new CommandResult(String.format(MESSAGE_REFRESH_ENTRY_SUCCESS, targetIndex.getOneBased()));
+        } else {
+            return new CommandResult(String.format(MESSAGE_ENTRY_UNCHANGED, targetIndex.getOneBased()));
+        }
+    }
+
+    /**
+     * Re-downloads the article of the target entry.
+     * @return true if the article changed since it was last saved.
+     * @throws CommandException if the index is invalid or the article could not be fetched or saved.
+     */
+    boolean refresh(Model model) throws CommandException {
         requireNonNull(model);
 
         List<Entry> filteredEntryList = model.getFilteredEntryList();
@@ -49,14 +65,14 @@ public class RefreshEntryCommand extends Command {
         Entry targetEntry = filteredEntryList.get(targetIndex.getZeroBased());
 
         Optional<byte[]> articleContent = Network.fetchArticleOptional(targetEntry.getLink().value);
-        if (articleContent.isPresent()) {
-            model.refreshEntry(filteredEntryList.get(targetIndex.getZeroBased()), articleContent.get());
-        } else {
+        if (!articleContent.isPresent()) {
             throw new CommandException(MESSAGE_COULD_NOT_FETCH_ARTICLE);
         }
-
-        return new CommandResult(String.format(MESSAGE_REFRESH_ENTRY_SUCCESS, targetIndex.getOneBased()));
-
+        try {
+            return model.refreshEntry(targetEntry, articleContent.get());
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_COULD_NOT_SAVE_ARTICLE, ioe), ioe);
+        }
     }
 
     @Override
@@ -3,10 +3,15 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.rometools.rome.io.FeedException;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FeedUtil;
@@ -15,7 +20,6 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
-import seedu.address.util.Network;
 
 /**
  * Refreshes from a feed identified using its displayed index.
@@ -31,6 +35,10 @@ public class RefreshFeedCommand extends Command {
     public static final String MESSAGE_REFRESH_FEED_SUCCESS = "Refreshed feed: %1$s";
     public static final String MESSAGE_FAILURE_NET = "Refresh failed:\n%s";
     public static final String MESSAGE_FAILURE_XML = "Failed to parse resource at %s. Is resource outdated?";
+    public static final String MESSAGE_NEAR_DUPLICATES_SKIPPED =
+            "\n%1$d entries were not added, as they are near-duplicates of saved entries:%2$s";
+
+    private static final Logger logger = LogsCenter.getLogger(RefreshFeedCommand.class);
 
     private final Index targetIndex;
 
@@ -60,13 +68,53 @@ public class RefreshFeedCommand extends Command {
             throw new CommandException(String.format(MESSAGE_FAILURE_XML, feedToRefresh.getLink().value));
         }
 
+        List<Entry> nearDuplicates = addNewEntries(model, feedEntries.getEntryList());
 
-        feedEntries.getEntryList().stream()
-                .filter(entry -> !model.hasEntry(entry))
-                .forEach(entry -> model.addListEntry(entry, Network.fetchArticleOptional(entry.getLink().value)));
+        return new CommandResult(String.format(MESSAGE_REFRESH_FEED_SUCCESS, feedToRefresh)
+                + getNearDuplicatesMessage(nearDuplicates));
+    }
 
+    /**
+     * Adds the entries of a feed which are not in the reading list or archives yet to the reading list,
+     * and queues their articles for download in the background.
+     * Entries which are near-duplicates of a saved entry, e.g. the same story syndicated under another link,
+     * are not added, so that neither the reading list nor the saved articles hold the story twice.
+     * @return the near-duplicates which were not added.
+     */
+    static List<Entry> addNewEntries(Model model, List<Entry> feedEntries) {
+        List<Entry> newEntries = new ArrayList<>();
+        List<Entry> nearDuplicates = new ArrayList<>();
+        // entries are added one at a time, so that near-duplicates within the feed are also found
+        for (Entry entry : feedEntries) {
+            if (model.hasEntry(entry)) {
+                continue;
+            }
+            Optional<Entry> nearDuplicate = model.findNearDuplicateEntry(entry);
+            if (nearDuplicate.isPresent()) {
+                logger.fine(() -> "Not adding " + entry.getLink() + ", a near-duplicate of "
+                        + nearDuplicate.get().getLink());
+                nearDuplicates.add(entry);
+                continue;
+            }
+            model.addListEntry(entry, Optional.empty());
+            newEntries.add(entry);
+        }
+        model.queueArticleDownloads(newEntries);
+        return nearDuplicates;
+    }
 
-        return new CommandResult(String.format(MESSAGE_REFRESH_FEED_SUCCESS, feedToRefresh));
+    /**
+     * Returns the message telling the user which near-duplicates were not added, by their titles,
+     * or nothing if there were none.
+     */
+    static String getNearDuplicatesMessage(List<Entry> nearDuplicates) {
+        if (nearDuplicates.isEmpty()) {
+            return "";
+        }
+        String titles = nearDuplicates.stream()
+                .map(entry -> "\n- " + entry.getTitle())
+                .collect(Collectors.joining());
+        return String.format(MESSAGE_NEAR_DUPLICATES_SKIPPED, nearDuplicates.size(), titles);
     }
 
     @Override
@@ -0,0 +1,62 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+
+/**
+ * Saves a search of the reading list and archives by the arguments of a {@code find} command, under a name,
+ * and displays its results.
+ */
+public class SaveSearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "savesearch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Saves a search of the reading list and archives under a name, and displays the entries found. "
+            + "The results of a saved search are kept up to date as entries are added, edited and deleted.\n"
+            + "Parameters: NAME FIND_PARAMETERS (the parameters of " + FindCommand.COMMAND_WORD + ")\n"
+            + "Example: " + COMMAND_WORD + " k8s " + PREFIX_FUZZY + "kubernetes " + PREFIX_TITLE + "helm "
+            + PREFIX_TAG + "-beginner";
+
+    public static final String MESSAGE_SUCCESS = "Saved search %1$s: %2$d entries found";
+
+    private final String name;
+    private final String findArguments;
+    private final EntryContainsSearchTermsPredicate predicate;
+
+    /**
+     * Creates a command which saves the search for the entries matching {@code predicate}, parsed from
+     * {@code findArguments}, under {@code name}.
+     */
+    public SaveSearchCommand(String name, String findArguments, EntryContainsSearchTermsPredicate predicate) {
+        requireNonNull(name);
+        requireNonNull(findArguments);
+        requireNonNull(predicate);
+        this.name = name;
+        this.findArguments = findArguments;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.addSavedSearch(name, findArguments, predicate);
+        model.displaySavedSearch(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, model.getFilteredEntryList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SaveSearchCommand // instanceof handles nulls
+                && name.equals(((SaveSearchCommand) other).name)
+                && findArguments.equals(((SaveSearchCommand) other).findArguments)
+                && predicate.equals(((SaveSearchCommand) other).predicate)); // state check
+    }
+}
@@ -0,0 +1,71 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Displays the results of a saved search, or lists the saved searches if no name is given.
+ */
+public class SearchesCommand extends Command {
+
+    public static final String COMMAND_WORD = "searches";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Displays the entries found by the saved search with the given name, "
+            + "or lists the saved searches if no name is given.\n"
+            + "Parameters: [NAME]\n"
+            + "Example: " + COMMAND_WORD + " k8s";
+
+    public static final String MESSAGE_SUCCESS = "Switched to saved search %1$s: %2$d entries found";
+    public static final String MESSAGE_LIST = "Saved searches:%1$s";
+    public static final String MESSAGE_NO_SAVED_SEARCHES = "There are no saved searches. Save one with "
+            + SaveSearchCommand.COMMAND_WORD + ".";
+    public static final String MESSAGE_UNKNOWN_SEARCH = "There is no saved search named %1$s";
+
+    private final Optional<String> name;
+
+    public SearchesCommand(Optional<String> name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!name.isPresent()) {
+            return new CommandResult(listSavedSearches(model.getUserPrefs().getSavedSearches()));
+        }
+        if (!model.hasSavedSearch(name.get())) {
+            throw new CommandException(String.format(MESSAGE_UNKNOWN_SEARCH, name.get()));
+        }
+        model.displaySavedSearch(name.get());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name.get(), model.getFilteredEntryList().size()));
+    }
+
+    /**
+     * Returns the names of {@code savedSearches} and the parameters of {@code find} they were saved with,
+     * one per line.
+     */
+    private static String listSavedSearches(Map<String, String> savedSearches) {
+        if (savedSearches.isEmpty()) {
+            return MESSAGE_NO_SAVED_SEARCHES;
+        }
+        StringBuilder list = new StringBuilder();
+        savedSearches.forEach((savedName, findArguments) ->
+                list.append('\n').append(savedName).append(": ").append(findArguments));
+        return String.format(MESSAGE_LIST, list);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchesCommand // instanceof handles nulls
+                && name.equals(((SearchesCommand) other).name)); // state check
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each kind of operation has taken in this session, and how often notable events occurred.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_SUCCESS = "Operations in this session:\n%1$s";
+    public static final String MESSAGE_NO_OPERATIONS = "No operations have been recorded in this session.";
+
+    private final Supplier<List<String>> metricsSupplier;
+
+    public StatsCommand() {
+        this(MetricsCenter::getSummary);
+    }
+
+    StatsCommand(Supplier<List<String>> metricsSupplier) {
+        this.metricsSupplier = metricsSupplier;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<String> metrics = metricsSupplier.get();
+
+        if (metrics.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_OPERATIONS);
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", metrics)));
+    }
+
+}
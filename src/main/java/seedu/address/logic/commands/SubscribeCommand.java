@@ -7,6 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
 
 import com.rometools.rome.feed.synd.SyndFeed;
 import com.rometools.rome.io.FeedException;
@@ -18,7 +19,6 @@ import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.util.EntryAutofill;
-import seedu.address.util.Network;
 
 /** Subscribes to a feed and adds the feed to the feedEntryBook. */
 public class SubscribeCommand extends Command {
@@ -74,13 +74,12 @@ public class SubscribeCommand extends Command {
 
         model.addFeedsEntry(updatedToSubscribe);
 
-        // initial import into reading list
+        // initial import into reading list, the articles are downloaded in the background
         EntryBook feedEntries = FeedUtil.serializeToEntryBook(feed, feedUrl.toString(), updatedToSubscribe.getTags());
-        feedEntries.getEntryList().stream()
-                .filter(entry -> !model.hasEntry(entry))
-                .forEach(entry -> model.addListEntry(entry, Network.fetchArticleOptional(entry.getLink().value)));
+        List<Entry> nearDuplicates = RefreshFeedCommand.addNewEntries(model, feedEntries.getEntryList());
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedToSubscribe));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, updatedToSubscribe)
+                + RefreshFeedCommand.getNearDuplicatesMessage(nearDuplicates));
     }
 
     @Override
@@ -48,6 +48,7 @@ public class UnarchiveAllCommand extends Command {
                 logger.warning("Removing duplicate entry at index " + index.getOneBased()
                     + " which is already in reading list:\n"
                     + entryToUnarchive);
+                model.deleteArchivesEntry(entryToUnarchive);
                 // Ignore duplicate entry errors
                 // Rethrow other errors
             }
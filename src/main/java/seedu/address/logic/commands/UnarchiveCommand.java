@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
-import java.util.Optional;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -13,7 +12,6 @@ import seedu.address.logic.commands.exceptions.DuplicateEntryCommandException;
 import seedu.address.model.Model;
 import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
-import seedu.address.util.Network;
 
 /**
  * Lists all entries in the archives to the user.
@@ -46,9 +44,8 @@ public class UnarchiveCommand extends Command {
         }
 
         Entry entryToUnarchive = lastShownList.get(targetIndex.getZeroBased());
-        Optional<byte[]> articleContent = Network.fetchArticleOptional(entryToUnarchive.getLink().value);
         try {
-            model.unarchiveEntry(entryToUnarchive, articleContent);
+            model.unarchiveEntry(entryToUnarchive);
         } catch (DuplicateEntryException dee) {
             throw new DuplicateEntryCommandException();
         }
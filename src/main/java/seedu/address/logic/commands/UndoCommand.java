@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Undoes the changes made to the reading list, archives and feeds by the previous command.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+    public static final String MESSAGE_SUCCESS = "Undo success!";
+    public static final String MESSAGE_FAILURE = "No more commands to undo!";
+    public static final String MESSAGE_HISTORY_CLEARED =
+            "The entries have changed since the command, so it cannot be undone. The undo history has been cleared.";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (!model.canUndoEntryBooks()) {
+            throw new CommandException(MESSAGE_FAILURE);
+        }
+
+        try {
+            model.undoEntryBooks();
+        } catch (IllegalStateException ise) {
+            throw new CommandException(MESSAGE_HISTORY_CLEARED, ise);
+        }
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
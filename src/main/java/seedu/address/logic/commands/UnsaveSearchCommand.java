@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Deletes a saved search.
+ */
+public class UnsaveSearchCommand extends Command {
+
+    public static final String COMMAND_WORD = "unsavesearch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Deletes the saved search with the given name. The entries it found are not deleted.\n"
+            + "Parameters: NAME\n"
+            + "Example: " + COMMAND_WORD + " k8s";
+
+    public static final String MESSAGE_SUCCESS = "Deleted saved search: %1$s";
+
+    private final String name;
+
+    public UnsaveSearchCommand(String name) {
+        requireNonNull(name);
+        this.name = name;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+        if (!model.hasSavedSearch(name)) {
+            throw new CommandException(String.format(SearchesCommand.MESSAGE_UNKNOWN_SEARCH, name));
+        }
+        model.deleteSavedSearch(name);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof UnsaveSearchCommand // instanceof handles nulls
+                && name.equals(((UnsaveSearchCommand) other).name)); // state check
+    }
+}
@@ -10,6 +10,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_DESCRIPTION = new Prefix("d/");
     public static final Prefix PREFIX_LINK = new Prefix("l/");
     public static final Prefix PREFIX_ALL = new Prefix("a/");
+    public static final Prefix PREFIX_FUZZY = new Prefix("fz/");
     public static final Prefix PREFIX_TAG = new Prefix("t/");
     public static final Prefix PREFIX_STYLE = new Prefix("s/");
 
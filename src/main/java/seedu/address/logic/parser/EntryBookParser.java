@@ -18,8 +18,17 @@ import seedu.address.logic.commands.GoogleNewsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NetworkStatusCommand;
 import seedu.address.logic.commands.OfflineModeCommand;
+import seedu.address.logic.commands.PageCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchesCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SubscribeCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnsaveSearchCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelContext;
 
@@ -101,6 +110,33 @@ public abstract class EntryBookParser {
         case OfflineModeCommand.COMMAND_WORD:
             return new OfflineModeCommandParser().parse(arguments);
 
+        case PageCommand.COMMAND_WORD:
+            return new PageCommandParser().parse(arguments);
+
+        case RankCommand.COMMAND_WORD:
+            return new RankCommandParser().parse(arguments);
+
+        case SaveSearchCommand.COMMAND_WORD:
+            return new SaveSearchCommandParser().parse(arguments);
+
+        case SearchesCommand.COMMAND_WORD:
+            return new SearchesCommandParser().parse(arguments);
+
+        case UnsaveSearchCommand.COMMAND_WORD:
+            return new UnsaveSearchCommandParser().parse(arguments);
+
+        case NetworkStatusCommand.COMMAND_WORD:
+            return new NetworkStatusCommand();
+
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
+
+        case UndoCommand.COMMAND_WORD:
+            return new UndoCommand();
+
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         // the following commands are actually context specific but accessible everywhere for convenience
 
         case AddCommand.COMMAND_WORD:
@@ -3,20 +3,19 @@ package seedu.address.logic.parser;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
-import java.util.Optional;
-import java.util.Set;
+import java.util.List;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
-import seedu.address.model.tag.Tag;
 
 /**
  * Parses input arguments and creates a new FindCommand object
@@ -29,6 +28,15 @@ public class FindCommandParser implements Parser<FindCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCommand parse(String args) throws ParseException {
+        return new FindCommand(parsePredicate(args));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments of a FindCommand into the predicate which the entries found
+     * must match, e.g. to save the search.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public EntryContainsSearchTermsPredicate parsePredicate(String args) throws ParseException {
         requireNonNull(args);
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(
                 args,
@@ -36,6 +44,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 PREFIX_DESCRIPTION,
                 PREFIX_LINK,
                 PREFIX_ALL,
+                PREFIX_FUZZY,
                 PREFIX_TAG);
 
         FindEntryDescriptor findEntryDescriptor = new FindEntryDescriptor();
@@ -52,28 +61,47 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (argMultimap.getValue(PREFIX_ALL).isPresent()) {
             findEntryDescriptor.setAll(ParserUtil.parseKeyphrase(argMultimap.getValue(PREFIX_ALL).get()));
         }
-        parseTagsForFind(argMultimap.getAllValues(PREFIX_TAG)).ifPresent(findEntryDescriptor::setTags);
+        if (argMultimap.getValue(PREFIX_FUZZY).isPresent()) {
+            findEntryDescriptor.setFuzzy(ParserUtil.parseKeyphrase(argMultimap.getValue(PREFIX_FUZZY).get()));
+        }
+        parseTagsForFind(argMultimap.getAllValues(PREFIX_TAG), findEntryDescriptor);
 
         if (!findEntryDescriptor.isAnyFieldEdited()) {
             throw new ParseException(FindCommand.MESSAGE_NO_SEARCH_TERMS);
         }
 
-        return new FindCommand(new EntryContainsSearchTermsPredicate(findEntryDescriptor));
+        return new EntryContainsSearchTermsPredicate(findEntryDescriptor);
     }
 
     /**
-     * Parses {@code Collection<String> tags} into a {@code Set<Tag>} if {@code tags} is non-empty.
-     * If {@code tags} contain only one element which is an empty string, it will be parsed into a
-     * {@code Set<Tag>} containing zero tags.
+     * Parses {@code Collection<String> tags} into the tags, required tags and excluded tags
+     * of {@code findEntryDescriptor}, by whether each tag is prefixed by
+     * {@link FindCommand#REQUIRED_TAG_MARKER}, {@link FindCommand#EXCLUDED_TAG_MARKER} or neither.
      */
-    private Optional<Set<Tag>> parseTagsForFind(Collection<String> tags) throws ParseException {
+    private void parseTagsForFind(Collection<String> tags, FindEntryDescriptor findEntryDescriptor)
+            throws ParseException {
         assert tags != null;
 
-        if (tags.isEmpty()) {
-            return Optional.empty();
+        List<String> anyTags = new ArrayList<>();
+        List<String> requiredTags = new ArrayList<>();
+        List<String> excludedTags = new ArrayList<>();
+        for (String tag : tags) {
+            if (tag.startsWith(FindCommand.REQUIRED_TAG_MARKER)) {
+                requiredTags.add(tag.substring(FindCommand.REQUIRED_TAG_MARKER.length()));
+            } else if (tag.startsWith(FindCommand.EXCLUDED_TAG_MARKER)) {
+                excludedTags.add(tag.substring(FindCommand.EXCLUDED_TAG_MARKER.length()));
+            } else {
+                anyTags.add(tag);
+            }
+        }
+
+        ParserUtil.parseTagsOptional(anyTags).ifPresent(findEntryDescriptor::setTags);
+        if (!requiredTags.isEmpty()) {
+            findEntryDescriptor.setRequiredTags(ParserUtil.parseTags(requiredTags));
+        }
+        if (!excludedTags.isEmpty()) {
+            findEntryDescriptor.setExcludedTags(ParserUtil.parseTags(excludedTags));
         }
-        Collection<String> tagSet = tags.size() == 1 && tags.contains("") ? Collections.emptySet() : tags;
-        return Optional.of(ParserUtil.parseTags(tagSet));
     }
 
 
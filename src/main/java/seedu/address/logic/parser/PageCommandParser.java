@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Locale;
+
+import seedu.address.logic.commands.PageCommand;
+import seedu.address.logic.commands.PageCommand.Destination;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new PageCommand object
+ */
+public class PageCommandParser implements Parser<PageCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the PageCommand
+     * and returns a PageCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public PageCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        switch (args.trim().toLowerCase(Locale.ENGLISH)) {
+        case "first":
+            return new PageCommand(Destination.FIRST);
+        case "prev":
+            return new PageCommand(Destination.PREVIOUS);
+        case "next":
+            return new PageCommand(Destination.NEXT);
+        case "last":
+            return new PageCommand(Destination.LAST);
+        default:
+            try {
+                return new PageCommand(ParserUtil.parseIndex(args));
+            } catch (ParseException pe) {
+                throw new ParseException(
+                        String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE), pe);
+            }
+        }
+    }
+}
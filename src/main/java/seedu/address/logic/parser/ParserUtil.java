@@ -31,6 +31,9 @@ import seedu.address.model.tag.Tag;
 public abstract class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_SAVED_SEARCH_NAME =
+            "Names of saved searches should only contain letters, digits, hyphens and underscores.";
+    public static final String SAVED_SEARCH_NAME_VALIDATION_REGEX = "[\\p{Alnum}_-]+";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -176,6 +179,21 @@ public abstract class ParserUtil {
         return trimmedLink;
     }
 
+    /**
+     * Parses {@code name} into the name of a saved search.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code name} is invalid.
+     */
+    public static String parseSavedSearchName(String name) throws ParseException {
+        requireNonNull(name);
+        String trimmedName = name.trim();
+        if (!trimmedName.matches(SAVED_SEARCH_NAME_VALIDATION_REGEX)) {
+            throw new ParseException(MESSAGE_INVALID_SAVED_SEARCH_NAME);
+        }
+        return trimmedName;
+    }
+
     /**
      * Tries to parse an entry from args.
      * @throws ParseException with usageMessage if the parse failed
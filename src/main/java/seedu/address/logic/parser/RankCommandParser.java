@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RankCommand object
+ */
+public class RankCommandParser implements Parser<RankCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RankCommand
+     * and returns a RankCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RankCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE));
+        }
+        return new RankCommand(trimmedArgs);
+    }
+
+}
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+
+/**
+ * Parses input arguments and creates a new SaveSearchCommand object
+ */
+public class SaveSearchCommandParser implements Parser<SaveSearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SaveSearchCommand
+     * and returns a SaveSearchCommand object for execution.
+     * The arguments after the name are parsed as those of a FindCommand.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SaveSearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] nameAndFindArguments = args.trim().split("\\s+", 2);
+        if (nameAndFindArguments.length < 2) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SaveSearchCommand.MESSAGE_USAGE));
+        }
+        String name = ParserUtil.parseSavedSearchName(nameAndFindArguments[0]);
+        String findArguments = nameAndFindArguments[1].trim();
+        // the prefixes of the arguments are only recognised after whitespace
+        EntryContainsSearchTermsPredicate predicate = new FindCommandParser().parsePredicate(" " + findArguments);
+        return new SaveSearchCommand(name, findArguments, predicate);
+    }
+
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.SearchesCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SearchesCommand object
+ */
+public class SearchesCommandParser implements Parser<SearchesCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchesCommand
+     * and returns a SearchesCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchesCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            return new SearchesCommand(Optional.empty());
+        }
+        return new SearchesCommand(Optional.of(ParserUtil.parseSavedSearchName(args)));
+    }
+
+}
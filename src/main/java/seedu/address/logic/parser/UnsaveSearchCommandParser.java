@@ -0,0 +1,27 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.logic.commands.UnsaveSearchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new UnsaveSearchCommand object
+ */
+public class UnsaveSearchCommandParser implements Parser<UnsaveSearchCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the UnsaveSearchCommand
+     * and returns an UnsaveSearchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public UnsaveSearchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        if (args.trim().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, UnsaveSearchCommand.MESSAGE_USAGE));
+        }
+        return new UnsaveSearchCommand(ParserUtil.parseSavedSearchName(args));
+    }
+
+}
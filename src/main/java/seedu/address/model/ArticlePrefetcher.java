@@ -0,0 +1,261 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.entry.Entry;
+
+/**
+ * Downloads the articles of the entries around the selected entry before they are selected,
+ * and the article of the selected entry itself.
+ *
+ * Prefetching runs at low priority: only one article is prefetched at a time,
+ * so that it does not compete with the download of the article actually being read.
+ * When the selection moves, prefetches of entries which are no longer near it are cancelled.
+ * Each article is downloaded at most once at a time: selecting an entry whose article is being prefetched
+ * waits for that download rather than starting another.
+ *
+ * All methods are thread-safe. Articles are fetched, saved and checked for offline copies outside of the lock.
+ */
+public class ArticlePrefetcher {
+
+    public static final int DEFAULT_PREFETCH_AHEAD = 3;
+    public static final int DEFAULT_PREFETCH_BEHIND = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ArticlePrefetcher.class);
+
+    private final int prefetchAhead;
+    private final int prefetchBehind;
+    private final Function<URL, CompletableFuture<byte[]>> articleFetcher;
+    private final BiConsumer<URL, byte[]> articleSaver;
+    private final Predicate<URL> hasOfflineCopy;
+
+    private final Deque<URL> pending = new ArrayDeque<>();
+    private final Set<URL> prefetched = new HashSet<>();
+    /** The downloads in progress, prefetched or selected, by the url of their article. */
+    private final Map<URL, Download> inFlight = new HashMap<>();
+    /** The prefetch in progress, which is also in {@code inFlight}, or null. */
+    private Download prefetch = null;
+    private int hits = 0;
+    private int misses = 0;
+    private boolean isStopped = false;
+
+    /**
+     * @param articleFetcher starts the download of the article at a url.
+     * @param articleSaver saves a downloaded article, called from the thread completing the download.
+     * @param hasOfflineCopy tests whether the article at a url has already been downloaded.
+     */
+    public ArticlePrefetcher(int prefetchAhead, int prefetchBehind,
+                             Function<URL, CompletableFuture<byte[]>> articleFetcher,
+                             BiConsumer<URL, byte[]> articleSaver,
+                             Predicate<URL> hasOfflineCopy) {
+        this.prefetchAhead = prefetchAhead;
+        this.prefetchBehind = prefetchBehind;
+        this.articleFetcher = articleFetcher;
+        this.articleSaver = articleSaver;
+        this.hasOfflineCopy = hasOfflineCopy;
+    }
+
+    /**
+     * Records whether the article of a newly selected entry had been prefetched,
+     * then prefetches the articles of the entries around it.
+     * Must be called before the selected article itself is downloaded.
+     *
+     * @param entries the displayed entries.
+     * @param selectedIndex index of the selected entry in {@code entries}.
+     */
+    public void onSelection(List<Entry> entries, int selectedIndex) {
+        requireNonNull(entries);
+        URL selectedUrl = entries.get(selectedIndex).getLink().value;
+        boolean isSelectedDownloaded = hasOfflineCopy.test(selectedUrl);
+
+        // collected here as the displayed entries may only be read from the thread that modifies them
+        List<URL> wanted = new ArrayList<>();
+        for (int i = 1; i <= prefetchAhead && selectedIndex + i < entries.size(); i++) {
+            wanted.add(entries.get(selectedIndex + i).getLink().value);
+        }
+        for (int i = 1; i <= prefetchBehind && selectedIndex - i >= 0; i++) {
+            wanted.add(entries.get(selectedIndex - i).getLink().value);
+        }
+        wanted.removeIf(hasOfflineCopy);
+
+        Download stalePrefetch = null;
+        synchronized (this) {
+            if (prefetched.remove(selectedUrl) && isSelectedDownloaded) {
+                hits++;
+            } else if (!isSelectedDownloaded) {
+                misses++;
+            }
+
+            if (isStopped) {
+                return;
+            }
+            pending.clear();
+            pending.addAll(wanted);
+            if (prefetch != null && prefetch.url.equals(selectedUrl)) {
+                // kept for the selection, which waits for it, and no longer holds up the next prefetch
+                prefetch = null;
+            } else if (prefetch != null && !wanted.contains(prefetch.url)) {
+                logger.fine(() -> "Cancelling stale prefetch of " + prefetch.url);
+                stalePrefetch = forgetPrefetch();
+            }
+        }
+        if (stalePrefetch != null) {
+            stalePrefetch.result.cancel(false);
+        }
+        startNextPrefetch();
+    }
+
+    /**
+     * Downloads and saves the article at {@code url}, or returns the download already in progress for it.
+     * The returned future completes once the article has been saved.
+     */
+    public CompletableFuture<byte[]> download(URL url) {
+        requireNonNull(url);
+        Download download;
+        synchronized (this) {
+            Download existing = inFlight.get(url);
+            if (existing != null) {
+                if (existing == prefetch) {
+                    prefetch = null;
+                }
+                return existing.result;
+            }
+            download = new Download(url);
+            inFlight.put(url, download);
+        }
+        start(download);
+        return download.result;
+    }
+
+    /**
+     * Stops prefetching, cancelling the prefetch in progress.
+     */
+    public void stop() {
+        Download cancelled;
+        synchronized (this) {
+            isStopped = true;
+            pending.clear();
+            cancelled = prefetch == null ? null : forgetPrefetch();
+        }
+        if (cancelled != null) {
+            cancelled.result.cancel(false);
+        }
+    }
+
+    /**
+     * Forgets the prefetch in progress, so that its completion is ignored, and returns it to be cancelled
+     * outside of the lock.
+     */
+    private Download forgetPrefetch() {
+        assert Thread.holdsLock(this);
+        Download forgotten = prefetch;
+        prefetch = null;
+        inFlight.remove(forgotten.url);
+        return forgotten;
+    }
+
+    public synchronized PrefetchStatistics getStatistics() {
+        return new PrefetchStatistics(hits, misses);
+    }
+
+    /**
+     * Starts prefetching the next pending article which is not being downloaded yet,
+     * if no prefetch is in progress.
+     */
+    private void startNextPrefetch() {
+        Download next = null;
+        synchronized (this) {
+            while (!isStopped && prefetch == null && !pending.isEmpty()) {
+                URL url = pending.poll();
+                if (!inFlight.containsKey(url)) {
+                    next = new Download(url);
+                    inFlight.put(url, next);
+                    prefetch = next;
+                }
+            }
+        }
+        if (next != null) {
+            start(next);
+        }
+    }
+
+    /**
+     * Starts fetching the article of {@code download}. Cancelling the download cancels the fetch.
+     */
+    private void start(Download download) {
+        CompletableFuture<byte[]> fetch = articleFetcher.apply(download.url);
+        download.result.whenComplete((articleContent, error) -> {
+            if (download.result.isCancelled()) {
+                fetch.cancel(false);
+            }
+        });
+        // may complete immediately, in which case the next prefetch is started from the callback
+        fetch.whenComplete((articleContent, error) -> onDownloadFinished(download, articleContent, error));
+    }
+
+    /**
+     * Saves a downloaded article, unless the download has been cancelled, completes the download
+     * and starts the next prefetch.
+     */
+    private void onDownloadFinished(Download download, byte[] articleContent, Throwable error) {
+        boolean isCurrent;
+        synchronized (this) {
+            isCurrent = inFlight.get(download.url) == download;
+        }
+        if (!isCurrent) {
+            // cancelled
+            return;
+        }
+        if (error == null) {
+            logger.fine(() -> "Downloaded article " + download.url);
+            articleSaver.accept(download.url, articleContent);
+        } else {
+            logger.fine(() -> "Failed to download article " + download.url + ": " + error);
+        }
+        synchronized (this) {
+            inFlight.remove(download.url);
+            if (download == prefetch) {
+                prefetch = null;
+                if (error == null) {
+                    prefetched.add(download.url);
+                }
+            }
+        }
+        if (error == null) {
+            download.result.complete(articleContent);
+        } else {
+            download.result.completeExceptionally(error);
+        }
+        startNextPrefetch();
+    }
+
+    /**
+     * A single started download, compared by identity so that the result of a cancelled download
+     * is not mistaken for that of a later download of the same article.
+     */
+    private static class Download {
+        private final URL url;
+        /** Completes once the article has been saved. */
+        private final CompletableFuture<byte[]> result = new CompletableFuture<>();
+
+        Download(URL url) {
+            this.url = url;
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose elements can be copied in constant time, by sharing its array.
+ *
+ * Copies made with {@link #CopyOnWriteObservableList(CopyOnWriteObservableList)} or
+ * {@link #setAll(CopyOnWriteObservableList)} share the array of this list, which is then never written again.
+ * The first change to either list after that copies the array, so copies only cost one copy of the array of
+ * references, and only if the lists diverge.
+ * Not thread-safe: the list must be changed, copied and snapshotted on one thread, as copying marks the array of
+ * the list copied from as shared. To read the elements on other threads, take a {@link #snapshot()} on that thread
+ * and hand it over: a snapshot is immutable, so it may be read from any thread while this list is changed.
+ */
+public class CopyOnWriteObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private static final int DEFAULT_CAPACITY = 10;
+
+    private Object[] elements;
+    private int size;
+    private boolean isShared;
+
+    /**
+     * Creates an empty list.
+     */
+    public CopyOnWriteObservableList() {
+        elements = new Object[DEFAULT_CAPACITY];
+    }
+
+    /**
+     * Creates a list of the elements of {@code toBeCopied}, sharing its array until either list is changed.
+     * Must be called on the thread which changes {@code toBeCopied}.
+     */
+    public CopyOnWriteObservableList(CopyOnWriteObservableList<? extends E> toBeCopied) {
+        requireNonNull(toBeCopied);
+        toBeCopied.isShared = true;
+        elements = toBeCopied.elements;
+        size = toBeCopied.size;
+        isShared = true;
+    }
+
+    /**
+     * Replaces the elements of this list with those of {@code replacement}, sharing its array until either list
+     * is changed. Listeners are told of the replacement as one change.
+     * Must be called on the thread which changes {@code replacement}.
+     */
+    public void setAll(CopyOnWriteObservableList<? extends E> replacement) {
+        requireNonNull(replacement);
+        replacement.isShared = true;
+        replaceElements(replacement.elements, replacement.size, true);
+    }
+
+    @Override
+    public boolean setAll(Collection<? extends E> replacement) {
+        requireNonNull(replacement);
+        Object[] replacementElements = replacement.toArray();
+        replaceElements(replacementElements, replacementElements.length, false);
+        return true;
+    }
+
+    /**
+     * Returns an unmodifiable list of the elements of this list as they are now, sharing its array,
+     * which this list then never writes again. Must be called on the thread which changes this list, but the
+     * snapshot is immutable, so it may be handed to and read from any thread.
+     */
+    public List<E> snapshot() {
+        isShared = true;
+        return new Snapshot<>(elements, size);
+    }
+
+    /**
+     * Makes the changes to this list in {@code changes}, telling listeners of all of them as one change.
+     */
+    public void changeAsOne(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Inserts the elements of {@code toAdd} at {@code index}, moving the later elements only once.
+     */
+    @Override
+    public boolean addAll(int index, Collection<? extends E> toAdd) {
+        Objects.checkIndex(index, size + 1);
+        Object[] addedElements = toAdd.toArray();
+        if (addedElements.length == 0) {
+            return false;
+        }
+        ensureWritable(size + addedElements.length);
+        System.arraycopy(elements, index, elements, index + addedElements.length, size - index);
+        System.arraycopy(addedElements, 0, elements, index, addedElements.length);
+        size += addedElements.length;
+        modCount++;
+
+        beginChange();
+        nextAdd(index, index + addedElements.length);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes the elements from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive),
+     * moving the later elements only once.
+     */
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        if (fromIndex == toIndex) {
+            return;
+        }
+        ensureWritable(size);
+        List<E> removed = new ArrayList<>(new Snapshot<E>(elements, toIndex).subList(fromIndex, toIndex));
+        System.arraycopy(elements, toIndex, elements, fromIndex, size - toIndex);
+        Arrays.fill(elements, size - (toIndex - fromIndex), size, null);
+        size -= toIndex - fromIndex;
+        modCount++;
+
+        beginChange();
+        nextRemove(fromIndex, removed);
+        endChange();
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            replaceElements(new Object[DEFAULT_CAPACITY], 0, false);
+        }
+    }
+
+    /**
+     * Replaces the array of this list, and tells listeners which elements were replaced.
+     */
+    private void replaceElements(Object[] newElements, int newSize, boolean isNewElementsShared) {
+        // the old array is never written again, as it is either shared or no longer used by this list
+        List<E> removed = new Snapshot<>(elements, size);
+        elements = newElements;
+        size = newSize;
+        isShared = isNewElementsShared;
+        modCount++;
+
+        if (removed.isEmpty() && size == 0) {
+            return;
+        }
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(0, size);
+        } else if (size == 0) {
+            nextRemove(0, removed);
+        } else {
+            nextReplace(0, size, removed);
+        }
+        endChange();
+    }
+
+    /**
+     * Ensures that the array of this list is not shared and has room for {@code minCapacity} elements,
+     * by copying it if necessary.
+     */
+    private void ensureWritable(int minCapacity) {
+        if (!isShared && minCapacity <= elements.length) {
+            return;
+        }
+        int capacity = elements.length;
+        if (minCapacity > capacity) {
+            capacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        }
+        elements = Arrays.copyOf(elements, capacity);
+        isShared = false;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, size);
+        return (E) elements[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        ensureWritable(size + 1);
+        System.arraycopy(elements, index, elements, index + 1, size - index);
+        elements[index] = element;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doSet(int index, E element) {
+        ensureWritable(size);
+        E oldElement = (E) elements[index];
+        elements[index] = element;
+        return oldElement;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected E doRemove(int index) {
+        ensureWritable(size);
+        E oldElement = (E) elements[index];
+        System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+        elements[--size] = null;
+        modCount++;
+        return oldElement;
+    }
+
+    /**
+     * An unmodifiable view of the first {@code size} elements of an array which is never written again.
+     * Its fields are final, so it is safely published to other threads however it is handed to them.
+     */
+    private static class Snapshot<E> extends AbstractList<E> implements RandomAccess {
+        private final Object[] elements;
+        private final int size;
+
+        Snapshot(Object[] elements, int size) {
+            this.elements = elements;
+            this.size = size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public E get(int index) {
+            Objects.checkIndex(index, size);
+            return (E) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the progress of the background article downloads.
+ * Counts are reset whenever the queue becomes idle and new downloads are queued.
+ */
+public class DownloadProgress {
+
+    public static final DownloadProgress IDLE = new DownloadProgress(0, 0, 0);
+
+    private final int completed;
+    private final int failed;
+    private final int remaining;
+
+    public DownloadProgress(int completed, int failed, int remaining) {
+        this.completed = completed;
+        this.failed = failed;
+        this.remaining = remaining;
+    }
+
+    /** Number of articles downloaded successfully. */
+    public int getCompleted() {
+        return completed;
+    }
+
+    /** Number of articles which could not be downloaded. */
+    public int getFailed() {
+        return failed;
+    }
+
+    /** Number of articles queued or being downloaded. */
+    public int getRemaining() {
+        return remaining;
+    }
+
+    public int getTotal() {
+        return completed + failed + remaining;
+    }
+
+    public boolean isIdle() {
+        return remaining == 0;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof DownloadProgress // instanceof handles nulls
+                && completed == ((DownloadProgress) other).completed
+                && failed == ((DownloadProgress) other).failed
+                && remaining == ((DownloadProgress) other).remaining);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(completed, failed, remaining);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d articles downloaded, %d failed", completed, getTotal(), failed);
+    }
+}
@@ -0,0 +1,266 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FxUtil;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+
+/**
+ * Downloads the articles of queued entries in the background, a few at a time.
+ *
+ * Whenever the set of unfinished downloads changes, a save of it is scheduled on the save executor,
+ * so that the downloads can be resumed after a restart. The save takes a snapshot of the queue when it runs,
+ * outside of the lock, so a burst of changes, e.g. importing a feed, is saved once rather than once per entry.
+ * Downloads which fail are dropped rather than retried, as the article will still be downloaded
+ * when the entry is selected.
+ *
+ * All methods are thread-safe. The progress property is only changed through the progress executor,
+ * by default on the JavaFX application thread, as the UI binds to it.
+ */
+public class DownloadQueue {
+
+    public static final int DEFAULT_MAX_CONCURRENT_DOWNLOADS = 4;
+
+    private static final Logger logger = LogsCenter.getLogger(DownloadQueue.class);
+
+    /** Saves the queues of every model, so that copies of a model do not each start a thread. */
+    private static final ExecutorService queueSaver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Download queue saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int maxConcurrentDownloads;
+    private final Function<URL, CompletableFuture<byte[]>> articleFetcher;
+    private final BiConsumer<Entry, byte[]> downloadedArticleHandler;
+    private final Consumer<ReadOnlyEntryBook> queuePersister;
+    private final Executor saveExecutor;
+    private final Executor progressExecutor;
+
+    private final Map<Link, Entry> pending = new LinkedHashMap<>();
+    private final Map<Link, Download> inFlight = new LinkedHashMap<>();
+    private final ReadOnlyObjectWrapper<DownloadProgress> progress = new ReadOnlyObjectWrapper<>(DownloadProgress.IDLE);
+    private int completed = 0;
+    private int failed = 0;
+    private boolean isStopped = false;
+    private boolean isSaveScheduled = false;
+
+    /**
+     * @param articleFetcher starts the download of the article at a url.
+     * @param downloadedArticleHandler saves a downloaded article, called from the thread completing the download
+     *                                 without holding the lock of the queue.
+     * @param queuePersister saves the entries whose downloads have not finished yet, called from a background thread.
+     */
+    public DownloadQueue(int maxConcurrentDownloads,
+                         Function<URL, CompletableFuture<byte[]>> articleFetcher,
+                         BiConsumer<Entry, byte[]> downloadedArticleHandler,
+                         Consumer<ReadOnlyEntryBook> queuePersister) {
+        this(maxConcurrentDownloads, articleFetcher, downloadedArticleHandler, queuePersister, queueSaver,
+                FxUtil::runOnFxThread);
+    }
+
+    /**
+     * @param saveExecutor runs the saves of the queue, one at a time and in the order they were scheduled.
+     * @param progressExecutor runs the updates of the progress property.
+     */
+    DownloadQueue(int maxConcurrentDownloads,
+                  Function<URL, CompletableFuture<byte[]>> articleFetcher,
+                  BiConsumer<Entry, byte[]> downloadedArticleHandler,
+                  Consumer<ReadOnlyEntryBook> queuePersister,
+                  Executor saveExecutor, Executor progressExecutor) {
+        this.maxConcurrentDownloads = maxConcurrentDownloads;
+        this.articleFetcher = articleFetcher;
+        this.downloadedArticleHandler = downloadedArticleHandler;
+        this.queuePersister = queuePersister;
+        this.saveExecutor = saveExecutor;
+        this.progressExecutor = progressExecutor;
+    }
+
+    /**
+     * Queues the articles of the given entries for download,
+     * ignoring entries which are already queued or being downloaded.
+     */
+    public void queue(List<Entry> entries) {
+        requireNonNull(entries);
+        synchronized (this) {
+            if (isStopped) {
+                return;
+            }
+            if (getRemaining() == 0) {
+                // start counting afresh for the new batch of downloads
+                completed = 0;
+                failed = 0;
+            }
+            int numQueued = 0;
+            for (Entry entry : entries) {
+                Link link = entry.getLink();
+                if (!pending.containsKey(link) && !inFlight.containsKey(link)) {
+                    pending.put(link, entry);
+                    numQueued++;
+                }
+            }
+            if (numQueued == 0) {
+                return;
+            }
+            logger.info("Queued " + numQueued + " articles for download, " + getRemaining() + " remaining");
+            onQueueChanged();
+        }
+        startDownloads();
+    }
+
+    /**
+     * Removes the given entry from the queue, discarding its article if it is being downloaded.
+     */
+    public void cancel(Entry entry) {
+        requireNonNull(entry);
+        synchronized (this) {
+            Link link = entry.getLink();
+            if (pending.remove(link) == null && inFlight.remove(link) == null) {
+                return;
+            }
+            onQueueChanged();
+        }
+        startDownloads();
+    }
+
+    /**
+     * Removes every entry from the queue, discarding the articles being downloaded.
+     */
+    public synchronized void clear() {
+        if (getRemaining() == 0) {
+            return;
+        }
+        pending.clear();
+        inFlight.clear();
+        onQueueChanged();
+    }
+
+    /**
+     * Stops starting new downloads and ignores the results of those already started,
+     * leaving the persisted queue as it is so that the downloads can be resumed later.
+     * Waits for the saves already scheduled to finish, as the save executor may not outlive the application.
+     */
+    public void stop() {
+        synchronized (this) {
+            isStopped = true;
+        }
+        // the save executor runs one save at a time, in order, so the saves scheduled earlier are done after this
+        CompletableFuture.runAsync(() -> { }, saveExecutor).join();
+    }
+
+    public ReadOnlyObjectProperty<DownloadProgress> progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    /**
+     * Starts downloads until the concurrency limit is reached or nothing is pending.
+     * The fetches are started outside of the lock, as they may complete immediately.
+     */
+    private void startDownloads() {
+        List<Download> toStart = new ArrayList<>();
+        synchronized (this) {
+            while (!isStopped && !pending.isEmpty() && inFlight.size() < maxConcurrentDownloads) {
+                Entry entry = pending.remove(pending.keySet().iterator().next());
+                Download download = new Download(entry);
+                inFlight.put(entry.getLink(), download);
+                toStart.add(download);
+            }
+        }
+        for (Download download : toStart) {
+            URL url = download.entry.getLink().value;
+            articleFetcher.apply(url).whenComplete((articleContent, error) ->
+                    onDownloadFinished(download, articleContent, error));
+        }
+    }
+
+    /**
+     * Saves the article of a finished download, unless the download was cancelled or the queue stopped.
+     * Only the queue is updated under the lock; the article is saved after it is released, as saving writes
+     * to disk and would otherwise hold up every other download and every command queueing or cancelling one.
+     */
+    private void onDownloadFinished(Download download, byte[] articleContent, Throwable error) {
+        boolean isSaveNeeded;
+        synchronized (this) {
+            Link link = download.entry.getLink();
+            if (isStopped || inFlight.get(link) != download) {
+                // cancelled while downloading
+                return;
+            }
+            isSaveNeeded = error == null;
+            if (isSaveNeeded) {
+                completed++;
+            } else {
+                logger.info("Failed to download queued article " + link + ": " + error);
+                failed++;
+            }
+            inFlight.remove(link);
+            onQueueChanged();
+        }
+        if (isSaveNeeded) {
+            downloadedArticleHandler.accept(download.entry, articleContent);
+        }
+        startDownloads();
+    }
+
+    /**
+     * Schedules a save of the unfinished downloads, unless one is already scheduled, and publishes the new progress.
+     */
+    private void onQueueChanged() {
+        assert Thread.holdsLock(this);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            saveExecutor.execute(this::saveQueue);
+        }
+        DownloadProgress newProgress = new DownloadProgress(completed, failed, getRemaining());
+        progressExecutor.execute(() -> progress.set(newProgress));
+    }
+
+    /**
+     * Hands the unfinished downloads to the queue persister, holding the lock only to copy them.
+     */
+    private void saveQueue() {
+        List<Entry> unfinished = new ArrayList<>();
+        synchronized (this) {
+            isSaveScheduled = false;
+            inFlight.values().forEach(download -> unfinished.add(download.entry));
+            unfinished.addAll(pending.values());
+        }
+        EntryBook unfinishedEntryBook = new EntryBook();
+        unfinishedEntryBook.setEntries(unfinished);
+        queuePersister.accept(unfinishedEntryBook);
+    }
+
+    private int getRemaining() {
+        return pending.size() + inFlight.size();
+    }
+
+    /**
+     * A single started download, compared by identity so that the result of a cancelled download
+     * is not mistaken for that of a later download of the same link.
+     */
+    private static class Download {
+        private final Entry entry;
+
+        Download(Entry entry) {
+            this.entry = entry;
+        }
+    }
+}
@@ -3,20 +3,33 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Optional;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.NearDuplicateIndex;
+import seedu.address.model.entry.RankedSearchIndex;
+import seedu.address.model.entry.TrigramIndex;
 import seedu.address.model.entry.UniqueEntryList;
+import seedu.address.model.tag.TagIndex;
+import seedu.address.model.tag.TagQuery;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSameEntry comparison)
+ * Copying an {@code EntryBook} takes constant time, as the copies share their entries until one is changed.
+ * Like copies, snapshots are taken in constant time, on the thread which changes the book, but may then be read
+ * from any thread.
  */
 public class EntryBook implements ReadOnlyEntryBook {
 
     private final UniqueEntryList entries;
+    private final TagIndex tagIndex;
+    private final NearDuplicateIndex nearDuplicateIndex;
+    private final RankedSearchIndex rankedSearchIndex;
+    private final TrigramIndex trigramIndex;
     private final InvalidationListenerManager invalidationListenerManager = new InvalidationListenerManager();
 
     /*
@@ -28,6 +41,10 @@ public class EntryBook implements ReadOnlyEntryBook {
      */
     {
         entries = new UniqueEntryList();
+        tagIndex = new TagIndex(entries.asUnmodifiableObservableList());
+        nearDuplicateIndex = new NearDuplicateIndex(entries.asUnmodifiableObservableList());
+        rankedSearchIndex = new RankedSearchIndex(entries.asUnmodifiableObservableList());
+        trigramIndex = new TrigramIndex(entries.asUnmodifiableObservableList());
     }
 
     public EntryBook() {}
@@ -53,13 +70,29 @@ public class EntryBook implements ReadOnlyEntryBook {
 
     /**
      * Resets the existing data of this {@code EntryBook} with {@code newData}.
+     * The entries of another {@code EntryBook} are shared with it, instead of being copied and checked for
+     * duplicates again.
      */
     public void resetData(ReadOnlyEntryBook newData) {
         requireNonNull(newData);
 
+        if (newData instanceof EntryBook) {
+            entries.setEntries(((EntryBook) newData).entries);
+            indicateModified();
+            return;
+        }
         setEntries(newData.getEntryList());
     }
 
+    /**
+     * Returns an immutable copy of this {@code EntryBook} as it is now, which shares its entries with this book.
+     * Must be called on the thread which changes this book, but the copy may then be read from any thread,
+     * e.g. by background work, while this book is changed.
+     */
+    public ReadOnlyEntryBook snapshot() {
+        return new EntryBookSnapshot(entries.snapshot());
+    }
+
     //// entry-level operations
 
     /**
@@ -70,6 +103,24 @@ public class EntryBook implements ReadOnlyEntryBook {
         return entries.contains(entry);
     }
 
+    /**
+     * Returns at most {@code maxResults} entries in this {@code EntryBook} which contain any of the words in
+     * {@code query}, from the most to the least relevant.
+     * The entries are looked up and scored in the ranked search index, without testing every entry.
+     */
+    public List<Entry> getEntriesRankedBy(String query, int maxResults) {
+        return rankedSearchIndex.search(query, maxResults);
+    }
+
+    /**
+     * Returns the entries in this {@code EntryBook} whose titles or descriptions contain a word similar to each word
+     * in {@code phrase}, allowing for typos, in no particular order.
+     * The similar words are looked up in the trigram index, without testing every entry.
+     */
+    public List<Entry> getEntriesMatchingFuzzily(String phrase) {
+        return trigramIndex.getEntriesMatchingFuzzily(phrase);
+    }
+
     /**
      * Adds a entry to the address book.
      * The entry must not already exist in the address book.
@@ -100,6 +151,32 @@ public class EntryBook implements ReadOnlyEntryBook {
         indicateModified();
     }
 
+    /**
+     * Makes the changes in {@code diff} to the entries of this {@code EntryBook}, notifying listeners once.
+     * @throws IllegalStateException if the entries are not the state {@code diff} was recorded from.
+     */
+    public void applyDiff(EntryListDiff diff) {
+        entries.applyDiff(diff);
+        indicateModified();
+    }
+
+    /**
+     * Returns the entries in this {@code EntryBook} whose tags satisfy {@code query}, in no particular order.
+     * The entries are looked up in the tag index, without testing every entry.
+     */
+    public List<Entry> getEntriesWithTags(TagQuery query) {
+        return tagIndex.getEntriesMatching(query);
+    }
+
+    /**
+     * Returns an entry in this {@code EntryBook}, other than {@code entry} itself, whose title and description
+     * are nearly the same as those of {@code entry}, if there is one.
+     * The entry is looked up in the near-duplicate index, without comparing it with every entry.
+     */
+    public Optional<Entry> findNearDuplicate(Entry entry) {
+        return nearDuplicateIndex.findNearDuplicate(entry);
+    }
+
     /**
      * Adds a entry to the address book.
      * The entry must not already exist in the address book.
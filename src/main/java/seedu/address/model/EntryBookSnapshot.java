@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import javafx.beans.InvalidationListener;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+
+/**
+ * An immutable copy of the entries of an {@code EntryBook} at one point in time, made by {@link EntryBook#snapshot()}.
+ * As it never changes, it may be read from any thread, and its listeners are never called.
+ */
+class EntryBookSnapshot implements ReadOnlyEntryBook {
+
+    private final ObservableList<Entry> entries;
+
+    /**
+     * @param entries an immutable list of entries, which is not copied.
+     */
+    EntryBookSnapshot(List<Entry> entries) {
+        requireNonNull(entries);
+        this.entries = FXCollections.unmodifiableObservableList(FXCollections.observableList(entries));
+    }
+
+    @Override
+    public ObservableList<Entry> getEntryList() {
+        return entries;
+    }
+
+    @Override
+    public void addListener(InvalidationListener listener) {
+        // the snapshot never changes
+    }
+
+    @Override
+    public void removeListener(InvalidationListener listener) {
+        // the snapshot never changes
+    }
+
+    @Override
+    public String toString() {
+        return entries.size() + " entries";
+    }
+}
@@ -0,0 +1,235 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+
+/**
+ * The changes made to an entry list, recorded as the entries removed and added at each position,
+ * so that they can be undone and made again.
+ *
+ * Changes which continue where the last change left off, e.g. deleting or adding entries one after another,
+ * are merged into one splice, so that bulk changes are recorded and undone as a few large splices.
+ * Guarantees: the entries themselves are not copied, only referred to.
+ */
+public class EntryListDiff {
+
+    /** Estimated bytes taken by a splice, not counting its entries. */
+    private static final int SPLICE_SIZE_ESTIMATE = 100;
+    /** Estimated bytes taken by an entry, not counting the characters of its fields. */
+    private static final int ENTRY_SIZE_ESTIMATE = 400;
+    private static final int REFERENCE_SIZE = 8;
+
+    private final List<Splice> splices;
+
+    /**
+     * Creates an empty diff.
+     */
+    public EntryListDiff() {
+        splices = new ArrayList<>();
+    }
+
+    private EntryListDiff(List<Splice> splices) {
+        this.splices = splices;
+    }
+
+    /**
+     * Records the changes to the list in {@code change}.
+     * @throws IllegalArgumentException if the entries were permutated, which entry lists never are.
+     */
+    public void record(ListChangeListener.Change<? extends Entry> change) {
+        requireNonNull(change);
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                throw new IllegalArgumentException("Permutations of entry lists are not recorded");
+            }
+            record(change.getFrom(), change.getRemoved(), change.getAddedSubList());
+        }
+    }
+
+    /**
+     * Records that {@code removed} were replaced by {@code added} at {@code from}.
+     */
+    void record(int from, List<? extends Entry> removed, List<? extends Entry> added) {
+        if (removed.isEmpty() && added.isEmpty()) {
+            return;
+        }
+        if (!splices.isEmpty() && splices.get(splices.size() - 1).merge(from, removed, added)) {
+            return;
+        }
+        splices.add(new Splice(from, new ArrayDeque<>(removed), new ArrayDeque<>(added)));
+    }
+
+    public boolean isEmpty() {
+        return splices.isEmpty();
+    }
+
+    /**
+     * Returns the diff which undoes this diff.
+     */
+    public EntryListDiff inverted() {
+        List<Splice> invertedSplices = new ArrayList<>(splices.size());
+        for (int i = splices.size() - 1; i >= 0; i--) {
+            Splice splice = splices.get(i);
+            invertedSplices.add(new Splice(splice.from, splice.added, splice.removed));
+        }
+        return new EntryListDiff(invertedSplices);
+    }
+
+    /**
+     * Makes the changes in this diff to {@code entries}, which must be the list the changes were recorded from,
+     * as it was after the changes were undone.
+     * @throws IllegalStateException if the entries to be removed are not where they were recorded,
+     *     in which case none of the changes are made to {@code entries}.
+     */
+    public void applyTo(ObservableList<Entry> entries) {
+        requireNonNull(entries);
+        checkAppliesTo(entries);
+        for (Splice splice : splices) {
+            int from = splice.from;
+            if (splice.removed.size() == splice.added.size()) {
+                for (Entry entry : splice.added) {
+                    entries.set(from++, entry);
+                }
+                continue;
+            }
+            entries.remove(from, from + splice.removed.size());
+            entries.addAll(from, splice.added);
+        }
+    }
+
+    /**
+     * Checks that each splice would find the entries it removes where they were recorded,
+     * looking up the entries the earlier splices would have added rather than changing the list.
+     * @throws IllegalStateException if any splice would not find the entries it removes.
+     */
+    void checkAppliesTo(List<Entry> entries) {
+        requireNonNull(entries);
+        int size = entries.size();
+        for (int i = 0; i < splices.size(); i++) {
+            Splice splice = splices.get(i);
+            if (splice.from + splice.removed.size() > size) {
+                throw new IllegalStateException("Entry list has changed since the diff was recorded");
+            }
+            int position = splice.from;
+            for (Entry expected : splice.removed) {
+                if (entryAfterSplices(entries, i, position++) != expected) {
+                    throw new IllegalStateException("Entry list has changed since the diff was recorded");
+                }
+            }
+            size += splice.added.size() - splice.removed.size();
+        }
+    }
+
+    /**
+     * Returns the entry which would be at {@code position} in {@code entries} after the first {@code numSplices}
+     * splices were made to it, by following the position back through those splices.
+     */
+    private Entry entryAfterSplices(List<Entry> entries, int numSplices, int position) {
+        for (int i = numSplices - 1; i >= 0; i--) {
+            Splice splice = splices.get(i);
+            if (position < splice.from) {
+                continue;
+            }
+            if (position < splice.from + splice.added.size()) {
+                return splice.getAdded(position - splice.from);
+            }
+            position += splice.removed.size() - splice.added.size();
+        }
+        return entries.get(position);
+    }
+
+    /**
+     * Passes each entry removed or added by this diff to {@code action}.
+     */
+    public void forEachEntry(Consumer<? super Entry> action) {
+        requireNonNull(action);
+        for (Splice splice : splices) {
+            splice.removed.forEach(action);
+            splice.added.forEach(action);
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of bytes kept in memory by this diff. Removed entries are counted in full,
+     * as they may no longer be used elsewhere, but added entries are only counted as references.
+     */
+    public long estimateSize() {
+        long size = 0;
+        for (Splice splice : splices) {
+            size += SPLICE_SIZE_ESTIMATE + (long) REFERENCE_SIZE * (splice.removed.size() + splice.added.size());
+            for (Entry entry : splice.removed) {
+                size += estimateSize(entry);
+            }
+        }
+        return size;
+    }
+
+    private static long estimateSize(Entry entry) {
+        return ENTRY_SIZE_ESTIMATE + entry.getTitle().fullTitle.length() + entry.getDescription().value.length()
+                + 2 * entry.getLink().value.toString().length();
+    }
+
+    /**
+     * The replacement of the entries {@code removed} by the entries {@code added}, at {@code from}.
+     */
+    private static class Splice {
+        private int from;
+        private final ArrayDeque<Entry> removed;
+        private final ArrayDeque<Entry> added;
+        /** The entries added, for looking them up by index, or null until they are first looked up. */
+        private Entry[] addedArray;
+
+        Splice(int from, ArrayDeque<Entry> removed, ArrayDeque<Entry> added) {
+            this.from = from;
+            this.removed = removed;
+            this.added = added;
+        }
+
+        /**
+         * Returns the entry at {@code index} of the entries added by this splice.
+         */
+        Entry getAdded(int index) {
+            if (addedArray == null) {
+                addedArray = added.toArray(new Entry[0]);
+            }
+            return addedArray[index];
+        }
+
+        /**
+         * Merges the replacement of {@code nextRemoved} by {@code nextAdded} at {@code nextFrom}, which follows this
+         * splice, into this splice, if it starts where the entries added by this splice end,
+         * or ends where they start. Returns true if it was merged.
+         */
+        boolean merge(int nextFrom, List<? extends Entry> nextRemoved, List<? extends Entry> nextAdded) {
+            addedArray = null;
+            if (nextFrom == from + added.size()) {
+                removed.addAll(nextRemoved);
+                added.addAll(nextAdded);
+                return true;
+            }
+            if (nextFrom + nextRemoved.size() == from) {
+                // e.g. when entries are deleted from the last to the first
+                prependAll(removed, nextRemoved);
+                prependAll(added, nextAdded);
+                from = nextFrom;
+                return true;
+            }
+            return false;
+        }
+
+        private static void prependAll(ArrayDeque<Entry> deque, List<? extends Entry> entries) {
+            List<? extends Entry> reversed = new ArrayList<>(entries);
+            Collections.reverse(reversed);
+            reversed.forEach(deque::addFirst);
+        }
+    }
+}
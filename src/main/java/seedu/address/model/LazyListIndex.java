@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An index of the elements of an observable list, which is built from the list when it is first queried and then
+ * kept up to date by listening to the list.
+ *
+ * Until the index is built, changes to the list are ignored, so that lists which are never queried, e.g. the lists
+ * of entry books copied in constant time, do not pay for an index. Once it is built, every element removed from
+ * the list is passed to {@link #remove(Object)} and every element added to it to {@link #add(Object)}.
+ * Elements which are only moved within the list are neither removed nor added.
+ * Subclasses call {@link #ensureBuilt()} before every query. As the index is changed by the listener,
+ * it must only be used on the thread which changes the list.
+ */
+public abstract class LazyListIndex<E> {
+
+    private final ObservableList<E> elements;
+    private boolean isBuilt;
+
+    /**
+     * Creates an index of the elements in {@code elements}, which follows the changes to the list.
+     */
+    protected LazyListIndex(ObservableList<E> elements) {
+        requireNonNull(elements);
+        this.elements = elements;
+        elements.addListener(this::onChanged);
+    }
+
+    /**
+     * Indexes the elements in the list, if they have not been indexed yet.
+     */
+    protected final void ensureBuilt() {
+        if (!isBuilt) {
+            elements.forEach(this::add);
+            isBuilt = true;
+        }
+    }
+
+    /**
+     * Updates the index with the elements added to and removed from the list in {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends E> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::remove);
+            change.getAddedSubList().forEach(this::add);
+        }
+    }
+
+    /**
+     * Adds {@code element}, which was added to the list, to the index.
+     */
+    protected abstract void add(E element);
+
+    /**
+     * Removes {@code element}, which was removed from the list, from the index.
+     */
+    protected abstract void remove(E element);
+}
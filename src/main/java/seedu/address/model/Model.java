@@ -3,7 +3,9 @@ package seedu.address.model;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
@@ -108,6 +110,7 @@ public interface Model {
     /**
      * Deletes the given entry.
      * The entry must exist in the list entry book.
+     * Its article is kept until the deletion can no longer be undone.
      */
     void deleteListEntry(Entry target);
 
@@ -126,6 +129,7 @@ public interface Model {
 
     /**
      * Clears the entire list entry book.
+     * The articles of the entries are kept until the clearing can no longer be undone.
      */
     void clearListEntryBook();
 
@@ -147,6 +151,7 @@ public interface Model {
     /**
      * Deletes the given entry.
      * The entry must exist in the archives entry book.
+     * Its archived article is kept until the deletion can no longer be undone.
      */
     void deleteArchivesEntry(Entry target);
 
@@ -158,6 +163,7 @@ public interface Model {
 
     /**
      * Clears the entire archives entry book.
+     * The archived articles of the entries are kept until the clearing can no longer be undone.
      */
     void clearArchivesEntryBook();
 
@@ -187,9 +193,81 @@ public interface Model {
     /** Deletes article associated with {@code url}. */
     void deleteArticle(URL url) throws IOException;
 
+    /**
+     * Returns an entry in the reading list or archives whose title and description are nearly the same as those
+     * of {@code entry}, if there is one.
+     */
+    Optional<Entry> findNearDuplicateEntry(Entry entry);
+
     /** Sets the search context entry book. */
     void setSearchEntryBook(ReadOnlyEntryBook searchEntryBook);
 
+    /**
+     * Returns at most {@code maxResults} entries of the entry book displayed in the current context which contain
+     * any of the words in {@code query}, from the most to the least relevant.
+     */
+    List<Entry> getEntriesRankedBy(String query, int maxResults);
+
+    /** Sets the ranked results context entry book. */
+    void setRankedEntryBook(ReadOnlyEntryBook rankedEntryBook);
+
+    /** Returns true if there is a saved search named {@code name}. */
+    boolean hasSavedSearch(String name);
+
+    /**
+     * Saves a search named {@code name} for the entries of the reading list and archives which match
+     * {@code predicate}, replacing any saved search with that name.
+     * {@code findArguments} are the arguments of the {@code find} command it was saved from,
+     * which are kept in the user prefs.
+     */
+    void addSavedSearch(String name, String findArguments, Predicate<Entry> predicate);
+
+    /**
+     * Deletes the saved search named {@code name}, which must exist.
+     * If it is displayed, the reading list is displayed instead.
+     */
+    void deleteSavedSearch(String name);
+
+    /**
+     * Displays the entries of the reading list and archives which match the saved search named {@code name},
+     * which must exist.
+     */
+    void displaySavedSearch(String name);
+
+    /**
+     * Saves the changes made to the reading list, archives and feeds since the last commit as one step,
+     * which can be undone.
+     */
+    void commitEntryBooks();
+
+    /** Returns true if there are committed changes to the entry books which can be undone. */
+    boolean canUndoEntryBooks();
+
+    /** Returns true if there are undone changes to the entry books which can be redone. */
+    boolean canRedoEntryBooks();
+
+    /**
+     * Undoes the latest step of changes to the entry books, moving the articles of the entries changed
+     * into or out of the archives along with them.
+     * @throws IllegalStateException if there is nothing to undo, or if the entry books no longer match the
+     *     recorded changes, in which case nothing is undone and the undo history is cleared.
+     */
+    void undoEntryBooks();
+
+    /**
+     * Redoes the latest undone step of changes to the entry books, moving the articles of the entries changed
+     * into or out of the archives along with them.
+     * @throws IllegalStateException if there is nothing to redo, or if the entry books no longer match the
+     *     recorded changes, in which case nothing is redone and the undo history is cleared.
+     */
+    void redoEntryBooks();
+
+    /**
+     * Forgets the changes to the entry books which can be undone or redone,
+     * deleting the articles of the entries which are then in neither the reading list nor the archives.
+     */
+    void clearEntryBooksHistory();
+
     /** Adds article with {@code articleContent} associated with {@code url}. */
     Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException;
 
@@ -198,9 +276,26 @@ public interface Model {
 
     /**
      * Updates the filter of the filtered entry list to filter by the given {@code predicate}.
+     * Long lists may be filtered in the background, in which case the filtered entry list is updated later.
+     * @return a future which completes once the filtered entry list is filtered by {@code predicate},
+     *         or is cancelled if the filter is changed again before then.
      * @throws NullPointerException if {@code predicate} is null.
      */
-    void updateFilteredEntryList(Predicate<Entry> predicate);
+    CompletableFuture<Void> updateFilteredEntryList(Predicate<Entry> predicate);
+
+    /** Returns an unmodifiable view of the displayed page of the filtered entry list */
+    ObservableList<Entry> getPagedEntryList();
+
+    /**
+     * Position of the displayed page in the filtered entry list.
+     */
+    ReadOnlyProperty<PagePosition> pagePositionProperty();
+
+    /**
+     * Displays the zero-based {@code page} of the filtered entry list.
+     * @throws IllegalArgumentException if there is no such page.
+     */
+    void setPage(int page);
 
     /**
      * Selected entry in the filtered entry list.
@@ -286,29 +381,40 @@ public interface Model {
     void setContext(ModelContext context);
 
     /**
-     * Makes a copy of the model.
+     * Makes a copy of the model in constant time.
+     * The entry books are shared with the copy until either is changed, and the filtered list and saved search
+     * results of the copy are only built when they are first used.
+     * Must be called on the thread which changes the model. To read its entries on other threads,
+     * hand them an {@link EntryBook#snapshot()} taken on that thread instead.
      *
      * Mainly created because clone is needed a lot in tests.
      */
     Model clone();
 
     /**
-     * Archives the given entry.
+     * Archives the given entry, moving its saved article into the archives.
      * The entry must exist in the entry book.
      */
     void archiveEntry(Entry target);
 
     /**
-     * Un-archives the given entry.
+     * Un-archives the given entry, moving its archived article back out of the archives.
+     * If no article was archived with the entry, it is downloaded in the background.
      * The entry must exist in the entry book archives.
+     * If the entry is already in the entry book, a {@code DuplicateEntryException} is thrown
+     * and neither the entry nor its article is changed.
      */
-    void unarchiveEntry(Entry entry, Optional<byte[]> articleContent);
+    void unarchiveEntry(Entry entry);
 
     /**
      * Refreshes the given entry (re-downloads its saved content).
+     * Like {@link #addArticle(URL, byte[])}, the content is only saved if offline mode is enabled,
+     * and the saved content is left untouched if it has not changed.
      * The entry must exist in the entry book list.
+     * @return false only if the saved content was left untouched as it has not changed.
+     * @throws IOException if the content could not be saved.
      */
-    void refreshEntry(Entry entry, byte[] articleContent);
+    boolean refreshEntry(Entry entry, byte[] articleContent) throws IOException;
 
     /**
      * Current offline mode setting.
@@ -319,4 +425,25 @@ public interface Model {
      * Enables or disables offline mode.
      */
     void setOfflineMode(OfflineMode isEnabled);
+
+    /**
+     * Queues the articles of the given entries to be downloaded in the background.
+     * Entries which already have an offline copy are skipped, as is everything when offline mode is disabled.
+     */
+    void queueArticleDownloads(List<Entry> entries);
+
+    /**
+     * Progress of the background article downloads.
+     */
+    ReadOnlyProperty<DownloadProgress> downloadProgressProperty();
+
+    /**
+     * Stops the background article downloads and prefetching, keeping the unfinished downloads queued in storage.
+     */
+    void stopArticleDownloads();
+
+    /**
+     * Returns how often the article of a selected entry had been prefetched.
+     */
+    PrefetchStatistics getPrefetchStatistics();
 }
@@ -4,6 +4,8 @@ import seedu.address.logic.parser.EntryBookArchivesParser;
 import seedu.address.logic.parser.EntryBookFeedsParser;
 import seedu.address.logic.parser.EntryBookListParser;
 import seedu.address.logic.parser.EntryBookParser;
+import seedu.address.logic.parser.EntryBookRankedParser;
+import seedu.address.logic.parser.EntryBookSavedSearchParser;
 import seedu.address.logic.parser.EntryBookSearchParser;
 
 /**
@@ -13,6 +15,8 @@ public enum ModelContext {
     CONTEXT_LIST(new EntryBookListParser(), "Reading List"),
     CONTEXT_ARCHIVES(new EntryBookArchivesParser(), "Archives"),
     CONTEXT_SEARCH(new EntryBookSearchParser(), "Results"),
+    CONTEXT_RANKED(new EntryBookRankedParser(), "Ranked Results"),
+    CONTEXT_SAVED_SEARCH(new EntryBookSavedSearchParser(), "Saved Search"),
     CONTEXT_FEEDS(new EntryBookFeedsParser(), "Feeds");
 
     private EntryBookParser parser;
@@ -1,18 +1,27 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
-import javafx.application.Platform;
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleListProperty;
 import javafx.beans.property.SimpleObjectProperty;
@@ -21,10 +30,16 @@ import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.commons.util.FxUtil;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.storage.Storage;
 import seedu.address.ui.ViewMode;
 import seedu.address.util.Network;
@@ -35,16 +50,33 @@ import seedu.address.util.Network;
 public class ModelManager implements Model {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
 
+    /** Displayed lists at least this long are filtered by testing the predicate on all cores. */
+    public static final int PARALLEL_FILTER_THRESHOLD = 10000;
+
+    /** The maximum number of entries displayed at once. */
+    public static final int DEFAULT_PAGE_SIZE = 500;
+
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+    private static final Timer filterTimer = MetricsCenter.getTimer("model.filter");
+    private static final Timer rankTimer = MetricsCenter.getTimer("model.rank");
 
     private final EntryBook listEntryBook;
     private final EntryBook archivesEntryBook;
     private final EntryBook searchEntryBook = new EntryBook();
+    private final EntryBook rankedEntryBook = new EntryBook();
     private final EntryBook feedsEntryBook;
+    private final Map<String, SavedSearchView> savedSearchViews = new HashMap<>();
+    private String displayedSavedSearchName;
     private final UserPrefs userPrefs;
 
-    private final SimpleListProperty<Entry> displayedEntryList;
-    private final FilteredList<Entry> filteredEntries;
+    private final SimpleListProperty<Entry> displayedEntryList = new SimpleListProperty<>();
+    /** Supplies the entries to display, while the filtered entry list has not been built. */
+    private Supplier<ObservableList<Entry>> entriesToDisplay;
+    /** The filter to build the filtered entry list with, while it has not been built. */
+    private Predicate<Entry> filterToBuildWith = PREDICATE_SHOW_ALL_ENTRIES;
+    /** The displayed entries which match the filter, or null until they are first used. */
+    private FilteredList<Entry> filteredEntries;
+    private PagedList<Entry> pagedEntries;
     private final SimpleObjectProperty<Entry> selectedEntry = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<ViewMode> currentViewMode = new SimpleObjectProperty<>(new ViewMode());
     private final SimpleObjectProperty<Exception> exception = new SimpleObjectProperty<>();
@@ -52,6 +84,15 @@ public class ModelManager implements Model {
     private final SimpleObjectProperty<ModelContext> context = new SimpleObjectProperty<>(ModelContext.CONTEXT_LIST);
     private final SimpleObjectProperty<OfflineMode> offlineMode = new SimpleObjectProperty<>(OfflineMode.ENABLED);
     private final Storage storage;
+    private final DownloadQueue downloadQueue;
+    private final ArticlePrefetcher articlePrefetcher;
+    private final UndoHistory undoHistory;
+    /** Incremented whenever the filter changes, so that results of filters superseded meanwhile are dropped. */
+    private volatile int filterGeneration = 0;
+    /** Completes once the filter being tested in the background is displayed, or null if there is none. */
+    private CompletableFuture<Void> pendingFilter = null;
+    /** Returns true if the results of long filters can be handed to a thread which does not race the next command. */
+    private BooleanSupplier isBackgroundFilterSupported = FxUtil::isToolkitStarted;
 
     /**
      * Initializes a ModelManager with the given listEntryBook, userPrefs, and storage
@@ -64,16 +105,26 @@ public class ModelManager implements Model {
         super();
         requireAllNonNull(listEntryBook, userPrefs, storage);
 
-        logger.fine("Initializing with list context entry book: " + listEntryBook + " and user prefs " + userPrefs);
+        logger.fine(() -> "Initializing with list context entry book: " + listEntryBook
+                + " and user prefs " + userPrefs);
 
         this.listEntryBook = new EntryBook(listEntryBook);
         this.archivesEntryBook = new EntryBook(archivesEntryBook);
         this.feedsEntryBook = new EntryBook(feedEntryBook);
         this.userPrefs = new UserPrefs(userPrefs);
         this.storage = storage;
-
-        displayedEntryList = new SimpleListProperty<>(this.listEntryBook.getEntryList());
-        filteredEntries = new FilteredList<>(this.displayedEntryList);
+        this.downloadQueue = new DownloadQueue(DownloadQueue.DEFAULT_MAX_CONCURRENT_DOWNLOADS,
+                Network::fetchArticleAsync, (entry, articleContent) ->
+                        saveDownloadedArticle(entry.getLink().value, articleContent),
+                this::saveDownloadQueueToStorage);
+        this.articlePrefetcher = new ArticlePrefetcher(ArticlePrefetcher.DEFAULT_PREFETCH_AHEAD,
+                ArticlePrefetcher.DEFAULT_PREFETCH_BEHIND, Network::fetchArticleAsync, this::saveDownloadedArticle,
+                this::hasOfflineCopy);
+
+        entriesToDisplay = this.listEntryBook::getEntryList;
+        // search and ranked results are not kept, so changes to them are not undone
+        undoHistory = new UndoHistory(List.of(this.listEntryBook, this.archivesEntryBook, this.feedsEntryBook),
+                this::deleteArticlesOfForgottenEntries);
 
         setUpListeners();
     }
@@ -84,9 +135,6 @@ public class ModelManager implements Model {
         archivesEntryBook.addListener(observable -> saveArchivesEntryBookToStorageListener());
         feedsEntryBook.addListener(obserable -> saveFeedsEntryBookToStorageListener());
 
-        // Updates selected entry to a valid selection (or none) whenever filtered entries is modified.
-        filteredEntries.addListener(this::ensureSelectedEntryIsValid);
-
         // Updates displayed entry list whenever the context of the Model changes.
         context.addListener((observable, oldContext, newContext) -> {
                 switch (newContext) {
@@ -99,6 +147,12 @@ public class ModelManager implements Model {
                 case CONTEXT_SEARCH:
                     displayEntryBook(searchEntryBook);
                     break;
+                case CONTEXT_RANKED:
+                    displayEntryBook(rankedEntryBook);
+                    break;
+                case CONTEXT_SAVED_SEARCH:
+                    display(() -> getDisplayedSavedSearch().getMatches());
+                    break;
                 case CONTEXT_FEEDS:
                     displayEntryBook(feedsEntryBook);
                     break;
@@ -194,6 +248,13 @@ public class ModelManager implements Model {
         return hasListEntry(entry) || hasArchivesEntry(entry);
     }
 
+    @Override
+    public Optional<Entry> findNearDuplicateEntry(Entry entry) {
+        requireNonNull(entry);
+        Optional<Entry> listDuplicate = listEntryBook.findNearDuplicate(entry);
+        return listDuplicate.isPresent() ? listDuplicate : archivesEntryBook.findNearDuplicate(entry);
+    }
+
     //=========== List EntryBook ================================================================================
 
     @Override
@@ -214,14 +275,8 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteListEntry(Entry target) {
-        try {
-            this.deleteArticle(target.getLink().value);
-        } catch (IOException ioe) {
-            // If there was a problem deleting the file,
-            // do nothing because that either means
-            // the file didn't exist to begin with
-            // or we are in some really deep OS-related system error.
-        }
+        downloadQueue.cancel(target);
+        // the article is deleted once the undo history forgets the deletion
         listEntryBook.removeEntry(target);
     }
 
@@ -246,16 +301,13 @@ public class ModelManager implements Model {
 
     @Override
     public void clearListEntryBook() {
+        downloadQueue.clear();
         listEntryBook.clear();
     }
 
     @Override
-    public void refreshEntry(Entry entry, byte[] articleContent) {
-        try {
-            this.addArticle(entry.getLink().value, articleContent);
-        } catch (IOException ioe) {
-            // Do nothing if failed to save content to disk for now
-        }
+    public boolean refreshEntry(Entry entry, byte[] articleContent) throws IOException {
+        return updateArticle(entry.getLink().value, articleContent);
     }
 
     @Override
@@ -272,6 +324,47 @@ public class ModelManager implements Model {
         return this.offlineMode.get() == OfflineMode.ENABLED;
     }
 
+    //=========== Background downloads ======================================================================
+
+    @Override
+    public void queueArticleDownloads(List<Entry> entries) {
+        requireNonNull(entries);
+        if (!isOfflineModeEnabled()) {
+            return;
+        }
+        downloadQueue.queue(entries.stream()
+                .filter(entry -> !storage.getOfflineLink(entry.getLink().value).isPresent())
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public ReadOnlyProperty<DownloadProgress> downloadProgressProperty() {
+        return downloadQueue.progressProperty();
+    }
+
+    @Override
+    public void stopArticleDownloads() {
+        downloadQueue.stop();
+        articlePrefetcher.stop();
+    }
+
+    @Override
+    public PrefetchStatistics getPrefetchStatistics() {
+        return articlePrefetcher.getStatistics();
+    }
+
+    /**
+     * Saves an article downloaded in the background by the download queue, the prefetcher or on selection.
+     * Called from the thread which completed the download.
+     */
+    private void saveDownloadedArticle(URL url, byte[] articleContent) {
+        try {
+            addArticle(url, articleContent);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save downloaded article " + url + ": " + ioe);
+        }
+    }
+
     //=========== Archives EntryBook ================================================================================
 
     @Override
@@ -292,6 +385,7 @@ public class ModelManager implements Model {
 
     @Override
     public void deleteArchivesEntry(Entry target) {
+        // the archived article is deleted once the undo history forgets the deletion
         archivesEntryBook.removeEntry(target);
     }
 
@@ -345,6 +439,176 @@ public class ModelManager implements Model {
         this.searchEntryBook.resetData(searchEntryBook);
     }
 
+    //=========== Ranked EntryBook ==========================================================================
+
+    @Override
+    public List<Entry> getEntriesRankedBy(String query, int maxResults) {
+        requireNonNull(query);
+        return rankTimer.time(() -> getDisplayedEntryBook().getEntriesRankedBy(query, maxResults));
+    }
+
+    @Override
+    public void setRankedEntryBook(ReadOnlyEntryBook rankedEntryBook) {
+        this.rankedEntryBook.resetData(rankedEntryBook);
+    }
+
+    //=========== Saved searches ===========================================================================
+
+    @Override
+    public boolean hasSavedSearch(String name) {
+        requireNonNull(name);
+        return savedSearchViews.containsKey(name);
+    }
+
+    @Override
+    public void addSavedSearch(String name, String findArguments, Predicate<Entry> predicate) {
+        requireAllNonNull(name, findArguments, predicate);
+        // searches restored from the user prefs are already saved in them
+        if (!findArguments.equals(userPrefs.getSavedSearches().get(name))) {
+            userPrefs.setSavedSearch(name, findArguments);
+            saveUserPrefsToStorage();
+        }
+        putSavedSearchView(name, predicate);
+    }
+
+    /**
+     * Replaces the view of the saved search named {@code name} by a new view of the entries of the reading list
+     * and archives which match {@code predicate}, which is only built when it is first displayed.
+     */
+    private void putSavedSearchView(String name, Predicate<Entry> predicate) {
+        SavedSearchView oldView = savedSearchViews.put(name, new SavedSearchView(predicate,
+                List.of(listEntryBook.getEntryList(), archivesEntryBook.getEntryList())));
+        if (oldView != null) {
+            oldView.dispose();
+        }
+    }
+
+    @Override
+    public void deleteSavedSearch(String name) {
+        requireNonNull(name);
+        checkArgument(hasSavedSearch(name), "No saved search named " + name);
+        savedSearchViews.remove(name).dispose();
+        userPrefs.removeSavedSearch(name);
+        saveUserPrefsToStorage();
+        if (name.equals(displayedSavedSearchName)) {
+            displayedSavedSearchName = null;
+            if (getContext() == ModelContext.CONTEXT_SAVED_SEARCH) {
+                setContext(ModelContext.CONTEXT_LIST);
+            }
+        }
+    }
+
+    @Override
+    public void displaySavedSearch(String name) {
+        requireNonNull(name);
+        checkArgument(hasSavedSearch(name), "No saved search named " + name);
+        displayedSavedSearchName = name;
+        if (getContext() != ModelContext.CONTEXT_SAVED_SEARCH) {
+            setContext(ModelContext.CONTEXT_SAVED_SEARCH);
+            return;
+        }
+        // the context is unchanged, so its listener does not display the new search
+        display(() -> getDisplayedSavedSearch().getMatches());
+        updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+    }
+
+    private SavedSearchView getDisplayedSavedSearch() {
+        return savedSearchViews.get(displayedSavedSearchName);
+    }
+
+    /**
+     * Saves the user prefs, so that saved searches are kept even if the app does not stop normally.
+     */
+    private void saveUserPrefsToStorage() {
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException ioe) {
+            setException(new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe));
+        }
+    }
+
+    //=========== Undo/Redo ================================================================================
+
+    @Override
+    public void commitEntryBooks() {
+        undoHistory.commit();
+    }
+
+    @Override
+    public boolean canUndoEntryBooks() {
+        return undoHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoEntryBooks() {
+        return undoHistory.canRedo();
+    }
+
+    @Override
+    public void undoEntryBooks() {
+        moveArticlesWithEntries(undoHistory.undo());
+    }
+
+    @Override
+    public void redoEntryBooks() {
+        moveArticlesWithEntries(undoHistory.redo());
+    }
+
+    @Override
+    public void clearEntryBooksHistory() {
+        undoHistory.clear();
+    }
+
+    /**
+     * Moves the article of each of {@code entries}, which were just moved by undoing or redoing,
+     * into the archives if the entry is now only archived, and out of them if it is now only in the reading list.
+     * The articles of entries in neither are left where they are, so that undoing again can bring them back.
+     */
+    private void moveArticlesWithEntries(Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            boolean isListed = listEntryBook.hasEntry(entry);
+            boolean isArchived = archivesEntryBook.hasEntry(entry);
+            try {
+                if (isListed && !isArchived) {
+                    storage.unarchiveArticle(entry.getLink().value);
+                } else if (isArchived && !isListed) {
+                    downloadQueue.cancel(entry);
+                    storage.archiveArticle(entry.getLink().value);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to move article " + entry.getLink() + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Deletes the articles of {@code entries}, which the undo history can no longer bring back,
+     * unless the entries are still in the reading list or the archives.
+     */
+    private void deleteArticlesOfForgottenEntries(Collection<Entry> entries) {
+        for (Entry entry : entries) {
+            URL url = entry.getLink().value;
+            try {
+                if (!listEntryBook.hasEntry(entry)) {
+                    storage.deleteArticle(url);
+                }
+                if (!archivesEntryBook.hasEntry(entry)) {
+                    storage.deleteArchivedArticle(url);
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to delete article " + entry.getLink() + ": " + ioe);
+            }
+        }
+    }
+
+    /**
+     * Sets the estimated number of bytes the history of changes to the entry books may take.
+     * The oldest changes are forgotten first when the history takes more.
+     */
+    public void setUndoHistoryLimit(long bytes) {
+        undoHistory.setMemoryLimit(bytes);
+    }
+
     //=========== Storage ===================================================================================
 
     @Override
@@ -366,10 +630,56 @@ public class ModelManager implements Model {
         }
     }
 
+    /**
+     * Replaces the saved article at {@code url} by {@code articleContent}, if offline mode is enabled,
+     * leaving it untouched if its content has not changed.
+     * @return false only if the saved article was left untouched.
+     */
+    private boolean updateArticle(URL url, byte[] articleContent) throws IOException {
+        if (isOfflineModeEnabled()) {
+            return storage.updateArticle(url, articleContent);
+        } else {
+            return true;
+        }
+    }
+
     //=========== Displayed Entry List ================================================================================
 
     private void displayEntryBook(ReadOnlyEntryBook entryBook) {
-        displayedEntryList.set(entryBook.getEntryList());
+        display(entryBook::getEntryList);
+    }
+
+    /**
+     * Displays the entries supplied by {@code entries}. Until the filtered entry list is built, only the supplier
+     * is kept, so that a copy of this model which is never displayed does not e.g. test the entries of a saved search.
+     */
+    private void display(Supplier<ObservableList<Entry>> entries) {
+        if (filteredEntries == null) {
+            entriesToDisplay = entries;
+            return;
+        }
+        displayedEntryList.set(entries.get());
+    }
+
+    /**
+     * Returns the entry book displayed in the current context.
+     */
+    private EntryBook getDisplayedEntryBook() {
+        switch (getContext()) {
+        case CONTEXT_ARCHIVES:
+            return archivesEntryBook;
+        case CONTEXT_SEARCH:
+            return searchEntryBook;
+        case CONTEXT_RANKED:
+            return rankedEntryBook;
+        case CONTEXT_SAVED_SEARCH:
+            return getDisplayedSavedSearch().getMatchesEntryBook();
+        case CONTEXT_FEEDS:
+            return feedsEntryBook;
+        case CONTEXT_LIST:
+        default:
+            return listEntryBook;
+        }
     }
 
     //=========== Filtered Entry List =============================================================
@@ -380,13 +690,162 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Entry> getFilteredEntryList() {
+        ensureFilteredListBuilt();
         return filteredEntries;
     }
 
+    /**
+     * Builds the filtered entry list and its pages, if they have not been built yet.
+     * They are built when first used rather than with the model, so that copying a model takes constant time.
+     */
+    private void ensureFilteredListBuilt() {
+        if (filteredEntries != null) {
+            return;
+        }
+        displayedEntryList.set(entriesToDisplay.get());
+        filteredEntries = new FilteredList<>(displayedEntryList, filterToBuildWith);
+        pagedEntries = new PagedList<>(filteredEntries, DEFAULT_PAGE_SIZE);
+        entriesToDisplay = null;
+        filterToBuildWith = null;
+        // Updates selected entry to a valid selection (or none) whenever filtered entries is modified.
+        filteredEntries.addListener(this::ensureSelectedEntryIsValid);
+    }
+
+    /**
+     * Updates the filter of the filtered entry list to filter by the given {@code predicate},
+     * and displays its first page.
+     * Searches on tags alone are answered by the tag index of the displayed entry book.
+     * For displayed lists of at least {@code PARALLEL_FILTER_THRESHOLD} entries, the predicate is tested in the
+     * background on fork/join worker threads across all cores, and the filtered list is then updated with the
+     * results in one change on the JavaFX application thread, unless another filter has been set meanwhile.
+     * Without JavaFX, long lists are still tested on all cores, but the filtered list is updated before returning.
+     * Smaller lists are filtered by the {@code FilteredList} itself on the calling thread.
+     */
     @Override
-    public void updateFilteredEntryList(Predicate<Entry> predicate) {
+    public CompletableFuture<Void> updateFilteredEntryList(Predicate<Entry> predicate) {
         requireNonNull(predicate);
-        filteredEntries.setPredicate(predicate);
+        // a filter still being tested in the background is superseded, so its results are dropped
+        filterGeneration++;
+        if (pendingFilter != null) {
+            pendingFilter.cancel(false);
+            pendingFilter = null;
+        }
+        if (filteredEntries == null) {
+            filterToBuildWith = predicate;
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Optional<TagQuery> tagQuery = predicate instanceof EntryContainsSearchTermsPredicate
+                ? ((EntryContainsSearchTermsPredicate) predicate).getTagQuery()
+                : Optional.empty();
+        Optional<String> fuzzyPhrase = predicate instanceof EntryContainsSearchTermsPredicate
+                ? ((EntryContainsSearchTermsPredicate) predicate).getFuzzyPhrase()
+                : Optional.empty();
+        if (!tagQuery.isPresent() && !fuzzyPhrase.isPresent() && predicate != PREDICATE_SHOW_ALL_ENTRIES
+                && displayedEntryList.size() >= PARALLEL_FILTER_THRESHOLD) {
+            return filterInBackground(predicate);
+        }
+
+        // a new filter is displayed from its start
+        pagedEntries.setPage(0);
+        filterTimer.time(() -> {
+            if (tagQuery.isPresent()) {
+                PrecomputedPredicate<Entry> indexedPredicate = PrecomputedPredicate.withMatches(predicate,
+                        getDisplayedEntryBook().getEntriesWithTags(tagQuery.get()));
+                filteredEntries.setPredicate(indexedPredicate);
+                indexedPredicate.forgetMatches();
+            } else if (fuzzyPhrase.isPresent()) {
+                // only the entries found in the trigram index are tested, e.g. for the tags they must or must not have
+                List<Entry> matches = getDisplayedEntryBook().getEntriesMatchingFuzzily(fuzzyPhrase.get()).stream()
+                        .filter(predicate).collect(Collectors.toList());
+                PrecomputedPredicate<Entry> indexedPredicate = PrecomputedPredicate.withMatches(predicate, matches);
+                filteredEntries.setPredicate(indexedPredicate);
+                indexedPredicate.forgetMatches();
+            } else {
+                filteredEntries.setPredicate(predicate);
+            }
+        });
+        return CompletableFuture.completedFuture(null);
+    }
+
+    /**
+     * Tests {@code predicate} on the displayed entries on fork/join worker threads, without waiting for it,
+     * then filters the filtered entry list by the results on the JavaFX application thread.
+     * The results are dropped if {@link #updateFilteredEntryList(Predicate)} is called again before then.
+     * If JavaFX has not been started, e.g. in batch mode or in tests, there is no thread to hand the results to
+     * which would not race the next command, so the results are waited for and applied on the calling thread.
+     */
+    private CompletableFuture<Void> filterInBackground(Predicate<Entry> predicate) {
+        int generation = filterGeneration;
+        // a snapshot is taken on this thread, as the displayed list may only be read from the thread which changes it.
+        // Entries displayed but not in the snapshot, e.g. matches of a saved search with the same link as another,
+        // are tested with the predicate itself.
+        List<Entry> entries = getDisplayedEntryBook().snapshot().getEntryList();
+        if (!isBackgroundFilterSupported.getAsBoolean()) {
+            filterTimer.time(() -> {
+                PrecomputedPredicate<Entry> precomputedPredicate = PrecomputedPredicate.evaluate(entries, predicate);
+                pagedEntries.setPage(0);
+                filteredEntries.setPredicate(precomputedPredicate);
+                precomputedPredicate.forgetMatches();
+            });
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Timer.Context filterTime = filterTimer.time();
+        CompletableFuture<Void> filtered = new CompletableFuture<>();
+        pendingFilter = filtered;
+
+        CompletableFuture.supplyAsync(() -> PrecomputedPredicate.evaluate(entries, predicate))
+                .whenComplete((precomputedPredicate, error) -> FxUtil.runOnFxThread(() -> {
+                    if (generation != filterGeneration) {
+                        return; // superseded by a later filter
+                    }
+                    pendingFilter = null;
+                    if (error != null) {
+                        logger.warning("Failed to filter entries: " + error);
+                        filtered.completeExceptionally(error);
+                        return;
+                    }
+                    pagedEntries.setPage(0);
+                    // entries added since they were copied are tested with the predicate itself
+                    filteredEntries.setPredicate(precomputedPredicate);
+                    precomputedPredicate.forgetMatches();
+                    filterTime.close();
+                    filtered.complete(null);
+                }));
+        return filtered;
+    }
+
+    /**
+     * Makes long lists be filtered in the background even though JavaFX has not been started,
+     * so that tests can check what happens while a filter is being tested.
+     */
+    void enableBackgroundFilter() {
+        isBackgroundFilterSupported = () -> true;
+    }
+
+    //=========== Paged Entry List =============================================================
+
+    /**
+     * Returns an unmodifiable view of the displayed page of the filtered entry list, which has at most
+     * {@code DEFAULT_PAGE_SIZE} entries, so that displaying it takes the same time however many entries there are.
+     */
+    @Override
+    public ObservableList<Entry> getPagedEntryList() {
+        ensureFilteredListBuilt();
+        return pagedEntries;
+    }
+
+    @Override
+    public ReadOnlyProperty<PagePosition> pagePositionProperty() {
+        ensureFilteredListBuilt();
+        return pagedEntries.positionProperty();
+    }
+
+    @Override
+    public void setPage(int page) {
+        ensureFilteredListBuilt();
+        pagedEntries.setPage(page);
     }
 
     //=========== Selected entry ===========================================================================
@@ -403,11 +862,18 @@ public class ModelManager implements Model {
 
     @Override
     public void setSelectedEntry(Entry entry) {
+        ensureFilteredListBuilt();
         if (entry != null && !filteredEntries.contains(entry)) {
             throw new EntryNotFoundException();
         }
+        if (entry != null) {
+            pagedEntries.showPageOf(filteredEntries.indexOf(entry));
+        }
         selectedEntry.setValue(entry);
         if (getContext() == ModelContext.CONTEXT_LIST && entry != null) {
+            if (isOfflineModeEnabled()) {
+                articlePrefetcher.onSelection(filteredEntries, filteredEntries.indexOf(entry));
+            }
             logger.info("Ensuring selected entry is downloaded: " + entry.getLink().value);
             ensureDownloaded(entry.getLink().value);
         }
@@ -418,16 +884,9 @@ public class ModelManager implements Model {
      */
     private void ensureDownloaded(URL url) {
         if (isOfflineModeEnabled() && !hasOfflineCopy(url)) {
-            Network.fetchArticleAsync(url)
-                // Ensure model updates are run on JavaFX thread
-                .thenAccept(articleContent -> Platform.runLater(() -> {
-                    try {
-                        logger.info("Auto-downloaded article successfully: " + url);
-                        addArticle(url, articleContent);
-                    } catch (IOException ioe) {
-                        // If couldn't save article, just ignore
-                    }
-                }));
+            // joins the prefetch of the article if it is in progress, rather than downloading it again
+            articlePrefetcher.download(url)
+                .thenRun(() -> logger.info("Auto-downloaded article successfully: " + url));
         }
     }
 
@@ -552,6 +1011,18 @@ public class ModelManager implements Model {
         }
     }
 
+    /**
+     * Ensures that storage is updated whenever the set of unfinished downloads changes.
+     * Called from whichever thread changed the download queue, so errors are only logged.
+     */
+    private void saveDownloadQueueToStorage(ReadOnlyEntryBook unfinishedDownloads) {
+        try {
+            storage.saveDownloadQueue(unfinishedDownloads);
+        } catch (IOException ioe) {
+            logger.warning("Failed to save download queue: " + ioe);
+        }
+    }
+
     /**
      * Ensures that storage is updated whenever archives entry book is modified.
      */
@@ -578,10 +1049,13 @@ public class ModelManager implements Model {
 
         // state check
         ModelManager other = (ModelManager) obj;
+        ensureFilteredListBuilt();
+        other.ensureFilteredListBuilt();
 
         boolean stateCheck = listEntryBook.equals(other.listEntryBook)
                 && archivesEntryBook.equals(other.archivesEntryBook)
                 && searchEntryBook.equals(other.searchEntryBook)
+                && rankedEntryBook.equals(other.rankedEntryBook)
                 && feedsEntryBook.equals(other.feedsEntryBook)
                 && userPrefs.equals(other.userPrefs)
                 && displayedEntryList.equals(other.displayedEntryList)
@@ -604,21 +1078,44 @@ public class ModelManager implements Model {
 
     @Override
     public Model clone() {
-        Model clonedModel = new ModelManager(this.listEntryBook, this.archivesEntryBook, this.feedsEntryBook,
+        ModelManager clonedModel = new ModelManager(this.listEntryBook, this.archivesEntryBook, this.feedsEntryBook,
                 this.userPrefs, this.storage);
+        clonedModel.searchEntryBook.resetData(searchEntryBook);
+        clonedModel.rankedEntryBook.resetData(rankedEntryBook);
+        savedSearchViews.forEach((name, view) -> clonedModel.putSavedSearchView(name, view.getPredicate()));
+        clonedModel.displayedSavedSearchName = displayedSavedSearchName;
         clonedModel.setContext(this.getContext());
         return clonedModel;
     }
 
     @Override
     public void archiveEntry(Entry target) {
-        deleteListEntry(target);
+        downloadQueue.cancel(target);
+        try {
+            storage.archiveArticle(target.getLink().value);
+        } catch (IOException ioe) {
+            logger.warning("Failed to archive article " + target.getLink() + ": " + ioe);
+        }
+        listEntryBook.removeEntry(target);
         addArchivesEntry(target);
     }
 
     @Override
-    public void unarchiveEntry(Entry entry, Optional<byte[]> articleContent) {
-        deleteArchivesEntry(entry);
-        addListEntry(entry, articleContent);
+    public void unarchiveEntry(Entry entry) {
+        if (hasListEntry(entry)) {
+            throw new DuplicateEntryException();
+        }
+        archivesEntryBook.removeEntry(entry);
+
+        boolean isArticleRestored = false;
+        try {
+            isArticleRestored = storage.unarchiveArticle(entry.getLink().value);
+        } catch (IOException ioe) {
+            logger.warning("Failed to restore archived article " + entry.getLink() + ": " + ioe);
+        }
+        listEntryBook.addEntry(entry);
+        if (!isArticleRestored) {
+            queueArticleDownloads(Collections.singletonList(entry));
+        }
     }
 }
@@ -0,0 +1,81 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * The position of the displayed page in a list which is displayed a page at a time.
+ * Guarantees: immutable.
+ */
+public class PagePosition {
+
+    private final int page;
+    private final int numPages;
+    private final int firstIndex;
+    private final int listSize;
+
+    /**
+     * Creates the position of the zero-based {@code page} out of {@code numPages} pages,
+     * which starts at the zero-based {@code firstIndex} of a list of {@code listSize} elements.
+     */
+    public PagePosition(int page, int numPages, int firstIndex, int listSize) {
+        this.page = page;
+        this.numPages = numPages;
+        this.firstIndex = firstIndex;
+        this.listSize = listSize;
+    }
+
+    /**
+     * Returns the zero-based number of the displayed page.
+     */
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Returns the number of pages, which is at least 1 even when the list is empty.
+     */
+    public int getNumPages() {
+        return numPages;
+    }
+
+    /**
+     * Returns the zero-based index in the whole list of the first element on the displayed page.
+     */
+    public int getFirstIndex() {
+        return firstIndex;
+    }
+
+    /**
+     * Returns the number of elements in the whole list.
+     */
+    public int getListSize() {
+        return listSize;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PagePosition)) {
+            return false;
+        }
+
+        PagePosition otherPosition = (PagePosition) other;
+        return page == otherPosition.page
+                && numPages == otherPosition.numPages
+                && firstIndex == otherPosition.firstIndex
+                && listSize == otherPosition.listSize;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(page, numPages, firstIndex, listSize);
+    }
+
+    @Override
+    public String toString() {
+        return "Page " + (page + 1) + " of " + numPages + " (" + listSize + " entries)";
+    }
+}
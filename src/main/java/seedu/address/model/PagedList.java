@@ -0,0 +1,180 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.beans.property.ReadOnlyObjectProperty;
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+
+/**
+ * An unmodifiable view of one page of a source list, i.e. of at most {@code pageSize} consecutive elements.
+ *
+ * Changes to the source list are only passed on to listeners of this list if they change the elements on the
+ * displayed page, and then as one change of the range of the page which changed. Changes to the rest of the
+ * source list only update the {@link PagePosition}, so that listeners of this list do work proportional to the
+ * page size, however large the source list is.
+ * When the source list shrinks, the displayed page moves back so that it is never past the last page.
+ */
+public class PagedList<E> extends TransformationList<E, E> {
+
+    private final int pageSize;
+    private final ReadOnlyObjectWrapper<PagePosition> position = new ReadOnlyObjectWrapper<>();
+    private List<E> displayedElements = new ArrayList<>();
+    private int page = 0;
+
+    /**
+     * Creates a view of the first page of {@code source}.
+     * @param pageSize the maximum number of elements on a page, must be positive
+     */
+    public PagedList(ObservableList<E> source, int pageSize) {
+        super(source);
+        checkArgument(pageSize > 0, "Page size must be positive");
+        this.pageSize = pageSize;
+        refresh();
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * Returns the number of pages of the source list, which is at least 1 even when it is empty.
+     */
+    public int getNumPages() {
+        return Math.max(1, (getSource().size() + pageSize - 1) / pageSize);
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    /**
+     * Displays the zero-based {@code page}.
+     * @throws IllegalArgumentException if there is no such page.
+     */
+    public void setPage(int page) {
+        checkArgument(page >= 0 && page < getNumPages(), "No such page: " + page);
+        this.page = page;
+        refresh();
+    }
+
+    /**
+     * Displays the page with the element at the zero-based {@code sourceIndex} of the source list.
+     * @throws IllegalArgumentException if there is no such element.
+     */
+    public void showPageOf(int sourceIndex) {
+        checkArgument(sourceIndex >= 0 && sourceIndex < getSource().size(), "No such element: " + sourceIndex);
+        setPage(sourceIndex / pageSize);
+    }
+
+    public ReadOnlyObjectProperty<PagePosition> positionProperty() {
+        return position.getReadOnlyProperty();
+    }
+
+    private int getFirstIndex() {
+        return page * pageSize;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends E> change) {
+        boolean isPageChanged = false;
+        while (change.next()) {
+            isPageChanged |= change.getFrom() < getFirstIndex() + pageSize;
+        }
+        if (page >= getNumPages()) {
+            page = getNumPages() - 1;
+            isPageChanged = true;
+        }
+        if (isPageChanged) {
+            refresh();
+        } else {
+            updatePosition();
+        }
+    }
+
+    /**
+     * Updates the displayed elements from the source list, and tells listeners which of them changed.
+     */
+    private void refresh() {
+        List<? extends E> source = getSource();
+        int firstIndex = getFirstIndex();
+        List<E> oldElements = displayedElements;
+        List<E> newElements = new ArrayList<>(source.subList(firstIndex,
+                Math.min(firstIndex + pageSize, source.size())));
+
+        // elements are compared by identity, so that replacing an element by an equal one is a change
+        int unchangedPrefix = 0;
+        int maxUnchanged = Math.min(oldElements.size(), newElements.size());
+        while (unchangedPrefix < maxUnchanged
+                && oldElements.get(unchangedPrefix) == newElements.get(unchangedPrefix)) {
+            unchangedPrefix++;
+        }
+        int unchangedSuffix = 0;
+        while (unchangedSuffix < maxUnchanged - unchangedPrefix
+                && oldElements.get(oldElements.size() - 1 - unchangedSuffix)
+                == newElements.get(newElements.size() - 1 - unchangedSuffix)) {
+            unchangedSuffix++;
+        }
+
+        displayedElements = newElements;
+        updatePosition();
+
+        List<E> removed = oldElements.subList(unchangedPrefix, oldElements.size() - unchangedSuffix);
+        int addedTo = newElements.size() - unchangedSuffix;
+        if (removed.isEmpty() && addedTo == unchangedPrefix) {
+            return;
+        }
+        beginChange();
+        if (removed.isEmpty()) {
+            nextAdd(unchangedPrefix, addedTo);
+        } else if (addedTo == unchangedPrefix) {
+            nextRemove(unchangedPrefix, removed);
+        } else {
+            nextReplace(unchangedPrefix, addedTo, removed);
+        }
+        endChange();
+    }
+
+    /**
+     * Updates the position of the displayed page, telling listeners only if it moved.
+     */
+    private void updatePosition() {
+        PagePosition newPosition = new PagePosition(page, getNumPages(), getFirstIndex(), getSource().size());
+        if (!newPosition.equals(position.get())) {
+            position.set(newPosition);
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return displayedElements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return displayedElements.size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size());
+        }
+        return getFirstIndex() + index;
+    }
+
+    /**
+     * Returns the index on the displayed page of the element at {@code index} of the source list,
+     * or -1 if the element is not on the displayed page.
+     */
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = index - getFirstIndex();
+        return viewIndex >= 0 && viewIndex < size() ? viewIndex : -1;
+    }
+}
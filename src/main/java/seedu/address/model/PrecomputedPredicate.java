@@ -0,0 +1,88 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * A predicate whose results for the elements of a list are computed up front, in parallel on the
+ * fork/join common pool, so that a {@code FilteredList} can be filtered by it with one cheap lookup per element.
+ *
+ * Once the filtered list has been filtered, {@link #forgetMatches()} should be called, after which the original
+ * predicate is tested instead, e.g. on elements later added to the list.
+ * Elements which were not among those evaluated, e.g. added to the list while it was being evaluated,
+ * are always tested with the original predicate.
+ * The original predicate must be safe to test from several threads at once.
+ */
+public class PrecomputedPredicate<T> implements Predicate<T> {
+
+    private final Predicate<? super T> predicate;
+    private volatile Set<T> matches;
+    /** The elements the predicate was tested on, or null if the matches are known to be all matching elements. */
+    private volatile Set<T> evaluated;
+
+    private PrecomputedPredicate(Predicate<? super T> predicate, Set<T> matches, Set<T> evaluated) {
+        this.predicate = predicate;
+        this.matches = matches;
+        this.evaluated = evaluated;
+    }
+
+    /**
+     * Tests {@code predicate} on every element of {@code elements} in parallel.
+     * Elements are told apart by identity, so the list must not be changed until the matches are forgotten.
+     */
+    public static <T> PrecomputedPredicate<T> evaluate(List<? extends T> elements, Predicate<? super T> predicate) {
+        requireNonNull(elements);
+        requireNonNull(predicate);
+        List<T> matchingElements = elements.parallelStream().filter(predicate).collect(Collectors.toList());
+        return new PrecomputedPredicate<>(predicate, identitySetOf(matchingElements), identitySetOf(elements));
+    }
+
+    /**
+     * Returns a predicate which matches exactly the elements in {@code matches} until the matches are forgotten,
+     * for when the results of {@code predicate} are already known, e.g. from an index.
+     */
+    public static <T> PrecomputedPredicate<T> withMatches(Predicate<? super T> predicate,
+                                                          Collection<? extends T> matches) {
+        requireNonNull(predicate);
+        requireNonNull(matches);
+        return new PrecomputedPredicate<>(predicate, identitySetOf(matches), null);
+    }
+
+    /**
+     * Returns a set of {@code elements} which tells them apart by identity.
+     */
+    private static <T> Set<T> identitySetOf(Collection<? extends T> elements) {
+        Set<T> set = Collections.newSetFromMap(new IdentityHashMap<>(elements.size()));
+        set.addAll(elements);
+        return set;
+    }
+
+    @Override
+    public boolean test(T element) {
+        Set<T> currentMatches = matches;
+        Set<T> currentEvaluated = evaluated;
+        if (currentMatches == null || (currentEvaluated != null && !currentEvaluated.contains(element))) {
+            return predicate.test(element);
+        }
+        return currentMatches.contains(element);
+    }
+
+    /**
+     * Forgets the precomputed results, so that elements are tested with the original predicate from now on.
+     */
+    public void forgetMatches() {
+        matches = null;
+        evaluated = null;
+    }
+
+    public Predicate<? super T> getPredicate() {
+        return predicate;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.model;
+
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of how often a selected article had already been prefetched.
+ */
+public class PrefetchStatistics {
+
+    private final int hits;
+    private final int misses;
+
+    public PrefetchStatistics(int hits, int misses) {
+        this.hits = hits;
+        this.misses = misses;
+    }
+
+    /** Number of selected articles which had been prefetched. */
+    public int getHits() {
+        return hits;
+    }
+
+    /** Number of selected articles which still had to be downloaded. */
+    public int getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the fraction of selections which were prefetched, or 0 if nothing has been selected.
+     */
+    public double getHitRate() {
+        int total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PrefetchStatistics // instanceof handles nulls
+                && hits == ((PrefetchStatistics) other).hits
+                && misses == ((PrefetchStatistics) other).misses);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(hits, misses);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d selected articles were prefetched (%.0f%% hit rate)",
+                hits, hits + misses, getHitRate() * 100);
+    }
+}
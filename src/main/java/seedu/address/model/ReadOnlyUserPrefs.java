@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -15,4 +16,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getArticleDataDirectoryPath();
 
+    Map<String, String> getSavedSearches();
+
 }
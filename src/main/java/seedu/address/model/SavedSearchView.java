@@ -0,0 +1,186 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+
+/**
+ * The entries of several entry lists which match a predicate, kept up to date as the lists change,
+ * so that a saved search can be displayed without testing every entry again.
+ *
+ * The view is only built when its matches are first asked for, by testing every entry of the lists once.
+ * From then on, only the entries added to the lists are tested, and the entries removed from them are removed
+ * from the matches, so displaying the view again takes time linear in the number of matches.
+ * Matches are kept in the order of the lists when the view was built, and entries which match later are added
+ * at the end, except that an edited entry keeps its place.
+ * Not thread-safe: it must be used on the thread which changes the lists.
+ */
+public class SavedSearchView {
+
+    private final Predicate<Entry> predicate;
+    private final List<ObservableList<Entry>> sources;
+    private final ListChangeListener<Entry> sourceListener = this::onChanged;
+    private final ObservableList<Entry> matches = FXCollections.observableArrayList();
+    private final ObservableList<Entry> unmodifiableMatches = FXCollections.unmodifiableObservableList(matches);
+    /** The entries in {@code matches}, told apart by identity. */
+    private final Set<Entry> matchSet = Collections.newSetFromMap(new IdentityHashMap<>());
+    /** The matches as an entry book, or null if they have changed since it was last made. */
+    private EntryBook matchesEntryBook;
+    private boolean isBuilt;
+
+    /**
+     * Creates a view of the entries in {@code sources} which match {@code predicate}, which follows the changes to
+     * the lists. {@code predicate} must give the same result every time it is tested on the same entry.
+     */
+    public SavedSearchView(Predicate<Entry> predicate, List<ObservableList<Entry>> sources) {
+        requireNonNull(predicate);
+        requireNonNull(sources);
+        this.predicate = predicate;
+        this.sources = new ArrayList<>(sources);
+        this.sources.forEach(source -> source.addListener(sourceListener));
+    }
+
+    public Predicate<Entry> getPredicate() {
+        return predicate;
+    }
+
+    /**
+     * Tests the entries in the lists, if they have not been tested yet.
+     */
+    private void ensureBuilt() {
+        if (!isBuilt) {
+            List<Entry> initialMatches = new ArrayList<>();
+            for (ObservableList<Entry> source : sources) {
+                source.stream().filter(predicate).forEach(initialMatches::add);
+            }
+            matchSet.addAll(initialMatches);
+            matches.setAll(initialMatches);
+            isBuilt = true;
+        }
+    }
+
+    /**
+     * Updates the matches with the entries added to and removed from a list in {@code change}.
+     */
+    private void onChanged(ListChangeListener.Change<? extends Entry> change) {
+        if (!isBuilt) {
+            return;
+        }
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                continue;
+            }
+            if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                replace(change.getRemoved(), change.getAddedSubList());
+            } else {
+                remove(change.getRemoved());
+                change.getAddedSubList().forEach(this::addIfMatching);
+            }
+        }
+    }
+
+    /**
+     * Replaces each of {@code removed} by the entry at the same position in {@code added},
+     * in its place in the matches if both match.
+     */
+    private void replace(List<? extends Entry> removed, List<? extends Entry> added) {
+        for (int i = 0; i < removed.size(); i++) {
+            Entry oldEntry = removed.get(i);
+            Entry newEntry = added.get(i);
+            if (!matchSet.contains(oldEntry)) {
+                addIfMatching(newEntry);
+                continue;
+            }
+            int index = indexOfMatch(oldEntry);
+            matchSet.remove(oldEntry);
+            if (predicate.test(newEntry) && matchSet.add(newEntry)) {
+                matches.set(index, newEntry);
+            } else {
+                matches.remove(index);
+            }
+            matchesEntryBook = null;
+        }
+    }
+
+    /**
+     * Removes the matches among {@code removed} from the matches, in one pass over the matches.
+     */
+    private void remove(List<? extends Entry> removed) {
+        Set<Entry> removedMatches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Entry entry : removed) {
+            if (matchSet.remove(entry)) {
+                removedMatches.add(entry);
+            }
+        }
+        if (!removedMatches.isEmpty()) {
+            matches.removeIf(removedMatches::contains);
+            matchesEntryBook = null;
+        }
+    }
+
+    /**
+     * Adds {@code entry} to the end of the matches if it matches, and is not already one of them.
+     */
+    private void addIfMatching(Entry entry) {
+        if (predicate.test(entry) && matchSet.add(entry)) {
+            matches.add(entry);
+            matchesEntryBook = null;
+        }
+    }
+
+    /**
+     * Returns the index of {@code entry} in the matches, comparing by identity, or -1 if it is not one of them.
+     */
+    private int indexOfMatch(Entry entry) {
+        for (int i = 0; i < matches.size(); i++) {
+            if (matches.get(i) == entry) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns an unmodifiable view of the matches, which is kept up to date as the lists change.
+     */
+    public ObservableList<Entry> getMatches() {
+        ensureBuilt();
+        return unmodifiableMatches;
+    }
+
+    /**
+     * Returns the matches as an entry book, so that they can be searched with its indexes.
+     * Of the matches with the same link, e.g. while an entry is moved between lists, only the first is kept.
+     * The entry book is made again only if the matches have changed since it was last made.
+     */
+    public EntryBook getMatchesEntryBook() {
+        ensureBuilt();
+        if (matchesEntryBook == null) {
+            Map<Link, Entry> matchesByLink = new LinkedHashMap<>();
+            matches.forEach(entry -> matchesByLink.putIfAbsent(entry.getLink(), entry));
+            matchesEntryBook = new EntryBook();
+            matchesEntryBook.setEntries(new ArrayList<>(matchesByLink.values()));
+        }
+        return matchesEntryBook;
+    }
+
+    /**
+     * Stops following the changes to the lists, so that the view can be discarded.
+     */
+    public void dispose() {
+        sources.forEach(source -> source.removeListener(sourceListener));
+    }
+}
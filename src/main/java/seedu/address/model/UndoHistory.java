@@ -0,0 +1,308 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
+
+/**
+ * The history of changes to a fixed set of entry books, which can be undone and redone a commit at a time.
+ *
+ * Only the entries removed and added by each change are kept, not copies of the entry books, and changes are
+ * undone through {@link EntryBook#applyDiff(EntryListDiff)}, so that undoing a change to many entries tells
+ * listeners of each entry book once.
+ * When the estimated size of the history exceeds its memory limit, the oldest commits are forgotten first.
+ * Whenever commits are forgotten, the entries they removed or added which no other commit can bring back
+ * are handed to the forgotten entries handler, e.g. so that their articles can be deleted.
+ */
+public class UndoHistory {
+
+    /** The default memory limit, in bytes. */
+    public static final long DEFAULT_MEMORY_LIMIT = 64L * 1024 * 1024;
+
+    private final List<EntryBook> entryBooks;
+    private final Consumer<Collection<Entry>> forgottenEntriesHandler;
+    private EntryListDiff[] uncommittedDiffs;
+    /** Commits which can be undone, the latest first. */
+    private final Deque<Commit> undoableCommits = new ArrayDeque<>();
+    /** Commits which can be redone, the next to be redone first. */
+    private final Deque<Commit> redoableCommits = new ArrayDeque<>();
+    private long memoryLimit = DEFAULT_MEMORY_LIMIT;
+    private long memoryUsed = 0;
+    private boolean isApplyingCommit = false;
+
+    /**
+     * Creates an empty history of the changes made to {@code entryBooks} from now on.
+     */
+    public UndoHistory(List<EntryBook> entryBooks) {
+        this(entryBooks, forgottenEntries -> { });
+    }
+
+    /**
+     * Creates an empty history of the changes made to {@code entryBooks} from now on.
+     * @param forgottenEntriesHandler called with the entries, one per link, which were removed or added by forgotten
+     *                                commits and can no longer be brought back by undoing or redoing.
+     */
+    public UndoHistory(List<EntryBook> entryBooks, Consumer<Collection<Entry>> forgottenEntriesHandler) {
+        requireNonNull(entryBooks);
+        requireNonNull(forgottenEntriesHandler);
+        this.entryBooks = new ArrayList<>(entryBooks);
+        this.forgottenEntriesHandler = forgottenEntriesHandler;
+        uncommittedDiffs = newDiffs();
+        for (int i = 0; i < this.entryBooks.size(); i++) {
+            int bookIndex = i;
+            this.entryBooks.get(i).getEntryList().addListener((ListChangeListener<Entry>) change ->
+                    recordChange(bookIndex, change));
+        }
+    }
+
+    /**
+     * Sets the estimated number of bytes the history may take, forgetting the oldest commits if it takes more.
+     */
+    public void setMemoryLimit(long memoryLimit) {
+        checkArgument(memoryLimit >= 0, "Memory limit must not be negative");
+        this.memoryLimit = memoryLimit;
+        forget(evictIfOverLimit());
+    }
+
+    public long getMemoryUsed() {
+        return memoryUsed;
+    }
+
+    /**
+     * Records the changes made to the entry books since the last commit as one commit, which can be undone.
+     * Forgets the commits which were undone, unless there were no changes.
+     */
+    public void commit() {
+        long size = 0;
+        boolean isEmpty = true;
+        for (EntryListDiff diff : uncommittedDiffs) {
+            size += diff.estimateSize();
+            isEmpty &= diff.isEmpty();
+        }
+        if (isEmpty) {
+            return;
+        }
+        undoableCommits.push(new Commit(uncommittedDiffs, size));
+        memoryUsed += size;
+        uncommittedDiffs = newDiffs();
+
+        List<Commit> forgottenCommits = new ArrayList<>(redoableCommits);
+        forgottenCommits.forEach(commit -> memoryUsed -= commit.size);
+        redoableCommits.clear();
+        forgottenCommits.addAll(evictIfOverLimit());
+        forget(forgottenCommits);
+    }
+
+    /**
+     * Forgets every commit, after committing any uncommitted changes, so that nothing can be undone or redone.
+     */
+    public void clear() {
+        commit();
+        List<Commit> forgottenCommits = new ArrayList<>(undoableCommits);
+        forgottenCommits.addAll(redoableCommits);
+        undoableCommits.clear();
+        redoableCommits.clear();
+        memoryUsed = 0;
+        forget(forgottenCommits);
+    }
+
+    /**
+     * Returns true if there is a commit to undo. Uncommitted changes are not counted until they are committed.
+     */
+    public boolean canUndo() {
+        return !undoableCommits.isEmpty();
+    }
+
+    /**
+     * Returns true if there is an undone commit to redo.
+     */
+    public boolean canRedo() {
+        return !redoableCommits.isEmpty();
+    }
+
+    /**
+     * Undoes the latest commit, after committing any uncommitted changes.
+     * @return the entries, one per link, removed or added by the commit.
+     * @throws IllegalStateException if there is no commit to undo, or if the entry books have been changed
+     *     without the changes being recorded, in which case the history is forgotten.
+     */
+    public Collection<Entry> undo() {
+        commit();
+        if (!canUndo()) {
+            throw new IllegalStateException("No commit to undo");
+        }
+        Commit commit = undoableCommits.pop();
+        try {
+            applyDiffs(commit.invertedDiffs());
+        } catch (IllegalStateException ise) {
+            forgetAfterFailedApply(commit);
+            throw ise;
+        }
+        redoableCommits.push(commit);
+        return entriesOf(List.of(commit)).values();
+    }
+
+    /**
+     * Redoes the latest undone commit, after committing any uncommitted changes.
+     * @return the entries, one per link, removed or added by the commit.
+     * @throws IllegalStateException if there is no commit to redo, or if the entry books have been changed
+     *     without the changes being recorded, in which case the history is forgotten.
+     */
+    public Collection<Entry> redo() {
+        commit();
+        if (!canRedo()) {
+            throw new IllegalStateException("No commit to redo");
+        }
+        Commit commit = redoableCommits.pop();
+        try {
+            applyDiffs(commit.diffs);
+        } catch (IllegalStateException ise) {
+            forgetAfterFailedApply(commit);
+            throw ise;
+        }
+        undoableCommits.push(commit);
+        return entriesOf(List.of(commit)).values();
+    }
+
+    /**
+     * Makes the changes in {@code diffs} to the entry books with the same indices, without recording them.
+     * The diffs are checked against all the entry books before any of them are changed, so that either all
+     * the changes are made or none are.
+     * @throws IllegalStateException if any entry book is not in the state its diff was recorded from.
+     */
+    private void applyDiffs(EntryListDiff[] diffs) {
+        for (int i = 0; i < diffs.length; i++) {
+            diffs[i].checkAppliesTo(entryBooks.get(i).getEntryList());
+        }
+
+        isApplyingCommit = true;
+        try {
+            for (int i = 0; i < diffs.length; i++) {
+                if (!diffs[i].isEmpty()) {
+                    entryBooks.get(i).applyDiff(diffs[i]);
+                }
+            }
+        } finally {
+            isApplyingCommit = false;
+        }
+    }
+
+    /**
+     * Forgets the whole history, including {@code failedCommit}, which could not be applied,
+     * as the history no longer describes the entry books.
+     */
+    private void forgetAfterFailedApply(Commit failedCommit) {
+        List<Commit> forgottenCommits = new ArrayList<>(undoableCommits);
+        forgottenCommits.addAll(redoableCommits);
+        forgottenCommits.add(failedCommit);
+        undoableCommits.clear();
+        redoableCommits.clear();
+        memoryUsed = 0;
+        forget(forgottenCommits);
+    }
+
+    /**
+     * Hands the entries of {@code forgottenCommits} to the forgotten entries handler, except those whose links
+     * are still in a commit which can be undone or redone, or in the uncommitted changes.
+     */
+    private void forget(List<Commit> forgottenCommits) {
+        if (forgottenCommits.isEmpty()) {
+            return;
+        }
+        Map<Link, Entry> forgottenEntries = entriesOf(forgottenCommits);
+        List<Commit> keptCommits = new ArrayList<>(undoableCommits);
+        keptCommits.addAll(redoableCommits);
+        keptCommits.add(new Commit(uncommittedDiffs, 0));
+        entriesOf(keptCommits).keySet().forEach(forgottenEntries::remove);
+        if (!forgottenEntries.isEmpty()) {
+            forgottenEntriesHandler.accept(forgottenEntries.values());
+        }
+    }
+
+    /**
+     * Returns the entries removed or added by {@code commits}, by their links.
+     */
+    private static Map<Link, Entry> entriesOf(List<Commit> commits) {
+        Map<Link, Entry> entries = new LinkedHashMap<>();
+        for (Commit commit : commits) {
+            for (EntryListDiff diff : commit.diffs) {
+                diff.forEachEntry(entry -> entries.put(entry.getLink(), entry));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Records a change made to the entry book at {@code bookIndex}, unless it was made by undoing or redoing.
+     */
+    private void recordChange(int bookIndex, ListChangeListener.Change<? extends Entry> change) {
+        if (!isApplyingCommit) {
+            uncommittedDiffs[bookIndex].record(change);
+        }
+    }
+
+    /**
+     * Forgets the oldest commits, and then the commits furthest from being redone, until the history fits
+     * in its memory limit.
+     * @return the commits forgotten.
+     */
+    private List<Commit> evictIfOverLimit() {
+        List<Commit> evictedCommits = new ArrayList<>();
+        while (memoryUsed > memoryLimit && !undoableCommits.isEmpty()) {
+            evictedCommits.add(undoableCommits.removeLast());
+            memoryUsed -= evictedCommits.get(evictedCommits.size() - 1).size;
+        }
+        while (memoryUsed > memoryLimit && !redoableCommits.isEmpty()) {
+            evictedCommits.add(redoableCommits.removeLast());
+            memoryUsed -= evictedCommits.get(evictedCommits.size() - 1).size;
+        }
+        return evictedCommits;
+    }
+
+    /**
+     * Returns an empty diff for each entry book.
+     */
+    private EntryListDiff[] newDiffs() {
+        EntryListDiff[] diffs = new EntryListDiff[entryBooks.size()];
+        for (int i = 0; i < diffs.length; i++) {
+            diffs[i] = new EntryListDiff();
+        }
+        return diffs;
+    }
+
+    /**
+     * The changes made to each entry book between two commits, and their estimated size in bytes.
+     */
+    private static class Commit {
+        private final EntryListDiff[] diffs;
+        private final long size;
+
+        Commit(EntryListDiff[] diffs, long size) {
+            this.diffs = diffs;
+            this.size = size;
+        }
+
+        /**
+         * Returns the diffs which undo the changes in this commit.
+         */
+        EntryListDiff[] invertedDiffs() {
+            EntryListDiff[] invertedDiffs = new EntryListDiff[diffs.length];
+            for (int i = 0; i < diffs.length; i++) {
+                invertedDiffs[i] = diffs[i].inverted();
+            }
+            return invertedDiffs;
+        }
+    }
+}
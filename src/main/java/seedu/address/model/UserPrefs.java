@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -17,7 +20,10 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private Path listEntryBookFilePath = Paths.get("data" , "entrybook.json");
     private Path archivesEntryBookFilePath = Paths.get("data" , "archives.json");
     private Path feedsEntryBookFilePath = Paths.get("data" , "feeds.json");
+    private Path downloadQueueFilePath = Paths.get("data" , "downloads.json");
     private Path articleDataDirectoryPath = Paths.get("data", "articles");
+    /** The arguments of the {@code find} command of each saved search, by the name of the search. */
+    private Map<String, String> savedSearches = new LinkedHashMap<>();
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -40,6 +46,7 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setListEntryBookFilePath(newUserPrefs.getListEntryBookFilePath());
         setArticleDataDirectoryPath(newUserPrefs.getArticleDataDirectoryPath());
+        setSavedSearches(newUserPrefs.getSavedSearches());
     }
 
     public GuiSettings getGuiSettings() {
@@ -87,6 +94,46 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.feedsEntryBookFilePath = feedsEntryBookFilePath;
     }
 
+    public Path getDownloadQueueFilePath() {
+        return downloadQueueFilePath;
+    }
+
+    public void setDownloadQueueFilePath(Path downloadQueueFilePath) {
+        requireNonNull(downloadQueueFilePath);
+        this.downloadQueueFilePath = downloadQueueFilePath;
+    }
+
+    /**
+     * Returns an unmodifiable map of the arguments of the {@code find} command of each saved search,
+     * by the name of the search, in the order they were saved.
+     */
+    public Map<String, String> getSavedSearches() {
+        return Collections.unmodifiableMap(savedSearches);
+    }
+
+    public void setSavedSearches(Map<String, String> savedSearches) {
+        requireNonNull(savedSearches);
+        this.savedSearches = new LinkedHashMap<>(savedSearches);
+    }
+
+    /**
+     * Saves a search named {@code name} for the entries matching {@code findArguments},
+     * replacing any saved search with that name.
+     */
+    public void setSavedSearch(String name, String findArguments) {
+        requireNonNull(name);
+        requireNonNull(findArguments);
+        savedSearches.put(name, findArguments);
+    }
+
+    /**
+     * Removes the saved search named {@code name}, if there is one.
+     */
+    public void removeSavedSearch(String name) {
+        requireNonNull(name);
+        savedSearches.remove(name);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -102,13 +149,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
                 && listEntryBookFilePath.equals(o.listEntryBookFilePath)
                 && articleDataDirectoryPath.equals(o.articleDataDirectoryPath)
                 && archivesEntryBookFilePath.equals(o.archivesEntryBookFilePath)
-                && feedsEntryBookFilePath.equals(o.feedsEntryBookFilePath);
+                && feedsEntryBookFilePath.equals(o.feedsEntryBookFilePath)
+                && downloadQueueFilePath.equals(o.downloadQueueFilePath)
+                && savedSearches.equals(o.savedSearches);
     }
 
     @Override
     public int hashCode() {
         return Objects.hash(guiSettings, listEntryBookFilePath, articleDataDirectoryPath, archivesEntryBookFilePath,
-                feedsEntryBookFilePath);
+                feedsEntryBookFilePath, downloadQueueFilePath, savedSearches);
     }
 
     @Override
@@ -116,7 +165,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         return "Gui Settings : " + guiSettings
                 + "\nEntrybook data file location : " + listEntryBookFilePath
                 + "\nArchives data file location : " + archivesEntryBookFilePath
-                + "\nFeeds data file location : " + feedsEntryBookFilePath;
+                + "\nFeeds data file location : " + feedsEntryBookFilePath
+                + "\nDownload queue file location : " + downloadQueueFilePath;
     }
 
 }
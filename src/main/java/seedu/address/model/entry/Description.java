@@ -3,6 +3,8 @@ package seedu.address.model.entry;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Entry's description in the entry book.
  * Guarantees: immutable; is valid as declared in {@link #isValidUserInputDescription(String)}
@@ -15,6 +17,10 @@ public class Description {
     public static final String DEFAULT_DESCRIPTION = "";
     public static final String USER_INPUT_VALIDATION_REGEX = "[^\\s].*";
     public static final String CONSTRUCTION_VALIDATION_REGEX = "([^\\s].*)|(^$)";
+
+    // compiled once, as every entry loaded or created is validated
+    private static final Pattern USER_INPUT_VALIDATION_PATTERN = Pattern.compile(USER_INPUT_VALIDATION_REGEX);
+    private static final Pattern CONSTRUCTION_VALIDATION_PATTERN = Pattern.compile(CONSTRUCTION_VALIDATION_REGEX);
     public final String value;
 
     /**
@@ -32,14 +38,14 @@ public class Description {
      * Returns true if a given string is a valid user-input description.
      */
     public static boolean isValidUserInputDescription(String test) {
-        return test.matches(USER_INPUT_VALIDATION_REGEX);
+        return USER_INPUT_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns true if a given string is a valid description for construction.
      */
     public static boolean isValidConstructionDescription(String test) {
-        return test.matches(CONSTRUCTION_VALIDATION_REGEX);
+        return CONSTRUCTION_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public static String formExceptionMessage() {
@@ -23,6 +23,9 @@ public class Entry {
     private final Description description;
     private final Set<Tag> tags = new HashSet<>();
 
+    // computed when first needed, as most entries are never checked for near-duplicates
+    private volatile int[] signature;
+
     /**
      * Every field must be present and not null.
      */
@@ -31,7 +34,7 @@ public class Entry {
         this.title = title;
         this.description = description;
         this.link = link;
-        this.tags.addAll(tags);
+        tags.forEach(tag -> this.tags.add(tag.intern()));
     }
 
     public Title getTitle() {
@@ -54,6 +57,26 @@ public class Entry {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the MinHash signature of the title and description of this entry,
+     * or {@code MinHash.NO_SIGNATURE} if it has no description or they have too few words to be compared.
+     * It is computed when first needed and then kept, and must not be modified.
+     */
+    int[] getSignature() {
+        if (signature == null) {
+            // a title alone is too short to tell a syndicated story from another story on the same topic
+            signature = description.isEmpty() ? MinHash.NO_SIGNATURE : MinHash.of(getComparedText());
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the text of this entry which is compared to find its near-duplicates.
+     */
+    String getComparedText() {
+        return title.fullTitle + ' ' + description.value;
+    }
+
     /**
      * Returns true if both entries have the same link
      * This defines a weaker notion of equality between two entries.
@@ -1,24 +1,98 @@
 package seedu.address.model.entry;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.PhraseMatcher;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindCommand.FindEntryDescriptor;
+import seedu.address.model.entry.util.WordTokenizer;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 
 /**
- * Tests that a {@code Entry}'s {@code Title} matches any of the keywords given.
+ * Tests that a {@code Entry} matches any of the search terms given,
+ * and has all of the required tags and none of the excluded tags.
  */
 public class EntryContainsSearchTermsPredicate implements Predicate<Entry> {
     private final FindCommand.FindEntryDescriptor findEntryDescriptor;
 
+    // compiled once, so that testing an entry does not allocate
+    private final Optional<PhraseMatcher> titleMatcher;
+    private final Optional<PhraseMatcher> linkMatcher;
+    private final Optional<PhraseMatcher> descriptionMatcher;
+    private final Optional<PhraseMatcher> allMatcher;
+    private final Optional<Tag> allTag;
+    private final Optional<List<String>> fuzzyWords;
+    private final TagQuery tagFilter;
+
     public EntryContainsSearchTermsPredicate(FindEntryDescriptor findEntryDescriptor) {
         this.findEntryDescriptor = findEntryDescriptor;
+        this.titleMatcher = compileMatcher(findEntryDescriptor.getTitle());
+        this.linkMatcher = compileMatcher(findEntryDescriptor.getLink());
+        this.descriptionMatcher = compileMatcher(findEntryDescriptor.getDescription());
+        this.allMatcher = compileMatcher(findEntryDescriptor.getAll());
+        this.allTag = findEntryDescriptor.getAll().filter(Tag::isValidTagName).map(Tag::new);
+        this.fuzzyWords = findEntryDescriptor.getFuzzy().map(WordTokenizer::toWords);
+        this.tagFilter = new TagQuery(Collections.emptySet(),
+                findEntryDescriptor.getRequiredTags().orElse(Collections.emptySet()),
+                findEntryDescriptor.getExcludedTags().orElse(Collections.emptySet()));
+    }
+
+    /**
+     * Returns a matcher for the given phrase, or an empty {@code Optional} if there is no phrase to match.
+     * A blank phrase matches nothing.
+     */
+    private static Optional<PhraseMatcher> compileMatcher(Optional<String> phrase) {
+        return phrase.filter(presentPhrase -> !presentPhrase.trim().isEmpty()).map(PhraseMatcher::new);
+    }
+
+    /**
+     * Returns the query on tags alone which an entry satisfies exactly when it matches this predicate,
+     * or an empty {@code Optional} if the predicate also searches other fields.
+     */
+    public Optional<TagQuery> getTagQuery() {
+        if (!findEntryDescriptor.isAnyFieldEdited() || findEntryDescriptor.getTitle().isPresent()
+                || findEntryDescriptor.getDescription().isPresent() || findEntryDescriptor.getLink().isPresent()
+                || findEntryDescriptor.getAll().isPresent() || findEntryDescriptor.getFuzzy().isPresent()) {
+            return Optional.empty();
+        }
+        Optional<Set<Tag>> anyOf = findEntryDescriptor.getTags();
+        if (anyOf.isPresent() && anyOf.get().isEmpty()) {
+            // an empty set of tags matches nothing, but an empty TagQuery#getAnyOf() does not restrict entries
+            return Optional.empty();
+        }
+        return Optional.of(new TagQuery(anyOf.orElse(Collections.emptySet()),
+                tagFilter.getAllOf(), tagFilter.getNoneOf()));
+    }
+
+    /**
+     * Returns the phrase which an entry must match fuzzily to match this predicate, if that is its only search term,
+     * so that the entries which match it can be looked up in an index and then tested for the tags they must or
+     * must not have. Returns an empty {@code Optional} if the predicate has other search terms.
+     */
+    public Optional<String> getFuzzyPhrase() {
+        if (findEntryDescriptor.getTitle().isPresent() || findEntryDescriptor.getDescription().isPresent()
+                || findEntryDescriptor.getLink().isPresent() || findEntryDescriptor.getAll().isPresent()
+                || findEntryDescriptor.getTags().isPresent()) {
+            return Optional.empty();
+        }
+        return findEntryDescriptor.getFuzzy();
     }
 
     @Override
     public boolean test(Entry entry) {
+        if (!tagFilter.test(entry.getTags())) {
+            return false;
+        }
+        if (!findEntryDescriptor.isAnySearchTermEdited()) {
+            // only required or excluded tags were given
+            return findEntryDescriptor.isAnyFieldEdited();
+        }
+
         boolean result = false;
 
         if (findEntryDescriptor.getTags().isPresent()) {
@@ -26,30 +100,24 @@ public class EntryContainsSearchTermsPredicate implements Predicate<Entry> {
                 .stream()
                 .anyMatch((tag) -> entry.getTags().contains(tag));
         }
-        if (!result && findEntryDescriptor.getTitle().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getTitle().fullTitle,
-                findEntryDescriptor.getTitle().get());
+        if (!result && titleMatcher.isPresent()) {
+            result = titleMatcher.get().isContainedIn(entry.getTitle().fullTitle);
+        }
+        if (!result && linkMatcher.isPresent()) {
+            result = linkMatcher.get().isContainedIn(entry.getLink().value.toString());
         }
-        if (!result && findEntryDescriptor.getLink().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getLink().value.toString(),
-                findEntryDescriptor.getLink().get());
+        if (!result && descriptionMatcher.isPresent()) {
+            result = descriptionMatcher.get().isContainedIn(entry.getDescription().value);
         }
-        if (!result && findEntryDescriptor.getDescription().isPresent()) {
-            result = StringUtil.containsPhraseIgnoreCase(
-                entry.getDescription().value,
-                findEntryDescriptor.getDescription().get());
+        if (!result && allMatcher.isPresent()) {
+            PhraseMatcher matcher = allMatcher.get();
+            result = allTag.isPresent() && entry.getTags().contains(allTag.get())
+                || matcher.isContainedIn(entry.getTitle().fullTitle)
+                || matcher.isContainedIn(entry.getDescription().value)
+                || matcher.isContainedIn(entry.getLink().value.toString());
         }
-        if (!result && findEntryDescriptor.getAll().isPresent()) {
-            result = result
-                || entry.getTags().contains(new Tag(findEntryDescriptor.getAll().get()))
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getTitle().fullTitle, findEntryDescriptor.getAll().get())
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getDescription().value, findEntryDescriptor.getAll().get())
-                || StringUtil.containsPhraseIgnoreCase(
-                        entry.getLink().value.toString(), findEntryDescriptor.getAll().get());
+        if (!result && fuzzyWords.isPresent()) {
+            result = TrigramIndex.matchesFuzzily(entry, fuzzyWords.get());
         }
 
         return result;
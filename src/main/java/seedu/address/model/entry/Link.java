@@ -5,8 +5,11 @@ import static java.util.Objects.requireNonNull;
 import java.net.MalformedURLException;
 import java.net.URL;
 
+import seedu.address.model.entry.util.LinkCanonicalizer;
+
 /**
  * Represents a Entry's link in the address book.
+ * Links are the same if their canonical forms are, e.g. if they only differ by tracking parameters.
  * Guarantees: immutable
  */
 public class Link {
@@ -14,6 +17,7 @@ public class Link {
     public static final String MESSAGE_CONSTRAINTS = "Links should be of the format protocol://domain/filename.";
 
     public final URL value;
+    private final String canonicalForm;
 
     /**
      * Constructs an {@code Link}.
@@ -23,6 +27,7 @@ public class Link {
     public Link(String link) throws MalformedURLException {
         requireNonNull(link);
         value = new URL(link);
+        canonicalForm = LinkCanonicalizer.canonicalize(value);
     }
 
     /**
@@ -33,6 +38,15 @@ public class Link {
     public Link(URL link) {
         requireNonNull(link);
         value = link;
+        canonicalForm = LinkCanonicalizer.canonicalize(value);
+    }
+
+    /**
+     * Returns the canonical form of this link, which identifies the page it leads to.
+     * @see LinkCanonicalizer#canonicalize(URL)
+     */
+    public String getCanonicalForm() {
+        return canonicalForm;
     }
 
     public static String formExceptionMessage() {
@@ -52,12 +66,13 @@ public class Link {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Link // instanceof handles nulls
-                && value.toString().toLowerCase().equals(((Link) other).value.toString().toLowerCase())); // state check
+                && canonicalForm.equals(((Link) other).canonicalForm)); // state check
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // URL#hashCode resolves the host, and is not consistent with equals
+        return canonicalForm.hashCode();
     }
 
 }
@@ -0,0 +1,130 @@
+package seedu.address.model.entry;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import seedu.address.model.entry.util.WordTokenizer;
+
+/**
+ * Computes MinHash signatures of text, from which the similarity of two texts is estimated without comparing them.
+ *
+ * The features of a text are its words and pairs of consecutive words, ignoring case and punctuation.
+ * Numbers are also kept apart by {@link #numbersOf(String)}, as texts differing only in a number, e.g. the release
+ * notes of two versions or two issues of a newsletter, are similar in words but are not the same story.
+ * Each of the {@code NUM_HASHES} values of a signature is the least hash of the features under one hash function,
+ * so the fraction of values two signatures share estimates the Jaccard similarity of the features of the texts,
+ * i.e. the number of features they share out of all the features of either text.
+ */
+public class MinHash {
+
+    /** The number of values in a signature. */
+    public static final int NUM_HASHES = 32;
+
+    /**
+     * Texts with fewer words than this have no signature, as short texts such as "Breaking news" or a title alone
+     * share most of their words by chance.
+     */
+    public static final int MIN_WORDS = 12;
+
+    /** Signature of texts with too few words to be compared. */
+    public static final int[] NO_SIGNATURE = new int[0];
+
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("\\p{N}+");
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private MinHash() {}
+
+    /**
+     * Returns the signature of {@code text}, or {@code NO_SIGNATURE} if it has fewer than {@code MIN_WORDS} words.
+     */
+    public static int[] of(String text) {
+        requireNonNull(text);
+        Set<String> features = new HashSet<>();
+        String previousWord = null;
+        int numWords = 0;
+        for (String word : WordTokenizer.toWords(text)) {
+            numWords++;
+            features.add(word);
+            if (previousWord != null) {
+                features.add(previousWord + ' ' + word);
+            }
+            previousWord = word;
+        }
+        if (numWords < MIN_WORDS) {
+            return NO_SIGNATURE;
+        }
+
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (String feature : features) {
+            long hash = hash(feature);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32) | 1;
+            // the hash functions are derived from two independent hashes, hash1 + i * hash2
+            for (int i = 0; i < NUM_HASHES; i++) {
+                signature[i] = Math.min(signature[i], hash1 + i * hash2);
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Returns the numbers in {@code text}, e.g. version numbers, issue numbers and years, in order.
+     * Texts whose numbers differ are never near-duplicates, however similar their words are.
+     */
+    public static List<String> numbersOf(String text) {
+        requireNonNull(text);
+        List<String> numbers = new ArrayList<>();
+        for (String word : WordTokenizer.toWords(text)) {
+            if (NUMBER_PATTERN.matcher(word).matches()) {
+                numbers.add(word);
+            }
+        }
+        return numbers;
+    }
+
+    /**
+     * Returns the estimated Jaccard similarity of the texts with signatures {@code signature}
+     * and {@code otherSignature}, between 0 and 1, or 0 if either has no signature.
+     */
+    public static double similarity(int[] signature, int[] otherSignature) {
+        requireNonNull(signature);
+        requireNonNull(otherSignature);
+        if (signature.length != NUM_HASHES || otherSignature.length != NUM_HASHES) {
+            return 0;
+        }
+        int numShared = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (signature[i] == otherSignature[i]) {
+                numShared++;
+            }
+        }
+        return (double) numShared / NUM_HASHES;
+    }
+
+    /**
+     * Returns a 64-bit hash of {@code feature}, whose bits are all equally likely to be set.
+     */
+    private static long hash(String feature) {
+        // FNV-1a, followed by the MurmurHash3 finalizer to spread the bits of short strings
+        long hash = FNV_OFFSET_BASIS;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb3fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,126 @@
+package seedu.address.model.entry;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.LazyListIndex;
+
+/**
+ * An index of the entries in a list by the MinHash signatures of their titles and descriptions,
+ * kept up to date as the list changes, which finds the near-duplicates of an entry without comparing it with
+ * every entry.
+ *
+ * Signatures are split into {@code NUM_BANDS} bands of {@code ROWS_PER_BAND} values, and entries are bucketed by
+ * each band (locality-sensitive hashing). Only the entries which share a bucket with an entry are compared with it.
+ * Texts with a similarity of 0.8 share a band with a probability of about 0.98,
+ * and texts with a similarity of 0.3 with a probability of about 0.06, so few entries are compared.
+ * Entries whose texts contain different numbers are never near-duplicates, e.g. successive release notes.
+ * Entries with too few words to have a signature are left out of the buckets altogether.
+ */
+public class NearDuplicateIndex extends LazyListIndex<Entry> {
+
+    /** Entries whose titles and descriptions have at least this estimated similarity are near-duplicates. */
+    public static final double MIN_SIMILARITY = 0.8;
+
+    private static final int NUM_BANDS = 8;
+    private static final int ROWS_PER_BAND = MinHash.NUM_HASHES / NUM_BANDS;
+
+    private final List<Map<Long, List<Entry>>> buckets = new ArrayList<>(NUM_BANDS);
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows the changes to the list.
+     */
+    public NearDuplicateIndex(ObservableList<Entry> entries) {
+        super(entries);
+        for (int band = 0; band < NUM_BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    /**
+     * Adds {@code entry} to the bucket of each band of its signature, unless it has no signature.
+     */
+    @Override
+    protected void add(Entry entry) {
+        int[] signature = entry.getSignature();
+        if (signature == MinHash.NO_SIGNATURE) {
+            return;
+        }
+        for (int band = 0; band < NUM_BANDS; band++) {
+            buckets.get(band).computeIfAbsent(getBand(signature, band), unused -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    /**
+     * Removes {@code entry} from the buckets of its signature, and removes the buckets left empty.
+     */
+    @Override
+    protected void remove(Entry entry) {
+        int[] signature = entry.getSignature();
+        if (signature == MinHash.NO_SIGNATURE) {
+            return;
+        }
+        for (int band = 0; band < NUM_BANDS; band++) {
+            long bandValue = getBand(signature, band);
+            List<Entry> bucket = buckets.get(band).get(bandValue);
+            if (bucket == null) {
+                continue;
+            }
+            // entries are told apart by identity, so removing one never compares their links
+            bucket.removeIf(bucketEntry -> bucketEntry == entry);
+            if (bucket.isEmpty()) {
+                buckets.get(band).remove(bandValue);
+            }
+        }
+    }
+
+    /**
+     * Returns the key of the bucket of the values of {@code signature} in {@code band}.
+     * Different values may share a bucket, as the entries in a bucket are compared before they are returned.
+     */
+    private static long getBand(int[] signature, int band) {
+        long key = 0;
+        for (int row = band * ROWS_PER_BAND; row < (band + 1) * ROWS_PER_BAND; row++) {
+            key = key * 0x9E3779B97F4A7C15L + signature[row];
+        }
+        return key;
+    }
+
+    /**
+     * Returns an entry in the list, other than {@code entry} itself, whose title and description have an
+     * estimated similarity of at least {@code MIN_SIMILARITY} to those of {@code entry}, if there is one.
+     * Entries without descriptions, or whose titles and descriptions have too few words to be compared,
+     * have no near-duplicates, and neither do entries whose numbers differ.
+     */
+    public Optional<Entry> findNearDuplicate(Entry entry) {
+        requireNonNull(entry);
+        ensureBuilt();
+        int[] signature = entry.getSignature();
+        if (signature == MinHash.NO_SIGNATURE) {
+            return Optional.empty();
+        }
+        List<String> numbers = null;
+        for (int band = 0; band < NUM_BANDS; band++) {
+            List<Entry> bucket = buckets.get(band).getOrDefault(getBand(signature, band), List.of());
+            for (Entry candidate : bucket) {
+                if (candidate == entry
+                        || MinHash.similarity(signature, candidate.getSignature()) < MIN_SIMILARITY) {
+                    continue;
+                }
+                if (numbers == null) {
+                    numbers = MinHash.numbersOf(entry.getComparedText());
+                }
+                if (numbers.equals(MinHash.numbersOf(candidate.getComparedText()))) {
+                    return Optional.of(candidate);
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.model.entry;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.LazyListIndex;
+import seedu.address.model.entry.util.WordTokenizer;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An index of the words in the titles, descriptions and tags of the entries in a list, kept up to date as the list
+ * changes, which ranks the entries by their relevance to a query with BM25F.
+ *
+ * For each word, the index keeps the entries it occurs in and how often it occurs in each of their fields,
+ * and for each entry, the number of words in each of its fields. Ranking therefore only scores the entries which
+ * contain a word of the query, and keeps the best {@code maxResults} of them in a bounded heap rather than
+ * sorting all of them.
+ * Occurrences of a word in the title count {@code TITLE_BOOST} times, and in the tags {@code TAGS_BOOST} times,
+ * as much as occurrences in the description.
+ * The total length of each field across the entries is kept as entries come and go, so that the average lengths
+ * used to normalize the scores are not recomputed for every query.
+ */
+public class RankedSearchIndex extends LazyListIndex<Entry> {
+
+    public static final double TITLE_BOOST = 3.0;
+    public static final double DESCRIPTION_BOOST = 1.0;
+    public static final double TAGS_BOOST = 2.0;
+
+    /** How quickly the score of an entry saturates as a word occurs in it more often. */
+    private static final double K1 = 1.2;
+    /** How much the score of a word in a field is scaled down by the length of the field. */
+    private static final double B = 0.75;
+
+    /** The boost of each field, in the order of the fields returned by {@link #getFieldWords(Entry)}. */
+    private static final double[] FIELD_BOOSTS = {TITLE_BOOST, DESCRIPTION_BOOST, TAGS_BOOST};
+    private static final int NUM_FIELDS = FIELD_BOOSTS.length;
+
+    /** Orders entries from the most to the least relevant, and entries which are as relevant by title and link. */
+    private static final Comparator<ScoredEntry> MOST_RELEVANT_FIRST = Comparator
+            .comparingDouble((ScoredEntry scoredEntry) -> scoredEntry.score).reversed()
+            .thenComparing(scoredEntry -> scoredEntry.entry.getTitle().fullTitle)
+            .thenComparing(scoredEntry -> scoredEntry.entry.getLink().getCanonicalForm());
+
+    /** The number of occurrences in each field of each entry which each word occurs in. */
+    private final Map<String, Map<Entry, int[]>> postings = new HashMap<>();
+    /** The number of words in each field of each entry. Entries are told apart by identity. */
+    private final Map<Entry, int[]> fieldLengths = new IdentityHashMap<>();
+    private final long[] totalFieldLengths = new long[NUM_FIELDS];
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows the changes to the list.
+     */
+    public RankedSearchIndex(ObservableList<Entry> entries) {
+        super(entries);
+    }
+
+    /**
+     * Adds the words in the fields of {@code entry} to the index.
+     */
+    @Override
+    protected void add(Entry entry) {
+        List<List<String>> fields = getFieldWords(entry);
+        int[] lengths = new int[NUM_FIELDS];
+        for (int field = 0; field < NUM_FIELDS; field++) {
+            for (String word : fields.get(field)) {
+                postings.computeIfAbsent(word, unused -> new IdentityHashMap<>())
+                        .computeIfAbsent(entry, unused -> new int[NUM_FIELDS])[field]++;
+            }
+            lengths[field] = fields.get(field).size();
+            totalFieldLengths[field] += lengths[field];
+        }
+        fieldLengths.put(entry, lengths);
+    }
+
+    /**
+     * Removes the words in the fields of {@code entry} from the index, and removes the words left in no entries.
+     */
+    @Override
+    protected void remove(Entry entry) {
+        int[] lengths = fieldLengths.remove(entry);
+        if (lengths == null) {
+            return;
+        }
+        for (int field = 0; field < NUM_FIELDS; field++) {
+            totalFieldLengths[field] -= lengths[field];
+        }
+        for (List<String> words : getFieldWords(entry)) {
+            for (String word : words) {
+                Map<Entry, int[]> posting = postings.get(word);
+                if (posting != null && posting.remove(entry) != null && posting.isEmpty()) {
+                    postings.remove(word);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns at most {@code maxResults} entries in the list which contain any of the words in {@code query},
+     * from the most to the least relevant. Words are compared case-insensitively.
+     */
+    public List<Entry> search(String query, int maxResults) {
+        requireNonNull(query);
+        checkArgument(maxResults > 0, "Maximum number of results must be positive");
+        ensureBuilt();
+        int numEntries = fieldLengths.size();
+        if (numEntries == 0) {
+            return new ArrayList<>();
+        }
+        double[] averageFieldLengths = new double[NUM_FIELDS];
+        for (int field = 0; field < NUM_FIELDS; field++) {
+            averageFieldLengths[field] = Math.max(1.0, (double) totalFieldLengths[field] / numEntries);
+        }
+
+        Map<Entry, ScoredEntry> scoredEntries = new IdentityHashMap<>();
+        for (String word : new LinkedHashSet<>(WordTokenizer.toWords(query))) {
+            Map<Entry, int[]> posting = postings.get(word);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (numEntries - posting.size() + 0.5) / (posting.size() + 0.5));
+            posting.forEach((entry, occurrences) -> {
+                double weightedOccurrences = getWeightedOccurrences(occurrences, fieldLengths.get(entry),
+                        averageFieldLengths);
+                double score = idf * weightedOccurrences * (K1 + 1) / (weightedOccurrences + K1);
+                scoredEntries.computeIfAbsent(entry, ScoredEntry::new).score += score;
+            });
+        }
+        return getMostRelevant(scoredEntries.values(), maxResults);
+    }
+
+    /**
+     * Returns the number of occurrences of a word in an entry, summed across its fields after scaling each field
+     * by its boost and by its length relative to the average length of the field.
+     */
+    private static double getWeightedOccurrences(int[] occurrences, int[] lengths, double[] averageFieldLengths) {
+        double weightedOccurrences = 0;
+        for (int field = 0; field < NUM_FIELDS; field++) {
+            if (occurrences[field] > 0) {
+                double lengthNormalization = 1 - B + B * lengths[field] / averageFieldLengths[field];
+                weightedOccurrences += FIELD_BOOSTS[field] * occurrences[field] / lengthNormalization;
+            }
+        }
+        return weightedOccurrences;
+    }
+
+    /**
+     * Returns the {@code maxResults} most relevant of {@code scoredEntries}, the most relevant first.
+     * Only a heap of {@code maxResults} entries is kept, so that it takes O(n log maxResults) time.
+     */
+    private static List<Entry> getMostRelevant(Iterable<ScoredEntry> scoredEntries, int maxResults) {
+        // the least relevant of the entries kept is at the head, so that it is the first to make way
+        PriorityQueue<ScoredEntry> mostRelevant = new PriorityQueue<>(MOST_RELEVANT_FIRST.reversed());
+        for (ScoredEntry scoredEntry : scoredEntries) {
+            if (mostRelevant.size() < maxResults) {
+                mostRelevant.add(scoredEntry);
+            } else if (MOST_RELEVANT_FIRST.compare(scoredEntry, mostRelevant.peek()) < 0) {
+                mostRelevant.poll();
+                mostRelevant.add(scoredEntry);
+            }
+        }
+        List<ScoredEntry> sortedEntries = new ArrayList<>(mostRelevant);
+        sortedEntries.sort(MOST_RELEVANT_FIRST);
+        List<Entry> results = new ArrayList<>(sortedEntries.size());
+        sortedEntries.forEach(scoredEntry -> results.add(scoredEntry.entry));
+        return results;
+    }
+
+    /**
+     * Returns the words of the title, description and tags of {@code entry}, in that order.
+     */
+    private static List<List<String>> getFieldWords(Entry entry) {
+        List<String> tagWords = new ArrayList<>();
+        for (Tag tag : entry.getTags()) {
+            tagWords.addAll(WordTokenizer.toWords(tag.tagName));
+        }
+        return List.of(WordTokenizer.toWords(entry.getTitle().fullTitle),
+                WordTokenizer.toWords(entry.getDescription().value), tagWords);
+    }
+
+    /**
+     * An entry and its score so far.
+     */
+    private static class ScoredEntry {
+        private final Entry entry;
+        private double score;
+
+        ScoredEntry(Entry entry) {
+            this.entry = entry;
+        }
+    }
+}
@@ -3,6 +3,8 @@ package seedu.address.model.entry;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Entry's title in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidConstructionTitle(String)}
@@ -16,6 +18,10 @@ public class Title {
     public static final String USER_INPUT_VALIDATION_REGEX = "[^\\s].*";
     public static final String CONSTRUCTION_VALIDATION_REGEX = "([^\\s].*)|(^$)";
 
+    // compiled once, as every entry loaded or created is validated
+    private static final Pattern USER_INPUT_VALIDATION_PATTERN = Pattern.compile(USER_INPUT_VALIDATION_REGEX);
+    private static final Pattern CONSTRUCTION_VALIDATION_PATTERN = Pattern.compile(CONSTRUCTION_VALIDATION_REGEX);
+
     public final String fullTitle;
 
     /**
@@ -33,14 +39,14 @@ public class Title {
      * Returns true if a given string is a valid user-input title.
      */
     public static boolean isValidUserInputTitle(String test) {
-        return test.matches(USER_INPUT_VALIDATION_REGEX);
+        return USER_INPUT_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     /**
      * Returns true if a given string is a valid title for construction.
      */
     public static boolean isValidConstructionTitle(String test) {
-        return test.matches(CONSTRUCTION_VALIDATION_REGEX);
+        return CONSTRUCTION_VALIDATION_PATTERN.matcher(test).matches();
     }
 
     public static String formExceptionMessage() {
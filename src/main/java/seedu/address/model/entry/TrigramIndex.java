@@ -0,0 +1,252 @@
+package seedu.address.model.entry;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.LazyListIndex;
+import seedu.address.model.entry.util.WordTokenizer;
+
+/**
+ * An index of the words in the titles and descriptions of the entries in a list by their trigrams,
+ * kept up to date as the list changes, which finds the entries containing words similar to those of a query,
+ * e.g. "kubernetes" for "kuberentes", without comparing the query with every entry.
+ *
+ * For each word, the index keeps the entries it occurs in, and for each trigram, the words it occurs in.
+ * A word within {@code k} edits of a query word shares all but at most {@code 3k} of its trigrams,
+ * so only the words sharing that many trigrams with the query word are compared with it by edit distance,
+ * and each distinct word is compared once however many entries it occurs in.
+ * An entry contributes each of its words once, however often it repeats them, as only whether a word occurs matters.
+ */
+public class TrigramIndex extends LazyListIndex<Entry> {
+
+    /** Words shorter than this must match exactly. */
+    public static final int MIN_LENGTH_FOR_ONE_EDIT = 4;
+    /** Words shorter than this may be at most one edit away, and longer words at most two. */
+    public static final int MIN_LENGTH_FOR_TWO_EDITS = 8;
+
+    private static final int TRIGRAM_LENGTH = 3;
+    /** Marks the start and end of a word, so that they have trigrams of their own. Never part of a word. */
+    private static final char WORD_BOUNDARY = '$';
+
+    /** The entries whose titles or descriptions contain each word. Entries are told apart by identity. */
+    private final Map<String, Set<Entry>> entriesByWord = new HashMap<>();
+    /** The indexed words which contain each trigram. */
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows the changes to the list.
+     */
+    public TrigramIndex(ObservableList<Entry> entries) {
+        super(entries);
+    }
+
+    /**
+     * Adds the words of {@code entry} to the index, and the trigrams of the words new to the index.
+     */
+    @Override
+    protected void add(Entry entry) {
+        for (String word : getWords(entry)) {
+            Set<Entry> wordEntries = entriesByWord.get(word);
+            if (wordEntries == null) {
+                wordEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+                entriesByWord.put(word, wordEntries);
+                for (String trigram : getTrigrams(word)) {
+                    wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>()).add(word);
+                }
+            }
+            wordEntries.add(entry);
+        }
+    }
+
+    /**
+     * Removes the words of {@code entry} from the index, and removes the words and trigrams left in no entries.
+     */
+    @Override
+    protected void remove(Entry entry) {
+        for (String word : getWords(entry)) {
+            Set<Entry> wordEntries = entriesByWord.get(word);
+            if (wordEntries == null || !wordEntries.remove(entry) || !wordEntries.isEmpty()) {
+                continue;
+            }
+            entriesByWord.remove(word);
+            for (String trigram : getTrigrams(word)) {
+                Set<String> trigramWords = wordsByTrigram.get(trigram);
+                trigramWords.remove(word);
+                if (trigramWords.isEmpty()) {
+                    wordsByTrigram.remove(trigram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the entries in the list whose titles or descriptions contain, for every word in {@code phrase},
+     * a word within {@link #getMaxEditDistance(String)} edits of it, in no particular order.
+     * Words are compared case-insensitively. A phrase without words matches no entries.
+     */
+    public List<Entry> getEntriesMatchingFuzzily(String phrase) {
+        requireNonNull(phrase);
+        ensureBuilt();
+        List<List<Set<Entry>>> postingsByQueryWord = new ArrayList<>();
+        for (String queryWord : new LinkedHashSet<>(WordTokenizer.toWords(phrase))) {
+            List<Set<Entry>> postings = new ArrayList<>();
+            getSimilarWords(queryWord).forEach(similarWord -> postings.add(entriesByWord.get(similarWord)));
+            postingsByQueryWord.add(postings);
+        }
+        if (postingsByQueryWord.isEmpty()) {
+            return new ArrayList<>();
+        }
+        // only the entries of the rarest query word are collected, and then looked up in the others' postings
+        postingsByQueryWord.sort(Comparator.comparingInt(TrigramIndex::countEntries));
+        Set<Entry> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        postingsByQueryWord.get(0).forEach(matches::addAll);
+        for (List<Set<Entry>> postings : postingsByQueryWord.subList(1, postingsByQueryWord.size())) {
+            matches.removeIf(entry -> postings.stream().noneMatch(posting -> posting.contains(entry)));
+        }
+        return new ArrayList<>(matches);
+    }
+
+    /**
+     * Returns the number of entries in {@code postings}, counting an entry once for each posting it is in.
+     */
+    private static int countEntries(List<Set<Entry>> postings) {
+        return postings.stream().mapToInt(Set::size).sum();
+    }
+
+    /**
+     * Returns the indexed words within {@link #getMaxEditDistance(String)} edits of {@code queryWord}.
+     * Only the words sharing enough trigrams with {@code queryWord} are compared with it by edit distance.
+     */
+    private List<String> getSimilarWords(String queryWord) {
+        int maxDistance = getMaxEditDistance(queryWord);
+        Set<String> trigrams = getTrigrams(queryWord);
+        // each edit changes at most TRIGRAM_LENGTH of the trigrams of a word
+        int minSharedTrigrams = trigrams.size() - TRIGRAM_LENGTH * maxDistance;
+
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            // e.g. "aaaa", which has fewer distinct trigrams than letters, so every word must be compared
+            candidates = entriesByWord.keySet();
+        } else {
+            Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : trigrams) {
+                for (String word : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                    sharedTrigrams.merge(word, 1, Integer::sum);
+                }
+            }
+            List<String> wordsSharingEnough = new ArrayList<>();
+            sharedTrigrams.forEach((word, count) -> {
+                if (count >= minSharedTrigrams) {
+                    wordsSharingEnough.add(word);
+                }
+            });
+            candidates = wordsSharingEnough;
+        }
+
+        List<String> similarWords = new ArrayList<>();
+        for (String candidate : candidates) {
+            if (isWithinEditDistance(queryWord, candidate, maxDistance)) {
+                similarWords.add(candidate);
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns true if the title or description of {@code entry} contains, for every word in {@code queryWords},
+     * a word within {@link #getMaxEditDistance(String)} edits of it, comparing {@code entry} without an index.
+     * {@code queryWords} must be lowercase, and if there are none, no entry matches.
+     */
+    static boolean matchesFuzzily(Entry entry, List<String> queryWords) {
+        if (queryWords.isEmpty()) {
+            return false;
+        }
+        Set<String> words = getWords(entry);
+        for (String queryWord : queryWords) {
+            int maxDistance = getMaxEditDistance(queryWord);
+            if (words.stream().noneMatch(word -> isWithinEditDistance(queryWord, word, maxDistance))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the number of edits, i.e. insertions, deletions and substitutions of a character, which a word may be
+     * away from {@code queryWord} to match it. Short words must match exactly, as one edit changes them too much.
+     */
+    public static int getMaxEditDistance(String queryWord) {
+        if (queryWord.length() < MIN_LENGTH_FOR_ONE_EDIT) {
+            return 0;
+        }
+        return queryWord.length() < MIN_LENGTH_FOR_TWO_EDITS ? 1 : 2;
+    }
+
+    /**
+     * Returns true if {@code first} can be changed into {@code second} with at most {@code maxDistance}
+     * insertions, deletions and substitutions of a character.
+     * Gives up as soon as every alignment of a prefix of {@code first} needs more edits, so that comparing
+     * dissimilar words takes little time.
+     */
+    static boolean isWithinEditDistance(String first, String second, int maxDistance) {
+        if (Math.abs(first.length() - second.length()) > maxDistance) {
+            return false;
+        }
+        int[] previousRow = new int[second.length() + 1];
+        int[] currentRow = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previousRow[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            currentRow[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int substitutionCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                currentRow[j] = Math.min(previousRow[j - 1] + substitutionCost,
+                        Math.min(previousRow[j], currentRow[j - 1]) + 1);
+                rowMinimum = Math.min(rowMinimum, currentRow[j]);
+            }
+            if (rowMinimum > maxDistance) {
+                return false;
+            }
+            int[] swap = previousRow;
+            previousRow = currentRow;
+            currentRow = swap;
+        }
+        return previousRow[second.length()] <= maxDistance;
+    }
+
+    /**
+     * Returns the distinct lowercase words of the title and description of {@code entry}.
+     */
+    private static Set<String> getWords(Entry entry) {
+        Set<String> words = new HashSet<>(WordTokenizer.toWords(entry.getTitle().fullTitle));
+        words.addAll(WordTokenizer.toWords(entry.getDescription().value));
+        return words;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} with a boundary marker at either end,
+     * e.g. "$ja", "jav", "ava" and "va$" for "java".
+     */
+    private static Set<String> getTrigrams(String word) {
+        String markedWord = WORD_BOUNDARY + word + WORD_BOUNDARY;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= markedWord.length(); i++) {
+            trigrams.add(markedWord.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
@@ -3,11 +3,15 @@ package seedu.address.model.entry;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.CopyOnWriteObservableList;
+import seedu.address.model.EntryListDiff;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
 
@@ -19,12 +23,13 @@ import seedu.address.model.entry.exceptions.EntryNotFoundException;
  * as to ensure that the entry with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * Copying a {@code UniqueEntryList} takes constant time, as the copies share their entries until one is changed.
  *
  * @see Entry#isSameEntry(Entry)
  */
 public class UniqueEntryList implements Iterable<Entry> {
 
-    private final ObservableList<Entry> internalList = FXCollections.observableArrayList();
+    private final CopyOnWriteObservableList<Entry> internalList = new CopyOnWriteObservableList<>();
     private final ObservableList<Entry> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
@@ -79,6 +84,10 @@ public class UniqueEntryList implements Iterable<Entry> {
         }
     }
 
+    /**
+     * Replaces the contents of this list with the entries of {@code replacement}, without copying them
+     * or checking them for duplicates again.
+     */
     public void setEntries(UniqueEntryList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
@@ -97,6 +106,24 @@ public class UniqueEntryList implements Iterable<Entry> {
         internalList.setAll(entries);
     }
 
+    /**
+     * Makes the changes in {@code diff} to this list, telling listeners of all of them as one change.
+     * The entries are not checked for duplicates, as {@code diff} only restores a previous state of this list.
+     * @throws IllegalStateException if this list is not the state {@code diff} was recorded from.
+     */
+    public void applyDiff(EntryListDiff diff) {
+        requireNonNull(diff);
+        internalList.changeAsOne(() -> diff.applyTo(internalList));
+    }
+
+    /**
+     * Returns an immutable list of the entries as they are now, which may be read from any thread.
+     * Must be called on the thread which changes this list.
+     */
+    public List<Entry> snapshot() {
+        return internalList.snapshot();
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -123,13 +150,13 @@ public class UniqueEntryList implements Iterable<Entry> {
 
     /**
      * Returns true if {@code entries} contains only unique entries.
+     * Entries are the same if their links are, so they are checked by hashing their links.
      */
     private boolean entriesAreUnique(List<Entry> entries) {
-        for (int i = 0; i < entries.size() - 1; i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (entries.get(i).isSameEntry(entries.get(j))) {
-                    return false;
-                }
+        Set<Link> links = new HashSet<>(entries.size() * 2);
+        for (Entry entry : entries) {
+            if (!links.add(entry.getLink())) {
+                return false;
             }
         }
         return true;
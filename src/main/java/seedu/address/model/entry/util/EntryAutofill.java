@@ -1,27 +1,32 @@
 package seedu.address.model.entry.util;
 
+import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Locale;
 import java.util.Optional;
 
 import org.apache.commons.text.WordUtils;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
 
 import com.google.common.io.Files;
 import com.rometools.rome.feed.synd.SyndFeed;
 
-import net.dankito.readability4j.Article;
-import net.dankito.readability4j.Readability4J;
 import seedu.address.commons.util.Candidate;
+import seedu.address.commons.util.ExtractedArticle;
+import seedu.address.commons.util.ReadabilityUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.entry.Description;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
 import seedu.address.model.entry.Title;
 
 /**
- * Attempts to autofill an Entry's missing Title or Description by parsing its URL or HTML.
+ * Attempts to autofill an Entry's missing Title or Description by parsing its URL or HTML,
+ * and replaces its link by the canonical link declared in its HTML, if there is one.
  */
 public class EntryAutofill {
 
@@ -33,6 +38,7 @@ public class EntryAutofill {
     private final boolean noTitleOrNoDescription;
     private final Candidate<String, Title> titleCandidate;
     private final Candidate<String, Description> descriptionCandidate;
+    private Optional<Link> canonicalLink = Optional.empty();
 
     public EntryAutofill(Entry originalEntry) {
         this.originalEntry = originalEntry;
@@ -87,14 +93,20 @@ public class EntryAutofill {
         }
     }
     /**
-     * Extract candidates by parsing HTML.
+     * Extract candidates and the canonical link by parsing HTML.
+     * The article extracted is shared with other users of the same HTML, such as the reader view.
      * @param html raw HTML to parse
+     * @param baseUrl URL the HTML was fetched from
      */
-    public void extractFromHtml(String html) {
-        if (noTitleOrNoDescription) {
+    public void extractFromHtml(String html, String baseUrl) {
+        // Process through Jsoup
+        Document document = Jsoup.parse(html, baseUrl);
+        // local copies of pages are kept apart from the pages they were copied from
+        if (isWebUrl(baseUrl)) {
+            canonicalLink = extractCanonicalLink(document, baseUrl);
+        }
 
-            // Process through Jsoup
-            Document document = Jsoup.parse(html);
+        if (noTitleOrNoDescription) {
             titleCandidate // title 2nd choice - document title element
                     .tryout(StringUtil.utfSafeOf(document.title().trim()));
             descriptionCandidate // desc 3rd choice - first N words of raw document body text
@@ -103,26 +115,70 @@ public class EntryAutofill {
 
 
             // Process through Readability4J
-            Readability4J readability4J = new Readability4J("", document);
-            Article article = readability4J.parse();
+            ExtractedArticle article = ReadabilityUtil.extractArticle(html, baseUrl);
             titleCandidate // title 1st choice - extract title
-                    .tryout(StringUtil.utfSafeOf(StringUtil.nullSafeOf(article.getTitle())).trim());
+                    .tryout(StringUtil.utfSafeOf(article.getTitle().orElse("")).trim());
             descriptionCandidate
                     .tryout(StringUtil.getFirstNWordsWithEllipsis(
-                            StringUtil.utfSafeOf(StringUtil.nullSafeOf(article.getTextContent())).trim(), MAX_WORDS
+                            StringUtil.utfSafeOf(article.getTextContent().orElse("")).trim(), MAX_WORDS
                     )) // desc 2nd choice - first N words of cleaned-up document body text
                     .tryout(StringUtil.getFirstNWordsWithEllipsis(
-                            StringUtil.utfSafeOf(StringUtil.nullSafeOf(article.getExcerpt())).trim(), MAX_WORDS
+                            StringUtil.utfSafeOf(article.getExcerpt().orElse("")).trim(), MAX_WORDS
                     )); // desc 1st choice - extract description
 
         }
     }
 
+    /**
+     * Returns the link declared by {@code <link rel="canonical">} in {@code document}, if there is a valid one.
+     * Relative links are resolved against the URL the document was fetched from, and only web links are valid.
+     * Links to another host or to the root of the site, e.g. those declared by every page of a misconfigured site,
+     * are not trusted, as every article declaring them would end up with the same link.
+     */
+    private static Optional<Link> extractCanonicalLink(Document document, String baseUrl) {
+        Element canonicalElement = document.selectFirst("link[rel=canonical][href]");
+        if (canonicalElement == null) {
+            return Optional.empty();
+        }
+        String href = canonicalElement.absUrl("href");
+        if (!isWebUrl(href)) {
+            return Optional.empty();
+        }
+        try {
+            Link canonicalLink = new Link(href);
+            URL canonicalUrl = canonicalLink.value;
+            if (!isSameHost(canonicalUrl, new URL(baseUrl)) || isSiteRoot(canonicalUrl)) {
+                return Optional.empty();
+            }
+            return Optional.of(canonicalLink);
+        } catch (MalformedURLException mue) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns true if {@code url} and {@code otherUrl} have the same host, with or without {@code www.}.
+     */
+    private static boolean isSameHost(URL url, URL otherUrl) {
+        return LinkCanonicalizer.canonicalizeHost(url.getHost().toLowerCase(Locale.ROOT))
+                .equals(LinkCanonicalizer.canonicalizeHost(otherUrl.getHost().toLowerCase(Locale.ROOT)));
+    }
+
+    private static boolean isSiteRoot(URL url) {
+        return (url.getPath().isEmpty() || url.getPath().equals("/")) && url.getQuery() == null;
+    }
+
+    private static boolean isWebUrl(String url) {
+        String lowercaseUrl = url.toLowerCase();
+        return lowercaseUrl.startsWith("http://") || lowercaseUrl.startsWith("https://");
+    }
+
     /** Extract candidate by parsing RSS/Atom feed metadata. */
     public void extractFromFeed(SyndFeed feed) {
         if (noTitleOrNoDescription) {
-            titleCandidate.tryout(feed.getTitle());
-            descriptionCandidate.tryout(feed.getDescription());
+            // Atom feeds need not have a subtitle, which is their description
+            titleCandidate.tryout(StringUtil.nullSafeOf(feed.getTitle()));
+            descriptionCandidate.tryout(StringUtil.nullSafeOf(feed.getDescription()));
         }
     }
 
@@ -133,7 +189,8 @@ public class EntryAutofill {
                 originalEntry.getTitle().isEmpty() ? titleCandidate.get() : originalEntry.getTitle(),
                 // best description
                 originalEntry.getDescription().isEmpty() ? descriptionCandidate.get() : originalEntry.getDescription(),
-                originalEntry.getLink(),
+                // canonical link of the fetched page
+                canonicalLink.orElse(originalEntry.getLink()),
                 originalEntry.getTags()
         );
     }
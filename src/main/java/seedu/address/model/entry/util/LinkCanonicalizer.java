@@ -0,0 +1,127 @@
+package seedu.address.model.entry.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Converts URLs to a canonical form, so that URLs which lead to the same page, e.g. with and without tracking
+ * parameters, {@code www.} or a trailing slash, have the same canonical form.
+ *
+ * The canonical form is a lowercase string, so that, as before, links which differ only in case are the same.
+ * It is only used to tell links apart and to name their saved articles: links are still opened as they were given.
+ */
+public class LinkCanonicalizer {
+
+    /** Query parameters which only tell the linked site where the link was found. */
+    private static final Set<String> TRACKING_PARAMETERS = Set.of(
+            "fbclid", "gclid", "dclid", "msclkid", "mc_cid", "mc_eid", "igshid", "yclid", "_ga");
+    private static final String TRACKING_PARAMETER_PREFIX = "utm_";
+
+    private LinkCanonicalizer() {}
+
+    /**
+     * Returns the canonical form of {@code url}:
+     * {@code http} is replaced by {@code https}, the host loses its {@code www.} prefix and trailing dot,
+     * the default port of the protocol is removed, dot segments and the trailing slash are removed from the path,
+     * tracking parameters are removed from the query and the rest are sorted, and the fragment is removed.
+     */
+    public static String canonicalize(URL url) {
+        requireNonNull(url);
+        String protocol = url.getProtocol().toLowerCase(Locale.ROOT);
+        StringBuilder canonicalForm = new StringBuilder(url.toString().length());
+        canonicalForm.append(protocol.equals("http") ? "https" : protocol).append(':');
+
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        // an empty authority, e.g. in file:///path, is left out, as in file:/path
+        if (url.getAuthority() != null && !url.getAuthority().isEmpty()) {
+            canonicalForm.append("//");
+            if (url.getUserInfo() != null) {
+                canonicalForm.append(url.getUserInfo()).append('@');
+            }
+            canonicalForm.append(canonicalizeHost(host));
+            if (url.getPort() != -1 && url.getPort() != url.getDefaultPort()) {
+                canonicalForm.append(':').append(url.getPort());
+            }
+        }
+        canonicalForm.append(canonicalizePath(url.getPath()));
+
+        String query = canonicalizeQuery(url.getQuery());
+        if (!query.isEmpty()) {
+            canonicalForm.append('?').append(query);
+        }
+        return canonicalForm.toString().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Removes the {@code www.} prefix and the trailing dot of a fully qualified name from {@code host}.
+     */
+    static String canonicalizeHost(String host) {
+        if (host.endsWith(".")) {
+            host = host.substring(0, host.length() - 1);
+        }
+        if (host.startsWith("www.") && host.indexOf('.', "www.".length()) != -1) {
+            host = host.substring("www.".length());
+        }
+        return host;
+    }
+
+    /**
+     * Removes the {@code .} and {@code ..} segments and the trailing slash from {@code path}.
+     * An empty path becomes the root path.
+     */
+    private static String canonicalizePath(String path) {
+        Deque<String> segments = new ArrayDeque<>();
+        for (String segment : path.split("/")) {
+            if (segment.isEmpty() || segment.equals(".")) {
+                continue;
+            }
+            if (segment.equals("..")) {
+                segments.pollLast();
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            return "/";
+        }
+        StringBuilder canonicalPath = new StringBuilder(path.length());
+        segments.forEach(segment -> canonicalPath.append('/').append(segment));
+        return canonicalPath.toString();
+    }
+
+    /**
+     * Returns the parameters of {@code query} other than tracking parameters, sorted, or an empty string if there
+     * are none. Parameters with the same name keep their order, as some sites read them in order.
+     */
+    private static String canonicalizeQuery(String query) {
+        if (query == null || query.isEmpty()) {
+            return "";
+        }
+        List<String> parameters = new ArrayList<>();
+        for (String parameter : query.split("&")) {
+            if (!parameter.isEmpty() && !isTrackingParameter(parameter)) {
+                parameters.add(parameter);
+            }
+        }
+        // a stable sort by name, so that parameters with the same name keep their order
+        parameters.sort((first, second) -> getName(first).compareTo(getName(second)));
+        return String.join("&", parameters);
+    }
+
+    private static boolean isTrackingParameter(String parameter) {
+        String name = getName(parameter).toLowerCase(Locale.ROOT);
+        return name.startsWith(TRACKING_PARAMETER_PREFIX) || TRACKING_PARAMETERS.contains(name);
+    }
+
+    private static String getName(String parameter) {
+        int equalsIndex = parameter.indexOf('=');
+        return equalsIndex == -1 ? parameter : parameter.substring(0, equalsIndex);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.entry.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Splits the text of entries and queries into words, so that the indexes of entries and the queries looked up
+ * in them agree on what a word is.
+ */
+public class WordTokenizer {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private WordTokenizer() {}
+
+    /**
+     * Returns the lowercase words of {@code text}, in order, which are separated by characters other than
+     * letters and digits.
+     */
+    public static List<String> toWords(String text) {
+        requireNonNull(text);
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.tag;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
@@ -12,6 +15,9 @@ public class Tag {
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric.";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    // tags no longer used by any entry are garbage collected
+    private static final Interner<Tag> INTERNER = Interners.newWeakInterner();
+
     public final String tagName;
 
     /**
@@ -32,6 +38,13 @@ public class Tag {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the canonical tag equal to this tag, so that entries with the same tag share one {@code Tag}.
+     */
+    public Tag intern() {
+        return INTERNER.intern(this);
+    }
+
     public static String formExceptionMessage() {
         return MESSAGE_CONSTRAINTS;
     }
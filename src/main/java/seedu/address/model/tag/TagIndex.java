@@ -0,0 +1,129 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ObservableList;
+import seedu.address.model.LazyListIndex;
+import seedu.address.model.entry.Entry;
+
+/**
+ * An index of the entries in a list by their tags, kept up to date as the list changes.
+ *
+ * Every entry in the list is given a slot number, which is reused once the entry is removed.
+ * The dictionary maps every tag in use to a bitmap of the slots of the entries with that tag,
+ * so that a {@link TagQuery} is answered with a few bitmap operations instead of by testing every entry.
+ * Entries are told apart by identity, so looking them up never hashes their links.
+ * Entries which are only moved within the list keep their slots.
+ */
+public class TagIndex extends LazyListIndex<Entry> {
+
+    private final Map<Tag, BitSet> postings = new HashMap<>();
+    private final Map<Entry, Integer> slotOfEntry = new IdentityHashMap<>();
+    private final List<Entry> entryInSlot = new ArrayList<>();
+    private final BitSet usedSlots = new BitSet();
+
+    /**
+     * Creates an index of the entries in {@code entries}, which follows the changes to the list.
+     */
+    public TagIndex(ObservableList<Entry> entries) {
+        super(entries);
+    }
+
+    /**
+     * Gives {@code entry} the lowest free slot, and sets that slot in the postings of all its tags.
+     */
+    @Override
+    protected void add(Entry entry) {
+        int slot = usedSlots.nextClearBit(0);
+        usedSlots.set(slot);
+        if (slot == entryInSlot.size()) {
+            entryInSlot.add(entry);
+        } else {
+            entryInSlot.set(slot, entry);
+        }
+        slotOfEntry.put(entry, slot);
+        for (Tag tag : entry.getTags()) {
+            postings.computeIfAbsent(tag, unused -> new BitSet()).set(slot);
+        }
+    }
+
+    /**
+     * Frees the slot of {@code entry}, and removes the postings of tags no longer used by any entry.
+     */
+    @Override
+    protected void remove(Entry entry) {
+        Integer slot = slotOfEntry.remove(entry);
+        if (slot == null) {
+            return;
+        }
+        usedSlots.clear(slot);
+        entryInSlot.set(slot, null);
+        for (Tag tag : entry.getTags()) {
+            BitSet posting = postings.get(tag);
+            posting.clear(slot);
+            if (posting.isEmpty()) {
+                postings.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Returns the entries whose tags satisfy {@code query}, in no particular order.
+     */
+    public List<Entry> getEntriesMatching(TagQuery query) {
+        requireNonNull(query);
+        BitSet matches = getSlotsMatching(query);
+        List<Entry> entries = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            entries.add(entryInSlot.get(slot));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns the number of entries whose tags satisfy {@code query}.
+     */
+    public int countEntriesMatching(TagQuery query) {
+        requireNonNull(query);
+        return getSlotsMatching(query).cardinality();
+    }
+
+    private BitSet getSlotsMatching(TagQuery query) {
+        ensureBuilt();
+        BitSet matches;
+        if (query.getAnyOf().isEmpty()) {
+            matches = (BitSet) usedSlots.clone();
+        } else {
+            matches = new BitSet(usedSlots.length());
+            for (Tag tag : query.getAnyOf()) {
+                matches.or(getPosting(tag));
+            }
+        }
+        for (Tag tag : query.getAllOf()) {
+            matches.and(getPosting(tag));
+        }
+        for (Tag tag : query.getNoneOf()) {
+            matches.andNot(getPosting(tag));
+        }
+        return matches;
+    }
+
+    private BitSet getPosting(Tag tag) {
+        return postings.getOrDefault(tag, new BitSet(0));
+    }
+
+    /**
+     * Returns the number of distinct tags of the indexed entries.
+     */
+    public int getNumTags() {
+        ensureBuilt();
+        return postings.size();
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.model.tag;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * A query on the tags of an entry, matching tag sets that contain any of {@code anyOf} (if it is not empty),
+ * all of {@code allOf} and none of {@code noneOf}.
+ * Guarantees: immutable.
+ */
+public class TagQuery {
+
+    private final Set<Tag> anyOf;
+    private final Set<Tag> allOf;
+    private final Set<Tag> noneOf;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public TagQuery(Set<Tag> anyOf, Set<Tag> allOf, Set<Tag> noneOf) {
+        requireAllNonNull(anyOf, allOf, noneOf);
+        this.anyOf = Collections.unmodifiableSet(new HashSet<>(anyOf));
+        this.allOf = Collections.unmodifiableSet(new HashSet<>(allOf));
+        this.noneOf = Collections.unmodifiableSet(new HashSet<>(noneOf));
+    }
+
+    /**
+     * Returns true if {@code tags} satisfies this query.
+     */
+    public boolean test(Set<Tag> tags) {
+        if (!anyOf.isEmpty() && anyOf.stream().noneMatch(tags::contains)) {
+            return false;
+        }
+        return tags.containsAll(allOf) && noneOf.stream().noneMatch(tags::contains);
+    }
+
+    public Set<Tag> getAnyOf() {
+        return anyOf;
+    }
+
+    public Set<Tag> getAllOf() {
+        return allOf;
+    }
+
+    public Set<Tag> getNoneOf() {
+        return noneOf;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TagQuery)) {
+            return false;
+        }
+
+        TagQuery otherQuery = (TagQuery) other;
+        return anyOf.equals(otherQuery.anyOf)
+                && allOf.equals(otherQuery.allOf)
+                && noneOf.equals(otherQuery.noneOf);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(anyOf, allOf, noneOf);
+    }
+
+    @Override
+    public String toString() {
+        return "any of " + anyOf + ", all of " + allOf + ", none of " + noneOf;
+    }
+}
@@ -3,10 +3,13 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
 
 /**
  * Represents a storage for articles.
+ * Articles of archived entries are kept apart from those of the reading list,
+ * so that archiving and un-archiving an entry only has to move its article.
  */
 public interface ArticleStorage {
 
@@ -30,6 +33,39 @@ public interface ArticleStorage {
      */
     Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException;
 
+    /**
+     * Saves the given article to the storage, unless the saved copy already has the same content.
+     * Articles are compared by a digest which is stored alongside them.
+     * @param articleContent cannot be null.
+     * @param url cannot be null.
+     * @return true if the article was saved, i.e. its content changed.
+     * @throws IOException if there was any problem reading or writing the files.
+     */
+    boolean updateArticle(URL url, byte[] articleContent) throws IOException;
+
+    /**
+     * Moves the given article, if it exists, out of the reading list and into the archives.
+     * Archived articles are not offered for offline viewing.
+     * @param url cannot be null.
+     * @throws IOException if there was any problem moving the file.
+     */
+    void archiveArticle(URL url) throws IOException;
+
+    /**
+     * Moves the given article, if it exists, out of the archives and back into the reading list.
+     * @param url cannot be null.
+     * @return true if the article had been archived.
+     * @throws IOException if there was any problem moving the file.
+     */
+    boolean unarchiveArticle(URL url) throws IOException;
+
+    /**
+     * Deletes the given archived article from the storage if it exists.
+     * @param url cannot be null.
+     * @throws IOException if there was any problem deleting the file.
+     */
+    void deleteArchivedArticle(URL url) throws IOException;
+
     /**
      * Converts a given url to a Path where the article would be stored.
      */
@@ -40,4 +76,15 @@ public interface ArticleStorage {
      */
     Optional<Path> getOfflineLink(URL url);
 
+    /**
+     * Renames the articles saved before they were named by the canonical forms of their links.
+     * Of the articles of links with the same canonical form, the first one found is kept and the others deleted.
+     * Articles of other links are left alone. Only does anything the first time it is called on a data directory.
+     * @param articleUrls the links of the entries in the reading list, cannot be null.
+     * @param archivedArticleUrls the links of the archived entries, cannot be null.
+     * @throws IOException if there was any problem moving or deleting the files.
+     */
+    void migrateToCanonicalFilenames(Collection<URL> articleUrls, Collection<URL> archivedArticleUrls)
+            throws IOException;
+
 }
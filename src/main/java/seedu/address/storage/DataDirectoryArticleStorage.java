@@ -3,22 +3,40 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.digest.DigestUtils;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Counter;
+import seedu.address.commons.core.metrics.Timer;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.entry.util.LinkCanonicalizer;
 
 /**
  * A class to access UserPrefs stored in the hard disk as a json file
  */
 public class DataDirectoryArticleStorage implements ArticleStorage {
 
+    private static final String ARCHIVES_DIRECTORY_NAME = "archives";
+    private static final String DIGEST_FILE_EXTENSION = ".sha256";
+    /** Marks a data directory whose articles are named by the canonical forms of their links. */
+    private static final String CANONICAL_FILENAMES_MARKER_NAME = ".canonical-links";
+
+    private static final Timer saveTimer = MetricsCenter.getTimer("storage.article.save");
+    private static final Timer deleteTimer = MetricsCenter.getTimer("storage.article.delete");
+    private static final Timer moveTimer = MetricsCenter.getTimer("storage.article.move");
+    private static final Counter unchangedCounter = MetricsCenter.getCounter("storage.article.unchanged");
+
     private Path directoryPath;
     private Logger logger = LogsCenter.getLogger(DataDirectoryArticleStorage.class);
 
@@ -36,7 +54,10 @@ public class DataDirectoryArticleStorage implements ArticleStorage {
         logger.info("Deleting article from disk: " + url);
         Path targetPath = getArticlePath(url);
 
-        FileUtil.deleteFile(targetPath);
+        deleteTimer.time(() -> {
+            FileUtil.deleteFile(targetPath);
+            FileUtil.deleteFile(getDigestPath(targetPath));
+        });
     }
 
     @Override
@@ -44,24 +65,154 @@ public class DataDirectoryArticleStorage implements ArticleStorage {
         logger.info("Adding article to disk: " + url + " (" + articleContent.length + " bytes)");
         Path targetPath = getArticlePath(url);
 
-        // Ensure data directory exists
-        FileUtil.createDirectory(directoryPath);
+        saveTimer.time(() -> {
+            // Ensure data directory exists
+            FileUtil.createDirectory(directoryPath);
 
-        FileUtil.writeToFile(targetPath, articleContent);
+            FileUtil.writeToFile(targetPath, articleContent);
+            FileUtil.writeToFile(getDigestPath(targetPath), DigestUtils.sha256Hex(articleContent));
+        });
 
         return Optional.of(targetPath);
     }
 
+    @Override
+    public boolean updateArticle(URL url, byte[] articleContent) throws IOException {
+        Optional<String> savedDigest = readDigest(getArticlePath(url));
+        if (savedDigest.isPresent() && savedDigest.get().equals(DigestUtils.sha256Hex(articleContent))) {
+            logger.fine(() -> "Article unchanged, not saving: " + url);
+            unchangedCounter.increment();
+            return false;
+        }
+        addArticle(url, articleContent);
+        return true;
+    }
+
+    /**
+     * Returns the digest of the article saved at the given path, if there is one.
+     * Articles saved without a digest have it computed from their content.
+     */
+    private Optional<String> readDigest(Path articlePath) throws IOException {
+        if (!FileUtil.isFileExists(articlePath)) {
+            return Optional.empty();
+        }
+        Path digestPath = getDigestPath(articlePath);
+        if (FileUtil.isFileExists(digestPath)) {
+            return Optional.of(FileUtil.readFromFile(digestPath).trim());
+        }
+        return Optional.of(DigestUtils.sha256Hex(Files.readAllBytes(articlePath)));
+    }
+
+    /**
+     * Returns the path of the digest stored alongside the article at the given path.
+     */
+    private static Path getDigestPath(Path articlePath) {
+        return articlePath.resolveSibling(articlePath.getFileName() + DIGEST_FILE_EXTENSION);
+    }
+
+    @Override
+    public void archiveArticle(URL url) throws IOException {
+        Path articlePath = getArticlePath(url);
+        if (!FileUtil.isFileExists(articlePath)) {
+            return;
+        }
+        logger.info("Moving article to archives: " + url);
+        Path archivedArticlePath = getArchivedArticlePath(url);
+        moveTimer.time(() -> {
+            FileUtil.createDirectory(archivedArticlePath.getParent());
+            Files.move(articlePath, archivedArticlePath, StandardCopyOption.REPLACE_EXISTING);
+            // recomputed from the article if it is un-archived
+            FileUtil.deleteFile(getDigestPath(articlePath));
+        });
+    }
+
+    @Override
+    public boolean unarchiveArticle(URL url) throws IOException {
+        Path archivedArticlePath = getArchivedArticlePath(url);
+        if (!FileUtil.isFileExists(archivedArticlePath)) {
+            return false;
+        }
+        logger.info("Moving article out of archives: " + url);
+        moveTimer.time(() -> {
+            FileUtil.createDirectory(directoryPath);
+            Files.move(archivedArticlePath, getArticlePath(url), StandardCopyOption.REPLACE_EXISTING);
+        });
+        return true;
+    }
+
+    @Override
+    public void deleteArchivedArticle(URL url) throws IOException {
+        logger.info("Deleting archived article from disk: " + url);
+        FileUtil.deleteFile(getArchivedArticlePath(url));
+    }
+
+    @Override
+    public void migrateToCanonicalFilenames(Collection<URL> articleUrls, Collection<URL> archivedArticleUrls)
+            throws IOException {
+        Path markerPath = directoryPath.resolve(CANONICAL_FILENAMES_MARKER_NAME);
+        if (FileUtil.isFileExists(markerPath)) {
+            return;
+        }
+        logger.info("Renaming articles by the canonical forms of their links");
+        moveTimer.time(() -> {
+            for (URL url : articleUrls) {
+                Path articlePath = getArticlePath(url);
+                moveToCanonicalPath(getLegacyArticlePath(url), articlePath);
+                moveToCanonicalPath(getDigestPath(getLegacyArticlePath(url)), getDigestPath(articlePath));
+            }
+            Path archivesPath = directoryPath.resolve(ARCHIVES_DIRECTORY_NAME);
+            for (URL url : archivedArticleUrls) {
+                moveToCanonicalPath(archivesPath.resolve(getLegacyArticlePath(url).getFileName()),
+                        getArchivedArticlePath(url));
+            }
+        });
+        FileUtil.createFile(markerPath);
+    }
+
+    /**
+     * Moves the file at {@code legacyPath}, if there is one, to {@code canonicalPath}.
+     * If there is already a file at {@code canonicalPath}, e.g. that of another link with the same canonical form,
+     * it is kept, and the file at {@code legacyPath} is deleted instead.
+     */
+    private void moveToCanonicalPath(Path legacyPath, Path canonicalPath) throws IOException {
+        if (legacyPath.equals(canonicalPath) || !FileUtil.isFileExists(legacyPath)) {
+            return;
+        }
+        if (FileUtil.isFileExists(canonicalPath)) {
+            FileUtil.deleteFile(legacyPath);
+        } else {
+            Files.move(legacyPath, canonicalPath);
+        }
+    }
+
     /**
      * Converts the given url to a filename that will be used to write to.
+     * Links with the same canonical form are given the same filename.
      */
     private String urlToFilename(URL url) throws NoSuchAlgorithmException {
-        String lowercaseUrl = url.toString().toLowerCase();
+        return toFilename(LinkCanonicalizer.canonicalize(url));
+    }
 
+    /**
+     * Returns the path where the article of the given url was stored before articles were named by
+     * the canonical forms of their links.
+     */
+    private Path getLegacyArticlePath(URL url) {
+        try {
+            return directoryPath.resolve(toFilename(url.toString().toLowerCase()));
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new RuntimeException(nsae);
+        }
+    }
+
+    /**
+     * Converts the given key, which identifies an article, to a filename.
+     */
+    private String toFilename(String key) throws NoSuchAlgorithmException {
         try {
             // We hash the URL with sha-256, truncate it to 128 bits so it's shorter, then encode it in base32
             MessageDigest digest = MessageDigest.getInstance("SHA-256");
-            byte[] encodedHash = digest.digest(lowercaseUrl.getBytes(StandardCharsets.UTF_8));
+            byte[] encodedHash = digest.digest(key.getBytes(StandardCharsets.UTF_8));
             byte[] truncatedHash = new byte[16];
             System.arraycopy(encodedHash, 0, truncatedHash, 0, 16);
             byte[] hashInBase32 = new Base32().encode(truncatedHash);
@@ -80,6 +231,13 @@ public class DataDirectoryArticleStorage implements ArticleStorage {
         }
     }
 
+    /**
+     * Converts a given url to a Path where the article is kept while its entry is archived.
+     */
+    private Path getArchivedArticlePath(URL url) {
+        return directoryPath.resolve(ARCHIVES_DIRECTORY_NAME).resolve(getArticlePath(url).getFileName());
+    }
+
     public Optional<Path> getOfflineLink(URL url) {
         Path offlineLink = getArticlePath(url);
         if (FileUtil.isFileExists(offlineLink)) {
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
@@ -31,6 +33,12 @@ public interface EntryBookStorage {
      */
     Optional<ReadOnlyEntryBook> readEntryBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the links of the entries left out by the last read, because their links had the same canonical form
+     * as that of an earlier entry.
+     */
+    List<URL> getLinksLeftOut();
+
     /**
      * Saves the given {@link ReadOnlyEntryBook} to the storage.
      * @param entryBook cannot be null.
@@ -3,7 +3,10 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -22,6 +25,7 @@ public class JsonEntryBookStorage implements EntryBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonEntryBookStorage.class);
 
     private Path filePath;
+    private List<URL> linksLeftOut = new ArrayList<>();
 
     public JsonEntryBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -52,13 +56,21 @@ public class JsonEntryBookStorage implements EntryBookStorage {
         }
 
         try {
-            return Optional.of(jsonEntryBook.get().toModelType());
+            List<URL> leftOut = new ArrayList<>();
+            ReadOnlyEntryBook entryBook = jsonEntryBook.get().toModelType(leftOut);
+            linksLeftOut = leftOut;
+            return Optional.of(entryBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
     }
 
+    @Override
+    public List<URL> getLinksLeftOut() {
+        return new ArrayList<>(linksLeftOut);
+    }
+
     @Override
     public void saveEntryBook(ReadOnlyEntryBook entryBook) throws IOException {
         saveEntryBook(entryBook, filePath);
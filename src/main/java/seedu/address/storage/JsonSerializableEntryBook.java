@@ -1,17 +1,26 @@
 package seedu.address.storage;
 
+import java.net.URL;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.EntryBook;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.Link;
 
 /**
  * An Immutable EntryBook that is serializable to JSON format.
@@ -21,6 +30,8 @@ class JsonSerializableEntryBook {
 
     public static final String MESSAGE_DUPLICATE_ENTRY = "Entry list contains duplicate entry(s).";
 
+    private static final Logger logger = LogsCenter.getLogger(JsonSerializableEntryBook.class);
+
     private final List<JsonAdaptedEntry> entries = new ArrayList<>();
 
     /**
@@ -42,18 +53,38 @@ class JsonSerializableEntryBook {
 
     /**
      * Converts this address book into the model's {@code EntryBook} object.
+     * Entries saved before links were compared by their canonical forms may have links with the same canonical
+     * form, e.g. links which only differ by tracking parameters. Only the first of them is kept.
      *
-     * @throws IllegalValueException if there were any data constraints violated.
+     * @throws IllegalValueException if there were any data constraints violated,
+     *     or if there are entries with the same links.
      */
     public EntryBook toModelType() throws IllegalValueException {
-        EntryBook entryBook = new EntryBook();
+        return toModelType(new ArrayList<>());
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, and adds the links of the entries left out to {@code leftOutLinks}.
+     */
+    public EntryBook toModelType(Collection<URL> leftOutLinks) throws IllegalValueException {
+        List<Entry> uniqueEntries = new ArrayList<>(entries.size());
+        Set<String> savedLinks = new HashSet<>();
+        Map<Link, Entry> entriesByLink = new HashMap<>();
         for (JsonAdaptedEntry jsonAdaptedEntry : entries) {
             Entry entry = jsonAdaptedEntry.toModelType();
-            if (entryBook.hasEntry(entry)) {
+            if (!savedLinks.add(entry.getLink().value.toString().toLowerCase())) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_ENTRY);
             }
-            entryBook.addEntry(entry);
+            Entry sameEntry = entriesByLink.putIfAbsent(entry.getLink(), entry);
+            if (sameEntry != null) {
+                logger.info("Leaving out " + entry.getLink() + ", which is the same link as " + sameEntry.getLink());
+                leftOutLinks.add(entry.getLink().value);
+                continue;
+            }
+            uniqueEntries.add(entry);
         }
+        EntryBook entryBook = new EntryBook();
+        entryBook.setEntries(uniqueEntries);
         return entryBook;
     }
 
@@ -27,6 +27,9 @@ public interface Storage extends UserPrefsStorage, ArticleStorage {
     @Override
     Optional<Path> addArticle(URL url, byte[] articleContent) throws IOException;
 
+    @Override
+    boolean updateArticle(URL url, byte[] articleContent) throws IOException;
+
     @Override
     Optional<Path> getOfflineLink(URL url);
 
@@ -47,4 +50,10 @@ public interface Storage extends UserPrefsStorage, ArticleStorage {
     Optional<ReadOnlyEntryBook> readFeedsEntryBook() throws DataConversionException, IOException;
 
     void saveFeedsEntryBook(ReadOnlyEntryBook feedsEntryBook) throws IOException;
+
+    Path getDownloadQueueFilePath();
+
+    Optional<ReadOnlyEntryBook> readDownloadQueue() throws DataConversionException, IOException;
+
+    void saveDownloadQueue(ReadOnlyEntryBook downloadQueue) throws IOException;
 }
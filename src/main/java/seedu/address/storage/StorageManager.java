@@ -3,6 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -21,6 +24,7 @@ public class StorageManager implements Storage {
     private EntryBookStorage listEntryBookStorage;
     private EntryBookStorage archivesEntryBookStorage;
     private EntryBookStorage feedsEntryBookStorage;
+    private EntryBookStorage downloadQueueStorage;
     private UserPrefsStorage userPrefsStorage;
     private ArticleStorage articleStorage;
 
@@ -29,6 +33,7 @@ public class StorageManager implements Storage {
             EntryBookStorage listEntryBookStorage,
             EntryBookStorage archivesEntryBookStorage,
             EntryBookStorage feedsEntryBookStorage,
+            EntryBookStorage downloadQueueStorage,
             UserPrefsStorage userPrefsStorage,
             ArticleStorage articleStorage) {
         super();
@@ -37,6 +42,7 @@ public class StorageManager implements Storage {
         this.articleStorage = articleStorage;
         this.archivesEntryBookStorage = archivesEntryBookStorage;
         this.feedsEntryBookStorage = feedsEntryBookStorage;
+        this.downloadQueueStorage = downloadQueueStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -65,7 +71,7 @@ public class StorageManager implements Storage {
             throws IOException {
 
         Path filePath = entryBookStorage.getEntryBookFilePath();
-        logger.fine("Attempting to write to data file: " + filePath);
+        logger.fine(() -> "Attempting to write to data file: " + filePath);
         entryBookStorage.saveEntryBook(entryBook, filePath);
     }
 
@@ -76,7 +82,7 @@ public class StorageManager implements Storage {
             throws IOException, DataConversionException {
 
         Path filePath = entryBookStorage.getEntryBookFilePath();
-        logger.fine("Attempting to read data from file: " + filePath);
+        logger.fine(() -> "Attempting to read data from file: " + filePath);
         return entryBookStorage.readEntryBook(filePath);
     }
 
@@ -132,6 +138,23 @@ public class StorageManager implements Storage {
         saveEntryBook(feedsEntryBook, feedsEntryBookStorage);
     }
 
+    // ================ Download queue methods ===================================
+
+    @Override
+    public Path getDownloadQueueFilePath() {
+        return downloadQueueStorage.getEntryBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyEntryBook> readDownloadQueue() throws DataConversionException, IOException {
+        return readEntryBook(downloadQueueStorage);
+    }
+
+    @Override
+    public void saveDownloadQueue(ReadOnlyEntryBook downloadQueue) throws IOException {
+        saveEntryBook(downloadQueue, downloadQueueStorage);
+    }
+
     // ================ Article methods ================================
 
     @Override
@@ -149,11 +172,45 @@ public class StorageManager implements Storage {
         return articleStorage.addArticle(url, content);
     }
 
+    @Override
+    public boolean updateArticle(URL url, byte[] articleContent) throws IOException {
+        return articleStorage.updateArticle(url, articleContent);
+    }
+
+    @Override
+    public void archiveArticle(URL url) throws IOException {
+        articleStorage.archiveArticle(url);
+    }
+
+    @Override
+    public boolean unarchiveArticle(URL url) throws IOException {
+        return articleStorage.unarchiveArticle(url);
+    }
+
+    @Override
+    public void deleteArchivedArticle(URL url) throws IOException {
+        articleStorage.deleteArchivedArticle(url);
+    }
+
     @Override
     public Path getArticlePath(URL url) {
         return articleStorage.getArticlePath(url);
     }
 
+    /**
+     * Also merges the articles of the entries left out when the reading list and archives were read, as their links
+     * have the same canonical forms as those of entries which were kept.
+     */
+    @Override
+    public void migrateToCanonicalFilenames(Collection<URL> articleUrls, Collection<URL> archivedArticleUrls)
+            throws IOException {
+        List<URL> allArticleUrls = new ArrayList<>(articleUrls);
+        allArticleUrls.addAll(listEntryBookStorage.getLinksLeftOut());
+        List<URL> allArchivedArticleUrls = new ArrayList<>(archivedArticleUrls);
+        allArchivedArticleUrls.addAll(archivesEntryBookStorage.getLinksLeftOut());
+        articleStorage.migrateToCanonicalFilenames(allArticleUrls, allArchivedArticleUrls);
+    }
+
     @Override
     public Optional<Path> getOfflineLink(URL url) {
         return articleStorage.getOfflineLink(url);
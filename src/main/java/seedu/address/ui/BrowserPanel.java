@@ -5,6 +5,10 @@ import static java.util.Objects.requireNonNull;
 import java.net.URL;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import javax.xml.transform.TransformerException;
@@ -24,6 +28,8 @@ import seedu.address.commons.util.UrlUtil;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.entry.Entry;
 import seedu.address.ui.util.ReaderViewUtil;
+import seedu.address.util.NetworkResponse;
+import seedu.address.util.exceptions.HttpStatusException;
 
 /**
  * The Browser Panel of the App.
@@ -42,6 +48,12 @@ public class BrowserPanel extends UiPart<Region> {
 
     private static final String FXML = "BrowserPanel.fxml";
 
+    private static final ExecutorService readerViewExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Reader view generator");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
@@ -56,12 +68,13 @@ public class BrowserPanel extends UiPart<Region> {
     private URL lastEntryUrl; // URL of the last selected entry - should be online type
     private ViewMode viewMode; // current view mode
     private final Function<URL, Optional<URL>> getOfflineUrl; // gets the offline URL for the given URL
-    private final Function<URL, Optional<String>> getHtmlFromUrl; // gets the HTML content for a given URL
+    private final Function<URL, CompletableFuture<NetworkResponse>> fetchHtml; // fetches the raw HTML at a given URL
+    private CompletableFuture<String> pendingReaderView; // reader view being generated in the background, if any
 
     public BrowserPanel(ObservableValue<Entry> selectedEntry,
                         ObservableValue<ViewMode> viewMode,
                         Function<URL, Optional<URL>> getOfflineUrl,
-                        Function<URL, Optional<String>> getHtmlFromUrl) {
+                        Function<URL, CompletableFuture<NetworkResponse>> fetchHtml) {
         super(FXML);
 
         // Initialization
@@ -69,7 +82,7 @@ public class BrowserPanel extends UiPart<Region> {
         this.lastEntryUrl = null;
         this.viewMode = viewMode.getValue();
         this.getOfflineUrl = getOfflineUrl;
-        this.getHtmlFromUrl = getHtmlFromUrl;
+        this.fetchHtml = fetchHtml;
 
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
@@ -199,7 +212,7 @@ public class BrowserPanel extends UiPart<Region> {
         /* STRATEGY:
          * If changing to reader view and currently in content, only change stylesheet.
          * If changing to reader view and currently in offline page,
-         * directly load reader view content if possible or else load reader view of current document.
+         * generate reader view from the offline file if possible or else load reader view of current document.
          * If changing to reader view and currently in online page, load reader view of current document.
          * If changing to browser view and currently in internal page or content, reload last URL.
          * Otherwise no action needs to be taken.
@@ -207,9 +220,7 @@ public class BrowserPanel extends UiPart<Region> {
         if (newViewMode.hasReaderViewType() && currentlyInContent()) {
             setStyleSheet(newViewMode.getReaderViewStyle().getStylesheetLocation());
         } else if (newViewMode.hasReaderViewType() && currentlyInOfflinePage()) {
-            getHtmlFromUrl
-                    .apply(lastExternalUrl)
-                    .ifPresentOrElse(this::loadReaderOfHtmlForLastEntry, this::loadReaderOfPageForLastEntry);
+            loadReaderOfUrlForLastEntry(lastExternalUrl, this::loadReaderOfPageForLastEntry);
         } else if (newViewMode.hasReaderViewType() && currentlyInOnlinePage()) {
             loadReaderOfPageForLastUrl();
         } else if (newViewMode.hasBrowserViewType() && !currentlyInExternalPage()) {
@@ -247,8 +258,8 @@ public class BrowserPanel extends UiPart<Region> {
         loadReader(lastEntryUrl.toExternalForm());
     }
 
-    private void loadReaderOfHtmlForLastEntry(String rawHtml) {
-        loadReader(rawHtml, lastEntryUrl.toExternalForm());
+    private void loadReaderOfUrlForLastEntry(URL htmlUrl, Runnable fallback) {
+        loadReaderOfUrl(htmlUrl, lastEntryUrl.toExternalForm(), fallback);
     }
 
     //=========== Advanced methods =====================================================================================
@@ -263,16 +274,14 @@ public class BrowserPanel extends UiPart<Region> {
 
         // Next actions
         /* STRATEGY:
-         * For reader view mode, if offline article is available, directly load reader view content,
-         * else load online page and wait for handleSucceeded to load reader view.
+         * For reader view mode, generate reader view from the raw HTML of the offline article if available,
+         * else of the online page, without loading the page itself.
+         * If the HTML cannot be fetched, load online page and wait for handleSucceeded to load reader view.
          * For browser view mode, load offline page of entry if possible, else load online page of entry.
          */
         if (viewMode.hasReaderViewType()) {
-            getOfflineUrl
-                    .apply(lastEntryUrl) // get entry's offline URL if available
-                    .map(url -> lastExternalUrl = url) // update last URL manually as HTML content is directly loaded
-                    .flatMap(getHtmlFromUrl) // get HTML content
-                    .ifPresentOrElse(this::loadReaderOfHtmlForLastEntry, this::loadPageOfLastEntry);
+            URL htmlUrl = getOfflineUrl.apply(lastEntryUrl).orElse(lastEntryUrl); // entry's offline URL if available
+            loadReaderOfUrlForLastEntry(htmlUrl, this::loadPageOfLastEntry);
         } else {
             getOfflineUrl
                     .apply(lastEntryUrl) // get entry's offline URL if available
@@ -281,6 +290,57 @@ public class BrowserPanel extends UiPart<Region> {
         }
     }
 
+    /**
+     * Loads reader view of the HTML at the given URL, without loading the page itself.
+     * The HTML is fetched and its reader view generated in the background, and the reader view is discarded
+     * if another page or browser view is loaded meanwhile.
+     * @param htmlUrl URL of the HTML to generate reader view of
+     * @param baseUrl base URL used to resolve relative links to absolute links
+     * @param fallback action to take if the HTML cannot be fetched, e.g. the host answers with an error status
+     */
+    private void loadReaderOfUrl(URL htmlUrl, String baseUrl, Runnable fallback) {
+        cancelPendingReaderView();
+        lastExternalUrl = htmlUrl; // update last URL manually as HTML content is directly loaded
+        logger.info("Generating reader view of " + htmlUrl);
+
+        CompletableFuture<String> readerView = fetchHtml.apply(htmlUrl)
+                .thenApplyAsync(response -> {
+                    if (!response.isSuccessful()) {
+                        // an error page has no article to show, so the page itself is loaded instead
+                        throw new CompletionException(new HttpStatusException(htmlUrl, response.getStatusCode()));
+                    }
+                    String rawHtml = ReaderViewUtil.decodeHtml(response.getBody(), response.getCharset());
+                    return ReaderViewUtil.generateReaderViewStringFrom(rawHtml, baseUrl);
+                }, readerViewExecutor);
+        pendingReaderView = readerView;
+        readerView.whenComplete((readerViewHtml, error) -> Platform.runLater(() -> {
+            if (readerView != pendingReaderView || !viewMode.hasReaderViewType()) {
+                return; // superseded by another page or view mode
+            }
+            pendingReaderView = null;
+            Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+            if (cause == null) {
+                setStyleSheet(viewMode.getReaderViewStyle().getStylesheetLocation());
+                loadContent(readerViewHtml);
+            } else if (cause instanceof IllegalArgumentException) {
+                handleReaderViewFailure();
+            } else {
+                logger.info("Failed to fetch " + htmlUrl + " for reader view: " + cause);
+                fallback.run();
+            }
+        }));
+    }
+
+    /**
+     * Stops generating the reader view being generated in the background, if any.
+     */
+    private void cancelPendingReaderView() {
+        if (pendingReaderView != null) {
+            pendingReaderView.cancel(false);
+            pendingReaderView = null;
+        }
+    }
+
     /**
      * Loads reader view of current content.
      * Assumes original web page is already loaded.
@@ -319,6 +379,7 @@ public class BrowserPanel extends UiPart<Region> {
      * @param url URL of the Web page to load
      */
     private void loadPage(String url) {
+        cancelPendingReaderView();
         webEngine.setUserStyleSheetLocation(null); // reset stylesheet
         webEngine.load(url);
     }
@@ -328,6 +389,7 @@ public class BrowserPanel extends UiPart<Region> {
      * @param html HTML content to load
      */
     private void loadContent(String html) {
+        cancelPendingReaderView();
         webEngine.loadContent(html);
     }
 
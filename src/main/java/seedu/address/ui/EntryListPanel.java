@@ -12,10 +12,11 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.PagePosition;
 import seedu.address.model.entry.Entry;
 
 /**
- * Panel containing the list of entries.
+ * Panel containing the list of entries on the displayed page.
  */
 public class EntryListPanel extends UiPart<Region> {
     private static final String FXML = "EntryListPanel.fxml";
@@ -24,18 +25,22 @@ public class EntryListPanel extends UiPart<Region> {
     @FXML
     private ListView<Entry> entryListView;
 
+    private final ObservableValue<PagePosition> pagePosition;
+
     public EntryListPanel(ObservableList<Entry> entryList,
+                          ObservableValue<PagePosition> pagePosition,
                           ObservableValue<Entry> selectedEntry,
                           Consumer<Entry> onSelectedEntryChange) {
         super(FXML);
+        this.pagePosition = pagePosition;
         entryListView.setItems(entryList);
         entryListView.setCellFactory(listView -> new EntryListViewCell());
         entryListView.getSelectionModel().selectedItemProperty().addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selection in entry list panel changed to : '" + newValue + "'");
+            logger.fine(() -> "Selection in entry list panel changed to : '" + newValue + "'");
             onSelectedEntryChange.accept(newValue);
         });
         selectedEntry.addListener((observable, oldValue, newValue) -> {
-            logger.fine("Selected entry changed to: " + newValue);
+            logger.fine(() -> "Selected entry changed to: " + newValue);
 
             // Don't modify selection if we are already selecting the selected entry,
             // otherwise we would have an infinite loop.
@@ -55,10 +60,18 @@ public class EntryListPanel extends UiPart<Region> {
         // Scroll to any changes made to the list
         entryList.addListener((ListChangeListener<? super Entry>) change -> {
             while (change.next()) {
-                entryListView.scrollTo(change.getTo());
-                logger.info(String.format("List panel contents changed between %d and %d, scrolling to %d",
-                    change.getFrom(), change.getTo(),
-                    change.getTo()));
+                int from = change.getFrom();
+                int to = change.getTo();
+                entryListView.scrollTo(to);
+                logger.fine(() -> String.format("List panel contents changed between %d and %d, scrolling to %d",
+                    from, to, to));
+            }
+        });
+
+        // Renumber the entries when another page is displayed
+        pagePosition.addListener((observable, oldPosition, newPosition) -> {
+            if (oldPosition == null || oldPosition.getFirstIndex() != newPosition.getFirstIndex()) {
+                entryListView.refresh();
             }
         });
 
@@ -78,7 +91,9 @@ public class EntryListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new EntryCard(entry, getIndex() + 1).getRoot());
+                // entries are numbered by their index in the whole list, not on the page
+                int index = pagePosition.getValue().getFirstIndex() + getIndex();
+                setGraphic(new EntryCard(entry, index + 1).getRoot());
             }
         }
     }
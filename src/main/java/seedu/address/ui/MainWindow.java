@@ -120,18 +120,18 @@ public class MainWindow extends UiPart<Stage> {
      */
     void fillInnerParts() {
         browserPanel = new BrowserPanel(logic.selectedEntryProperty(), logic.viewModeProperty(),
-                logic::getOfflineLink, Network::fetchAsStringOptional);
+                logic::getOfflineLink, Network::fetchAsResponseAsync);
         browserPlaceholder.getChildren().add(browserPanel.getRoot());
 
-        entryListPanel = new EntryListPanel(logic.getFilteredEntryList(), logic.selectedEntryProperty(),
-                logic::setSelectedEntry);
+        entryListPanel = new EntryListPanel(logic.getPagedEntryList(), logic.pagePositionProperty(),
+                logic.selectedEntryProperty(), logic::setSelectedEntry);
         entryListPanelPlaceholder.getChildren().add(entryListPanel.getRoot());
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
         statusBarFooter = new StatusBarFooter(logic.getListEntryBookFilePath(), logic.getListEntryBook(),
-                logic.getFilteredEntryList(), logic.contextProperty());
+                logic.pagePositionProperty(), logic.contextProperty(), logic.downloadProgressProperty());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         commandBox = new CommandBox(this::executeCommand, logic.getHistory());
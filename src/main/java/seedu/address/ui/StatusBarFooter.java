@@ -6,14 +6,13 @@ import java.time.Clock;
 import java.util.Date;
 
 import javafx.beans.value.ObservableValue;
-import javafx.collections.ListChangeListener;
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.DownloadProgress;
 import seedu.address.model.ModelContext;
+import seedu.address.model.PagePosition;
 import seedu.address.model.ReadOnlyEntryBook;
-import seedu.address.model.entry.Entry;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -23,6 +22,10 @@ public class StatusBarFooter extends UiPart<Region> {
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last updated: %s";
     public static final String CONTEXT_ENTRY_COUNT_STATUS = "Displaying %d entries in %s context";
+    public static final String PAGE_STATUS = " (page %d of %d)";
+    public static final String DOWNLOAD_STATUS_IDLE = "";
+    public static final String DOWNLOAD_STATUS_IN_PROGRESS = "Downloading articles: %d of %d done";
+    public static final String DOWNLOAD_STATUS_FAILURES = " (%d failed)";
 
     /**
      * Used to generate time stamps.
@@ -42,11 +45,14 @@ public class StatusBarFooter extends UiPart<Region> {
     private Label saveLocationStatus;
     @FXML
     private Label contextEntryCountStatus;
+    @FXML
+    private Label downloadStatus;
 
     public StatusBarFooter(Path saveLocation,
                            ReadOnlyEntryBook entryBook,
-                           ObservableList<Entry> entryList,
-                           ObservableValue<ModelContext> context) {
+                           ObservableValue<PagePosition> pagePosition,
+                           ObservableValue<ModelContext> context,
+                           ObservableValue<DownloadProgress> downloadProgress) {
         super(FXML);
 
         entryBook.addListener(observable -> updateSyncStatus());
@@ -54,22 +60,62 @@ public class StatusBarFooter extends UiPart<Region> {
 
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
 
-        entryList.addListener((ListChangeListener.Change<? extends Entry> change) ->
-            updateContextEntryCountStatus(change.getList().size(), context.getValue().toString())
+        pagePosition.addListener((observable, oldPosition, newPosition) ->
+            updateContextEntryCountStatus(newPosition, context.getValue().toString())
         );
         context.addListener((observable, oldContext, newContext) ->
-            updateContextEntryCountStatus(entryList.size(), newContext.toString())
+            updateContextEntryCountStatus(pagePosition.getValue(), newContext.toString())
+        );
+        updateContextEntryCountStatus(pagePosition.getValue(), context.getValue().toString());
+
+        downloadProgress.addListener((observable, oldProgress, newProgress) ->
+            updateDownloadStatus(newProgress)
         );
-        updateContextEntryCountStatus(entryList.size(), context.getValue().toString());
+        updateDownloadStatus(downloadProgress.getValue());
+    }
+
+    /**
+     * Updates the background download status.
+     * @param progress current progress of the background downloads
+     */
+    private void updateDownloadStatus(DownloadProgress progress) {
+        downloadStatus.setText(getDownloadStatusText(progress));
+    }
+
+    /**
+     * Returns the text shown for the given progress of the background downloads.
+     */
+    public static String getDownloadStatusText(DownloadProgress progress) {
+        if (progress.isIdle()) {
+            return DOWNLOAD_STATUS_IDLE;
+        }
+        String status = String.format(DOWNLOAD_STATUS_IN_PROGRESS, progress.getCompleted() + progress.getFailed(),
+                progress.getTotal());
+        if (progress.getFailed() > 0) {
+            status += String.format(DOWNLOAD_STATUS_FAILURES, progress.getFailed());
+        }
+        return status;
     }
 
     /**
      * Updates the context and entry count status.
-     * @param entryCount number of entries displayed
+     * @param position position of the displayed page in the displayed entries
      * @param context current context in model
      */
-    private void updateContextEntryCountStatus(int entryCount, String context) {
-        contextEntryCountStatus.setText(String.format(CONTEXT_ENTRY_COUNT_STATUS, entryCount, context));
+    private void updateContextEntryCountStatus(PagePosition position, String context) {
+        contextEntryCountStatus.setText(getContextEntryCountStatusText(position, context));
+    }
+
+    /**
+     * Returns the text shown for the given position of the displayed page and context.
+     * The page is only shown if there is more than one.
+     */
+    public static String getContextEntryCountStatusText(PagePosition position, String context) {
+        String status = String.format(CONTEXT_ENTRY_COUNT_STATUS, position.getListSize(), context);
+        if (position.getNumPages() > 1) {
+            status += String.format(PAGE_STATUS, position.getPage() + 1, position.getNumPages());
+        }
+        return status;
     }
 
     /**
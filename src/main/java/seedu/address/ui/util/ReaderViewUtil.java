@@ -1,7 +1,11 @@
 package seedu.address.ui.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -11,12 +15,12 @@ import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
 import org.jsoup.parser.Tag;
 
-import net.dankito.readability4j.Article;
-import net.dankito.readability4j.Readability4J;
-import net.dankito.readability4j.extended.Readability4JExtended;
-
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
 import seedu.address.commons.util.DateUtil;
+import seedu.address.commons.util.ExtractedArticle;
 import seedu.address.commons.util.OptionalCandidate;
+import seedu.address.commons.util.ReadabilityUtil;
 import seedu.address.commons.util.StringUtil;
 
 /**
@@ -43,16 +47,26 @@ public class ReaderViewUtil {
     private static final String IMG_TAG = "img";
     private static final String ANCHOR_TAG = "a";
 
+    private static final Timer generateTimer = MetricsCenter.getTimer("readerView.generate");
+
     /**
      * Gets a document representing the reader view of the given document.
+     * The article is always extracted afresh, as the document is modified by the extraction.
      * @param rawDocument Jsoup document from raw HTML
      * @return document representing the reader view
      */
     public static Document generateReaderViewFrom(Document rawDocument) throws IllegalArgumentException {
+        return generateTimer.time(() ->
+                buildReaderViewFrom(rawDocument, ReadabilityUtil.extractArticle(rawDocument)));
+    }
 
-        // extract article using Readability4J
-        Readability4J readability4J = new Readability4JExtended(rawDocument.baseUri(), rawDocument);
-        Article article = readability4J.parse();
+    /**
+     * Builds the reader view of the article extracted from the given document.
+     * @param rawDocument Jsoup document from raw HTML, used for the page's metadata
+     * @param article article extracted from the raw HTML
+     */
+    private static Document buildReaderViewFrom(Document rawDocument, ExtractedArticle article)
+            throws IllegalArgumentException {
 
         // create empty container
         Document document = createEmptyDocument(rawDocument.baseUri());
@@ -60,7 +74,7 @@ public class ReaderViewUtil {
         document.body().appendChild(container);
 
         // add main article content
-        createArticleElement(article)
+        article.getArticleContent()
                 .map(container::prependChild)
                 .orElseThrow(() -> new IllegalArgumentException("Null article content"));
 
@@ -83,7 +97,32 @@ public class ReaderViewUtil {
      * @return HTML string representing the reader view of rawHtml string
      */
     public static String generateReaderViewStringFrom(String rawHtml, String baseUrl) throws IllegalArgumentException {
-        return generateReaderViewFrom(Jsoup.parse(rawHtml, baseUrl)).outerHtml();
+        return generateTimer.time(() -> {
+            // the article extracted earlier from the same HTML is reused, e.g. when toggling reader view
+            ExtractedArticle article = ReadabilityUtil.extractArticle(rawHtml, baseUrl);
+            return buildReaderViewFrom(Jsoup.parse(rawHtml, baseUrl), article).outerHtml();
+        });
+    }
+
+    /**
+     * Decodes raw HTML bytes into a string.
+     * @param rawHtml raw HTML bytes to decode
+     * @param charsetName charset declared for the bytes, e.g. by the Content-Type header,
+     *                    or empty to detect it from the byte order mark or meta tags of the document
+     * @return the decoded HTML string
+     */
+    public static String decodeHtml(byte[] rawHtml, Optional<String> charsetName) {
+        Charset charset;
+        if (charsetName.isPresent()) {
+            charset = Charset.forName(charsetName.get());
+        } else {
+            try {
+                charset = Jsoup.parse(new ByteArrayInputStream(rawHtml), null, "").charset();
+            } catch (IOException ioe) {
+                throw new UncheckedIOException(ioe); // not thrown when reading from an array
+            }
+        }
+        return new String(rawHtml, charset);
     }
 
     /**
@@ -114,22 +153,13 @@ public class ReaderViewUtil {
         return document;
     }
 
-    /**
-     * Attempts to create an article element.
-     * @param article Readability4J article
-     * @return optional article element
-     */
-    private static Optional<Element> createArticleElement(Article article) {
-        return Optional.ofNullable(article.getArticleContent());
-    }
-
     /**
      * Attempts to create an article metadata element.
      * @param rawDocument Jsoup document parsed from raw HTML
-     * @param article Readability4J article
+     * @param article extracted article
      * @return optional article metadata element
      */
-    private static Optional<Element> createArticleMetadataElement(Document rawDocument, Article article) {
+    private static Optional<Element> createArticleMetadataElement(Document rawDocument, ExtractedArticle article) {
 
         Element articleMetadataWrapperElement =
                 new Element(Tag.valueOf(DIV_TAG), "").addClass(METADATA_WRAPPER_STYLE_CLASS);
@@ -178,7 +208,7 @@ public class ReaderViewUtil {
                 .ifPresent(articleMetadataWrapperElement::appendChild);
 
         // add reading time element
-        Optional.ofNullable(article.getTextContent())
+        article.getTextContent()
                 .filter(text -> !text.isEmpty())
                 .map(StringUtil::getNumberOfWords)
                 .map(wordCount -> Math.max(1, (int) Math.ceil(wordCount / (float) AVERAGE_WORDS_PER_MINUTE)))
@@ -194,11 +224,11 @@ public class ReaderViewUtil {
 
     /**
      * Attempts to create a title element.
-     * @param article Readability4J article
+     * @param article extracted article
      * @return optional title element
      */
-    private static Optional<Element> createTitleElement(Article article) {
-        return Optional.ofNullable(article.getTitle())
+    private static Optional<Element> createTitleElement(ExtractedArticle article) {
+        return article.getTitle()
                 .filter(title -> !title.isEmpty())
                 .map(title ->
                         new Element(Tag.valueOf(HEADER_TAG), "").text(title).addClass(TITLE_STYLE_CLASS)
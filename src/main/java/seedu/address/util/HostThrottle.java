@@ -0,0 +1,224 @@
+package seedu.address.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+import seedu.address.util.exceptions.HostUnavailableException;
+
+/**
+ * Politeness limiter for a single host.
+ * Combines a cap on concurrent requests, a token bucket limiting the request rate,
+ * and a circuit breaker which makes requests fail fast while the host is cooling down
+ * after repeated failures.
+ *
+ * Requests are admitted asynchronously: {@link #acquire()} returns a future which completes
+ * once the request may be sent, and every admitted request must be followed by exactly one call
+ * to {@link #release(boolean)}.
+ */
+public class HostThrottle {
+
+    /**
+     * States of the circuit breaker.
+     */
+    public enum CircuitState {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final String host;
+    private final int maxConcurrentRequests;
+    private final double permitsPerSecond;
+    private final int burstSize;
+    private final int failureThreshold;
+    private final long coolDownNanos;
+    private final ScheduledExecutorService scheduler;
+    private final LongSupplier nanoClock;
+
+    private final Deque<CompletableFuture<Void>> waiting = new ArrayDeque<>();
+    private int inFlight = 0;
+    private double tokens;
+    private long lastRefillNanos;
+    private boolean isDrainScheduled = false;
+
+    private CircuitState circuitState = CircuitState.CLOSED;
+    private int consecutiveFailures = 0;
+    private long openUntilNanos = 0;
+    private long totalRequests = 0;
+    private long totalRejected = 0;
+
+    public HostThrottle(String host, int maxConcurrentRequests, double permitsPerSecond, int burstSize,
+                        int failureThreshold, long coolDownMillis, ScheduledExecutorService scheduler) {
+        this(host, maxConcurrentRequests, permitsPerSecond, burstSize, failureThreshold, coolDownMillis, scheduler,
+                System::nanoTime);
+    }
+
+    HostThrottle(String host, int maxConcurrentRequests, double permitsPerSecond, int burstSize,
+                 int failureThreshold, long coolDownMillis, ScheduledExecutorService scheduler,
+                 LongSupplier nanoClock) {
+        this.host = host;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        this.permitsPerSecond = permitsPerSecond;
+        this.burstSize = burstSize;
+        this.failureThreshold = failureThreshold;
+        this.coolDownNanos = TimeUnit.MILLISECONDS.toNanos(coolDownMillis);
+        this.scheduler = scheduler;
+        this.nanoClock = nanoClock;
+        this.tokens = burstSize;
+        this.lastRefillNanos = nanoClock.getAsLong();
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    /**
+     * Requests permission to send a request to this host.
+     * The returned future completes once the request may be sent,
+     * or fails with a {@link HostUnavailableException} if the circuit is open.
+     */
+    public CompletableFuture<Void> acquire() {
+        CompletableFuture<Void> permit = new CompletableFuture<>();
+        List<CompletableFuture<Void>> admitted;
+        synchronized (this) {
+            updateCircuitState();
+            if (circuitState == CircuitState.OPEN) {
+                totalRejected++;
+                return CompletableFuture.failedFuture(
+                        new HostUnavailableException(host, getCoolDownRemainingMillis()));
+            }
+            waiting.add(permit);
+            admitted = admitWaiting();
+        }
+        admitted.forEach(future -> future.complete(null));
+        return permit;
+    }
+
+    /**
+     * Returns a permit obtained through {@link #acquire()}, recording whether the request succeeded.
+     * @param isSuccessful false if the host timed out, refused the connection or asked us to back off.
+     */
+    public void release(boolean isSuccessful) {
+        List<CompletableFuture<Void>> admitted;
+        List<CompletableFuture<Void>> rejected = new ArrayList<>();
+        synchronized (this) {
+            inFlight = Math.max(0, inFlight - 1);
+            if (isSuccessful) {
+                consecutiveFailures = 0;
+                circuitState = CircuitState.CLOSED;
+            } else {
+                consecutiveFailures++;
+                if (circuitState == CircuitState.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+                    circuitState = CircuitState.OPEN;
+                    openUntilNanos = nanoClock.getAsLong() + coolDownNanos;
+                    rejected.addAll(waiting);
+                    totalRejected += waiting.size();
+                    waiting.clear();
+                }
+            }
+            admitted = admitWaiting();
+        }
+        long coolDownRemainingMillis = getCoolDownRemainingMillis();
+        rejected.forEach(future -> future.completeExceptionally(
+                new HostUnavailableException(host, coolDownRemainingMillis)));
+        admitted.forEach(future -> future.complete(null));
+    }
+
+    /**
+     * Admits as many waiting requests as the concurrency limit, token bucket and circuit breaker allow,
+     * scheduling another attempt if requests are still waiting only for tokens.
+     * The returned futures must be completed outside of the lock, as completing them sends the requests.
+     */
+    private List<CompletableFuture<Void>> admitWaiting() {
+        assert Thread.holdsLock(this);
+        refillTokens();
+        List<CompletableFuture<Void>> admitted = new ArrayList<>();
+        while (!waiting.isEmpty() && inFlight < getConcurrencyLimit() && tokens >= 1) {
+            tokens -= 1;
+            inFlight++;
+            totalRequests++;
+            admitted.add(waiting.poll());
+        }
+        if (!waiting.isEmpty() && inFlight < getConcurrencyLimit() && !isDrainScheduled) {
+            long nanosUntilNextToken = (long) Math.ceil((1 - tokens) / permitsPerSecond * NANOS_PER_SECOND);
+            isDrainScheduled = true;
+            scheduler.schedule(this::scheduledDrain, Math.max(1, nanosUntilNextToken), TimeUnit.NANOSECONDS);
+        }
+        return admitted;
+    }
+
+    /**
+     * Admits waiting requests once the token bucket has had time to refill.
+     */
+    private void scheduledDrain() {
+        List<CompletableFuture<Void>> admitted;
+        synchronized (this) {
+            isDrainScheduled = false;
+            admitted = admitWaiting();
+        }
+        admitted.forEach(future -> future.complete(null));
+    }
+
+    /**
+     * A half-open circuit only lets a single trial request through.
+     */
+    private int getConcurrencyLimit() {
+        return circuitState == CircuitState.HALF_OPEN ? 1 : maxConcurrentRequests;
+    }
+
+    private void refillTokens() {
+        long now = nanoClock.getAsLong();
+        tokens = Math.min(burstSize, tokens + (now - lastRefillNanos) * permitsPerSecond / NANOS_PER_SECOND);
+        lastRefillNanos = now;
+    }
+
+    private void updateCircuitState() {
+        if (circuitState == CircuitState.OPEN && nanoClock.getAsLong() >= openUntilNanos) {
+            circuitState = CircuitState.HALF_OPEN;
+        }
+    }
+
+    private synchronized long getCoolDownRemainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(openUntilNanos - nanoClock.getAsLong()));
+    }
+
+    public synchronized CircuitState getCircuitState() {
+        updateCircuitState();
+        return circuitState;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueued() {
+        return waiting.size();
+    }
+
+    /**
+     * Returns a one-line human readable summary of the limiter state.
+     */
+    public synchronized String getStatus() {
+        updateCircuitState();
+        refillTokens();
+        String status = String.format("%s: %d/%d in flight, %d queued, %.1f/%d tokens, %d sent, %d rejected, "
+                        + "circuit %s (%d consecutive failures)",
+                host, inFlight, maxConcurrentRequests, waiting.size(), tokens, burstSize, totalRequests,
+                totalRejected, circuitState, consecutiveFailures);
+        if (circuitState == CircuitState.OPEN) {
+            status += String.format(", cooling down for %ds", Math.max(1, getCoolDownRemainingMillis() / 1000));
+        }
+        return status;
+    }
+
+    @Override
+    public String toString() {
+        return getStatus();
+    }
+}
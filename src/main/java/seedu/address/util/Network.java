@@ -1,19 +1,34 @@
 package seedu.address.util;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import org.asynchttpclient.AsyncHttpClient;
 import org.asynchttpclient.Dsl;
-import org.asynchttpclient.Response;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Counter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.util.exceptions.ReplayMismatchException;
 
 /**
  * Manager of Network component
@@ -32,16 +47,126 @@ public abstract class Network {
         .setReadTimeout(READ_TIMEOUT_MILLIS)
         .setRequestTimeout(REQUEST_TIMEOUT_MILLIS));
 
+    private static final int MAX_CONCURRENT_REQUESTS_PER_HOST = 4;
+    private static final double REQUESTS_PER_SECOND_PER_HOST = 5;
+    private static final int REQUEST_BURST_PER_HOST = 10;
+    private static final int FAILURES_BEFORE_COOL_DOWN = 3;
+    private static final long COOL_DOWN_MILLIS = 1000 * 60; // 60 seconds
+
+    private static final ConcurrentMap<String, HostThrottle> hostThrottles = new ConcurrentHashMap<>();
+    private static final ScheduledExecutorService throttleScheduler =
+        Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Network host throttle");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+    private static final Timer requestTimer = MetricsCenter.getTimer("network.request");
+    private static final Timer throttleWaitTimer = MetricsCenter.getTimer("network.throttleWait");
+    private static final Counter failedRequestCounter = MetricsCenter.getCounter("network.failedRequests");
+
+    private static volatile NetworkMode mode = NetworkMode.LIVE;
+    private static volatile NetworkArchive archive = null;
+
+    /**
+     * Sets how requests are answered. In record and replay mode, responses are saved to or read from
+     * {@code archive}, which is ignored in live mode.
+     */
+    public static synchronized void setMode(NetworkMode mode, NetworkArchive archive) {
+        if (mode != NetworkMode.LIVE) {
+            requireNonNull(archive);
+        }
+        Network.archive = archive;
+        Network.mode = mode;
+        logger.info("Network mode: " + getModeStatus());
+    }
+
+    /**
+     * Returns a one-line summary of how requests are answered,
+     * including the requests which could not be replayed in replay mode.
+     */
+    public static synchronized String getModeStatus() {
+        switch (mode) {
+        case RECORD:
+            return "recording responses to " + archive.getDirectory();
+        case REPLAY:
+            List<String> mismatches = archive.getMismatches();
+            return "replaying responses from " + archive.getDirectory()
+                + (mismatches.isEmpty() ? "" : ", no recording for " + String.join(", ", mismatches));
+        default:
+            return "live";
+        }
+    }
+
+    /**
+     * Returns the throttle shared by all requests to the host of url.
+     */
+    private static HostThrottle getHostThrottle(URL url) {
+        String host = url.getHost().toLowerCase(Locale.ROOT);
+        return hostThrottles.computeIfAbsent(host, h -> new HostThrottle(h, MAX_CONCURRENT_REQUESTS_PER_HOST,
+            REQUESTS_PER_SECOND_PER_HOST, REQUEST_BURST_PER_HOST, FAILURES_BEFORE_COOL_DOWN, COOL_DOWN_MILLIS,
+            throttleScheduler));
+    }
+
+    /**
+     * Forgets the request limiters of every host, closing their circuit breakers, so that failures seen by one test
+     * do not make requests of later tests fail fast. Requests in flight keep the limiters they were admitted by.
+     */
+    static void resetHostThrottles() {
+        hostThrottles.clear();
+    }
+
+    /**
+     * Returns whether the outcome of a request means the host is struggling,
+     * i.e. it could not be reached in time or explicitly asked us to back off.
+     */
+    private static boolean isHostFailure(NetworkResponse response, Throwable error) {
+        if (error != null) {
+            Throwable cause = error instanceof CompletionException && error.getCause() != null
+                ? error.getCause()
+                : error;
+            return cause instanceof IOException || cause instanceof TimeoutException;
+        }
+        return response.getStatusCode() == 429 || response.getStatusCode() == 503;
+    }
+
+    /**
+     * Returns a one-line summary of the request limiter of every host contacted so far, sorted by host.
+     */
+    public static List<String> getHostStatuses() {
+        return hostThrottles.values().stream()
+            .sorted((first, second) -> first.getHost().compareTo(second.getHost()))
+            .map(HostThrottle::getStatus)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Fetches the resource (i.e. webpage) at url asynchronously, following redirects,
+     * returning it as a NetworkResponse with its status code and headers, so that error pages can be told apart.
+     * Resources which are not fetched over HTTP, e.g. files, are returned with status 200 and no headers.
+     */
+    public static CompletableFuture<NetworkResponse> fetchAsResponseAsync(URL url) {
+        if (!url.getProtocol().equals("http")
+            && !url.getProtocol().equals("https")) {
+            try (InputStream stream = url.openStream()) {
+                return CompletableFuture.completedFuture(
+                    new NetworkResponse(200, Collections.emptyMap(), stream.readAllBytes()));
+            } catch (IOException ioe) {
+                return CompletableFuture.failedFuture(ioe);
+            }
+        }
+        return fetchAsResponseAsync(url, DEFAULT_NUM_REDIRECTS);
+    }
+
     /**
      * Fetches the resource (i.e. webpage) at url asynchronously,
      * redirecting at most maxRedirect times,
-     * returning it as a Response
+     * returning it as a NetworkResponse.
      */
-    private static CompletableFuture<Response> fetchAsResponseAsync(URL url, int maxRedirects) {
-        logger.info("Initiating network response to fetch: " + url + " with at most " + maxRedirects + " redirects");
-        return asyncHttpClient.prepareGet(url.toString())
-            .execute()
-            .toCompletableFuture()
+    private static CompletableFuture<NetworkResponse> fetchAsResponseAsync(URL url, int maxRedirects) {
+        logger.fine(() -> "Initiating network response to fetch: " + url + " with at most " + maxRedirects
+            + " redirects");
+        return sendRequest(url)
             .thenCompose(response -> {
                 if (maxRedirects > 0) {
                     switch (response.getStatusCode()) {
@@ -51,9 +176,12 @@ public abstract class Network {
                     case 307:
                     case 308:
                         // HTTP Redirect
+                        if (!response.getHeader("Location").isPresent()) {
+                            break;
+                        }
                         try {
-                            URL newUrl = new URL(url, response.getHeader("Location"));
-                            logger.info("While fetching " + url + ", we got redirected to " + newUrl);
+                            URL newUrl = new URL(url, response.getHeader("Location").get());
+                            logger.fine(() -> "While fetching " + url + ", we got redirected to " + newUrl);
                             return fetchAsResponseAsync(newUrl, maxRedirects - 1);
                         } catch (MalformedURLException mue) {
                             // If the redirect was invalid, just give up
@@ -63,11 +191,71 @@ public abstract class Network {
                         break;
                     }
                 }
-                logger.info("Successfully fetched " + url);
+                logger.fine(() -> "Successfully fetched " + url);
                 return CompletableFuture.completedFuture(response);
             });
     }
 
+    /**
+     * Sends a single request to the url, or replays the response recorded for it in replay mode.
+     * Requests are subject to the per-host limits, and fail fast with a HostUnavailableException
+     * while the host is cooling down after repeated failures.
+     * Replayed requests are not limited, as they do not use the network.
+     */
+    private static CompletableFuture<NetworkResponse> sendRequest(URL url) {
+        NetworkArchive currentArchive = archive;
+        if (mode == NetworkMode.REPLAY) {
+            return currentArchive.replay(url)
+                .map(CompletableFuture::completedFuture)
+                .orElseGet(() -> {
+                    logger.warning("No recorded response to replay for " + url);
+                    return CompletableFuture.failedFuture(new ReplayMismatchException(url));
+                });
+        }
+
+        HostThrottle hostThrottle = getHostThrottle(url);
+        Timer.Context throttleWait = throttleWaitTimer.time();
+        CompletableFuture<NetworkResponse> request = hostThrottle.acquire()
+            .whenComplete((unused, error) -> throttleWait.close())
+            .thenCompose(unused -> executeRequest(url)
+                .whenComplete((response, error) -> hostThrottle.release(!isHostFailure(response, error))));
+        if (mode == NetworkMode.RECORD) {
+            return request.thenApply(response -> {
+                recordResponse(currentArchive, url, response);
+                return response;
+            });
+        }
+        return request;
+    }
+
+    /**
+     * Saves the response to a request in the archive, logging rather than failing the request if it cannot be saved.
+     */
+    private static void recordResponse(NetworkArchive archive, URL url, NetworkResponse response) {
+        try {
+            archive.record(url, response);
+        } catch (IOException ioe) {
+            logger.warning("Could not record the response to " + url + ": " + ioe);
+        }
+    }
+
+    /**
+     * Sends a single GET request to the url, recording how long it takes.
+     */
+    private static CompletableFuture<NetworkResponse> executeRequest(URL url) {
+        Timer.Context request = requestTimer.time();
+        return asyncHttpClient.prepareGet(url.toString())
+            .execute()
+            .toCompletableFuture()
+            .whenComplete((response, error) -> {
+                request.close();
+                if (error != null) {
+                    failedRequestCounter.increment();
+                }
+            })
+            .thenApply(NetworkResponse::from);
+    }
+
     /**
      * Fetches the resource (i.e. webpage) at url asynchronously, returning it as an InputStream.
      */
@@ -81,7 +269,7 @@ public abstract class Network {
                 return CompletableFuture.failedFuture(ioe);
             }
         }
-        return fetchAsResponseAsync(url, maxRedirects).thenApply(Response::getResponseBodyAsStream);
+        return fetchAsResponseAsync(url, maxRedirects).thenApply(NetworkResponse::getBodyAsStream);
     }
 
     /**
@@ -195,6 +383,7 @@ public abstract class Network {
 
     /** Cleans up by closing the AsyncHttpClient. */
     public static void stop() throws IOException {
+        throttleScheduler.shutdownNow();
         asyncHttpClient.close();
     }
 }
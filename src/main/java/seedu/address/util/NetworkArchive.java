@@ -0,0 +1,133 @@
+package seedu.address.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Saves the responses to requests in a directory, so that they can be replayed later without using the network.
+ *
+ * Every response is saved in a file of its own, named after the url requested and the number of earlier requests
+ * to the url in the same session. The responses to repeated requests, e.g. of a feed refreshed several times,
+ * are thus replayed in the order they were recorded. A url requested more times than it was recorded
+ * is answered with its last recorded response.
+ *
+ * All methods are thread-safe.
+ */
+public class NetworkArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(NetworkArchive.class);
+
+    private final Path directory;
+    private final Map<String, Integer> requestCounts = new HashMap<>();
+    private final Set<String> mismatches = new LinkedHashSet<>();
+
+    public NetworkArchive(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Saves the response to a request for {@code url}.
+     * The first response recorded for a url in a session replaces those recorded for it in earlier sessions.
+     */
+    public synchronized void record(URL url, NetworkResponse response) throws IOException {
+        requireNonNull(url);
+        requireNonNull(response);
+        int index = nextIndex(url);
+        if (index == 0) {
+            deleteRecordings(url);
+        }
+        FileUtil.createDirectory(directory);
+        JsonUtil.saveJsonFile(new Recording(url.toString(), response), getRecordingPath(url, index));
+    }
+
+    /**
+     * Returns the recorded response to the next request for {@code url},
+     * or an empty {@code Optional} if none was recorded, in which case the url is reported as a mismatch.
+     */
+    public synchronized Optional<NetworkResponse> replay(URL url) {
+        requireNonNull(url);
+        int index = nextIndex(url);
+        for (int i = index; i >= 0; i--) {
+            Path recordingPath = getRecordingPath(url, i);
+            if (!Files.exists(recordingPath)) {
+                continue;
+            }
+            try {
+                return JsonUtil.readJsonFile(recordingPath, Recording.class).map(recording -> recording.response);
+            } catch (DataConversionException dce) {
+                logger.warning("Recorded response to " + url + " could not be read: " + dce);
+                break;
+            }
+        }
+        mismatches.add(url.toString());
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the urls requested in this session for which no response had been recorded, in the order requested.
+     */
+    public synchronized List<String> getMismatches() {
+        return new ArrayList<>(mismatches);
+    }
+
+    /**
+     * Returns the number of earlier requests for {@code url} in this session, counting this one.
+     */
+    private int nextIndex(URL url) {
+        return requestCounts.merge(url.toString(), 1, Integer::sum) - 1;
+    }
+
+    /**
+     * Deletes every recorded response to {@code url}.
+     */
+    private void deleteRecordings(URL url) throws IOException {
+        for (int i = 0; Files.exists(getRecordingPath(url, i)); i++) {
+            FileUtil.deleteFile(getRecordingPath(url, i));
+        }
+    }
+
+    private Path getRecordingPath(URL url, int index) {
+        return directory.resolve(DigestUtils.sha256Hex(url.toString()) + "-" + index + ".json");
+    }
+
+    /**
+     * A recorded response, saved together with its url so that recordings can be told apart when browsing them.
+     */
+    private static class Recording {
+        private final String url;
+        private final NetworkResponse response;
+
+        @JsonCreator
+        Recording(@JsonProperty("url") String url, @JsonProperty("response") NetworkResponse response) {
+            this.url = url;
+            this.response = response;
+        }
+    }
+}
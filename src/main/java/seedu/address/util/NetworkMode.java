@@ -0,0 +1,13 @@
+package seedu.address.util;
+
+/**
+ * How {@code Network} answers requests.
+ */
+public enum NetworkMode {
+    /** Requests are sent to the network. */
+    LIVE,
+    /** Requests are sent to the network, and their responses are saved in a {@code NetworkArchive}. */
+    RECORD,
+    /** Requests are answered with the responses saved in a {@code NetworkArchive}, without using the network. */
+    REPLAY
+}
@@ -0,0 +1,134 @@
+package seedu.address.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.IllegalCharsetNameException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.asynchttpclient.Response;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A response to an HTTP request, with its body read in full, so that it can be recorded and replayed.
+ * Guarantees: immutable
+ */
+public class NetworkResponse {
+
+    private static final Pattern CHARSET_PARAMETER = Pattern.compile("(?i)charset\\s*=\\s*\"?([^\\s;\"]+)");
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final byte[] body;
+
+    /**
+     * Constructs a {@code NetworkResponse} with the given status code, headers and body.
+     */
+    @JsonCreator
+    public NetworkResponse(@JsonProperty("statusCode") int statusCode,
+                           @JsonProperty("headers") Map<String, List<String>> headers,
+                           @JsonProperty("body") byte[] body) {
+        requireNonNull(headers);
+        requireNonNull(body);
+        this.statusCode = statusCode;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body.clone();
+    }
+
+    /**
+     * Returns a {@code NetworkResponse} with the status code, headers and body of {@code response}.
+     */
+    public static NetworkResponse from(Response response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, String> header : response.getHeaders()) {
+            headers.computeIfAbsent(header.getKey(), name -> new ArrayList<>()).add(header.getValue());
+        }
+        return new NetworkResponse(response.getStatusCode(), headers, response.getResponseBodyAsBytes());
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * Returns true if the status code is 2xx, i.e. the body is the resource asked for rather than an error page.
+     */
+    public boolean isSuccessful() {
+        return statusCode >= 200 && statusCode < 300;
+    }
+
+    /**
+     * Returns the name of the charset of the body given by the Content-Type header, if it names a supported one.
+     */
+    public Optional<String> getCharset() {
+        return getHeader("Content-Type")
+                .map(CHARSET_PARAMETER::matcher)
+                .filter(Matcher::find)
+                .map(matcher -> matcher.group(1))
+                .filter(NetworkResponse::isSupportedCharset);
+    }
+
+    /**
+     * Returns true if {@code charsetName} names a charset which can be decoded.
+     */
+    private static boolean isSupportedCharset(String charsetName) {
+        try {
+            return Charset.isSupported(charsetName);
+        } catch (IllegalCharsetNameException icne) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns the first value of the header with the given name, ignoring case.
+     */
+    public Optional<String> getHeader(String name) {
+        return headers.entrySet().stream()
+                .filter(header -> header.getKey().equalsIgnoreCase(name) && !header.getValue().isEmpty())
+                .map(header -> header.getValue().get(0))
+                .findFirst();
+    }
+
+    public Map<String, List<String>> getHeaders() {
+        return headers;
+    }
+
+    public byte[] getBody() {
+        return body.clone();
+    }
+
+    public InputStream getBodyAsStream() {
+        return new ByteArrayInputStream(body);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NetworkResponse // instanceof handles nulls
+                && statusCode == ((NetworkResponse) other).statusCode
+                && headers.equals(((NetworkResponse) other).headers)
+                && Arrays.equals(body, ((NetworkResponse) other).body));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * statusCode + headers.hashCode()) + Arrays.hashCode(body);
+    }
+
+    @Override
+    public String toString() {
+        return "HTTP " + statusCode + ", " + body.length + " bytes";
+    }
+}
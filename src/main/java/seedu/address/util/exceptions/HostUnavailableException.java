@@ -0,0 +1,14 @@
+package seedu.address.util.exceptions;
+
+import java.io.IOException;
+
+/**
+ * Signals that a request was rejected without contacting the host, because the host has failed
+ * too many times recently and is cooling down.
+ */
+public class HostUnavailableException extends IOException {
+    public HostUnavailableException(String host, long coolDownRemainingMillis) {
+        super("Host " + host + " is temporarily unavailable after repeated failures, retry in "
+                + Math.max(1, coolDownRemainingMillis / 1000) + " seconds");
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.util.exceptions;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Signals that a host answered a request with an error status, e.g. 404 Not Found,
+ * so that the body of the response is an error page rather than the resource asked for.
+ */
+public class HttpStatusException extends IOException {
+    private final int statusCode;
+
+    public HttpStatusException(URL url, int statusCode) {
+        super("Request for " + url + " failed with HTTP status " + statusCode);
+        this.statusCode = statusCode;
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+}
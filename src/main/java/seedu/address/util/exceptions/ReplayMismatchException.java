@@ -0,0 +1,13 @@
+package seedu.address.util.exceptions;
+
+import java.io.IOException;
+import java.net.URL;
+
+/**
+ * Signals that a request could not be replayed, as no response to it had been recorded.
+ */
+public class ReplayMismatchException extends IOException {
+    public ReplayMismatchException(URL url) {
+        super("No recorded response to replay for " + url);
+    }
+}
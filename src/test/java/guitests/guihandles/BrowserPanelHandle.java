@@ -9,6 +9,7 @@ import javafx.concurrent.Worker;
 import javafx.scene.Node;
 import javafx.scene.web.WebEngine;
 import javafx.scene.web.WebView;
+import seedu.address.commons.util.UrlUtil;
 
 /**
  * A handler for the {@code BrowserPanel} of the UI.
@@ -66,6 +67,13 @@ public class BrowserPanelHandle extends NodeHandle<Node> {
         return isWebViewLoaded;
     }
 
+    /**
+     * Returns true if the browser is done loading content which is not at any {@code URL}, such as a reader view.
+     */
+    public boolean isContentLoaded() {
+        return isWebViewLoaded && !UrlUtil.fromString(engine.getLocation()).isPresent();
+    }
+
     /**
      * Returns the Document object for the current web page.
      */
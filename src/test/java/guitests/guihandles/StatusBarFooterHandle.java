@@ -12,10 +12,12 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
     private static final String SYNC_STATUS_ID = "#syncStatus";
     private static final String SAVE_LOCATION_STATUS_ID = "#saveLocationStatus";
     private static final String CONTEXT_ENTRY_COUNT_STATUS_ID = "#contextEntryCountStatus";
+    private static final String DOWNLOAD_STATUS_ID = "#downloadStatus";
 
     private final Labeled syncStatusNode;
     private final Labeled saveLocationNode;
     private final Labeled contextEntryCountNode;
+    private final Labeled downloadStatusNode;
 
     private String lastRememberedSyncStatus;
     private String lastRememberedSaveLocation;
@@ -26,6 +28,7 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         syncStatusNode = getChildNode(SYNC_STATUS_ID);
         saveLocationNode = getChildNode(SAVE_LOCATION_STATUS_ID);
         contextEntryCountNode = getChildNode(CONTEXT_ENTRY_COUNT_STATUS_ID);
+        downloadStatusNode = getChildNode(DOWNLOAD_STATUS_ID);
     }
 
     /**
@@ -49,6 +52,13 @@ public class StatusBarFooterHandle extends NodeHandle<Node> {
         return contextEntryCountNode.getText();
     }
 
+    /**
+     * Returns the text of the background download status of the status bar.
+     */
+    public String getDownloadStatus() {
+        return downloadStatusNode.getText();
+    }
+
     /**
      * Remembers the content of the sync status portion of the status bar.
      */
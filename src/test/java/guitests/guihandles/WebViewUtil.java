@@ -28,4 +28,12 @@ public class WebViewUtil {
     public static void waitUntilBrowserLoaded(BrowserPanelHandle browserPanelHandle) {
         new GuiRobot().waitForEvent(browserPanelHandle::isLoaded);
     }
+
+    /**
+     * Sleeps the thread till the {@code browserPanelHandle}'s {@code WebView} has loaded content not at any URL,
+     * such as a reader view generated in the background.
+     */
+    public static void waitUntilBrowserContentLoaded(BrowserPanelHandle browserPanelHandle) {
+        new GuiRobot().waitForEvent(browserPanelHandle::isContentLoaded);
+    }
 }
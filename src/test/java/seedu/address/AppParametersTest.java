@@ -11,6 +11,7 @@ import java.util.Map;
 import org.junit.Test;
 
 import javafx.application.Application;
+import seedu.address.util.NetworkMode;
 
 public class AppParametersTest {
 
@@ -37,6 +38,27 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_validNetworkMode_success() {
+        parametersStub.namedParameters.put("network", "Replay");
+        parametersStub.namedParameters.put("network-archive", "recordings");
+        expected.setNetworkMode(NetworkMode.REPLAY);
+        expected.setNetworkArchivePath(Paths.get("recordings"));
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidNetworkMode_live() {
+        parametersStub.namedParameters.put("network", "offline");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
+    @Test
+    public void parse_invalidNetworkArchivePath_defaultPath() {
+        parametersStub.namedParameters.put("network-archive", "a\0");
+        assertEquals(expected, AppParameters.parse(parametersStub));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
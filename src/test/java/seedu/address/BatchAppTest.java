@@ -0,0 +1,59 @@
+package seedu.address;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+
+import org.junit.Test;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.mocks.ModelManagerStub;
+
+public class BatchAppTest {
+
+    private final Logic logic = new LogicManager(new ModelManagerStub());
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+    @Test
+    public void runCommands_commandsTimedAndFailuresCounted() throws IOException {
+        String script = "# comment\n"
+                + ListCommand.COMMAND_WORD + "\n"
+                + "\n"
+                + "invalidcommand\n";
+
+        assertEquals(1, run(script, false));
+
+        String[] lines = output.toString().split(System.lineSeparator());
+        assertTrue(lines[0].endsWith(BatchApp.STATUS_SUCCESS + "     " + ListCommand.COMMAND_WORD));
+        assertTrue(lines[1].startsWith("    "));
+        assertTrue(output.toString().contains(BatchApp.STATUS_FAILURE + " invalidcommand"));
+        assertTrue(lines[lines.length - 1].startsWith(String.format(BatchApp.MESSAGE_SUMMARY, 2, 1, "2 calls")));
+    }
+
+    @Test
+    public void runCommands_quiet_onlyTimingsPrinted() throws IOException {
+        assertEquals(0, run(ListCommand.COMMAND_WORD + "\n" + HistoryCommand.COMMAND_WORD, true));
+        assertEquals(3, output.toString().split(System.lineSeparator()).length);
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() throws IOException {
+        run(ExitCommand.COMMAND_WORD + "\n" + ListCommand.COMMAND_WORD, true);
+        assertFalse(output.toString().contains(ListCommand.COMMAND_WORD));
+    }
+
+    private int run(String script, boolean isQuiet) throws IOException {
+        return BatchApp.runCommands(logic, new BufferedReader(new StringReader(script)),
+                new PrintStream(output, true), isQuiet);
+    }
+}
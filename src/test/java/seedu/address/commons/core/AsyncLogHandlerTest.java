@@ -0,0 +1,147 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release();
+        handler.close();
+    }
+
+    @Test
+    public void publish_recordsWrittenInOrder() {
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.DROP_OLDEST, target);
+        target.release();
+        handler.publish(record(Level.INFO, "first"));
+        handler.publish(record(Level.INFO, "second"));
+        handler.flush();
+
+        assertEquals(List.of("first", "second"), target.getMessages());
+    }
+
+    @Test
+    public void publish_targetSlow_doesNotBlockCaller() throws Exception {
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.DROP_OLDEST, target);
+        handler.publish(record(Level.INFO, "blocks the target"));
+        assertTrue(target.awaitPublishing());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < 100; i++) {
+            handler.publish(record(Level.INFO, "record " + i));
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    public void publish_bufferFullDropOldest_keepsNewestAndReportsDropped() throws Exception {
+        handler = new AsyncLogHandler(2, AsyncLogHandler.OverflowPolicy.DROP_OLDEST, target);
+        handler.publish(record(Level.INFO, "blocks the target"));
+        assertTrue(target.awaitPublishing());
+
+        handler.publish(record(Level.INFO, "dropped"));
+        handler.publish(record(Level.INFO, "kept 1"));
+        handler.publish(record(Level.INFO, "kept 2"));
+        assertEquals(1, handler.getDroppedCount());
+
+        target.release();
+        handler.flush();
+        List<String> messages = target.getMessages();
+        assertTrue(messages.contains("kept 1"));
+        assertTrue(messages.contains("kept 2"));
+        assertTrue(!messages.contains("dropped"));
+        assertTrue(messages.stream().anyMatch(message -> message.startsWith("1 log records were dropped")));
+    }
+
+    @Test
+    public void publish_bufferFullDropNewest_dropsNewRecord() throws Exception {
+        handler = new AsyncLogHandler(1, AsyncLogHandler.OverflowPolicy.DROP_NEWEST, target);
+        handler.publish(record(Level.INFO, "blocks the target"));
+        assertTrue(target.awaitPublishing());
+
+        handler.publish(record(Level.INFO, "kept"));
+        handler.publish(record(Level.INFO, "dropped"));
+
+        target.release();
+        handler.flush();
+        assertTrue(target.getMessages().contains("kept"));
+        assertTrue(!target.getMessages().contains("dropped"));
+    }
+
+    @Test
+    public void publish_belowLevel_ignored() {
+        handler = new AsyncLogHandler(16, AsyncLogHandler.OverflowPolicy.DROP_OLDEST, target);
+        handler.setLevel(Level.INFO);
+        target.release();
+        handler.publish(record(Level.FINE, "ignored"));
+        handler.flush();
+
+        assertTrue(target.getMessages().isEmpty());
+    }
+
+    private static LogRecord record(Level level, String message) {
+        return new LogRecord(level, message);
+    }
+
+    /**
+     * A handler which remembers the records published to it,
+     * and blocks while publishing until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new ArrayList<>();
+        private final CountDownLatch publishing = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        @Override
+        public void publish(LogRecord record) {
+            publishing.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (records) {
+                records.add(record);
+            }
+        }
+
+        boolean awaitPublishing() throws InterruptedException {
+            return publishing.await(1, TimeUnit.SECONDS);
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (records) {
+                return records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -15,7 +15,10 @@ public class ConfigTest {
     @Test
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Metrics file Location : metrics.txt\n"
+                + "Metrics written every : 0s\n"
+                + "Undo history limit : 64MB";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,38 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.util.FileUtil;
+
+public class MetricsCenterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getSummary_usedMetrics_listed() {
+        MetricsCenter.getTimer("MetricsCenterTest.timer").record(1, TimeUnit.MILLISECONDS);
+        MetricsCenter.getCounter("MetricsCenterTest.counter").increment();
+        MetricsCenter.getCounter("MetricsCenterTest.unusedCounter");
+
+        assertTrue(MetricsCenter.getSummary().stream().anyMatch(line -> line.startsWith("MetricsCenterTest.timer: ")));
+        assertTrue(MetricsCenter.getSummary().contains("MetricsCenterTest.counter: 1"));
+        assertTrue(MetricsCenter.getSummary().stream().noneMatch(line -> line.startsWith("MetricsCenterTest.unused")));
+    }
+
+    @Test
+    public void dump_writesSummaryToFile() throws Exception {
+        MetricsCenter.getCounter("MetricsCenterTest.dumpedCounter").increment();
+        Path dumpFile = testFolder.getRoot().toPath().resolve("metrics").resolve("metrics.txt");
+
+        MetricsCenter.dump(dumpFile);
+        assertTrue(FileUtil.readFromFile(dumpFile).contains("MetricsCenterTest.dumpedCounter: 1"));
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    private final Histogram histogram = new Histogram();
+
+    @Test
+    public void getValueAtPercentile_nothingRecorded_returnsZero() {
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinPrecision() {
+        for (long value = 1000; value <= 100_000; value += 1000) {
+            histogram.record(value);
+        }
+        assertWithinPrecision(50_000, histogram.getValueAtPercentile(50));
+        assertWithinPrecision(99_000, histogram.getValueAtPercentile(99));
+        assertEquals(100_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getBucketIndex_bucketsContainTheirValues() {
+        for (long value : new long[] {0, 31, 32, 33, 63, 64, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int index = Histogram.getBucketIndex(value);
+            assertTrue(value <= Histogram.getHighestValueInBucket(index));
+            assertTrue(index == 0 || value > Histogram.getHighestValueInBucket(index - 1));
+        }
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertTrue("expected about " + expected + " but got " + actual,
+                Math.abs(actual - expected) <= expected / 16);
+    }
+}
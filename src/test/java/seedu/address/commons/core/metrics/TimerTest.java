@@ -0,0 +1,65 @@
+package seedu.address.commons.core.metrics;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TimerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private long now = 0;
+    private final Timer timer = new Timer(() -> now);
+
+    @Test
+    public void time_recordsElapsedTimeOnce() {
+        Timer.Context context = timer.time();
+        now += TimeUnit.MILLISECONDS.toNanos(3);
+        context.close();
+        now += TimeUnit.MILLISECONDS.toNanos(3);
+        context.close();
+
+        assertEquals(1, timer.getCount());
+        assertEquals(3, timer.getMaxMillis(), 0);
+    }
+
+    @Test
+    public void time_operationReturns_recordsElapsedTime() {
+        int result = timer.time(() -> {
+            now += TimeUnit.MILLISECONDS.toNanos(3);
+            return 1;
+        });
+
+        assertEquals(1, result);
+        assertEquals(1, timer.getCount());
+        assertEquals(3, timer.getMaxMillis(), 0);
+    }
+
+    @Test
+    public void time_actionThrows_recordsElapsedTime() throws IOException {
+        thrown.expect(IOException.class);
+        try {
+            timer.time(() -> {
+                now += TimeUnit.MILLISECONDS.toNanos(3);
+                throw new IOException();
+            });
+        } finally {
+            assertEquals(1, timer.getCount());
+            assertEquals(3, timer.getMaxMillis(), 0);
+        }
+    }
+
+    @Test
+    public void toString_showsPercentiles() {
+        timer.record(2, TimeUnit.MILLISECONDS);
+        timer.record(2, TimeUnit.MILLISECONDS);
+        assertEquals(2, timer.getMillisAtPercentile(50), 0.2);
+        assertEquals("2 calls, p50 2.0 ms, p99 2.0 ms, max 2.0 ms", timer.toString());
+    }
+}
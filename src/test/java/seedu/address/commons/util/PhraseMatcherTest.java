@@ -0,0 +1,99 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PhraseMatcherTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_nullPhrase_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new PhraseMatcher(null);
+    }
+
+    @Test
+    public void constructor_blankPhrase_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Phrase parameter cannot be empty");
+        new PhraseMatcher("  ");
+    }
+
+    @Test
+    public void isContainedIn_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new PhraseMatcher("abc").isContainedIn(null);
+    }
+
+    @Test
+    public void isContainedIn() {
+        // EP: phrase shorter than sentence
+        assertFalse(new PhraseMatcher("abcd").isContainedIn("abc"));
+        assertFalse(new PhraseMatcher("abc").isContainedIn(""));
+
+        // EP: phrase not in sentence
+        assertFalse(new PhraseMatcher("b def").isContainedIn("ABc def"));
+        assertFalse(new PhraseMatcher("aab").isContainedIn("abababab"));
+
+        // EP: phrase at start, middle or end of sentence, ignoring case
+        assertTrue(new PhraseMatcher("abc").isContainedIn("ABc def"));
+        assertTrue(new PhraseMatcher("bc d").isContainedIn("ABc def"));
+        assertTrue(new PhraseMatcher("dEf hij").isContainedIn("ABc def hij"));
+        assertTrue(new PhraseMatcher("ABC DEF").isContainedIn("abc def"));
+
+        // EP: phrase is whole sentence
+        assertTrue(new PhraseMatcher("abc").isContainedIn("aBC"));
+
+        // EP: repeated characters, which need short shifts
+        assertTrue(new PhraseMatcher("abab").isContainedIn("aabaabab"));
+        assertTrue(new PhraseMatcher("aaa").isContainedIn("aabaaa"));
+
+        // EP: phrase with leading and trailing whitespace is trimmed
+        assertTrue(new PhraseMatcher("  def  ").isContainedIn("abc def"));
+
+        // EP: non-ASCII characters, including characters which share shift table entries
+        assertTrue(new PhraseMatcher("ÉTÉ").isContainedIn("un été chaud"));
+        assertTrue(new PhraseMatcher("ΣΟΦΙΑ").isContainedIn("η σοφια"));
+        assertFalse(new PhraseMatcher("ša").isContainedIn("aašb"));
+        assertTrue(new PhraseMatcher("ša").isContainedIn("aaša"));
+    }
+
+    @Test
+    public void isContainedIn_sameAsRegionMatches() {
+        String sentence = "The Quick brown fox jumps over the lazy dog, the QUICK Brown Fox";
+        String[] phrases = {"quick brown", "fox", "the", "lazy cat", "g, t", "DOG", "x", "own fox", "brown fox jumps"};
+        for (String phrase : phrases) {
+            boolean expected = false;
+            for (int i = 0; i + phrase.length() <= sentence.length(); i++) {
+                expected |= sentence.regionMatches(true, i, phrase, 0, phrase.length());
+            }
+            assertEquals(phrase, expected, new PhraseMatcher(phrase).isContainedIn(sentence));
+        }
+    }
+
+    @Test
+    public void equals() {
+        PhraseMatcher matcher = new PhraseMatcher("abc");
+
+        // same values -> returns true
+        assertEquals(matcher, new PhraseMatcher(" abc "));
+        assertEquals(matcher.hashCode(), new PhraseMatcher(" abc ").hashCode());
+
+        // same object -> returns true
+        assertEquals(matcher, matcher);
+
+        // null -> returns false
+        assertNotEquals(matcher, null);
+
+        // different phrase -> returns false
+        assertNotEquals(matcher, new PhraseMatcher("abd"));
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Element;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Counter;
+
+public class ReadabilityUtilTest {
+    private static final String BASE_URL = "https://www.example.com/articles/";
+    private static final String PARAGRAPH = "<p>Readability finds the main content of a page by scoring its "
+            + "paragraphs, favouring long runs of text with commas, and discarding navigation and footers.</p>";
+    private static final String HTML = "<html><head><title>Extracted title</title></head><body>"
+            + "<nav><a href=\"/\">Home</a></nav><article><img src=\"image.png\">"
+            + String.join("", Collections.nCopies(10, PARAGRAPH))
+            + "</article></body></html>";
+
+    private final Counter cacheHitCounter = MetricsCenter.getCounter("readability.cacheHits");
+    private final Counter cacheMissCounter = MetricsCenter.getCounter("readability.cacheMisses");
+
+    @Before
+    public void setUp() {
+        ReadabilityUtil.clearCache();
+    }
+
+    @Test
+    public void extractArticle_html_extractsTitleAndContent() {
+        ExtractedArticle article = ReadabilityUtil.extractArticle(HTML, BASE_URL);
+        assertEquals("Extracted title", article.getTitle().get());
+        assertTrue(article.getTextContent().get().contains("scoring its paragraphs"));
+        assertTrue(article.getExcerpt().isPresent());
+        Element articleContent = article.getArticleContent().get();
+        assertEquals(BASE_URL + "image.png", articleContent.selectFirst("img").absUrl("src"));
+    }
+
+    @Test
+    public void extractArticle_sameHtmlTwice_extractedOnce() {
+        long hits = cacheHitCounter.getCount();
+        long misses = cacheMissCounter.getCount();
+
+        ExtractedArticle article = ReadabilityUtil.extractArticle(HTML, BASE_URL);
+        assertSame(article, ReadabilityUtil.extractArticle(HTML, BASE_URL));
+        assertEquals(hits + 1, cacheHitCounter.getCount());
+        assertEquals(misses + 1, cacheMissCounter.getCount());
+    }
+
+    @Test
+    public void extractArticle_differentBaseUrl_extractedAgain() {
+        ExtractedArticle article = ReadabilityUtil.extractArticle(HTML, BASE_URL);
+        ExtractedArticle otherArticle = ReadabilityUtil.extractArticle(HTML, "https://other.example.com/");
+        assertNotSame(article, otherArticle);
+        assertEquals("https://other.example.com/image.png",
+                otherArticle.getArticleContent().get().selectFirst("img").absUrl("src"));
+    }
+
+    @Test
+    public void getArticleContent_modifiedCopy_articleUnchanged() {
+        ExtractedArticle article = ReadabilityUtil.extractArticle(HTML, BASE_URL);
+        String articleHtml = article.getArticleContent().get().outerHtml();
+
+        Element articleContent = article.getArticleContent().get();
+        articleContent.empty();
+        Jsoup.parse("<div></div>").body().appendChild(articleContent);
+
+        assertEquals(articleHtml, ReadabilityUtil.extractArticle(HTML, BASE_URL).getArticleContent().get().outerHtml());
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.metrics.Timer;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddAllCommand;
+import seedu.address.logic.commands.FeedCommand;
+import seedu.address.logic.commands.FeedsCommand;
+import seedu.address.logic.commands.RefreshAllFeedsCommand;
+import seedu.address.logic.commands.SubscribeCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.mocks.ModelManagerStub;
+import seedu.address.testutil.FixtureServer;
+import seedu.address.util.Network;
+
+/**
+ * Load test of the feed commands against a {@link FixtureServer}, reporting their throughput and tail latency.
+ *
+ * The feeds are first subscribed to, alternating between RSS and Atom, then refreshed a number of rounds
+ * with new items published before every round, and finally each feed is opened and all its entries added.
+ * Articles of the subscribed entries are downloaded in the background meanwhile, as in the app.
+ *
+ * Usage: {@code FeedCommandsLoadTest [--feeds=N] [--items=N] [--article-size=BYTES] [--latency=MILLIS]
+ * [--jitter=MILLIS] [--error-rate=FRACTION] [--redirects=N] [--body-rate=BYTES_PER_SECOND] [--hosts=N]
+ * [--rounds=N]}
+ */
+public class FeedCommandsLoadTest {
+
+    public static final String MESSAGE_RESULT =
+            "%-12s %5d ops %4d failed %10.1f %s/s   p50 %8.1f ms   p99 %8.1f ms   max %8.1f ms";
+
+    private final int numFeeds;
+    private final int itemsPerFeed;
+    private final int numRounds;
+    private final FixtureServer server;
+    private final Logic logic = new LogicManager(new ModelManagerStub());
+
+    private FeedCommandsLoadTest(Map<String, String> options) throws IOException {
+        numFeeds = Integer.parseInt(options.getOrDefault("feeds", "20"));
+        itemsPerFeed = Integer.parseInt(options.getOrDefault("items", "10"));
+        numRounds = Integer.parseInt(options.getOrDefault("rounds", "3"));
+        server = new FixtureServer(itemsPerFeed, Integer.parseInt(options.getOrDefault("article-size", "20000")));
+        server.setLatency(Long.parseLong(options.getOrDefault("latency", "50")),
+                Long.parseLong(options.getOrDefault("jitter", "50")));
+        server.setErrorRate(Double.parseDouble(options.getOrDefault("error-rate", "0")));
+        server.setNumRedirects(Integer.parseInt(options.getOrDefault("redirects", "0")));
+        server.setBodyBytesPerSecond(Integer.parseInt(options.getOrDefault("body-rate", "0")));
+        server.setNumHosts(Integer.parseInt(options.getOrDefault("hosts", "1")));
+    }
+
+    /**
+     * Runs the load test with the options given in {@code args}, printing the results to standard output.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Options must be given as --name=value: " + arg);
+            }
+            options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+
+        FeedCommandsLoadTest loadTest = new FeedCommandsLoadTest(options);
+        try {
+            loadTest.run(System.out);
+        } finally {
+            loadTest.server.close();
+            Network.stop();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * Runs every scenario in turn, printing the result of each to {@code out}.
+     */
+    private void run(PrintStream out) {
+        Scenario subscribe = new Scenario(SubscribeCommand.COMMAND_WORD, "feeds");
+        for (int i = 0; i < numFeeds; i++) {
+            URL feedUrl = i % 2 == 0 ? server.getRssFeedUrl(i) : server.getAtomFeedUrl(i);
+            subscribe.execute(SubscribeCommand.COMMAND_WORD + " l/" + feedUrl, 1);
+        }
+        out.println(subscribe);
+
+        Scenario refreshAll = new Scenario(RefreshAllFeedsCommand.COMMAND_WORD, "feeds");
+        execute(FeedsCommand.COMMAND_WORD);
+        for (int round = 0; round < numRounds; round++) {
+            server.publishItems(itemsPerFeed / 2);
+            refreshAll.execute(RefreshAllFeedsCommand.COMMAND_WORD, numFeeds);
+        }
+        out.println(refreshAll);
+
+        // the entries of every feed are new to the reading list
+        server.publishItems(itemsPerFeed);
+        Scenario addAll = new Scenario(AddAllCommand.COMMAND_WORD, "entries");
+        for (int i = 0; i < numFeeds; i++) {
+            execute(FeedCommand.COMMAND_WORD + " " + server.getRssFeedUrl(i));
+            addAll.execute(AddAllCommand.COMMAND_WORD, itemsPerFeed);
+        }
+        out.println(addAll);
+
+        out.println("network.request: " + MetricsCenter.getTimer("network.request"));
+        out.println(String.format("fixture server: %d requests, %d errors injected",
+                server.getRequestCount(), server.getErrorCount()));
+    }
+
+    /**
+     * Executes a command which is not measured, failing the load test if it fails.
+     */
+    private void execute(String commandText) {
+        try {
+            logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            throw new AssertionError("Set-up command failed: " + commandText, e);
+        }
+    }
+
+    /**
+     * The measurements of one command.
+     */
+    private class Scenario {
+        private final String name;
+        private final String unit;
+        private final Timer timer = new Timer();
+        private long totalNanos = 0;
+        private int numUnits = 0;
+        private int numFailed = 0;
+
+        Scenario(String name, String unit) {
+            this.name = name;
+            this.unit = unit;
+        }
+
+        /**
+         * Executes and times a command which processes {@code numUnits} units, e.g. feeds.
+         */
+        void execute(String commandText, int numUnits) {
+            long start = System.nanoTime();
+            try {
+                logic.execute(commandText);
+                this.numUnits += numUnits;
+            } catch (CommandException | ParseException e) {
+                numFailed++;
+            }
+            long elapsedNanos = System.nanoTime() - start;
+            timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            totalNanos += elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            double throughput = totalNanos == 0 ? 0 : numUnits / (totalNanos / 1e9);
+            return String.format(MESSAGE_RESULT, name, timer.getCount(), numFailed, throughput, unit,
+                    timer.getMillisAtPercentile(50), timer.getMillisAtPercentile(99), timer.getMaxMillis());
+        }
+    }
+}
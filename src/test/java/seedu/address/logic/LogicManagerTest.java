@@ -25,6 +25,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.FeedsCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.mocks.ModelManagerStub;
@@ -100,10 +101,12 @@ public class LogicManagerTest {
                 new JsonEntryBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
         JsonEntryBookStorage feedsEntryBookStorage =
                 new JsonEntryBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
+        JsonEntryBookStorage downloadQueueStorage =
+                new JsonEntryBookIoExceptionThrowingStub(temporaryFolder.newFile().toPath());
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.newFile().toPath());
         ArticleStorage articleStorage = new DataDirectoryArticleStorage(temporaryFolder.newFolder().toPath());
         StorageManager storage = new StorageManager(listEntryBookStorage, archivesEntryBookStorage,
-                feedsEntryBookStorage, userPrefsStorage, articleStorage);
+                feedsEntryBookStorage, downloadQueueStorage, userPrefsStorage, articleStorage);
         model = new ModelManager(model.getListEntryBook(), model.getArchivesEntryBook(), model.getFeedsEntryBook(),
                 model.getUserPrefs(), storage);
         logic = new LogicManager(model);
@@ -121,6 +124,17 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_changesMadeBetweenCommands_undoneAsOwnStep() throws Exception {
+        // e.g. entries added by a background refresh
+        Entry backgroundEntry = new EntryBuilder(AMY).withTags().build();
+        model.addListEntry(backgroundEntry, Optional.empty());
+        assertEquals(1, model.getListEntryBook().getEntryList().size());
+
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(0, model.getListEntryBook().getEntryList().size());
+    }
+
     @Test
     public void execute_manualCommandResultSet_success() {
         String expectedMessage = "Command result successfully set manually";
@@ -0,0 +1,41 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.ModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.PrefetchStatistics;
+
+public class NetworkStatusCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManagerStub();
+    private Model expectedModel = new ModelManagerStub();
+    private String expectedOtherStatuses = String.format(NetworkStatusCommand.MESSAGE_PREFETCH,
+            new PrefetchStatistics(0, 0)) + String.format(NetworkStatusCommand.MESSAGE_MODE, "live");
+
+    @Test
+    public void execute_noHostsContacted_showsNoHostsMessage() {
+        assertCommandSuccess(new NetworkStatusCommand(Collections::emptyList, () -> "live"), model, history,
+                NetworkStatusCommand.MESSAGE_NO_HOSTS + expectedOtherStatuses, expectedModel);
+    }
+
+    @Test
+    public void execute_hostsContacted_listsEveryHost() {
+        List<String> hostStatuses = new ArrayList<>();
+        hostStatuses.add("example.com: 0/4 in flight");
+        hostStatuses.add("example.org: 1/4 in flight");
+
+        String expectedMessage = String.format(NetworkStatusCommand.MESSAGE_SUCCESS,
+                String.join("\n", hostStatuses)) + expectedOtherStatuses;
+        assertCommandSuccess(new NetworkStatusCommand(() -> hostStatuses, () -> "live"), model, history,
+                expectedMessage, expectedModel);
+    }
+
+}
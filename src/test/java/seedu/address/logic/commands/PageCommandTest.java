@@ -0,0 +1,70 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ENTRY;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.PageCommand.Destination;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code PageCommand}.
+ * The typical entries fit on one page.
+ */
+public class PageCommandTest {
+    private static final String MESSAGE_ONLY_PAGE = String.format(PageCommand.MESSAGE_PAGE_SUCCESS, 1, 1);
+    private static final String MESSAGE_NO_SUCH_PAGE = String.format(PageCommand.MESSAGE_INVALID_PAGE, 1);
+
+    private Model model = new TypicalModelManagerStub();
+    private Model expectedModel = new TypicalModelManagerStub();
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_existingPage_success() {
+        assertCommandSuccess(new PageCommand(Destination.FIRST), model, commandHistory, MESSAGE_ONLY_PAGE,
+                expectedModel);
+        assertCommandSuccess(new PageCommand(Destination.LAST), model, commandHistory, MESSAGE_ONLY_PAGE,
+                expectedModel);
+        assertCommandSuccess(new PageCommand(INDEX_FIRST_ENTRY), model, commandHistory, MESSAGE_ONLY_PAGE,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_noSuchPage_failure() {
+        assertCommandFailure(new PageCommand(Destination.PREVIOUS), model, commandHistory, MESSAGE_NO_SUCH_PAGE);
+        assertCommandFailure(new PageCommand(Destination.NEXT), model, commandHistory, MESSAGE_NO_SUCH_PAGE);
+        assertCommandFailure(new PageCommand(INDEX_SECOND_ENTRY), model, commandHistory, MESSAGE_NO_SUCH_PAGE);
+    }
+
+    @Test
+    public void equals() {
+        PageCommand nextCommand = new PageCommand(Destination.NEXT);
+        PageCommand firstPageCommand = new PageCommand(INDEX_FIRST_ENTRY);
+
+        // same object -> returns true
+        assertTrue(nextCommand.equals(nextCommand));
+
+        // same values -> returns true
+        assertTrue(nextCommand.equals(new PageCommand(Destination.NEXT)));
+        assertTrue(firstPageCommand.equals(new PageCommand(INDEX_FIRST_ENTRY)));
+
+        // different types -> returns false
+        assertFalse(nextCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(nextCommand.equals(null));
+
+        // different destination -> returns false
+        assertFalse(nextCommand.equals(new PageCommand(Destination.PREVIOUS)));
+
+        // different page number -> returns false
+        assertFalse(firstPageCommand.equals(new PageCommand(INDEX_SECOND_ENTRY)));
+    }
+}
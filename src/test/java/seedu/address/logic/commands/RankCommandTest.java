@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_ENTRIES;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.KEYPHRASE_NOT_MATCHING_ANYWHERE;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.EntryBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.Entry;
+
+public class RankCommandTest {
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_matchingKeyword_entriesDisplayedByRelevance() {
+        // title matches count the most, then tag matches, then description matches
+        List<Entry> expectedEntries = List.of(CARL, DANIEL, ALICE);
+        setExpectedRankedEntries(expectedEntries);
+
+        assertCommandSuccess(new RankCommand("carl"), model, commandHistory,
+                String.format(RankCommand.MESSAGE_SUCCESS, 3, "carl"), expectedModel);
+        assertEquals(ModelContext.CONTEXT_RANKED, model.getContext());
+        assertEquals(expectedEntries, model.getFilteredEntryList());
+    }
+
+    @Test
+    public void execute_noMatchingKeyword_noEntriesDisplayed() {
+        setExpectedRankedEntries(List.of());
+
+        assertCommandSuccess(new RankCommand(KEYPHRASE_NOT_MATCHING_ANYWHERE), model, commandHistory,
+                String.format(RankCommand.MESSAGE_SUCCESS, 0, KEYPHRASE_NOT_MATCHING_ANYWHERE), expectedModel);
+        assertEquals(List.of(), model.getFilteredEntryList());
+    }
+
+    @Test
+    public void equals() {
+        RankCommand rankCommand = new RankCommand("java");
+        assertEquals(rankCommand, rankCommand);
+        assertEquals(new RankCommand("java"), rankCommand);
+        assertEquals(false, rankCommand.equals(new RankCommand("kotlin")));
+        assertEquals(false, rankCommand.equals(null));
+    }
+
+    private void setExpectedRankedEntries(List<Entry> entries) {
+        EntryBook rankedEntryBook = new EntryBook();
+        rankedEntryBook.setEntries(entries);
+        expectedModel.setRankedEntryBook(rankedEntryBook);
+        expectedModel.setContext(ModelContext.CONTEXT_RANKED);
+        expectedModel.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+    }
+}
@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.mocks.ModelStub;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.EntryBook;
+import seedu.address.model.Model;
+
+public class RedoCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_nothingToRedo_failure() {
+        assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_undoneClear_listClearedAgain() {
+        model.clearListEntryBook();
+        model.commitEntryBooks();
+        model.undoEntryBooks();
+        expectedModel.setListEntryBook(new EntryBook());
+
+        assertCommandSuccess(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_entriesChangedSinceCommit_throwsCommandException() throws Exception {
+        Model modelStub = new ModelStub() {
+            @Override
+            public boolean canRedoEntryBooks() {
+                return true;
+            }
+
+            @Override
+            public void redoEntryBooks() {
+                throw new IllegalStateException("Entry list has changed since the diff was recorded");
+            }
+        };
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(RedoCommand.MESSAGE_HISTORY_CLEARED);
+        new RedoCommand().execute(modelStub, commandHistory);
+    }
+}
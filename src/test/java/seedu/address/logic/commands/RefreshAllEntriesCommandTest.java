@@ -43,13 +43,26 @@ public class RefreshAllEntriesCommandTest {
         CommandResult commandResult = new RefreshAllEntriesCommand().execute(model, commandHistory);
 
         assertEquals(
-            String.format(RefreshAllEntriesCommand.MESSAGE_SUCCESS, model.getFilteredEntryList().size()),
+            String.format(RefreshAllEntriesCommand.MESSAGE_SUCCESS, model.getFilteredEntryList().size(),
+                model.getFilteredEntryList().size()),
             commandResult.getFeedbackToUser());
         assertTrue(
             model.getFilteredEntryList().stream()
                 .allMatch(entry -> model.hasOfflineCopy(entry.getLink().value)));
     }
 
+    @Test
+    public void execute_entriesUnchanged_reportsNoChanges() throws Exception {
+        Model model = makeTestModelWithLocallyLinkedEntries();
+        new RefreshAllEntriesCommand().execute(model, commandHistory);
+
+        CommandResult commandResult = new RefreshAllEntriesCommand().execute(model, commandHistory);
+
+        assertEquals(
+            String.format(RefreshAllEntriesCommand.MESSAGE_SUCCESS, model.getFilteredEntryList().size(), 0),
+            commandResult.getFeedbackToUser());
+    }
+
     @Test
     public void execute_someEntriesRefreshedSuccessfully() throws Exception {
         Model model = makeTestModelWithLocallyLinkedEntries();
@@ -64,6 +77,7 @@ public class RefreshAllEntriesCommandTest {
         assertEquals(String.format(
             RefreshAllEntriesCommand.MESSAGE_PARTIAL_SUCCESS,
             numValidLinks,
+            numValidLinks,
             numValidLinks + 1,
             ALICE.getLink().value),
             commandResult.getFeedbackToUser());
@@ -22,9 +22,11 @@ import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.mocks.ModelManagerStub;
+import seedu.address.mocks.StorageStub;
 import seedu.address.mocks.TemporaryStorageManager;
 import seedu.address.model.EntryBook;
 import seedu.address.model.Model;
+import seedu.address.model.OfflineMode;
 import seedu.address.model.entry.Entry;
 import seedu.address.testutil.EntryBookBuilder;
 
@@ -61,6 +63,46 @@ public class RefreshEntryCommandTest {
         assertTrue(model.hasOfflineCopy(urlToRefresh));
     }
 
+    @Test
+    public void execute_articleUnchanged_reportsUpToDate() throws Exception {
+        RefreshEntryCommand refreshCommand = new RefreshEntryCommand(INDEX_FIRST_ENTRY);
+        refreshCommand.execute(model, commandHistory);
+
+        String expectedMessage = String.format(
+            RefreshEntryCommand.MESSAGE_ENTRY_UNCHANGED,
+            INDEX_FIRST_ENTRY.getOneBased());
+
+        assertCommandSuccess(refreshCommand, model, commandHistory, expectedMessage);
+    }
+
+    @Test
+    public void execute_articleCouldNotBeSaved_throwsCommandException() {
+        IOException saveFailure = new IOException("disk full");
+        Model failingModel = new ModelManagerStub(new StorageStub() {
+            @Override
+            public boolean updateArticle(URL url, byte[] articleContent) throws IOException {
+                throw saveFailure;
+            }
+        });
+        failingModel.setListEntryBook(model.getListEntryBook());
+
+        assertCommandFailure(new RefreshEntryCommand(INDEX_FIRST_ENTRY), failingModel, commandHistory,
+            String.format(RefreshEntryCommand.MESSAGE_COULD_NOT_SAVE_ARTICLE, saveFailure));
+    }
+
+    @Test
+    public void execute_offlineModeDisabled_articleNotSaved() {
+        model.setOfflineMode(OfflineMode.DISABLED);
+        Entry entryToRefresh = model.getFilteredEntryList().get(INDEX_FIRST_ENTRY.getZeroBased());
+
+        String expectedMessage = String.format(
+            RefreshEntryCommand.MESSAGE_REFRESH_ENTRY_SUCCESS,
+            INDEX_FIRST_ENTRY.getOneBased());
+
+        assertCommandSuccess(new RefreshEntryCommand(INDEX_FIRST_ENTRY), model, commandHistory, expectedMessage);
+        assertFalse(model.hasOfflineCopy(entryToRefresh.getLink().value));
+    }
+
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() {
         Index outOfBoundIndex = Index.fromOneBased(model.getFilteredEntryList().size() + 1);
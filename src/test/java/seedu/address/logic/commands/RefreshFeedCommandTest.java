@@ -0,0 +1,50 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.mocks.ModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+
+public class RefreshFeedCommandTest {
+
+    private static final String TITLE = "Faster garbage collector for the Java virtual machine unveiled";
+    private static final String DESCRIPTION = "Pause times for large heaps drop by an order of magnitude "
+            + "in early benchmarks of server workloads, researchers say";
+
+    private final Entry story = new EntryBuilder().withLink("https://news.example.com/gc")
+            .withTitle(TITLE).withDescription(DESCRIPTION).withTags().build();
+    private final Entry syndicatedStory = new EntryBuilder().withLink("https://wire.example.org/story/123")
+            .withTitle(TITLE).withDescription(DESCRIPTION + " (via Wire)").withTags().build();
+    private final Entry otherStory = new EntryBuilder().withLink("https://news.example.com/libraries")
+            .withTitle("City council approves new budget for public libraries")
+            .withDescription("Opening hours are extended and free weekend workshops for children are funded")
+            .withTags().build();
+
+    @Test
+    public void addNewEntries_nearDuplicateOfSavedEntry_notAddedAndReturned() {
+        Model model = new ModelManagerStub();
+        model.addListEntry(story, Optional.empty());
+
+        List<Entry> nearDuplicates = RefreshFeedCommand.addNewEntries(model, List.of(syndicatedStory, otherStory));
+        assertEquals(List.of(syndicatedStory), nearDuplicates);
+        assertFalse(model.hasEntry(syndicatedStory));
+        assertTrue(model.hasEntry(otherStory));
+    }
+
+    @Test
+    public void getNearDuplicatesMessage_nearDuplicates_listsTitles() {
+        assertEquals("", RefreshFeedCommand.getNearDuplicatesMessage(List.of()));
+        assertEquals(String.format(RefreshFeedCommand.MESSAGE_NEAR_DUPLICATES_SKIPPED, 2,
+                "\n- " + TITLE + "\n- " + otherStory.getTitle()),
+                RefreshFeedCommand.getNearDuplicatesMessage(List.of(syndicatedStory, otherStory)));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.HANS;
+
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
+
+public class SaveSearchCommandTest {
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_newSearch_savedAndDisplayed() {
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build());
+        expectedModel.addSavedSearch("friends", "t/friends", predicate);
+        expectedModel.displaySavedSearch("friends");
+
+        assertCommandSuccess(new SaveSearchCommand("friends", "t/friends", predicate), model, commandHistory,
+                String.format(SaveSearchCommand.MESSAGE_SUCCESS, "friends", 3), expectedModel);
+        assertEquals(ModelContext.CONTEXT_SAVED_SEARCH, model.getContext());
+        // the archives are searched too
+        assertEquals(List.of(ALICE, DANIEL, HANS), model.getFilteredEntryList());
+        assertEquals("t/friends", model.getUserPrefs().getSavedSearches().get("friends"));
+    }
+
+    @Test
+    public void execute_existingName_searchReplaced() {
+        model.addSavedSearch("friends", "t/friends", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build()));
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("Carl").build());
+        expectedModel.addSavedSearch("friends", "t/+Carl", predicate);
+        expectedModel.displaySavedSearch("friends");
+
+        assertCommandSuccess(new SaveSearchCommand("friends", "t/+Carl", predicate), model, commandHistory,
+                String.format(SaveSearchCommand.MESSAGE_SUCCESS, "friends", 1), expectedModel);
+        assertEquals(List.of(DANIEL), model.getFilteredEntryList());
+    }
+
+    @Test
+    public void equals() {
+        EntryContainsSearchTermsPredicate friendsPredicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build());
+        EntryContainsSearchTermsPredicate carlPredicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("Carl").build());
+        SaveSearchCommand saveSearchCommand = new SaveSearchCommand("friends", "t/friends", friendsPredicate);
+
+        assertEquals(saveSearchCommand, saveSearchCommand);
+        assertEquals(new SaveSearchCommand("friends", "t/friends", friendsPredicate), saveSearchCommand);
+        assertEquals(false, saveSearchCommand.equals(new SaveSearchCommand("pals", "t/friends", friendsPredicate)));
+        assertEquals(false, saveSearchCommand.equals(new SaveSearchCommand("friends", "t/+Carl", carlPredicate)));
+        assertEquals(false, saveSearchCommand.equals(null));
+    }
+}
@@ -0,0 +1,68 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.ModelContext;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
+
+public class SearchesCommandTest {
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_savedSearchName_searchDisplayed() {
+        addCarlSearch(model);
+        addCarlSearch(expectedModel);
+        expectedModel.displaySavedSearch("carl");
+
+        assertCommandSuccess(new SearchesCommand(Optional.of("carl")), model, commandHistory,
+                String.format(SearchesCommand.MESSAGE_SUCCESS, "carl", 1), expectedModel);
+        assertEquals(ModelContext.CONTEXT_SAVED_SEARCH, model.getContext());
+        assertEquals(List.of(DANIEL), model.getFilteredEntryList());
+    }
+
+    @Test
+    public void execute_unknownName_throwsCommandException() {
+        assertCommandFailure(new SearchesCommand(Optional.of("carl")), model, commandHistory,
+                String.format(SearchesCommand.MESSAGE_UNKNOWN_SEARCH, "carl"));
+    }
+
+    @Test
+    public void execute_noName_savedSearchesListed() {
+        assertCommandSuccess(new SearchesCommand(Optional.empty()), model, commandHistory,
+                SearchesCommand.MESSAGE_NO_SAVED_SEARCHES, expectedModel);
+
+        addCarlSearch(model);
+        addCarlSearch(expectedModel);
+        assertCommandSuccess(new SearchesCommand(Optional.empty()), model, commandHistory,
+                String.format(SearchesCommand.MESSAGE_LIST, "\ncarl: t/+Carl"), expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        SearchesCommand searchesCommand = new SearchesCommand(Optional.of("carl"));
+        assertEquals(searchesCommand, searchesCommand);
+        assertEquals(new SearchesCommand(Optional.of("carl")), searchesCommand);
+        assertEquals(false, searchesCommand.equals(new SearchesCommand(Optional.empty())));
+        assertEquals(false, searchesCommand.equals(null));
+    }
+
+    private static void addCarlSearch(Model model) {
+        model.addSavedSearch("carl", "t/+Carl", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("Carl").build()));
+    }
+}
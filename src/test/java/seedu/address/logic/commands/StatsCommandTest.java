@@ -0,0 +1,35 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.ModelManagerStub;
+import seedu.address.model.Model;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManagerStub();
+    private Model expectedModel = new ModelManagerStub();
+
+    @Test
+    public void execute_nothingRecorded_showsNoOperationsMessage() {
+        assertCommandSuccess(new StatsCommand(Collections::emptyList), model, history,
+                StatsCommand.MESSAGE_NO_OPERATIONS, expectedModel);
+    }
+
+    @Test
+    public void execute_operationsRecorded_listsEveryOperation() {
+        List<String> metrics = Arrays.asList("logic.execute: 2 calls, p50 1.0 ms, p99 1.0 ms, max 1.0 ms",
+                "network.failedRequests: 1");
+
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, String.join("\n", metrics));
+        assertCommandSuccess(new StatsCommand(() -> metrics), model, history, expectedMessage, expectedModel);
+    }
+
+}
@@ -40,6 +40,7 @@ import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.EntryBuilder;
+import seedu.address.testutil.FixtureServer;
 
 public class SubscribeCommandTest {
 
@@ -97,6 +98,19 @@ public class SubscribeCommandTest {
         assertAllLinksImported(ONE_ITEM_FEED_ENTRY);
     }
 
+    @Test
+    public void execute_atomFeedWithoutSubtitle_imported() throws Exception {
+        // without items, so that no articles are still being downloaded when the server is closed
+        try (FixtureServer fixtureServer = new FixtureServer(0, 1000)) {
+            Entry atomFeed = new EntryBuilder().withTitle("").withDescription("")
+                    .withLink(fixtureServer.getAtomFeedUrl(0)).build();
+            Model model = new ModelManagerStub();
+            new SubscribeCommand(atomFeed).execute(model, commandHistory);
+
+            assertEquals("Fixture feed 0", model.getFeedsEntryBook().getEntryList().get(0).getTitle().fullTitle);
+        }
+    }
+
     @Test
     public void execute_emptyModel_importedWithTags() throws Exception {
         String[] tags = new String[] {"tech", "memes"};
@@ -204,10 +218,20 @@ public class SubscribeCommandTest {
             return false;
         }
 
+        @Override
+        public Optional<Entry> findNearDuplicateEntry(Entry entry) {
+            return Optional.empty();
+        }
+
         @Override
         public void addListEntry(Entry entry, Optional<byte[]> articleContent) {
             // pretend to add
         }
+
+        @Override
+        public void queueArticleDownloads(List<Entry> entries) {
+            // pretend to queue
+        }
     }
 
     /** A Model stub that contains a single feed. */
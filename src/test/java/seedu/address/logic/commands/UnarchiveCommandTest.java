@@ -9,8 +9,6 @@ import static seedu.address.logic.commands.CommandTestUtil.showNoEntry;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ENTRY;
 
-import java.util.Optional;
-
 import org.junit.Before;
 import org.junit.Test;
 
@@ -49,7 +47,7 @@ public class UnarchiveCommandTest {
         ModelManager expectedModel = new ModelManager(model.getListEntryBook(), model.getArchivesEntryBook(),
             model.getFeedsEntryBook(), new UserPrefs(), new StorageStub());
         expectedModel.setContext(ModelContext.CONTEXT_ARCHIVES);
-        expectedModel.unarchiveEntry(entryToUnarchive, Optional.empty());
+        expectedModel.unarchiveEntry(entryToUnarchive);
 
         assertCommandSuccess(unarchiveCommand, model, commandHistory, expectedMessage, expectedModel);
     }
@@ -74,7 +72,7 @@ public class UnarchiveCommandTest {
         ModelManager expectedModel = new ModelManager(model.getListEntryBook(), model.getArchivesEntryBook(),
             model.getFeedsEntryBook(), new UserPrefs(), new StorageStub());
         expectedModel.setContext(ModelContext.CONTEXT_ARCHIVES);
-        expectedModel.unarchiveEntry(entryToUnarchive, Optional.empty());
+        expectedModel.unarchiveEntry(entryToUnarchive);
         showNoEntry(expectedModel);
 
         assertCommandSuccess(unarchiveCommand, model, commandHistory, expectedMessage, expectedModel);
@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.mocks.ModelStub;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+
+public class UndoCommandTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_nothingToUndo_failure() {
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_clearedList_listRestored() {
+        model.clearListEntryBook();
+        model.commitEntryBooks();
+
+        assertCommandSuccess(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
+    }
+
+    @Test
+    public void execute_entriesChangedSinceCommit_throwsCommandException() throws Exception {
+        Model modelStub = new ModelStub() {
+            @Override
+            public boolean canUndoEntryBooks() {
+                return true;
+            }
+
+            @Override
+            public void undoEntryBooks() {
+                throw new IllegalStateException("Entry list has changed since the diff was recorded");
+            }
+        };
+
+        thrown.expect(CommandException.class);
+        thrown.expectMessage(UndoCommand.MESSAGE_HISTORY_CLEARED);
+        new UndoCommand().execute(modelStub, commandHistory);
+    }
+}
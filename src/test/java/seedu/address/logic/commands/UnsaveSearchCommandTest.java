@@ -0,0 +1,46 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.mocks.TypicalModelManagerStub;
+import seedu.address.model.Model;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
+
+public class UnsaveSearchCommandTest {
+
+    private final CommandHistory commandHistory = new CommandHistory();
+    private final Model model = new TypicalModelManagerStub();
+    private final Model expectedModel = new TypicalModelManagerStub();
+
+    @Test
+    public void execute_savedSearchName_searchDeleted() {
+        model.addSavedSearch("friends", "t/friends", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build()));
+
+        assertCommandSuccess(new UnsaveSearchCommand("friends"), model, commandHistory,
+                String.format(UnsaveSearchCommand.MESSAGE_SUCCESS, "friends"), expectedModel);
+        assertFalse(model.hasSavedSearch("friends"));
+    }
+
+    @Test
+    public void execute_unknownName_throwsCommandException() {
+        assertCommandFailure(new UnsaveSearchCommand("friends"), model, commandHistory,
+                String.format(SearchesCommand.MESSAGE_UNKNOWN_SEARCH, "friends"));
+    }
+
+    @Test
+    public void equals() {
+        UnsaveSearchCommand unsaveSearchCommand = new UnsaveSearchCommand("friends");
+        assertEquals(unsaveSearchCommand, unsaveSearchCommand);
+        assertEquals(new UnsaveSearchCommand("friends"), unsaveSearchCommand);
+        assertEquals(false, unsaveSearchCommand.equals(new UnsaveSearchCommand("pals")));
+        assertEquals(false, unsaveSearchCommand.equals(null));
+    }
+}
@@ -9,6 +9,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_VIEWTYPE_BROWSE
 import static seedu.address.logic.commands.CommandTestUtil.VALID_VIEWTYPE_READER;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
 
+import java.util.Optional;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -32,11 +34,19 @@ import seedu.address.logic.commands.GoogleNewsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.NetworkStatusCommand;
 import seedu.address.logic.commands.OfflineModeCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.RefreshAllEntriesCommand;
 import seedu.address.logic.commands.RefreshEntryCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.logic.commands.SearchesCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SubscribeCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UnsaveSearchCommand;
 import seedu.address.logic.commands.ViewModeCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ModelContext;
@@ -186,6 +196,39 @@ public class EntryBookListParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_ALIAS + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_network() throws Exception {
+        assertTrue(parser.parseCommand(NetworkStatusCommand.COMMAND_WORD) instanceof NetworkStatusCommand);
+        assertTrue(parser.parseCommand(NetworkStatusCommand.COMMAND_WORD + " 3") instanceof NetworkStatusCommand);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_rank() throws Exception {
+        assertEquals(new RankCommand("java concurrency"),
+                parser.parseCommand(RankCommand.COMMAND_WORD + " java concurrency"));
+    }
+
+    @Test
+    public void parseCommand_savedSearches() throws Exception {
+        assertEquals(new SaveSearchCommand("jvm", "t/+java", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("java").build())),
+                parser.parseCommand(SaveSearchCommand.COMMAND_WORD + " jvm t/+java"));
+        assertEquals(new SearchesCommand(Optional.empty()), parser.parseCommand(SearchesCommand.COMMAND_WORD));
+        assertEquals(new UnsaveSearchCommand("jvm"), parser.parseCommand(UnsaveSearchCommand.COMMAND_WORD + " jvm"));
+    }
+
     @Test
     public void parseCommand_history() throws Exception {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_VIEWTYPE_BROWSER;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.RankCommand;
+import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.ViewModeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelContext;
+import seedu.address.ui.ViewMode;
+import seedu.address.ui.ViewType;
+
+public class EntryBookRankedParserTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EntryBookRankedParser parser = new EntryBookRankedParser();
+
+    @Test
+    public void parseCommand_emptyString_throwsParseException() throws ParseException {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
+        parser.parseCommand("");
+    }
+
+    @Test
+    public void parseCommand_select() throws Exception {
+        SelectCommand command = (SelectCommand) parser.parseCommand(
+            SelectCommand.COMMAND_ALIAS + " " + INDEX_FIRST_ENTRY.getOneBased());
+        assertEquals(new SelectCommand(INDEX_FIRST_ENTRY), command);
+    }
+
+    @Test
+    public void parseCommand_view() throws Exception {
+        ViewModeCommand command = (ViewModeCommand) parser.parseCommand(
+            ViewModeCommand.COMMAND_WORD + " " + VALID_VIEWTYPE_BROWSER);
+        assertEquals(new ViewModeCommand(new ViewMode(ViewType.BROWSER)), command);
+    }
+
+    @Test
+    public void parseCommand_rank() throws Exception {
+        assertEquals(new RankCommand("java"), parser.parseCommand(RankCommand.COMMAND_WORD + " java"));
+    }
+
+    @Test
+    public void parseCommand_otherContextCommand_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_UNKNOWN_COMMAND, ModelContext.CONTEXT_RANKED));
+        parser.parseCommand("delete 1");
+    }
+}
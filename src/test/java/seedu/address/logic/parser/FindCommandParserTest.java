@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
@@ -8,6 +10,7 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.FindEntryDescriptorBuilder;
 
 public class FindCommandParserTest {
@@ -29,4 +32,33 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " " + PREFIX_TITLE + "Alice Bob", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyPhrase_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new EntryContainsSearchTermsPredicate(
+                    new FindEntryDescriptorBuilder().withFuzzy("kuberentes").withRequiredTags("ops").build()));
+        assertParseSuccess(parser, " " + PREFIX_FUZZY + " kuberentes " + PREFIX_TAG + "+ops", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_requiredAndExcludedTags_returnsFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new EntryContainsSearchTermsPredicate(
+                    new FindEntryDescriptorBuilder().withTags("any").withRequiredTags("java", "jvm")
+                        .withExcludedTags("beginner").build()));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "+java " + PREFIX_TAG + "any " + PREFIX_TAG + "-beginner "
+                + PREFIX_TAG + "+jvm", expectedFindCommand);
+
+        // only excluded tags
+        expectedFindCommand = new FindCommand(new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withExcludedTags("beginner").build()));
+        assertParseSuccess(parser, " " + PREFIX_TAG + "-beginner", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidRequiredTag_throwsParseException() {
+        assertParseFailure(parser, " " + PREFIX_TAG + "+", Tag.formExceptionMessage(""));
+        assertParseFailure(parser, " " + PREFIX_TAG + "-+java", Tag.formExceptionMessage("+java"));
+    }
+
 }
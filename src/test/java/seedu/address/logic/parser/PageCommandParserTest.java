@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_ENTRY;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.PageCommand;
+import seedu.address.logic.commands.PageCommand.Destination;
+
+public class PageCommandParserTest {
+
+    private PageCommandParser parser = new PageCommandParser();
+
+    @Test
+    public void parse_destination_returnsPageCommand() {
+        assertParseSuccess(parser, "first", new PageCommand(Destination.FIRST));
+        assertParseSuccess(parser, " prev ", new PageCommand(Destination.PREVIOUS));
+        assertParseSuccess(parser, "Next", new PageCommand(Destination.NEXT));
+        assertParseSuccess(parser, "last", new PageCommand(Destination.LAST));
+    }
+
+    @Test
+    public void parse_pageNumber_returnsPageCommand() {
+        assertParseSuccess(parser, "2", new PageCommand(INDEX_SECOND_ENTRY));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, PageCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, "0", expectedMessage);
+        assertParseFailure(parser, "previous", expectedMessage);
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.RankCommand;
+
+public class RankCommandParserTest {
+
+    private RankCommandParser parser = new RankCommandParser();
+
+    @Test
+    public void parse_keywords_returnsRankCommand() {
+        assertParseSuccess(parser, "  java concurrency ", new RankCommand("java concurrency"));
+    }
+
+    @Test
+    public void parse_noKeywords_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RankCommand.MESSAGE_USAGE));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.SaveSearchCommand;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
+
+public class SaveSearchCommandParserTest {
+
+    private SaveSearchCommandParser parser = new SaveSearchCommandParser();
+
+    @Test
+    public void parse_nameAndFindArguments_returnsSaveSearchCommand() {
+        SaveSearchCommand expectedCommand = new SaveSearchCommand("k8s", "fz/kuberentes t/-beginner",
+                new EntryContainsSearchTermsPredicate(new FindEntryDescriptorBuilder().withFuzzy("kuberentes")
+                        .withExcludedTags("beginner").build()));
+        assertParseSuccess(parser, "  k8s   fz/kuberentes t/-beginner ", expectedCommand);
+    }
+
+    @Test
+    public void parse_noFindArguments_throwsParseException() {
+        assertParseFailure(parser, "  k8s ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SaveSearchCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                SaveSearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "k8s/ops fz/kubernetes", ParserUtil.MESSAGE_INVALID_SAVED_SEARCH_NAME);
+    }
+
+    @Test
+    public void parse_noSearchTerms_throwsParseException() {
+        assertParseFailure(parser, "k8s kubernetes", String.format(FindCommand.MESSAGE_NO_SEARCH_TERMS,
+                FindCommand.MESSAGE_USAGE));
+    }
+}
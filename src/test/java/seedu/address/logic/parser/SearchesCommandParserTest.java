@@ -0,0 +1,30 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.SearchesCommand;
+
+public class SearchesCommandParserTest {
+
+    private SearchesCommandParser parser = new SearchesCommandParser();
+
+    @Test
+    public void parse_name_returnsSearchesCommand() {
+        assertParseSuccess(parser, " k8s ", new SearchesCommand(Optional.of("k8s")));
+    }
+
+    @Test
+    public void parse_noName_returnsSearchesCommand() {
+        assertParseSuccess(parser, "  ", new SearchesCommand(Optional.empty()));
+    }
+
+    @Test
+    public void parse_invalidName_throwsParseException() {
+        assertParseFailure(parser, "k8s ops", ParserUtil.MESSAGE_INVALID_SAVED_SEARCH_NAME);
+    }
+}
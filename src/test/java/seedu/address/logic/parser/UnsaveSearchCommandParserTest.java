@@ -0,0 +1,25 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.UnsaveSearchCommand;
+
+public class UnsaveSearchCommandParserTest {
+
+    private UnsaveSearchCommandParser parser = new UnsaveSearchCommandParser();
+
+    @Test
+    public void parse_name_returnsUnsaveSearchCommand() {
+        assertParseSuccess(parser, " k8s ", new UnsaveSearchCommand("k8s"));
+    }
+
+    @Test
+    public void parse_noName_throwsParseException() {
+        assertParseFailure(parser, "   ", String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                UnsaveSearchCommand.MESSAGE_USAGE));
+    }
+}
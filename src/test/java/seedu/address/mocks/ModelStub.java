@@ -1,17 +1,23 @@
 package seedu.address.mocks;
 
+import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.DownloadProgress;
 import seedu.address.model.Model;
 import seedu.address.model.ModelContext;
 import seedu.address.model.OfflineMode;
+import seedu.address.model.PagePosition;
+import seedu.address.model.PrefetchStatistics;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.entry.Entry;
@@ -139,7 +145,7 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void refreshEntry(Entry entry, byte[] articleContent) {
+    public boolean refreshEntry(Entry entry, byte[] articleContent) throws IOException {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -213,18 +219,98 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public Optional<Entry> findNearDuplicateEntry(Entry entry) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setSearchEntryBook(ReadOnlyEntryBook searchEntryBook) {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public List<Entry> getEntriesRankedBy(String query, int maxResults) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setRankedEntryBook(ReadOnlyEntryBook rankedEntryBook) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean hasSavedSearch(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void addSavedSearch(String name, String findArguments, Predicate<Entry> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void deleteSavedSearch(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void displaySavedSearch(String name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void commitEntryBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canUndoEntryBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean canRedoEntryBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void undoEntryBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void redoEntryBooks() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearEntryBooksHistory() {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public ObservableList<Entry> getFilteredEntryList() {
         throw new AssertionError("This method should not be called.");
     }
 
     @Override
-    public void updateFilteredEntryList(Predicate<Entry> predicate) {
+    public CompletableFuture<Void> updateFilteredEntryList(Predicate<Entry> predicate) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ObservableList<Entry> getPagedEntryList() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<PagePosition> pagePositionProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setPage(int page) {
         throw new AssertionError("This method should not be called.");
     }
 
@@ -314,7 +400,27 @@ public class ModelStub implements Model {
     }
 
     @Override
-    public void unarchiveEntry(Entry entry, Optional<byte[]> articleContent) {
+    public void unarchiveEntry(Entry entry) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void queueArticleDownloads(List<Entry> entries) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadOnlyProperty<DownloadProgress> downloadProgressProperty() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void stopArticleDownloads() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public PrefetchStatistics getPrefetchStatistics() {
         throw new AssertionError("This method should not be called.");
     }
 }
@@ -1,7 +1,9 @@
 package seedu.address.mocks;
 
+import java.io.IOException;
 import java.net.URL;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.Optional;
 
 import seedu.address.model.ReadOnlyEntryBook;
@@ -74,6 +76,21 @@ public class StorageStub implements Storage {
         // Do nothing
     }
 
+    @Override
+    public Path getDownloadQueueFilePath() {
+        return null;
+    }
+
+    @Override
+    public Optional<ReadOnlyEntryBook> readDownloadQueue() {
+        return Optional.empty();
+    }
+
+    @Override
+    public void saveDownloadQueue(ReadOnlyEntryBook downloadQueue) {
+        // Do nothing
+    }
+
     @Override
     public Path getArticleDataDirectoryPath() {
         return null;
@@ -89,6 +106,26 @@ public class StorageStub implements Storage {
         return Optional.empty();
     }
 
+    @Override
+    public boolean updateArticle(URL url, byte[] articleContent) throws IOException {
+        return true;
+    }
+
+    @Override
+    public void archiveArticle(URL url) {
+        // Do nothing
+    }
+
+    @Override
+    public boolean unarchiveArticle(URL url) {
+        return false;
+    }
+
+    @Override
+    public void deleteArchivedArticle(URL url) {
+        // Do nothing
+    }
+
     @Override
     public Path getArticlePath(URL url) {
         return null;
@@ -98,4 +135,9 @@ public class StorageStub implements Storage {
     public Optional<Path> getOfflineLink(URL url) {
         return Optional.empty();
     }
+
+    @Override
+    public void migrateToCanonicalFilenames(Collection<URL> articleUrls, Collection<URL> archivedArticleUrls) {
+        // Do nothing
+    }
 }
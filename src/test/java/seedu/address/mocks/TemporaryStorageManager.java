@@ -19,6 +19,7 @@ public class TemporaryStorageManager extends StorageManager {
                 new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
                 new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
                 new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
+                new JsonEntryBookStorage(temporaryFolder.newFile().toPath()),
                 new JsonUserPrefsStorage(temporaryFolder.newFile().toPath()),
                 new DataDirectoryArticleStorage(temporaryFolder.newFolder().toPath())
         );
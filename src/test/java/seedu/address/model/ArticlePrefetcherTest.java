@@ -0,0 +1,154 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.ELLE;
+import static seedu.address.testutil.TypicalEntries.FIONA;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import seedu.address.model.entry.Entry;
+
+public class ArticlePrefetcherTest {
+    private static final byte[] ARTICLE_CONTENT = "content".getBytes();
+    private static final List<Entry> ENTRIES = Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE, FIONA);
+
+    private final Map<URL, CompletableFuture<byte[]>> startedFetches = new LinkedHashMap<>();
+    private final Set<URL> downloaded = new HashSet<>();
+
+    private final ArticlePrefetcher prefetcher = new ArticlePrefetcher(2, 1, this::startFetch, this::saveArticle,
+        downloaded::contains);
+
+    private CompletableFuture<byte[]> startFetch(URL url) {
+        CompletableFuture<byte[]> fetch = new CompletableFuture<>();
+        startedFetches.put(url, fetch);
+        return fetch;
+    }
+
+    private void saveArticle(URL url, byte[] content) {
+        downloaded.add(url);
+    }
+
+    private CompletableFuture<byte[]> fetchOf(Entry entry) {
+        return startedFetches.get(entry.getLink().value);
+    }
+
+    private static URL urlOf(Entry entry) {
+        return entry.getLink().value;
+    }
+
+    @Test
+    public void onSelection_prefetchesOneAtATimeInOrder() {
+        prefetcher.onSelection(ENTRIES, 2);
+        assertEquals(Arrays.asList(urlOf(DANIEL)), new ArrayList<>(startedFetches.keySet()));
+
+        fetchOf(DANIEL).complete(ARTICLE_CONTENT);
+        fetchOf(ELLE).complete(ARTICLE_CONTENT);
+        fetchOf(BENSON).complete(ARTICLE_CONTENT);
+
+        assertEquals(Arrays.asList(urlOf(DANIEL), urlOf(ELLE), urlOf(BENSON)),
+                new ArrayList<>(startedFetches.keySet()));
+        assertEquals(Set.of(urlOf(DANIEL), urlOf(ELLE), urlOf(BENSON)), downloaded);
+    }
+
+    @Test
+    public void onSelection_alreadyDownloaded_skipped() {
+        downloaded.add(urlOf(BENSON));
+        prefetcher.onSelection(ENTRIES, 0);
+        fetchOf(CARL).complete(ARTICLE_CONTENT);
+        assertEquals(Arrays.asList(urlOf(CARL)), new ArrayList<>(startedFetches.keySet()));
+    }
+
+    @Test
+    public void onSelection_selectionJumps_cancelsStalePrefetch() {
+        prefetcher.onSelection(ENTRIES, 0);
+        CompletableFuture<byte[]> stalePrefetch = fetchOf(BENSON);
+
+        prefetcher.onSelection(ENTRIES, 4);
+        assertTrue(stalePrefetch.isCancelled());
+        assertEquals(2, startedFetches.size());
+        assertTrue(startedFetches.containsKey(urlOf(FIONA)));
+    }
+
+    @Test
+    public void onSelection_prefetchFails_continuesWithNext() {
+        prefetcher.onSelection(ENTRIES, 0);
+        fetchOf(BENSON).completeExceptionally(new IOException());
+        assertTrue(startedFetches.containsKey(urlOf(CARL)));
+        assertTrue(downloaded.isEmpty());
+    }
+
+    @Test
+    public void getStatistics_countsHitsAndMisses() {
+        // nothing downloaded yet -> miss
+        prefetcher.onSelection(ENTRIES, 0);
+        fetchOf(BENSON).complete(ARTICLE_CONTENT);
+        assertEquals(new PrefetchStatistics(0, 1), prefetcher.getStatistics());
+
+        // prefetched -> hit
+        prefetcher.onSelection(ENTRIES, 1);
+        assertEquals(new PrefetchStatistics(1, 1), prefetcher.getStatistics());
+
+        // downloaded, but not by the prefetcher -> not counted
+        downloaded.add(urlOf(FIONA));
+        prefetcher.onSelection(ENTRIES, 5);
+        assertEquals(new PrefetchStatistics(1, 1), prefetcher.getStatistics());
+        assertEquals(0.5, prefetcher.getStatistics().getHitRate(), 0);
+    }
+
+    @Test
+    public void stop_cancelsPrefetchInProgress() {
+        prefetcher.onSelection(ENTRIES, 0);
+        prefetcher.stop();
+        assertTrue(fetchOf(BENSON).isCancelled());
+
+        prefetcher.onSelection(ENTRIES, 3);
+        assertEquals(1, startedFetches.size());
+    }
+
+    @Test
+    public void download_prefetchInProgress_waitsForPrefetch() {
+        prefetcher.onSelection(ENTRIES, 0);
+        CompletableFuture<byte[]> prefetch = fetchOf(BENSON);
+
+        // selecting the entry being prefetched neither cancels its prefetch nor downloads it again
+        prefetcher.onSelection(ENTRIES, 1);
+        CompletableFuture<byte[]> download = prefetcher.download(urlOf(BENSON));
+        assertFalse(prefetch.isCancelled());
+        assertSame(prefetch, fetchOf(BENSON));
+        // the next prefetch is not held up by the selected download
+        assertTrue(startedFetches.containsKey(urlOf(CARL)));
+
+        prefetch.complete(ARTICLE_CONTENT);
+        assertTrue(download.isDone());
+        assertTrue(downloaded.contains(urlOf(BENSON)));
+    }
+
+    @Test
+    public void download_alreadyInProgress_sameDownloadReturned() {
+        CompletableFuture<byte[]> download = prefetcher.download(urlOf(ALICE));
+        assertSame(download, prefetcher.download(urlOf(ALICE)));
+        assertEquals(1, startedFetches.size());
+
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+        assertTrue(download.isDone());
+        assertTrue(downloaded.contains(urlOf(ALICE)));
+    }
+}
@@ -0,0 +1,132 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+
+public class CopyOnWriteObservableListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CopyOnWriteObservableList<String> list = new CopyOnWriteObservableList<>();
+    private final List<String> changes = new ArrayList<>();
+    private final ListChangeListener<String> changeRecorder = change -> {
+        while (change.next()) {
+            changes.add(change.getFrom() + "-" + change.getTo() + " replacing " + change.getRemoved());
+        }
+    };
+
+    @Test
+    public void get_invalidIndex_throwsIndexOutOfBoundsException() {
+        list.add("a");
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(1);
+    }
+
+    @Test
+    public void add_beyondInitialCapacity_keepsAllElements() {
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            list.add(0, Integer.toString(i));
+            expected.add(0, Integer.toString(i));
+        }
+        list.remove(50);
+        expected.remove(50);
+        assertEquals(expected, list);
+    }
+
+    @Test
+    public void copy_changed_otherListUnchanged() {
+        list.addAll("a", "b", "c");
+        CopyOnWriteObservableList<String> copy = new CopyOnWriteObservableList<>(list);
+
+        copy.set(0, "x");
+        copy.add("d");
+        assertEquals(List.of("a", "b", "c"), list);
+        assertEquals(List.of("x", "b", "c", "d"), copy);
+
+        list.remove("b");
+        assertEquals(List.of("a", "c"), list);
+        assertEquals(List.of("x", "b", "c", "d"), copy);
+    }
+
+    @Test
+    public void snapshot_listChanged_snapshotUnchanged() {
+        list.addAll("a", "b", "c");
+        List<String> snapshot = list.snapshot();
+
+        list.set(0, "x");
+        list.remove("b");
+        assertEquals(List.of("a", "b", "c"), snapshot);
+        assertEquals(List.of("x", "c"), list);
+
+        thrown.expect(UnsupportedOperationException.class);
+        snapshot.add("d");
+    }
+
+    @Test
+    public void setAll_copyOnWriteList_sharesElementsAsOneChange() {
+        list.addAll("a", "b");
+        CopyOnWriteObservableList<String> replacement = new CopyOnWriteObservableList<>();
+        replacement.addAll("c", "d", "e");
+        list.addListener(changeRecorder);
+
+        list.setAll(replacement);
+        assertEquals(List.of("0-3 replacing [a, b]"), changes);
+        assertEquals(List.of("c", "d", "e"), list);
+
+        // changing either list does not change the other
+        replacement.set(0, "x");
+        list.remove(2);
+        assertEquals(List.of("c", "d"), list);
+        assertEquals(List.of("x", "d", "e"), replacement);
+    }
+
+    @Test
+    public void setAll_collection_oneChange() {
+        list.addAll("a", "b");
+        list.addListener(changeRecorder);
+
+        list.setAll(List.of("c"));
+        list.clear();
+        list.clear();
+        list.setAll(List.of("d"));
+        assertEquals(List.of("0-1 replacing [a, b]", "0-0 replacing [c]", "0-1 replacing []"), changes);
+    }
+
+    @Test
+    public void removeAndAddRange_sharedList_oneChangeEachAndCopyUnchanged() {
+        list.addAll("a", "b", "c", "d", "e");
+        CopyOnWriteObservableList<String> copy = new CopyOnWriteObservableList<>(list);
+        list.addListener(changeRecorder);
+
+        list.remove(1, 4);
+        list.addAll(1, List.of("x", "y"));
+        assertEquals(List.of("1-1 replacing [b, c, d]", "1-3 replacing []"), changes);
+        assertEquals(List.of("a", "x", "y", "e"), list);
+        assertEquals(List.of("a", "b", "c", "d", "e"), copy);
+    }
+
+    @Test
+    public void changeAsOne_severalChanges_listenersToldOnce() {
+        list.addAll("a", "b", "c");
+        List<Integer> numChanges = new ArrayList<>();
+        list.addListener((ListChangeListener<String>) change -> numChanges.add(1));
+
+        list.changeAsOne(() -> {
+            list.remove(0);
+            list.set(1, "x");
+            list.add("d");
+        });
+        assertEquals(List.of(1), numChanges);
+        assertEquals(List.of("b", "x", "d"), list);
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import seedu.address.model.entry.Entry;
+
+public class DownloadQueueTest {
+    private static final byte[] ARTICLE_CONTENT = "content".getBytes();
+
+    private final Map<URL, CompletableFuture<byte[]>> startedFetches = new LinkedHashMap<>();
+    private final List<Entry> savedArticles = new ArrayList<>();
+    private boolean isSavedUnderLock = false;
+    private ReadOnlyEntryBook lastPersistedQueue = new EntryBook();
+    private int numSaves = 0;
+
+    private final DownloadQueue downloadQueue = new DownloadQueue(2, this::startFetch, this::saveArticle,
+        this::persistQueue, Runnable::run, Runnable::run);
+
+    private CompletableFuture<byte[]> startFetch(URL url) {
+        CompletableFuture<byte[]> fetch = new CompletableFuture<>();
+        startedFetches.put(url, fetch);
+        return fetch;
+    }
+
+    private void saveArticle(Entry entry, byte[] content) {
+        isSavedUnderLock |= Thread.holdsLock(downloadQueue);
+        savedArticles.add(entry);
+    }
+
+    private void persistQueue(ReadOnlyEntryBook unfinished) {
+        lastPersistedQueue = unfinished;
+        numSaves++;
+    }
+
+    private CompletableFuture<byte[]> fetchOf(Entry entry) {
+        return startedFetches.get(entry.getLink().value);
+    }
+
+    private void assertPersistedQueue(Entry... expectedEntries) {
+        EntryBook expected = new EntryBook();
+        Arrays.stream(expectedEntries).forEach(expected::addEntry);
+        assertEquals(expected, new EntryBook(lastPersistedQueue));
+    }
+
+    @Test
+    public void queue_moreThanConcurrencyLimit_startsOnlyUpToLimit() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        assertEquals(2, startedFetches.size());
+        assertPersistedQueue(ALICE, BENSON, CARL);
+        assertEquals(new DownloadProgress(0, 0, 3), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void queue_downloadCompletes_savesArticleAndStartsNext() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+
+        assertEquals(Arrays.asList(ALICE), savedArticles);
+        assertEquals(3, startedFetches.size());
+        assertPersistedQueue(BENSON, CARL);
+        assertEquals(new DownloadProgress(1, 0, 2), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void queue_downloadCompletes_articleSavedOutsideLock() {
+        downloadQueue.queue(Arrays.asList(ALICE));
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+
+        assertEquals(Arrays.asList(ALICE), savedArticles);
+        assertFalse(isSavedUnderLock);
+    }
+
+    @Test
+    public void queue_downloadFails_dropsEntry() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON));
+        fetchOf(ALICE).completeExceptionally(new IOException());
+
+        assertTrue(savedArticles.isEmpty());
+        assertPersistedQueue(BENSON);
+        assertEquals(new DownloadProgress(0, 1, 1), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void queue_alreadyQueued_ignored() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        downloadQueue.queue(Arrays.asList(ALICE, CARL));
+        assertEquals(new DownloadProgress(0, 0, 3), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void queue_afterIdle_resetsProgress() {
+        downloadQueue.queue(Arrays.asList(ALICE));
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+        assertEquals(new DownloadProgress(1, 0, 0), downloadQueue.progressProperty().get());
+
+        downloadQueue.queue(Arrays.asList(BENSON));
+        assertEquals(new DownloadProgress(0, 0, 1), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void cancel_downloadInProgress_discardsArticle() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        downloadQueue.cancel(ALICE);
+        assertPersistedQueue(BENSON, CARL);
+
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+        assertTrue(savedArticles.isEmpty());
+        assertEquals(new DownloadProgress(0, 0, 2), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void clear_removesAllDownloads() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        downloadQueue.clear();
+        assertPersistedQueue();
+        assertEquals(new DownloadProgress(0, 0, 0), downloadQueue.progressProperty().get());
+    }
+
+    @Test
+    public void stop_downloadCompletes_keepsPersistedQueue() {
+        downloadQueue.queue(Arrays.asList(ALICE, BENSON, CARL));
+        downloadQueue.stop();
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+
+        assertTrue(savedArticles.isEmpty());
+        assertEquals(2, startedFetches.size());
+        assertPersistedQueue(ALICE, BENSON, CARL);
+    }
+
+    @Test
+    public void queue_changesBeforeScheduledSave_savedOnce() {
+        List<Runnable> scheduledSaves = new ArrayList<>();
+        DownloadQueue deferredSaveQueue = new DownloadQueue(2, this::startFetch, this::saveArticle,
+            this::persistQueue, scheduledSaves::add, Runnable::run);
+        deferredSaveQueue.queue(Arrays.asList(ALICE, BENSON));
+        deferredSaveQueue.queue(Arrays.asList(CARL));
+        fetchOf(ALICE).complete(ARTICLE_CONTENT);
+        assertEquals(1, scheduledSaves.size());
+        assertEquals(0, numSaves);
+
+        scheduledSaves.get(0).run();
+        assertEquals(1, numSaves);
+        assertPersistedQueue(BENSON, CARL);
+
+        // a change after the save schedules another one
+        deferredSaveQueue.cancel(CARL);
+        assertEquals(2, scheduledSaves.size());
+    }
+
+    @Test
+    public void queue_progressUpdatedThroughProgressExecutor() {
+        List<Runnable> progressUpdates = new ArrayList<>();
+        DownloadQueue deferredProgressQueue = new DownloadQueue(2, this::startFetch, this::saveArticle,
+            this::persistQueue, Runnable::run, progressUpdates::add);
+        deferredProgressQueue.queue(Arrays.asList(ALICE, BENSON));
+        assertEquals(DownloadProgress.IDLE, deferredProgressQueue.progressProperty().get());
+
+        progressUpdates.forEach(Runnable::run);
+        assertEquals(new DownloadProgress(0, 0, 2), deferredProgressQueue.progressProperty().get());
+    }
+}
@@ -8,10 +8,12 @@ import static seedu.address.testutil.TypicalEntries.ALICE;
 import static seedu.address.testutil.TypicalEntries.BOB;
 import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -50,6 +52,44 @@ public class EntryBookTest {
         assertEquals(newData, entryBook);
     }
 
+    @Test
+    public void resetData_withEntryBook_booksChangeIndependently() {
+        EntryBook newData = getTypicalListEntryBook();
+        entryBook.resetData(newData);
+        entryBook.removeEntry(ALICE);
+        newData.addEntry(BOB);
+
+        assertEquals(getTypicalListEntryBook().getEntryList().size() - 1, entryBook.getEntryList().size());
+        assertFalse(entryBook.hasEntry(ALICE));
+        assertFalse(entryBook.hasEntry(BOB));
+        assertTrue(newData.hasEntry(ALICE));
+    }
+
+    @Test
+    public void copy_bookChanged_copyUnchanged() {
+        entryBook.addEntry(ALICE);
+        EntryBook copy = new EntryBook(entryBook);
+        entryBook.removeEntry(ALICE);
+        entryBook.addEntry(BOB);
+
+        assertEquals(Arrays.asList(ALICE), copy.getEntryList());
+        assertEquals(Arrays.asList(BOB), entryBook.getEntryList());
+    }
+
+    @Test
+    public void snapshot_bookChangedWhileReadOnAnotherThread_snapshotUnchanged() throws Exception {
+        entryBook.addEntry(ALICE);
+        ReadOnlyEntryBook snapshot = entryBook.snapshot();
+        CompletableFuture<List<Entry>> readOnAnotherThread = CompletableFuture.supplyAsync(() ->
+                new ArrayList<>(snapshot.getEntryList()));
+        entryBook.removeEntry(ALICE);
+        entryBook.addEntry(BOB);
+
+        assertEquals(Arrays.asList(ALICE), readOnAnotherThread.get());
+        assertEquals(Arrays.asList(ALICE), snapshot.getEntryList());
+        assertEquals(Arrays.asList(BOB), entryBook.getEntryList());
+    }
+
     @Test
     public void resetData_withDuplicateEntries_throwsDuplicateEntryException() {
         // Two entries with the same identity fields
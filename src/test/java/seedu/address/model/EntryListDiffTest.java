@@ -0,0 +1,123 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.ELLE;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.entry.Entry;
+
+public class EntryListDiffTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CopyOnWriteObservableList<Entry> entries = new CopyOnWriteObservableList<>();
+    private final EntryListDiff diff = new EntryListDiff();
+    private final ListChangeListener<Entry> recorder = diff::record;
+
+    @Test
+    public void record_noChanges_isEmpty() {
+        assertTrue(diff.isEmpty());
+        assertEquals(0, diff.estimateSize());
+    }
+
+    @Test
+    public void inverted_severalChanges_restoresEntries() {
+        entries.addAll(ALICE, BENSON, CARL, DANIEL);
+        entries.addListener(recorder);
+
+        // deleted from the last to the first, as bulk deletes are
+        entries.remove(3);
+        entries.remove(2);
+        entries.set(0, ELLE);
+        entries.add(CARL);
+        entries.remove(0, 1);
+        assertFalse(diff.isEmpty());
+        assertEquals(List.of(BENSON, CARL), entries);
+
+        entries.removeListener(recorder);
+        diff.inverted().applyTo(entries);
+        assertEquals(List.of(ALICE, BENSON, CARL, DANIEL), entries);
+
+        diff.applyTo(entries);
+        assertEquals(List.of(BENSON, CARL), entries);
+    }
+
+    @Test
+    public void estimateSize_removedEntries_largerThanAddedEntries() {
+        entries.addAll(ALICE, BENSON);
+        entries.addListener(recorder);
+        entries.clear();
+
+        EntryListDiff addingDiff = new EntryListDiff();
+        CopyOnWriteObservableList<Entry> otherEntries = new CopyOnWriteObservableList<>();
+        otherEntries.addListener((ListChangeListener<Entry>) addingDiff::record);
+        otherEntries.addAll(ALICE, BENSON);
+
+        assertTrue(diff.estimateSize() > addingDiff.estimateSize());
+    }
+
+    @Test
+    public void applyTo_entriesChanged_throwsIllegalStateExceptionWithoutChanges() {
+        entries.addAll(ALICE, BENSON);
+        entries.addListener(recorder);
+        entries.remove(ALICE);
+        entries.removeListener(recorder);
+        entries.set(0, CARL);
+
+        thrown.expect(IllegalStateException.class);
+        try {
+            diff.applyTo(entries);
+        } finally {
+            assertEquals(List.of(CARL), entries);
+        }
+    }
+
+    @Test
+    public void applyTo_entriesOfLaterSpliceChanged_throwsIllegalStateExceptionWithoutChanges() {
+        entries.addAll(ALICE, BENSON, CARL, DANIEL);
+        entries.addListener(recorder);
+        entries.remove(0);
+        entries.remove(DANIEL);
+        entries.removeListener(recorder);
+        diff.inverted().applyTo(entries);
+        entries.set(3, ELLE);
+
+        // the first splice still finds the entry it removes, but the second does not
+        thrown.expect(IllegalStateException.class);
+        try {
+            diff.applyTo(entries);
+        } finally {
+            assertEquals(List.of(ALICE, BENSON, CARL, ELLE), entries);
+        }
+    }
+
+    @Test
+    public void applyTo_spliceRemovesEntriesAddedByEarlierSplice_changesMade() {
+        entries.addAll(ALICE, BENSON);
+        entries.addListener(recorder);
+        entries.add(0, CARL);
+        entries.remove(1, 3);
+        entries.add(DANIEL);
+        entries.remove(CARL);
+        entries.removeListener(recorder);
+        assertEquals(List.of(DANIEL), entries);
+
+        diff.inverted().applyTo(entries);
+        assertEquals(List.of(ALICE, BENSON), entries);
+        diff.applyTo(entries);
+        assertEquals(List.of(DANIEL), entries);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class LazyListIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> elements = FXCollections.observableArrayList("a", "b");
+    private final RecordingIndex index = new RecordingIndex(elements);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new RecordingIndex(null);
+    }
+
+    @Test
+    public void onChanged_notBuilt_changesIgnored() {
+        elements.add("c");
+        elements.remove("a");
+        assertEquals(List.of(), index.events);
+
+        index.ensureBuilt();
+        assertEquals(List.of("+b", "+c"), index.events);
+    }
+
+    @Test
+    public void ensureBuilt_calledTwice_builtOnce() {
+        index.ensureBuilt();
+        index.ensureBuilt();
+        assertEquals(List.of("+a", "+b"), index.events);
+    }
+
+    @Test
+    public void onChanged_built_removedThenAddedPassedOn() {
+        index.ensureBuilt();
+        index.events.clear();
+
+        elements.set(0, "c");
+        assertEquals(List.of("-a", "+c"), index.events);
+    }
+
+    @Test
+    public void onChanged_permutation_ignored() {
+        index.ensureBuilt();
+        index.events.clear();
+
+        FXCollections.sort(elements, (first, second) -> second.compareTo(first));
+        assertEquals(List.of("b", "a"), elements);
+        assertEquals(List.of(), index.events);
+    }
+
+    /**
+     * Records the elements added to and removed from it, e.g. "+a" and "-a".
+     */
+    private static class RecordingIndex extends LazyListIndex<String> {
+        private final List<String> events = new ArrayList<>();
+
+        RecordingIndex(ObservableList<String> elements) {
+            super(elements);
+        }
+
+        @Override
+        protected void add(String element) {
+            events.add("+" + element);
+        }
+
+        @Override
+        protected void remove(String element) {
+            events.add("-" + element);
+        }
+    }
+}
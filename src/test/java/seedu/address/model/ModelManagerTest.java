@@ -21,7 +21,16 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -31,11 +40,15 @@ import org.junit.rules.TemporaryFolder;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.mocks.ModelManagerStub;
 import seedu.address.mocks.StorageStub;
+import seedu.address.mocks.TemporaryStorageManager;
 import seedu.address.model.entry.Entry;
+import seedu.address.model.entry.EntryContainsSearchTermsPredicate;
+import seedu.address.model.entry.exceptions.DuplicateEntryException;
 import seedu.address.model.entry.exceptions.EntryNotFoundException;
 import seedu.address.storage.Storage;
 import seedu.address.testutil.EntryBookBuilder;
 import seedu.address.testutil.EntryBuilder;
+import seedu.address.testutil.FindEntryDescriptorBuilder;
 import seedu.address.testutil.TestUtil;
 
 public class ModelManagerTest {
@@ -190,6 +203,217 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasFeedsEntry(ALICE));
     }
 
+    @Test
+    public void updateFilteredEntryList_tagsOnly_sameAsPredicate() {
+        modelManager.setContext(ModelContext.CONTEXT_ARCHIVES);
+        Arrays.asList(ALICE, BENSON, CARL, DANIEL).forEach(modelManager::addArchivesEntry);
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("friends").withExcludedTags("Carl").build());
+        modelManager.updateFilteredEntryList(predicate);
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredEntryList());
+
+        // entries added later are filtered by the predicate
+        Entry friend = new EntryBuilder().withLink("https://friend.com").withTags("friends").build();
+        modelManager.addArchivesEntry(friend);
+        assertEquals(Arrays.asList(ALICE, friend), modelManager.getFilteredEntryList());
+    }
+
+    @Test
+    public void updateFilteredEntryList_fuzzyPhraseOnly_sameAsPredicate() {
+        modelManager.setContext(ModelContext.CONTEXT_ARCHIVES);
+        Arrays.asList(ALICE, BENSON, CARL, DANIEL).forEach(modelManager::addArchivesEntry);
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withFuzzy("Meyer").withExcludedTags("owesMoney").build());
+        modelManager.updateFilteredEntryList(predicate);
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredEntryList());
+
+        // entries added later are filtered by the predicate
+        Entry meier = new EntryBuilder().withLink("https://meier.com").withTitle("Elle Meyers").withTags().build();
+        modelManager.addArchivesEntry(meier);
+        assertEquals(Arrays.asList(DANIEL, meier), modelManager.getFilteredEntryList());
+    }
+
+    @Test
+    public void updateFilteredEntryList_longList_filteredInBackground() {
+        ModelManager longListModel = createModelWithLongList();
+        Predicate<Entry> predicate = entry -> entry.getTitle().fullTitle.endsWith("7");
+        List<Entry> expected = longListModel.getFilteredEntryList().stream().filter(predicate)
+                .collect(Collectors.toList());
+
+        longListModel.enableBackgroundFilter();
+        longListModel.updateFilteredEntryList(predicate).join();
+        assertEquals(expected, longListModel.getFilteredEntryList());
+
+        // entries added later are filtered by the predicate
+        Entry seven = new EntryBuilder().withLink("https://seven.com").withTitle("Seven 7").withTags().build();
+        longListModel.addListEntry(seven, Optional.empty());
+        assertEquals(expected.size() + 1, longListModel.getFilteredEntryList().size());
+    }
+
+    @Test
+    public void updateFilteredEntryList_filterChangedBeforeBackgroundFilterDone_resultsDropped() throws Exception {
+        ModelManager longListModel = createModelWithLongList();
+        longListModel.enableBackgroundFilter();
+        CountDownLatch isReleased = new CountDownLatch(1);
+        CompletableFuture<Void> superseded = longListModel.updateFilteredEntryList(entry -> {
+            try {
+                isReleased.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        });
+        assertFalse(superseded.isDone());
+
+        longListModel.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+        assertTrue(superseded.isCancelled());
+        isReleased.countDown();
+        ForkJoinPool.commonPool().awaitQuiescence(10, TimeUnit.SECONDS);
+        assertEquals(ModelManager.PARALLEL_FILTER_THRESHOLD, longListModel.getFilteredEntryList().size());
+    }
+
+    @Test
+    public void updateFilteredEntryList_longListWithoutToolkit_filteredBeforeReturning() {
+        ModelManager longListModel = createModelWithLongList();
+        Predicate<Entry> predicate = entry -> entry.getTitle().fullTitle.endsWith("7");
+        List<Entry> expected = longListModel.getFilteredEntryList().stream().filter(predicate)
+                .collect(Collectors.toList());
+
+        assertTrue(longListModel.updateFilteredEntryList(predicate).isDone());
+        assertEquals(expected, longListModel.getFilteredEntryList());
+    }
+
+    /**
+     * Returns a model whose list context has {@code PARALLEL_FILTER_THRESHOLD} entries and whose filtered list
+     * has been built, so that it is filtered in the background.
+     */
+    private ModelManager createModelWithLongList() {
+        List<Entry> entries = IntStream.range(0, ModelManager.PARALLEL_FILTER_THRESHOLD)
+                .mapToObj(i -> new EntryBuilder().withLink("https://entry" + i + ".com").withTitle("Entry " + i)
+                        .withTags().build())
+                .collect(Collectors.toList());
+        EntryBook listEntryBook = new EntryBook();
+        listEntryBook.setEntries(entries);
+        ModelManager model = new ModelManager(listEntryBook, new EntryBook(), new EntryBook(), new UserPrefs(),
+                new StorageStub());
+        // a filtered list which has not been built yet is filtered when it is built, rather than in the background
+        model.getFilteredEntryList();
+        return model;
+    }
+
+    @Test
+    public void displaySavedSearch_entriesChangedAfterwards_resultsUpdated() {
+        modelManager.addListEntry(ALICE, Optional.empty());
+        modelManager.addArchivesEntry(DANIEL);
+        modelManager.addSavedSearch("friends", "t/friends", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build()));
+        assertEquals(Collections.singletonMap("friends", "t/friends"), modelManager.getUserPrefs().getSavedSearches());
+
+        modelManager.displaySavedSearch("friends");
+        assertEquals(ModelContext.CONTEXT_SAVED_SEARCH, modelManager.getContext());
+        assertEquals(Arrays.asList(ALICE, DANIEL), modelManager.getFilteredEntryList());
+
+        modelManager.addListEntry(BENSON, Optional.empty());
+        modelManager.archiveEntry(ALICE);
+        Entry friend = new EntryBuilder().withLink("https://friend.com").withTags("friends").build();
+        modelManager.addListEntry(friend, Optional.empty());
+        assertEquals(Arrays.asList(DANIEL, ALICE, friend), modelManager.getFilteredEntryList());
+
+        // entries of the results are searched by find
+        modelManager.updateFilteredEntryList(new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withRequiredTags("Carl").build()));
+        assertEquals(Arrays.asList(DANIEL), modelManager.getFilteredEntryList());
+    }
+
+    @Test
+    public void displaySavedSearch_otherSavedSearchDisplayed_switchesSearch() {
+        modelManager.addListEntry(ALICE, Optional.empty());
+        modelManager.addListEntry(BENSON, Optional.empty());
+        modelManager.addSavedSearch("friends", "t/friends", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("friends").build()));
+        modelManager.addSavedSearch("money", "t/owesMoney", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("owesMoney").build()));
+
+        modelManager.displaySavedSearch("friends");
+        modelManager.displaySavedSearch("money");
+        assertEquals(Arrays.asList(BENSON), modelManager.getFilteredEntryList());
+    }
+
+    @Test
+    public void deleteSavedSearch_displayed_readingListDisplayed() {
+        modelManager.addListEntry(ALICE, Optional.empty());
+        modelManager.addSavedSearch("money", "t/owesMoney", new EntryContainsSearchTermsPredicate(
+                new FindEntryDescriptorBuilder().withTags("owesMoney").build()));
+        modelManager.displaySavedSearch("money");
+
+        modelManager.deleteSavedSearch("money");
+        assertFalse(modelManager.hasSavedSearch("money"));
+        assertEquals(Collections.emptyMap(), modelManager.getUserPrefs().getSavedSearches());
+        assertEquals(ModelContext.CONTEXT_LIST, modelManager.getContext());
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredEntryList());
+    }
+
+    @Test
+    public void displaySavedSearch_unknownName_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        modelManager.displaySavedSearch("unknown");
+    }
+
+    @Test
+    public void clone_modelsChangedAfterwards_changeIndependently() {
+        modelManager.addListEntry(ALICE, Optional.empty());
+        Model clonedModel = modelManager.clone();
+        modelManager.addListEntry(BENSON, Optional.empty());
+        clonedModel.deleteListEntry(ALICE);
+
+        assertEquals(Arrays.asList(ALICE, BENSON), modelManager.getListEntryBook().getEntryList());
+        assertEquals(Collections.emptyList(), clonedModel.getListEntryBook().getEntryList());
+    }
+
+    @Test
+    public void clone_savedSearchDisplayed_entriesOnlyTestedWhenFirstUsed() {
+        modelManager.addListEntry(ALICE, Optional.empty());
+        modelManager.addListEntry(BENSON, Optional.empty());
+        AtomicInteger numTests = new AtomicInteger();
+        modelManager.addSavedSearch("alice", "alice", entry -> {
+            numTests.incrementAndGet();
+            return entry.equals(ALICE);
+        });
+        modelManager.displaySavedSearch("alice");
+        assertEquals(Arrays.asList(ALICE), modelManager.getFilteredEntryList());
+        numTests.set(0);
+
+        Model clonedModel = modelManager.clone();
+        clonedModel.updateFilteredEntryList(entry -> false);
+        assertEquals(0, numTests.get());
+
+        assertEquals(Collections.emptyList(), clonedModel.getFilteredEntryList());
+        clonedModel.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+        assertEquals(Arrays.asList(ALICE), clonedModel.getFilteredEntryList());
+        assertEquals(2, numTests.get());
+    }
+
+    @Test
+    public void setSelectedEntry_entryOnLaterPage_displaysItsPage() {
+        EntryBook searchEntryBook = new EntryBook();
+        for (int i = 0; i < ModelManager.DEFAULT_PAGE_SIZE + 1; i++) {
+            searchEntryBook.addEntry(new EntryBuilder().withLink("https://entry" + i + ".com").build());
+        }
+        modelManager.setSearchEntryBook(searchEntryBook);
+        modelManager.setContext(ModelContext.CONTEXT_SEARCH);
+        assertEquals(ModelManager.DEFAULT_PAGE_SIZE, modelManager.getPagedEntryList().size());
+
+        Entry lastEntry = searchEntryBook.getEntryList().get(ModelManager.DEFAULT_PAGE_SIZE);
+        modelManager.setSelectedEntry(lastEntry);
+        assertEquals(Arrays.asList(lastEntry), modelManager.getPagedEntryList());
+        assertEquals(new PagePosition(1, 2, ModelManager.DEFAULT_PAGE_SIZE, ModelManager.DEFAULT_PAGE_SIZE + 1),
+                modelManager.pagePositionProperty().getValue());
+
+        // a new filter is displayed from its first page
+        modelManager.updateFilteredEntryList(PREDICATE_SHOW_ALL_ENTRIES);
+        assertEquals(0, modelManager.pagePositionProperty().getValue().getPage());
+    }
+
     @Test
     public void deleteListEntry_entryIsSelectedAndFirstEntryInFilteredEntryList_selectionCleared() {
         modelManager.addListEntry(ALICE, Optional.empty());
@@ -216,6 +440,115 @@ public class ModelManagerTest {
         assertEquals(null, modelManager.getSelectedEntry());
     }
 
+    @Test
+    public void archiveEntry_thenUnarchive_articleKept() throws IOException {
+        Storage storage = new TemporaryStorageManager(testFolder);
+        modelManager = new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+        modelManager.setOfflineMode(OfflineMode.ENABLED);
+        URL url = ALICE.getLink().value;
+        modelManager.addListEntry(ALICE, Optional.of("content".getBytes()));
+
+        modelManager.archiveEntry(ALICE);
+        assertTrue(modelManager.hasArchivesEntry(ALICE));
+        assertFalse(modelManager.getOfflineLink(url).isPresent());
+
+        modelManager.unarchiveEntry(ALICE);
+        assertTrue(modelManager.hasListEntry(ALICE));
+        assertFalse(modelManager.hasArchivesEntry(ALICE));
+        assertTrue(modelManager.getOfflineLink(url).isPresent());
+    }
+
+    @Test
+    public void undoEntryBooks_deleteListEntry_articleKept() throws IOException {
+        modelManager = createModelWithArticleOf(ALICE);
+        URL url = ALICE.getLink().value;
+
+        modelManager.deleteListEntry(ALICE);
+        modelManager.commitEntryBooks();
+        modelManager.undoEntryBooks();
+        assertTrue(modelManager.hasListEntry(ALICE));
+        assertTrue(modelManager.getOfflineLink(url).isPresent());
+    }
+
+    @Test
+    public void undoEntryBooks_archiveEntry_articleMovedBack() throws IOException {
+        modelManager = createModelWithArticleOf(ALICE);
+        URL url = ALICE.getLink().value;
+
+        modelManager.archiveEntry(ALICE);
+        modelManager.commitEntryBooks();
+        modelManager.undoEntryBooks();
+        assertTrue(modelManager.hasListEntry(ALICE));
+        assertTrue(modelManager.getOfflineLink(url).isPresent());
+
+        modelManager.redoEntryBooks();
+        assertTrue(modelManager.hasArchivesEntry(ALICE));
+        assertFalse(modelManager.getOfflineLink(url).isPresent());
+    }
+
+    @Test
+    public void undoEntryBooks_clearArchivesEntryBook_archivedArticleKept() throws IOException {
+        modelManager = createModelWithArticleOf(ALICE);
+        URL url = ALICE.getLink().value;
+        modelManager.archiveEntry(ALICE);
+        modelManager.commitEntryBooks();
+
+        modelManager.clearArchivesEntryBook();
+        modelManager.commitEntryBooks();
+        modelManager.undoEntryBooks();
+        assertTrue(modelManager.hasArchivesEntry(ALICE));
+
+        // undoing the archiving brings back the archived article, which was kept when the archives were cleared
+        modelManager.undoEntryBooks();
+        assertTrue(modelManager.hasListEntry(ALICE));
+        assertTrue(modelManager.getOfflineLink(url).isPresent());
+    }
+
+    @Test
+    public void clearEntryBooksHistory_entryDeleted_articleDeleted() throws IOException {
+        modelManager = createModelWithArticleOf(ALICE);
+        URL url = ALICE.getLink().value;
+
+        modelManager.deleteListEntry(ALICE);
+        modelManager.commitEntryBooks();
+        modelManager.clearEntryBooksHistory();
+        assertFalse(modelManager.getOfflineLink(url).isPresent());
+    }
+
+    /**
+     * Returns a model saving articles to a temporary folder, with {@code entry} and its article in the reading list.
+     * The addition of the entry is not in the undo history.
+     */
+    private ModelManager createModelWithArticleOf(Entry entry) throws IOException {
+        Storage storage = new TemporaryStorageManager(testFolder);
+        ModelManager model = new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), new UserPrefs(),
+                storage);
+        model.setOfflineMode(OfflineMode.ENABLED);
+        model.addListEntry(entry, Optional.of("content".getBytes()));
+        model.clearEntryBooksHistory();
+        return model;
+    }
+
+    @Test
+    public void unarchiveEntry_entryAlreadyInList_nothingChanged() throws IOException {
+        Storage storage = new TemporaryStorageManager(testFolder);
+        modelManager = new ModelManager(new EntryBook(), new EntryBook(), new EntryBook(), new UserPrefs(), storage);
+        URL url = ALICE.getLink().value;
+        modelManager.addArchivesEntry(ALICE);
+        storage.addArticle(url, "archived".getBytes());
+        storage.archiveArticle(url);
+        modelManager.addListEntry(ALICE, Optional.empty());
+
+        thrown.expect(DuplicateEntryException.class);
+        try {
+            modelManager.unarchiveEntry(ALICE);
+        } finally {
+            assertTrue(modelManager.hasArchivesEntry(ALICE));
+            assertTrue(modelManager.hasListEntry(ALICE));
+            assertTrue(storage.unarchiveArticle(url));
+        }
+    }
+
     @Test
     public void deleteListEntry_entryIsSelectedAndSecondEntryInFilteredEntryList_firstEntrySelected() {
         modelManager.addListEntry(ALICE, Optional.empty());
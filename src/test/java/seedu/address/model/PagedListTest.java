@@ -0,0 +1,122 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+public class PagedListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<String> source = FXCollections.observableArrayList(generateNumbers(0, 25));
+    private final PagedList<String> pagedList = new PagedList<>(source, 10);
+    private final List<String> changes = new ArrayList<>();
+    private final ListChangeListener<String> changeRecorder = change -> {
+        while (change.next()) {
+            changes.add(change.getFrom() + "-" + change.getTo() + " replacing " + change.getRemoved());
+        }
+    };
+
+    @Test
+    public void constructor_nonPositivePageSize_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new PagedList<>(source, 0);
+    }
+
+    @Test
+    public void constructor_displaysFirstPage() {
+        assertEquals(generateNumbers(0, 10), pagedList);
+        assertEquals(new PagePosition(0, 3, 0, 25), pagedList.positionProperty().get());
+    }
+
+    @Test
+    public void setPage_lastPage_displaysRestOfList() {
+        pagedList.setPage(2);
+        assertEquals(generateNumbers(20, 25), pagedList);
+        assertEquals(new PagePosition(2, 3, 20, 25), pagedList.positionProperty().get());
+        assertEquals(22, pagedList.getSourceIndex(2));
+        assertEquals(2, pagedList.getViewIndex(22));
+        assertEquals(-1, pagedList.getViewIndex(5));
+    }
+
+    @Test
+    public void setPage_noSuchPage_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        pagedList.setPage(3);
+    }
+
+    @Test
+    public void setPage_emptySource_firstPageExists() {
+        source.clear();
+        pagedList.setPage(0);
+        assertTrue(pagedList.isEmpty());
+        assertEquals(new PagePosition(0, 1, 0, 0), pagedList.positionProperty().get());
+    }
+
+    @Test
+    public void showPageOf_displaysPageWithElement() {
+        pagedList.showPageOf(15);
+        assertEquals(1, pagedList.getPage());
+        assertEquals("15", pagedList.get(5));
+    }
+
+    @Test
+    public void sourceChanged_afterDisplayedPage_noChange() {
+        pagedList.addListener(changeRecorder);
+        source.remove(20);
+        source.add("25");
+
+        assertTrue(changes.isEmpty());
+        assertEquals(generateNumbers(0, 10), pagedList);
+        assertEquals(new PagePosition(0, 3, 0, 25), pagedList.positionProperty().get());
+    }
+
+    @Test
+    public void sourceChanged_onDisplayedPage_onlyChangedElementsReplaced() {
+        pagedList.addListener(changeRecorder);
+        source.set(3, "three");
+
+        assertEquals(List.of("3-4 replacing [3]"), changes);
+        assertEquals("three", pagedList.get(3));
+    }
+
+    @Test
+    public void sourceChanged_beforeDisplayedPage_pageShifts() {
+        pagedList.setPage(1);
+        pagedList.addListener(changeRecorder);
+        source.remove(0);
+
+        assertEquals(1, changes.size());
+        assertEquals(generateNumbers(11, 21), pagedList);
+    }
+
+    @Test
+    public void sourceChanged_displayedPageRemoved_displaysLastPage() {
+        pagedList.setPage(2);
+        source.remove(15, 25);
+
+        assertEquals(1, pagedList.getPage());
+        assertEquals(generateNumbers(10, 15), pagedList);
+        assertEquals(new PagePosition(1, 2, 10, 15), pagedList.positionProperty().get());
+    }
+
+    /**
+     * Returns the numbers from {@code from} (inclusive) to {@code to} (exclusive) as strings.
+     */
+    private static List<String> generateNumbers(int from, int to) {
+        return IntStream.range(from, to).mapToObj(Integer::toString).collect(Collectors.toList());
+    }
+}
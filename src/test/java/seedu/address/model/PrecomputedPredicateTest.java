@@ -0,0 +1,97 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+
+public class PrecomputedPredicateTest {
+
+    private static final Predicate<String> IS_EVEN = string -> Integer.parseInt(string) % 2 == 0;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void evaluate_nullPredicate_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PrecomputedPredicate.evaluate(List.of("1"), null);
+    }
+
+    @Test
+    public void test_evaluatedElements_matchOriginalPredicate() {
+        List<String> elements = generateNumbers(10000);
+        AtomicInteger numTests = new AtomicInteger();
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(elements, element -> {
+            numTests.incrementAndGet();
+            return IS_EVEN.test(element);
+        });
+        assertEquals(elements.size(), numTests.get());
+
+        for (String element : elements) {
+            assertEquals(IS_EVEN.test(element), predicate.test(element));
+        }
+        // looking up results does not test the original predicate again
+        assertEquals(elements.size(), numTests.get());
+    }
+
+    @Test
+    public void test_equalButNotEvaluatedElement_testsOriginalPredicate() {
+        // e.g. added to the list while it was being evaluated
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(generateNumbers(10), IS_EVEN);
+        assertTrue(predicate.test(new String("2")));
+        assertFalse(predicate.test(new String("3")));
+    }
+
+    @Test
+    public void test_equalButNotGivenMatch_doesNotMatch() {
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.withMatches(IS_EVEN, List.of("2"));
+        assertFalse(predicate.test(new String("2")));
+    }
+
+    @Test
+    public void test_afterForgettingMatches_testsOriginalPredicate() {
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(generateNumbers(10), IS_EVEN);
+        predicate.forgetMatches();
+        assertTrue(predicate.test(new String("2")));
+        assertFalse(predicate.test("3"));
+    }
+
+    @Test
+    public void filteredList_filteredByPrecomputedPredicate_sameAsOriginalInOneChange() {
+        ObservableList<String> source = FXCollections.observableArrayList(generateNumbers(10000));
+        FilteredList<String> filtered = new FilteredList<>(source);
+        List<ListChangeListener.Change<? extends String>> changes = new ArrayList<>();
+        filtered.addListener((ListChangeListener<String>) changes::add);
+
+        PrecomputedPredicate<String> predicate = PrecomputedPredicate.evaluate(new ArrayList<>(source), IS_EVEN);
+        filtered.setPredicate(predicate);
+        predicate.forgetMatches();
+
+        assertEquals(source.stream().filter(IS_EVEN).collect(Collectors.toList()), filtered);
+        assertEquals(1, changes.size());
+
+        // elements added later are filtered by the original predicate
+        source.addAll("10000", "10001");
+        assertEquals("10000", filtered.get(filtered.size() - 1));
+    }
+
+    private static List<String> generateNumbers(int count) {
+        return IntStream.range(0, count).mapToObj(Integer::toString).collect(Collectors.toList());
+    }
+}
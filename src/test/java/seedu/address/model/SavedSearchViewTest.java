@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+
+public class SavedSearchViewTest {
+
+    private static final Predicate<Entry> TAGGED_JAVA = entry -> entry.getTags().stream()
+            .anyMatch(tag -> tag.tagName.equals("java"));
+
+    private final Entry javaListEntry = new EntryBuilder().withLink("https://example.com/list-java")
+            .withTitle("Streams").withTags("java").build();
+    private final Entry kotlinListEntry = new EntryBuilder().withLink("https://example.com/list-kotlin")
+            .withTitle("Coroutines").withTags("kotlin").build();
+    private final Entry javaArchivedEntry = new EntryBuilder().withLink("https://example.com/archived-java")
+            .withTitle("Generics").withTags("java").build();
+
+    private final ObservableList<Entry> list = FXCollections.observableArrayList();
+    private final ObservableList<Entry> archives = FXCollections.observableArrayList();
+    private final SavedSearchView view = new SavedSearchView(TAGGED_JAVA, List.of(list, archives));
+
+    @Test
+    public void getMatches_matchingEntriesOfEveryList_inListOrder() {
+        list.addAll(javaListEntry, kotlinListEntry);
+        archives.add(javaArchivedEntry);
+        assertEquals(List.of(javaListEntry, javaArchivedEntry), view.getMatches());
+    }
+
+    @Test
+    public void getMatches_listsChangedAfterwards_matchesUpdated() {
+        list.addAll(javaListEntry, kotlinListEntry);
+        ObservableList<Entry> matches = view.getMatches();
+        assertEquals(List.of(javaListEntry), matches);
+
+        // added entries are tested, and matching ones added at the end
+        archives.add(javaArchivedEntry);
+        list.add(new EntryBuilder().withLink("https://example.com/other-kotlin").withTags("kotlin").build());
+        assertEquals(List.of(javaListEntry, javaArchivedEntry), matches);
+
+        // removed entries are removed
+        list.remove(javaListEntry);
+        assertEquals(List.of(javaArchivedEntry), matches);
+
+        // entries moved between lists stay matches
+        archives.remove(javaArchivedEntry);
+        list.add(javaArchivedEntry);
+        assertEquals(List.of(javaArchivedEntry), matches);
+
+        list.clear();
+        assertEquals(List.of(), matches);
+    }
+
+    @Test
+    public void getMatches_entryEdited_keepsItsPlaceOrIsRemoved() {
+        list.addAll(javaListEntry, kotlinListEntry, javaArchivedEntry);
+        ObservableList<Entry> matches = view.getMatches();
+
+        Entry editedJavaEntry = new EntryBuilder(javaListEntry).withTitle("Parallel streams").build();
+        list.set(0, editedJavaEntry);
+        assertEquals(List.of(editedJavaEntry, javaArchivedEntry), matches);
+
+        Entry editedKotlinEntry = new EntryBuilder(kotlinListEntry).withTags("java", "kotlin").build();
+        list.set(1, editedKotlinEntry);
+        assertEquals(List.of(editedJavaEntry, javaArchivedEntry, editedKotlinEntry), matches);
+
+        list.set(0, new EntryBuilder(editedJavaEntry).withTags().build());
+        assertEquals(List.of(javaArchivedEntry, editedKotlinEntry), matches);
+    }
+
+    @Test
+    public void getMatchesEntryBook_sameLinkInTwoLists_firstKept() {
+        list.add(javaListEntry);
+        Entry sameLinkEntry = new EntryBuilder(javaListEntry).withTitle("Copy").build();
+        archives.add(sameLinkEntry);
+        assertEquals(List.of(javaListEntry, sameLinkEntry), view.getMatches());
+
+        EntryBook entryBook = view.getMatchesEntryBook();
+        assertEquals(List.of(javaListEntry), entryBook.getEntryList());
+        // made again only after the matches change
+        assertSame(entryBook, view.getMatchesEntryBook());
+        archives.add(javaArchivedEntry);
+        assertNotSame(entryBook, view.getMatchesEntryBook());
+        assertEquals(List.of(javaListEntry, javaArchivedEntry), view.getMatchesEntryBook().getEntryList());
+    }
+
+    @Test
+    public void dispose_listsChangedAfterwards_matchesNotUpdated() {
+        list.add(javaListEntry);
+        ObservableList<Entry> matches = view.getMatches();
+        view.dispose();
+        archives.add(javaArchivedEntry);
+        assertEquals(List.of(javaListEntry), matches);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void getMatches_modified_throwsUnsupportedOperationException() {
+        view.getMatches().add(javaListEntry);
+    }
+}
@@ -0,0 +1,223 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.entry.Entry;
+
+public class UndoHistoryTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final EntryBook listBook = getTypicalListEntryBook();
+    private final EntryBook archivesBook = new EntryBook();
+    private final List<Entry> forgottenEntries = new ArrayList<>();
+    private final UndoHistory history = new UndoHistory(List.of(listBook, archivesBook), forgottenEntries::addAll);
+
+    @Test
+    public void undo_nothingCommitted_throwsIllegalStateException() {
+        assertFalse(history.canUndo());
+        thrown.expect(IllegalStateException.class);
+        history.undo();
+    }
+
+    @Test
+    public void undo_changesToSeveralBooks_undoneTogether() {
+        List<Entry> originalEntries = new ArrayList<>(listBook.getEntryList());
+        listBook.removeEntry(ALICE);
+        archivesBook.addEntry(ALICE);
+        history.commit();
+
+        history.undo();
+        assertEquals(originalEntries, listBook.getEntryList());
+        assertEquals(List.of(), archivesBook.getEntryList());
+        assertFalse(history.canUndo());
+        assertTrue(history.canRedo());
+
+        history.redo();
+        assertFalse(listBook.hasEntry(ALICE));
+        assertEquals(List.of(ALICE), archivesBook.getEntryList());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_undoneAsOneCommit() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        listBook.removeEntry(BENSON);
+
+        history.undo();
+        assertTrue(listBook.hasEntry(BENSON));
+        assertFalse(listBook.hasEntry(ALICE));
+    }
+
+    @Test
+    public void undo_bulkDelete_listenersToldOnce() {
+        List<Entry> originalEntries = new ArrayList<>(listBook.getEntryList());
+        for (int i = originalEntries.size() - 1; i >= 0; i--) {
+            listBook.removeEntry(originalEntries.get(i));
+        }
+        history.commit();
+
+        List<Integer> numInvalidations = new ArrayList<>();
+        List<Integer> numListChanges = new ArrayList<>();
+        listBook.addListener(observable -> numInvalidations.add(1));
+        listBook.getEntryList().addListener((ListChangeListener<Entry>) change -> numListChanges.add(1));
+
+        history.undo();
+        assertEquals(originalEntries, listBook.getEntryList());
+        assertEquals(1, numInvalidations.size());
+        assertEquals(1, numListChanges.size());
+    }
+
+    @Test
+    public void canUndo_uncommittedChanges_notCommitted() {
+        listBook.removeEntry(ALICE);
+        assertFalse(history.canUndo());
+        assertFalse(history.canRedo());
+        assertEquals(0, history.getMemoryUsed());
+    }
+
+    @Test
+    public void redo_oneBookChangedWithoutRecording_noBookChanged() {
+        EntryBook feedsBook = new EntryBook();
+        UndoHistory historyOfThreeBooks = new UndoHistory(List.of(listBook, archivesBook, feedsBook));
+        archivesBook.addEntry(DANIEL);
+        historyOfThreeBooks.commit();
+        listBook.removeEntry(ALICE);
+        archivesBook.removeEntry(DANIEL);
+        feedsBook.addEntry(BENSON);
+        historyOfThreeBooks.commit();
+
+        // changes made by listeners while undoing are not recorded
+        feedsBook.addListener(observable -> {
+            if (archivesBook.hasEntry(DANIEL)) {
+                archivesBook.removeEntry(DANIEL);
+            }
+        });
+        historyOfThreeBooks.undo();
+        List<Entry> listEntries = new ArrayList<>(listBook.getEntryList());
+        assertTrue(listBook.hasEntry(ALICE));
+        assertEquals(List.of(), archivesBook.getEntryList());
+
+        try {
+            historyOfThreeBooks.redo();
+            fail();
+        } catch (IllegalStateException ise) {
+            assertEquals(listEntries, listBook.getEntryList());
+            assertEquals(List.of(), archivesBook.getEntryList());
+            assertEquals(List.of(), feedsBook.getEntryList());
+            assertFalse(historyOfThreeBooks.canUndo());
+            assertFalse(historyOfThreeBooks.canRedo());
+        }
+    }
+
+    @Test
+    public void commit_afterUndo_redoForgotten() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        history.undo();
+
+        listBook.removeEntry(BENSON);
+        history.commit();
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void commit_noChanges_redoKept() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        history.undo();
+
+        history.commit();
+        assertTrue(history.canRedo());
+    }
+
+    @Test
+    public void setMemoryLimit_exceeded_oldestCommitsForgotten() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        long sizeOfOneCommit = history.getMemoryUsed();
+        listBook.removeEntry(BENSON);
+        history.commit();
+        listBook.removeEntry(CARL);
+        history.commit();
+
+        history.setMemoryLimit(2 * sizeOfOneCommit + sizeOfOneCommit / 2);
+        history.undo();
+        history.undo();
+        assertFalse(history.canUndo());
+        assertTrue(listBook.hasEntry(BENSON));
+        assertFalse(listBook.hasEntry(ALICE));
+
+        history.setMemoryLimit(0);
+        assertFalse(history.canRedo());
+        assertEquals(0, history.getMemoryUsed());
+    }
+
+    @Test
+    public void setMemoryLimit_commitsForgotten_entriesNotInOtherCommitsHandedOver() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        listBook.removeEntry(BENSON);
+        history.commit();
+        listBook.addEntry(ALICE);
+        history.commit();
+
+        history.setMemoryLimit(history.getMemoryUsed() - 1);
+        // the removal of ALICE is forgotten, but her later addition can still be undone
+        assertEquals(List.of(), forgottenEntries);
+
+        history.setMemoryLimit(0);
+        assertEquals(List.of(BENSON, ALICE), forgottenEntries);
+    }
+
+    @Test
+    public void commit_afterUndo_entriesOfRedoHandedOver() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        history.undo();
+
+        listBook.removeEntry(BENSON);
+        history.commit();
+        assertEquals(List.of(ALICE), forgottenEntries);
+    }
+
+    @Test
+    public void clear_everyCommitForgotten() {
+        listBook.removeEntry(ALICE);
+        history.commit();
+        listBook.removeEntry(BENSON);
+
+        history.clear();
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getMemoryUsed());
+        assertEquals(List.of(BENSON, ALICE), forgottenEntries);
+    }
+
+    @Test
+    public void undo_returnsEntriesOfCommit() {
+        listBook.removeEntry(ALICE);
+        archivesBook.addEntry(ALICE);
+        listBook.removeEntry(BENSON);
+        history.commit();
+
+        assertEquals(List.of(ALICE, BENSON), new ArrayList<>(history.undo()));
+        assertEquals(List.of(ALICE, BENSON), new ArrayList<>(history.redo()));
+    }
+}
@@ -1,10 +1,16 @@
 package seedu.address.model.entry;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Optional;
+import java.util.Set;
+
 import org.junit.Test;
 
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagQuery;
 import seedu.address.testutil.EntryBuilder;
 import seedu.address.testutil.FindEntryDescriptorBuilder;
 
@@ -428,4 +434,95 @@ public class EntryContainsSearchTermsPredicateTest {
             .withTags("dumb");
         assertTrue(predicate.test(builder.build()));
     }
+
+    @Test
+    public void test_requiredAndExcludedTags_filterMatches() {
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder()
+                .withTitle("dumb")
+                .withRequiredTags("java")
+                .withExcludedTags("beginner")
+                .build());
+
+        // search term matches and tags satisfied -> returns true
+        assertTrue(predicate.test(new EntryBuilder().withTitle("dumb").withTags("java", "jvm").build()));
+
+        // search term does not match -> returns false
+        assertFalse(predicate.test(new EntryBuilder().withTitle("title").withTags("java").build()));
+
+        // required tag missing -> returns false
+        assertFalse(predicate.test(new EntryBuilder().withTitle("dumb").withTags("jvm").build()));
+
+        // excluded tag present -> returns false
+        assertFalse(predicate.test(new EntryBuilder().withTitle("dumb").withTags("java", "beginner").build()));
+
+        // only excluded tags given -> returns true for entries without them
+        predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withExcludedTags("beginner").build());
+        assertTrue(predicate.test(new EntryBuilder().withTags().build()));
+        assertFalse(predicate.test(new EntryBuilder().withTags("beginner").build()));
+    }
+
+    @Test
+    public void test_fuzzyPhrase_matchesWordsWithTypos() {
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withFuzzy("kuberentes opertor").withRequiredTags("ops").build());
+
+        // every word similar to a word in the title or description -> returns true
+        assertTrue(predicate.test(new EntryBuilder().withTitle("Writing a Kubernetes")
+            .withDescription("operator in Go").withTags("ops").build()));
+
+        // a word without a similar word -> returns false
+        assertFalse(predicate.test(new EntryBuilder().withTitle("Kubernetes networking")
+            .withDescription("Services and ingress").withTags("ops").build()));
+
+        // required tag missing -> returns false
+        assertFalse(predicate.test(new EntryBuilder().withTitle("Kubernetes operator").withTags().build()));
+
+        // short words must match exactly
+        predicate = new EntryContainsSearchTermsPredicate(new FindEntryDescriptorBuilder().withFuzzy("jvm").build());
+        assertTrue(predicate.test(new EntryBuilder().withTitle("JVM internals").build()));
+        assertFalse(predicate.test(new EntryBuilder().withTitle("JVMs internals").build()));
+    }
+
+    @Test
+    public void getFuzzyPhrase() {
+        // only fuzzy phrase and tag filters -> returns phrase
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withFuzzy("kuberentes").withExcludedTags("beginner").build());
+        assertEquals(Optional.of("kuberentes"), predicate.getFuzzyPhrase());
+        assertEquals(Optional.empty(), predicate.getTagQuery());
+
+        // other search terms -> returns empty
+        predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withFuzzy("kuberentes").withTags("ops").build());
+        assertEquals(Optional.empty(), predicate.getFuzzyPhrase());
+
+        // no fuzzy phrase -> returns empty
+        predicate = new EntryContainsSearchTermsPredicate(new FindEntryDescriptorBuilder().withTitle("dumb").build());
+        assertEquals(Optional.empty(), predicate.getFuzzyPhrase());
+    }
+
+    @Test
+    public void getTagQuery() {
+        // only tags -> returns query
+        EntryContainsSearchTermsPredicate predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withTags("any").withRequiredTags("java").withExcludedTags("beginner")
+                .build());
+        assertEquals(Optional.of(new TagQuery(Set.of(new Tag("any")), Set.of(new Tag("java")),
+            Set.of(new Tag("beginner")))), predicate.getTagQuery());
+
+        // other fields searched -> returns empty
+        predicate = new EntryContainsSearchTermsPredicate(
+            new FindEntryDescriptorBuilder().withAll("dumb").withRequiredTags("java").build());
+        assertEquals(Optional.empty(), predicate.getTagQuery());
+
+        // empty set of tags matches nothing -> returns empty
+        predicate = new EntryContainsSearchTermsPredicate(new FindEntryDescriptorBuilder().withTags().build());
+        assertEquals(Optional.empty(), predicate.getTagQuery());
+
+        // nothing searched -> returns empty
+        predicate = new EntryContainsSearchTermsPredicate(new FindEntryDescriptorBuilder().build());
+        assertEquals(Optional.empty(), predicate.getTagQuery());
+    }
 }
@@ -1,5 +1,8 @@
 package seedu.address.model.entry;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
 import java.net.MalformedURLException;
 import java.net.URL;
 
@@ -23,4 +26,28 @@ public class LinkTest {
         Assert.assertThrows(MalformedURLException.class, () -> new Link("https://foo.bar:badport/"));
     }
 
+    @Test
+    public void equals_linksWithSameCanonicalForm_equalWithSameHashCode() throws MalformedURLException {
+        Link link = new Link("https://example.com/article");
+        Link[] sameLinks = {
+            new Link("HTTPS://EXAMPLE.COM/article"),
+            new Link("http://www.example.com/article/"),
+            new Link("https://example.com/article?utm_source=rss&utm_medium=feed"),
+            new Link("https://example.com:443/article#top")
+        };
+        for (Link sameLink : sameLinks) {
+            assertEquals(link, sameLink);
+            assertEquals(link.hashCode(), sameLink.hashCode());
+        }
+
+        assertNotEquals(link, new Link("https://example.com/other-article"));
+        assertNotEquals(link, new Link("https://example.com/article?page=2"));
+    }
+
+    @Test
+    public void toString_originalLinkKept() throws MalformedURLException {
+        String original = "http://www.example.com/article?utm_source=rss";
+        assertEquals(original, new Link(original).toString());
+    }
+
 }
@@ -0,0 +1,54 @@
+package seedu.address.model.entry;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.junit.Test;
+
+public class MinHashTest {
+
+    private static final String STORY = "Researchers unveil a faster garbage collector for the Java virtual machine, "
+            + "cutting pause times for large heaps by an order of magnitude in early benchmarks of server workloads";
+
+    @Test
+    public void of_tooFewWords_noSignature() {
+        assertSame(MinHash.NO_SIGNATURE, MinHash.of(""));
+        assertSame(MinHash.NO_SIGNATURE, MinHash.of("Breaking news: Java released"));
+        assertSame(MinHash.NO_SIGNATURE, MinHash.of("This Week in Rust 500"));
+    }
+
+    @Test
+    public void numbersOf_textWithNumbers_numbersInOrder() {
+        assertEquals(List.of("1", "2", "3", "2019"), MinHash.numbersOf("Release notes for version 1.2.3 (2019)"));
+        assertEquals(List.of(), MinHash.numbersOf(STORY));
+    }
+
+    @Test
+    public void of_caseAndPunctuationChanged_sameSignature() {
+        assertArrayEquals(MinHash.of(STORY), MinHash.of(STORY.toUpperCase().replace(",", " - ")));
+    }
+
+    @Test
+    public void similarity_fewWordsChanged_similar() {
+        String syndicatedStory = STORY.replace("Researchers", "Scientists") + " (via Wire)";
+        assertTrue(MinHash.similarity(MinHash.of(STORY), MinHash.of(syndicatedStory))
+                >= NearDuplicateIndex.MIN_SIMILARITY);
+    }
+
+    @Test
+    public void similarity_differentStories_dissimilar() {
+        String otherStory = "City council approves new budget for public libraries, extending opening hours "
+                + "and funding a programme of free weekend workshops for children across every district";
+        assertTrue(MinHash.similarity(MinHash.of(STORY), MinHash.of(otherStory)) < NearDuplicateIndex.MIN_SIMILARITY);
+    }
+
+    @Test
+    public void similarity_noSignature_zero() {
+        assertEquals(0, MinHash.similarity(MinHash.of(STORY), MinHash.NO_SIGNATURE), 0);
+        assertEquals(1, MinHash.similarity(MinHash.of(STORY), MinHash.of(STORY)), 0);
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model.entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.EntryBuilder;
+
+public class NearDuplicateIndexTest {
+
+    private static final String TITLE = "Faster garbage collector for the Java virtual machine unveiled";
+    private static final String DESCRIPTION = "Pause times for large heaps drop by an order of magnitude "
+            + "in early benchmarks of server workloads, researchers say";
+
+    private final Entry story = new EntryBuilder().withLink("https://news.example.com/gc")
+            .withTitle(TITLE).withDescription(DESCRIPTION).build();
+    private final Entry syndicatedStory = new EntryBuilder().withLink("https://wire.example.org/story/123")
+            .withTitle(TITLE).withDescription(DESCRIPTION + " (via Wire)").build();
+    private final Entry otherStory = new EntryBuilder().withLink("https://news.example.com/libraries")
+            .withTitle("City council approves new budget for public libraries")
+            .withDescription("Opening hours are extended and free weekend workshops for children are funded").build();
+    private final Entry untitledEntry = new EntryBuilder().withLink("https://news.example.com/untitled")
+            .withTitle("").withDescription("").build();
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+    private final NearDuplicateIndex index = new NearDuplicateIndex(entries);
+
+    @Test
+    public void findNearDuplicate_syndicatedStory_found() {
+        entries.addAll(story, otherStory);
+        assertEquals(Optional.of(story), index.findNearDuplicate(syndicatedStory));
+        assertFalse(index.findNearDuplicate(story).isPresent());
+    }
+
+    @Test
+    public void findNearDuplicate_differentStory_notFound() {
+        entries.add(story);
+        assertFalse(index.findNearDuplicate(otherStory).isPresent());
+    }
+
+    @Test
+    public void findNearDuplicate_tooFewWords_notFound() {
+        Entry otherUntitledEntry = new EntryBuilder().withLink("https://wire.example.org/untitled")
+                .withTitle("").withDescription("").build();
+        entries.add(untitledEntry);
+        assertFalse(index.findNearDuplicate(otherUntitledEntry).isPresent());
+    }
+
+    @Test
+    public void findNearDuplicate_differentNumbers_notFound() {
+        String description = "Highlights include faster incremental builds, a smaller standard library "
+                + "and improved error messages for the type checker";
+        Entry releaseNotes = new EntryBuilder().withLink("https://example.org/releases/1.2.3")
+                .withTitle("Release notes for version 1.2.3").withDescription(description).build();
+        Entry nextReleaseNotes = new EntryBuilder().withLink("https://example.org/releases/1.2.4")
+                .withTitle("Release notes for version 1.2.4").withDescription(description).build();
+        entries.add(releaseNotes);
+        assertFalse(index.findNearDuplicate(nextReleaseNotes).isPresent());
+    }
+
+    @Test
+    public void findNearDuplicate_noDescription_notFound() {
+        Entry titleOnly = new EntryBuilder().withLink("https://news.example.com/title-only")
+                .withTitle(TITLE + " and now ships with every server build by default").withDescription("").build();
+        Entry syndicatedTitleOnly = new EntryBuilder().withLink("https://wire.example.org/title-only")
+                .withTitle(TITLE + " and now ships with every server build by default").withDescription("").build();
+        entries.add(titleOnly);
+        assertFalse(index.findNearDuplicate(syndicatedTitleOnly).isPresent());
+    }
+
+    @Test
+    public void findNearDuplicate_listChangedAfterBuilding_followsChanges() {
+        entries.add(otherStory);
+        assertFalse(index.findNearDuplicate(syndicatedStory).isPresent());
+
+        entries.add(story);
+        assertEquals(Optional.of(story), index.findNearDuplicate(syndicatedStory));
+
+        entries.set(1, syndicatedStory);
+        assertEquals(Optional.of(syndicatedStory), index.findNearDuplicate(story));
+
+        entries.remove(syndicatedStory);
+        assertFalse(index.findNearDuplicate(story).isPresent());
+    }
+}
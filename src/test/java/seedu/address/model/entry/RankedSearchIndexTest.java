@@ -0,0 +1,93 @@
+package seedu.address.model.entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.EntryBuilder;
+
+public class RankedSearchIndexTest {
+
+    private final Entry titleMatch = new EntryBuilder().withLink("https://example.com/title")
+            .withTitle("Java concurrency in practice").withDescription("A book review").withTags().build();
+    private final Entry tagMatch = new EntryBuilder().withLink("https://example.com/tag")
+            .withTitle("Locks and latches").withDescription("Notes on threads").withTags("concurrency").build();
+    private final Entry descriptionMatch = new EntryBuilder().withLink("https://example.com/description")
+            .withTitle("Weekly digest").withDescription("Links about concurrency, compilers and databases")
+            .withTags().build();
+    private final Entry noMatch = new EntryBuilder().withLink("https://example.com/none")
+            .withTitle("Gardening tips").withDescription("Growing tomatoes").withTags().build();
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+    private final RankedSearchIndex index = new RankedSearchIndex(entries);
+
+    @Test
+    public void search_fieldBoosts_titleThenTagsThenDescription() {
+        entries.addAll(noMatch, descriptionMatch, tagMatch, titleMatch);
+        assertEquals(List.of(titleMatch, tagMatch, descriptionMatch), index.search("Concurrency", 10));
+    }
+
+    @Test
+    public void search_rareWord_rankedAboveCommonWord() {
+        entries.addAll(titleMatch, tagMatch, descriptionMatch, noMatch);
+        // "java" is in one entry, "concurrency" in three, so the entry with both comes first
+        assertEquals(titleMatch, index.search("concurrency java", 10).get(0));
+        assertEquals(List.of(titleMatch), index.search("JAVA", 10));
+    }
+
+    @Test
+    public void search_maxResults_mostRelevantKept() {
+        entries.addAll(descriptionMatch, tagMatch, titleMatch, noMatch);
+        assertEquals(List.of(titleMatch, tagMatch), index.search("concurrency", 2));
+    }
+
+    @Test
+    public void search_noMatches_emptyList() {
+        assertTrue(index.search("concurrency", 10).isEmpty());
+        entries.addAll(titleMatch, noMatch);
+        assertTrue(index.search("kotlin", 10).isEmpty());
+        assertTrue(index.search("  ", 10).isEmpty());
+    }
+
+    @Test
+    public void search_listChangedAfterSearch_indexUpdated() {
+        entries.addAll(titleMatch, noMatch);
+        assertEquals(List.of(titleMatch), index.search("concurrency", 10));
+
+        entries.add(tagMatch);
+        entries.remove(titleMatch);
+        assertEquals(List.of(tagMatch), index.search("concurrency", 10));
+
+        Entry editedNoMatch = new EntryBuilder(noMatch).withTags("concurrency").build();
+        entries.set(entries.indexOf(noMatch), editedNoMatch);
+        assertEquals(2, index.search("concurrency", 10).size());
+        assertTrue(index.search("tomatoes", 10).contains(editedNoMatch));
+
+        entries.clear();
+        assertTrue(index.search("concurrency", 10).isEmpty());
+    }
+
+    @Test
+    public void search_manyEntries_sameAsSortingAllScores() {
+        List<Entry> manyEntries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyEntries.add(new EntryBuilder().withLink("https://example.com/" + i)
+                    .withTitle("Entry " + i + (i % 3 == 0 ? " about java" : ""))
+                    .withDescription("Some words " + (i % 7 == 0 ? "java java" : "kotlin")).build());
+        }
+        entries.addAll(manyEntries);
+        List<Entry> all = index.search("java", manyEntries.size());
+        assertEquals(all.subList(0, 10), index.search("java", 10));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void search_nonPositiveMaxResults_throwsIllegalArgumentException() {
+        index.search("java", 0);
+    }
+}
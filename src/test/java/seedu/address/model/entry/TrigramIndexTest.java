@@ -0,0 +1,106 @@
+package seedu.address.model.entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.util.WordTokenizer;
+import seedu.address.testutil.EntryBuilder;
+
+public class TrigramIndexTest {
+
+    private final Entry kubernetes = new EntryBuilder().withLink("https://example.com/kubernetes")
+            .withTitle("Kubernetes operators").withDescription("Writing a controller in Go").withTags().build();
+    private final Entry concurrency = new EntryBuilder().withLink("https://example.com/concurrency")
+            .withTitle("Java concurrency").withDescription("Locks, latches and the JVM").withTags().build();
+    private final Entry gardening = new EntryBuilder().withLink("https://example.com/gardening")
+            .withTitle("Gardening tips").withDescription("Growing tomatoes").withTags().build();
+
+    private final ObservableList<Entry> entries = FXCollections.observableArrayList();
+    private final TrigramIndex index = new TrigramIndex(entries);
+
+    @Test
+    public void getEntriesMatchingFuzzily_typos_matched() {
+        entries.addAll(kubernetes, concurrency, gardening);
+        // transposition, deletion, insertion and substitution
+        assertEquals(List.of(kubernetes), index.getEntriesMatchingFuzzily("kuberentes"));
+        assertEquals(List.of(concurrency), index.getEntriesMatchingFuzzily("Concurency"));
+        assertEquals(List.of(gardening), index.getEntriesMatchingFuzzily("tomatoess"));
+        assertEquals(List.of(kubernetes), index.getEntriesMatchingFuzzily("controler"));
+    }
+
+    @Test
+    public void getEntriesMatchingFuzzily_everyWordMustMatch() {
+        entries.addAll(kubernetes, concurrency, gardening);
+        assertEquals(List.of(kubernetes), index.getEntriesMatchingFuzzily("kubernets operator"));
+        assertTrue(index.getEntriesMatchingFuzzily("kubernets tomatos").isEmpty());
+    }
+
+    @Test
+    public void getEntriesMatchingFuzzily_shortWordsAndTooManyEdits_notMatched() {
+        entries.addAll(kubernetes, concurrency, gardening);
+        // words shorter than four letters must match exactly
+        assertEquals(List.of(concurrency), index.getEntriesMatchingFuzzily("jvm"));
+        assertTrue(index.getEntriesMatchingFuzzily("jvn").isEmpty());
+        // "lathces" is two edits away from "latches", but words shorter than eight letters may only be one edit away
+        assertTrue(index.getEntriesMatchingFuzzily("lathces").isEmpty());
+        assertTrue(index.getEntriesMatchingFuzzily("  ").isEmpty());
+    }
+
+    @Test
+    public void getEntriesMatchingFuzzily_listChangedAfterSearch_indexUpdated() {
+        entries.addAll(kubernetes, gardening);
+        assertEquals(List.of(kubernetes), index.getEntriesMatchingFuzzily("kubernets"));
+
+        entries.remove(kubernetes);
+        entries.add(concurrency);
+        assertTrue(index.getEntriesMatchingFuzzily("kubernets").isEmpty());
+        assertEquals(List.of(concurrency), index.getEntriesMatchingFuzzily("concurency"));
+
+        Entry editedGardening = new EntryBuilder(gardening).withDescription("Growing kubernetes clusters").build();
+        entries.set(entries.indexOf(gardening), editedGardening);
+        assertEquals(List.of(editedGardening), index.getEntriesMatchingFuzzily("kubernets"));
+        assertTrue(index.getEntriesMatchingFuzzily("tomatos").isEmpty());
+
+        entries.clear();
+        assertTrue(index.getEntriesMatchingFuzzily("concurency").isEmpty());
+    }
+
+    @Test
+    public void getEntriesMatchingFuzzily_manyEntries_sameAsTestingEveryEntry() {
+        String[] words = {"kubernetes", "kotlin", "java", "javascript", "aaaa", "concurrency", "compiler", "go"};
+        List<Entry> manyEntries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            manyEntries.add(new EntryBuilder().withLink("https://example.com/" + i)
+                    .withTitle(words[i % words.length] + " " + words[(i / 3) % words.length])
+                    .withDescription("notes " + words[(i / 7) % words.length]).build());
+        }
+        entries.addAll(manyEntries);
+        for (String query : List.of("kubernets", "kotln", "javaa", "javascirpt", "aaaaa", "compilr go", "notess")) {
+            List<String> queryWords = WordTokenizer.toWords(query);
+            Set<Entry> expected = new HashSet<>();
+            manyEntries.stream().filter(entry -> TrigramIndex.matchesFuzzily(entry, queryWords))
+                    .forEach(expected::add);
+            assertFalse(expected.isEmpty());
+            assertEquals(expected, new HashSet<>(index.getEntriesMatchingFuzzily(query)));
+        }
+    }
+
+    @Test
+    public void isWithinEditDistance() {
+        assertTrue(TrigramIndex.isWithinEditDistance("kitten", "kitten", 0));
+        assertTrue(TrigramIndex.isWithinEditDistance("kitten", "sitting", 3));
+        assertFalse(TrigramIndex.isWithinEditDistance("kitten", "sitting", 2));
+        assertTrue(TrigramIndex.isWithinEditDistance("", "ab", 2));
+        assertFalse(TrigramIndex.isWithinEditDistance("abc", "abcdef", 2));
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+
+public class EntryAutofillTest {
+
+    private static final String ORIGINAL_LINK = "https://example.com/articles/one?ref=homepage";
+
+    private final Entry entry = new EntryBuilder().withTitle("Article").withDescription("An article")
+            .withLink(ORIGINAL_LINK).build();
+
+    @Test
+    public void getFilledEntry_canonicalLinkDeclared_canonicalLinkUsed() {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml(
+                "<html><head><link rel=\"canonical\" href=\"https://example.com/one\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals("https://example.com/one", autofill.getFilledEntry().getLink().value.toString());
+    }
+
+    @Test
+    public void getFilledEntry_relativeCanonicalLink_resolvedAgainstBaseUrl() {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml("<html><head><link rel=\"canonical\" href=\"/one\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals("https://example.com/one", autofill.getFilledEntry().getLink().value.toString());
+    }
+
+    @Test
+    public void getFilledEntry_noOrInvalidCanonicalLink_originalLinkKept() {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml("<html><head><title>Article</title></head></html>", ORIGINAL_LINK);
+        assertEquals(ORIGINAL_LINK, autofill.getFilledEntry().getLink().value.toString());
+
+        autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml("<html><head><link rel=\"canonical\" href=\"javascript:void(0)\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals(ORIGINAL_LINK, autofill.getFilledEntry().getLink().value.toString());
+    }
+
+    @Test
+    public void getFilledEntry_canonicalLinkOnOtherHost_originalLinkKept() {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml(
+                "<html><head><link rel=\"canonical\" href=\"https://example.org/one\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals(ORIGINAL_LINK, autofill.getFilledEntry().getLink().value.toString());
+
+        // www. does not make it another host
+        autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml(
+                "<html><head><link rel=\"canonical\" href=\"https://www.example.com/one\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals("https://www.example.com/one", autofill.getFilledEntry().getLink().value.toString());
+    }
+
+    @Test
+    public void getFilledEntry_canonicalLinkToSiteRoot_originalLinkKept() {
+        EntryAutofill autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml("<html><head><link rel=\"canonical\" href=\"/\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals(ORIGINAL_LINK, autofill.getFilledEntry().getLink().value.toString());
+
+        autofill = new EntryAutofill(entry);
+        autofill.extractFromHtml(
+                "<html><head><link rel=\"canonical\" href=\"https://example.com\"></head></html>",
+                ORIGINAL_LINK);
+        assertEquals(ORIGINAL_LINK, autofill.getFilledEntry().getLink().value.toString());
+    }
+
+    @Test
+    public void getFilledEntry_localPage_originalLinkKept() {
+        String localLink = "file:/tmp/article.html";
+        EntryAutofill autofill = new EntryAutofill(new EntryBuilder(entry).withLink(localLink).build());
+        autofill.extractFromHtml(
+                "<html><head><link rel=\"canonical\" href=\"https://example.com/one\"></head></html>", localLink);
+        assertEquals(localLink, autofill.getFilledEntry().getLink().value.toString());
+    }
+}
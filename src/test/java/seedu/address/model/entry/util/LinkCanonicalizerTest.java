@@ -0,0 +1,67 @@
+package seedu.address.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import org.junit.Test;
+
+import seedu.address.testutil.TestUtil;
+
+public class LinkCanonicalizerTest {
+
+    @Test
+    public void canonicalize_equivalentLinks_sameCanonicalForm() {
+        String expected = "https://example.com/articles/one";
+        assertCanonicalForm(expected, "https://example.com/articles/one");
+        assertCanonicalForm(expected, "http://example.com/articles/one");
+        assertCanonicalForm(expected, "https://www.example.com/articles/one");
+        assertCanonicalForm(expected, "https://EXAMPLE.com./Articles/One/");
+        assertCanonicalForm(expected, "https://example.com:443/articles/one");
+        assertCanonicalForm(expected, "http://example.com:80/articles/one");
+        assertCanonicalForm(expected, "https://example.com/articles/./two/../one");
+        assertCanonicalForm(expected, "https://example.com/articles/one#comments");
+        assertCanonicalForm(expected, "https://example.com/articles/one?utm_source=feed&utm_medium=rss");
+        assertCanonicalForm(expected, "https://example.com/articles/one?fbclid=abc&gclid=def");
+        assertCanonicalForm(expected, "https://example.com/articles/one?");
+    }
+
+    @Test
+    public void canonicalize_emptyPath_rootPath() {
+        assertCanonicalForm("https://example.com/", "https://example.com");
+        assertCanonicalForm("https://example.com/", "https://example.com/");
+    }
+
+    @Test
+    public void canonicalize_query_trackingParametersRemovedAndSorted() {
+        assertCanonicalForm("https://example.com/search?a=1&q=news",
+                "https://example.com/search?q=news&utm_campaign=x&a=1");
+        // parameters with the same name keep their order
+        assertCanonicalForm("https://example.com/search?a=1&tag=b&tag=a",
+                "https://example.com/search?tag=b&a=1&tag=a");
+    }
+
+    @Test
+    public void canonicalize_differentPages_differentCanonicalForms() {
+        assertNotEquals(canonicalize("https://example.com/articles/one"),
+                canonicalize("https://example.com/articles/two"));
+        assertNotEquals(canonicalize("https://example.com/article?id=1"),
+                canonicalize("https://example.com/article?id=2"));
+        assertNotEquals(canonicalize("https://example.com:8080/"), canonicalize("https://example.com/"));
+        assertNotEquals(canonicalize("https://blog.example.com/"), canonicalize("https://example.com/"));
+    }
+
+    @Test
+    public void canonicalize_otherProtocols_protocolKept() {
+        assertCanonicalForm("ftp://example.com/file.txt", "ftp://www.example.com/file.txt");
+        assertCanonicalForm("file:/tmp/article.html", "file:/tmp/article.html");
+        assertCanonicalForm("file:/tmp/article.html", "file:///tmp/article.html");
+    }
+
+    private static String canonicalize(String url) {
+        return LinkCanonicalizer.canonicalize(TestUtil.toUrl(url));
+    }
+
+    private static void assertCanonicalForm(String expected, String url) {
+        assertEquals(expected, canonicalize(url));
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.entry.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class WordTokenizerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toWords_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        WordTokenizer.toWords(null);
+    }
+
+    @Test
+    public void toWords_noLettersOrDigits_noWords() {
+        assertEquals(List.of(), WordTokenizer.toWords(""));
+        assertEquals(List.of(), WordTokenizer.toWords(" -- !? "));
+    }
+
+    @Test
+    public void toWords_punctuationAndCase_lowercaseWordsInOrder() {
+        assertEquals(List.of("java", "9", "what", "s", "new", "in", "java"),
+                WordTokenizer.toWords("  Java 9: What's new in... JAVA?"));
+        assertEquals(List.of("caf\u00e9", "\u6771\u4eac"), WordTokenizer.toWords("Caf\u00e9/\u6771\u4eac"));
+    }
+}
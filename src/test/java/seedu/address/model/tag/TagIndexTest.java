@@ -0,0 +1,123 @@
+package seedu.address.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalEntries.ALICE;
+import static seedu.address.testutil.TypicalEntries.BENSON;
+import static seedu.address.testutil.TypicalEntries.CARL;
+import static seedu.address.testutil.TypicalEntries.DANIEL;
+import static seedu.address.testutil.TypicalEntries.HANS;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.entry.Entry;
+import seedu.address.testutil.EntryBuilder;
+
+public class TagIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Entry> entries =
+            FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL, HANS);
+    private final TagIndex tagIndex = new TagIndex(entries);
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TagIndex(null);
+    }
+
+    @Test
+    public void getEntriesMatching_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        tagIndex.getEntriesMatching(null);
+    }
+
+    @Test
+    public void getEntriesMatching_anyOf_returnsEntriesWithAnyTag() {
+        assertMatches(query(tags("friends", "owesMoney"), tags(), tags()), ALICE, BENSON, DANIEL, HANS);
+        assertMatches(query(tags("unused"), tags(), tags()));
+    }
+
+    @Test
+    public void getEntriesMatching_allOf_returnsEntriesWithAllTags() {
+        assertMatches(query(tags(), tags("friends", "Carl"), tags()), DANIEL);
+        assertMatches(query(tags(), tags("friends", "unused"), tags()));
+    }
+
+    @Test
+    public void getEntriesMatching_noneOf_returnsEntriesWithoutTags() {
+        assertMatches(query(tags(), tags(), tags("friends")), BENSON, CARL);
+        assertMatches(query(tags(), tags(), tags("unused")), ALICE, BENSON, CARL, DANIEL, HANS);
+    }
+
+    @Test
+    public void getEntriesMatching_combined_sameAsTagQuery() {
+        TagQuery tagQuery = query(tags("friends", "owesMoney"), tags(), tags("Carl"));
+        assertMatches(tagQuery, ALICE, BENSON, HANS);
+        List<Entry> expected = entries.stream()
+                .filter(entry -> tagQuery.test(entry.getTags()))
+                .collect(Collectors.toList());
+        assertEquals(expected.size(), tagIndex.countEntriesMatching(tagQuery));
+    }
+
+    @Test
+    public void getEntriesMatching_afterListChanges_followsList() {
+        Entry editedBenson = new EntryBuilder(BENSON).withTags("friends").build();
+        entries.set(entries.indexOf(BENSON), editedBenson);
+        entries.remove(ALICE);
+        assertMatches(query(tags("friends"), tags(), tags()), editedBenson, DANIEL, HANS);
+        assertMatches(query(tags("owesMoney"), tags(), tags()));
+
+        // the slot freed by ALICE is reused
+        Entry added = new EntryBuilder().withLink("https://added.com").withTags("owesMoney").build();
+        entries.add(added);
+        assertMatches(query(tags("owesMoney"), tags(), tags()), added);
+
+        FXCollections.sort(entries, (first, second) -> second.getTitle().fullTitle
+                .compareTo(first.getTitle().fullTitle));
+        assertMatches(query(tags("friends"), tags(), tags()), editedBenson, DANIEL, HANS);
+    }
+
+    @Test
+    public void getNumTags_tagNoLongerUsed_removedFromDictionary() {
+        assertEquals(3, tagIndex.getNumTags());
+        entries.remove(BENSON);
+        assertEquals(2, tagIndex.getNumTags());
+        entries.clear();
+        assertEquals(0, tagIndex.getNumTags());
+        assertTrue(tagIndex.getEntriesMatching(query(tags(), tags(), tags())).isEmpty());
+    }
+
+    /**
+     * Asserts that the index returns exactly the {@code expected} entries, in any order, for {@code tagQuery}.
+     */
+    private void assertMatches(TagQuery tagQuery, Entry... expected) {
+        List<Entry> actual = new ArrayList<>(tagIndex.getEntriesMatching(tagQuery));
+        actual.sort(Comparator.comparing(entries::indexOf));
+        List<Entry> expectedList = Stream.of(expected).collect(Collectors.toList());
+        expectedList.sort(Comparator.comparing(entries::indexOf));
+        assertEquals(expectedList, actual);
+        assertEquals(expected.length, tagIndex.countEntriesMatching(tagQuery));
+    }
+
+    private static TagQuery query(Set<Tag> anyOf, Set<Tag> allOf, Set<Tag> noneOf) {
+        return new TagQuery(anyOf, allOf, noneOf);
+    }
+
+    private static Set<Tag> tags(String... tagNames) {
+        return Stream.of(tagNames).map(Tag::new).collect(Collectors.toSet());
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.model.tag;
 
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -23,4 +26,13 @@ public class TagTest {
         Assert.assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
     }
 
+    @Test
+    public void intern_equalTags_returnsSameTag() {
+        Tag tag = new Tag("interned");
+        Tag equalTag = new Tag("interned");
+        assertNotSame(tag, equalTag);
+        assertSame(tag.intern(), equalTag.intern());
+        assertNotSame(tag.intern(), new Tag("other").intern());
+    }
+
 }
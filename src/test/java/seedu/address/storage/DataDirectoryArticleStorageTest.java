@@ -5,14 +5,21 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
 
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.testutil.TestUtil;
 
 public class DataDirectoryArticleStorageTest {
@@ -42,9 +49,9 @@ public class DataDirectoryArticleStorageTest {
         ddas.addArticle(TestUtil.toUrl("https://test.io"), "test4".getBytes());
         ddas.addArticle(TestUtil.toUrl("https://test.io/article"), "test5".getBytes());
         ddas.addArticle(TestUtil.toUrl("https://test.io/article.html"), "test6".getBytes());
-        ddas.addArticle(TestUtil.toUrl("http://test.io"), "test7".getBytes());
-        ddas.addArticle(TestUtil.toUrl("http://test.io/article"), "test8".getBytes());
-        ddas.addArticle(TestUtil.toUrl("http://test.io/article.html"), "test9".getBytes());
+        ddas.addArticle(TestUtil.toUrl("https://test.io/article?id=1"), "test7".getBytes());
+        ddas.addArticle(TestUtil.toUrl("https://test.io/article?id=2"), "test8".getBytes());
+        ddas.addArticle(TestUtil.toUrl("https://test.io:8080/article.html"), "test9".getBytes());
 
         assertFetchSuccess(ddas, "https://test.com", "test1".getBytes());
         assertFetchSuccess(ddas, "https://test.com/article", "test2".getBytes());
@@ -52,9 +59,17 @@ public class DataDirectoryArticleStorageTest {
         assertFetchSuccess(ddas, "https://test.io", "test4".getBytes());
         assertFetchSuccess(ddas, "https://test.io/article", "test5".getBytes());
         assertFetchSuccess(ddas, "https://test.io/article.html", "test6".getBytes());
-        assertFetchSuccess(ddas, "http://test.io", "test7".getBytes());
-        assertFetchSuccess(ddas, "http://test.io/article", "test8".getBytes());
-        assertFetchSuccess(ddas, "http://test.io/article.html", "test9".getBytes());
+        assertFetchSuccess(ddas, "https://test.io/article?id=1", "test7".getBytes());
+        assertFetchSuccess(ddas, "https://test.io/article?id=2", "test8".getBytes());
+        assertFetchSuccess(ddas, "https://test.io:8080/article.html", "test9".getBytes());
+    }
+
+    @Test
+    public void addArticle_sameCanonicalLink_sameArticle() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+
+        ddas.addArticle(TestUtil.toUrl("https://test.com/article"), "test1".getBytes());
+        assertFetchSuccess(ddas, "http://www.test.com/article/?utm_source=rss", "test1".getBytes());
     }
 
     @Test
@@ -78,7 +93,126 @@ public class DataDirectoryArticleStorageTest {
 
         // Test that getting an offline link returns Optional.empty() if article was not added.
         assertTrue(ddas.getOfflineLink(TestUtil.toUrl("https://test.com")).isPresent());
-        assertFalse(ddas.getOfflineLink(TestUtil.toUrl("http://test.com")).isPresent());
+        assertFalse(ddas.getOfflineLink(TestUtil.toUrl("https://test.com/article")).isPresent());
+    }
+
+    @Test
+    public void updateArticle_contentUnchanged_notSaved() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        URL url = TestUtil.toUrl("https://test.com");
+
+        assertTrue(ddas.updateArticle(url, "test1".getBytes()));
+        assertFalse(ddas.updateArticle(url, "test1".getBytes()));
+
+        assertTrue(ddas.updateArticle(url, "test2".getBytes()));
+        assertFetchSuccess(ddas, "https://test.com", "test2".getBytes());
+    }
+
+    @Test
+    public void updateArticle_unarchivedArticleUnchanged_notSaved() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        URL url = TestUtil.toUrl("https://test.com");
+
+        // The digest is recomputed from the article when it is missing.
+        ddas.addArticle(url, "test1".getBytes());
+        ddas.archiveArticle(url);
+        ddas.unarchiveArticle(url);
+        assertFalse(ddas.updateArticle(url, "test1".getBytes()));
+    }
+
+    @Test
+    public void archiveArticle_thenUnarchive_contentRestored() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        URL url = TestUtil.toUrl("https://test.com");
+
+        ddas.addArticle(url, "test1".getBytes());
+        ddas.archiveArticle(url);
+
+        // Archived articles are not available offline.
+        assertFalse(ddas.getOfflineLink(url).isPresent());
+
+        assertTrue(ddas.unarchiveArticle(url));
+        assertFetchSuccess(ddas, "https://test.com", "test1".getBytes());
+    }
+
+    @Test
+    public void unarchiveArticle_notArchived_returnsFalse() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        URL url = TestUtil.toUrl("https://test.com");
+
+        // Archiving an article which was never saved does nothing.
+        ddas.archiveArticle(url);
+        assertFalse(ddas.unarchiveArticle(url));
+        assertFalse(ddas.getOfflineLink(url).isPresent());
+    }
+
+    @Test
+    public void deleteArchivedArticle_cannotBeUnarchived() throws IOException {
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(testFolder.getRoot().toPath());
+        URL url = TestUtil.toUrl("https://test.com");
+
+        ddas.addArticle(url, "test1".getBytes());
+        ddas.archiveArticle(url);
+        ddas.deleteArchivedArticle(url);
+        assertFalse(ddas.unarchiveArticle(url));
+    }
+
+    @Test
+    public void migrateToCanonicalFilenames_legacyArticles_renamedAndMerged() throws IOException {
+        Path directory = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directory);
+        URL url = TestUtil.toUrl("http://www.test.com/article");
+        URL duplicateUrl = TestUtil.toUrl("https://test.com/article?utm_source=rss");
+        URL archivedUrl = TestUtil.toUrl("http://test.io/article/");
+        URL unlistedUrl = TestUtil.toUrl("https://test.org/article");
+        Path legacyPath = directory.resolve(getLegacyFilename(url));
+        Path legacyDigestPath = directory.resolve(getLegacyFilename(url) + ".sha256");
+        Path legacyDuplicatePath = directory.resolve(getLegacyFilename(duplicateUrl));
+        Path legacyArchivedPath = directory.resolve("archives").resolve(getLegacyFilename(archivedUrl));
+        Path legacyUnlistedPath = directory.resolve(getLegacyFilename(unlistedUrl));
+        Path otherFilePath = directory.resolve("notes.txt");
+        FileUtil.writeToFile(legacyPath, "test1".getBytes());
+        FileUtil.writeToFile(legacyDigestPath, DigestUtils.sha256Hex("test1"));
+        FileUtil.writeToFile(legacyDuplicatePath, "test2".getBytes());
+        FileUtil.createParentDirsOfFile(legacyArchivedPath);
+        FileUtil.writeToFile(legacyArchivedPath, "test3".getBytes());
+        FileUtil.writeToFile(legacyUnlistedPath, "test4".getBytes());
+        FileUtil.writeToFile(otherFilePath, "notes".getBytes());
+
+        ddas.migrateToCanonicalFilenames(List.of(url, duplicateUrl), List.of(archivedUrl));
+
+        assertFetchSuccess(ddas, "https://test.com/article", "test1".getBytes());
+        assertFalse(ddas.updateArticle(url, "test1".getBytes()));
+        assertFalse(Files.exists(legacyPath));
+        assertFalse(Files.exists(legacyDigestPath));
+        assertFalse(Files.exists(legacyDuplicatePath));
+        // articles of links which are not listed are left alone, as the entry books may not have been read
+        assertTrue(Files.exists(legacyUnlistedPath));
+        assertTrue(Files.exists(otherFilePath));
+        assertTrue(ddas.unarchiveArticle(TestUtil.toUrl("https://test.io/article")));
+        assertFetchSuccess(ddas, "https://test.io/article", "test3".getBytes());
+    }
+
+    @Test
+    public void migrateToCanonicalFilenames_alreadyMigrated_nothingChanged() throws IOException {
+        Path directory = testFolder.getRoot().toPath();
+        DataDirectoryArticleStorage ddas = new DataDirectoryArticleStorage(directory);
+        URL url = TestUtil.toUrl("https://test.com/article");
+        ddas.migrateToCanonicalFilenames(List.of(), List.of());
+
+        // articles saved after the migration are not deleted by later migrations
+        ddas.addArticle(url, "test1".getBytes());
+        ddas.migrateToCanonicalFilenames(List.of(), List.of());
+        assertTrue(ddas.getOfflineLink(url).isPresent());
+    }
+
+    /**
+     * Returns the name of the file the article of the URL was saved in before articles were named by
+     * the canonical forms of their links.
+     */
+    private static String getLegacyFilename(URL url) {
+        byte[] truncatedHash = Arrays.copyOf(DigestUtils.sha256(url.toString().toLowerCase()), 16);
+        return new String(new Base32().encode(truncatedHash), StandardCharsets.UTF_8) + ".html";
     }
 
     /**
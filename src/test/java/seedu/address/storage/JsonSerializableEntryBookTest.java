@@ -2,8 +2,11 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 
+import java.net.URL;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,6 +23,7 @@ public class JsonSerializableEntryBookTest {
     private static final Path TYPICAL_ENTRIES_FILE = TEST_DATA_FOLDER.resolve("typicalEntryEntryBook.json");
     private static final Path INVALID_ENTRY_FILE = TEST_DATA_FOLDER.resolve("invalidEntryEntryBook.json");
     private static final Path DUPLICATE_ENTRY_FILE = TEST_DATA_FOLDER.resolve("duplicateEntryEntryBook.json");
+    private static final Path SAME_CANONICAL_LINK_FILE = TEST_DATA_FOLDER.resolve("sameCanonicalLinkEntryBook.json");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -50,4 +54,24 @@ public class JsonSerializableEntryBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void toModelType_entriesWithSameCanonicalLink_firstEntryKept() throws Exception {
+        JsonSerializableEntryBook dataFromFile = JsonUtil.readJsonFile(SAME_CANONICAL_LINK_FILE,
+                JsonSerializableEntryBook.class).get();
+        EntryBook entryBookFromFile = dataFromFile.toModelType();
+        assertEquals(2, entryBookFromFile.getEntryList().size());
+        assertEquals("Comment1", entryBookFromFile.getEntryList().get(0).getDescription().value);
+        assertEquals("https://benson.example.com/post",
+                entryBookFromFile.getEntryList().get(1).getLink().value.toString());
+    }
+
+    @Test
+    public void toModelType_entriesWithSameCanonicalLink_leftOutLinksCollected() throws Exception {
+        JsonSerializableEntryBook dataFromFile = JsonUtil.readJsonFile(SAME_CANONICAL_LINK_FILE,
+                JsonSerializableEntryBook.class).get();
+        List<URL> leftOutLinks = new ArrayList<>();
+        dataFromFile.toModelType(leftOutLinks);
+        assertEquals(List.of(new URL("http://www.alice.example.com/post/?utm_source=rss")), leftOutLinks);
+    }
+
 }
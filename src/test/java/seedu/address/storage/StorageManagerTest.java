@@ -1,21 +1,31 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static seedu.address.testutil.TypicalEntries.getTypicalArchivesEntryBook;
 import static seedu.address.testutil.TypicalEntries.getTypicalListEntryBook;
 
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 
+import org.apache.commons.codec.binary.Base32;
+import org.apache.commons.codec.digest.DigestUtils;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.EntryBook;
 import seedu.address.model.ReadOnlyEntryBook;
 import seedu.address.model.UserPrefs;
@@ -32,10 +42,11 @@ public class StorageManagerTest {
         JsonEntryBookStorage listEntryBookStorage = new JsonEntryBookStorage(getTempFilePath("eb"));
         JsonEntryBookStorage archivesEntryBookStorage = new JsonEntryBookStorage(getTempFilePath("archs"));
         JsonEntryBookStorage feedsEntryBookStorage = new JsonEntryBookStorage(getTempFilePath("feeds"));
+        JsonEntryBookStorage downloadQueueStorage = new JsonEntryBookStorage(getTempFilePath("downloads"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
         ArticleStorage articleStorage = new DataDirectoryArticleStorage(getTempFilePath("articles"));
         storageManager = new StorageManager(listEntryBookStorage, archivesEntryBookStorage, feedsEntryBookStorage,
-                userPrefsStorage, articleStorage);
+                downloadQueueStorage, userPrefsStorage, articleStorage);
     }
 
     private Path getTempFilePath(String fileName) {
@@ -83,6 +94,19 @@ public class StorageManagerTest {
         assertEquals(original, new EntryBook(retrieved));
     }
 
+    @Test
+    public void downloadQueueReadSave() throws Exception {
+        /*
+         * Note: This is an integration test that verifies the StorageManager is properly wired to the
+         * {@link JsonEntryBookStorage} class.
+         * More extensive testing of EntryBook saving/reading is done in {@link JsonEntryBookStorageTest} class.
+         */
+        EntryBook original = getTypicalListEntryBook();
+        storageManager.saveDownloadQueue(original);
+        ReadOnlyEntryBook retrieved = storageManager.readDownloadQueue().get();
+        assertEquals(original, new EntryBook(retrieved));
+    }
+
     @Test
     public void articleStorageReadSave() throws Exception {
         /*
@@ -97,6 +121,30 @@ public class StorageManagerTest {
         assertArrayEquals(Files.readAllBytes(savedArticlePath), testContent);
     }
 
+    @Test
+    public void migrateToCanonicalFilenames_entriesLeftOut_articlesMerged() throws Exception {
+        Path sameCanonicalLinkFile = Paths.get("src", "test", "data", "JsonSerializableEntryBookTest",
+                "sameCanonicalLinkEntryBook.json");
+        Files.copy(sameCanonicalLinkFile, storageManager.getListEntryBookFilePath());
+        ReadOnlyEntryBook listEntryBook = storageManager.readListEntryBook().get();
+        URL keptUrl = new URL("https://alice.example.com/post");
+        URL leftOutUrl = new URL("http://www.alice.example.com/post/?utm_source=rss");
+        Path articleDirectory = storageManager.getArticleDataDirectoryPath();
+        Path legacyLeftOutPath = articleDirectory.resolve(getLegacyFilename(leftOutUrl));
+        FileUtil.createParentDirsOfFile(legacyLeftOutPath);
+        FileUtil.writeToFile(legacyLeftOutPath, "left out".getBytes());
+
+        List<URL> listUrls = listEntryBook.getEntryList().stream()
+                .map(entry -> entry.getLink().value)
+                .collect(Collectors.toList());
+        storageManager.migrateToCanonicalFilenames(listUrls, List.of());
+
+        // the article of the entry left out is now that of the entry kept
+        assertFalse(Files.exists(legacyLeftOutPath));
+        assertTrue(storageManager.getOfflineLink(keptUrl).isPresent());
+        assertArrayEquals("left out".getBytes(), Files.readAllBytes(storageManager.getArticlePath(keptUrl)));
+    }
+
     @Test
     public void getListEntryBookFilePath() {
         assertNotNull(storageManager.getListEntryBookFilePath());
@@ -112,4 +160,12 @@ public class StorageManagerTest {
         assertNotNull(storageManager.getArticleDataDirectoryPath());
     }
 
+    /**
+     * Returns the name of the file the article of the URL was saved in before articles were named by
+     * the canonical forms of their links.
+     */
+    private static String getLegacyFilename(URL url) {
+        byte[] truncatedHash = Arrays.copyOf(DigestUtils.sha256(url.toString().toLowerCase()), 16);
+        return new String(new Base32().encode(truncatedHash), StandardCharsets.UTF_8) + ".html";
+    }
 }
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ALL;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FUZZY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LINK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TITLE;
@@ -79,6 +80,8 @@ public class EntryUtil {
             link -> sb.append(PREFIX_LINK).append(link).append(" "));
         descriptor.getAll().ifPresent(
             all -> sb.append(PREFIX_ALL).append(all).append(" "));
+        descriptor.getFuzzy().ifPresent(
+            fuzzy -> sb.append(PREFIX_FUZZY).append(fuzzy).append(" "));
         if (descriptor.getTags().isPresent()) {
             Set<Tag> tags = descriptor.getTags().get();
             if (tags.isEmpty()) {
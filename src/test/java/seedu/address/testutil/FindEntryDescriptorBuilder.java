@@ -68,6 +68,26 @@ public class FindEntryDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Parses the {@code tags} into a {@code Set<Tag>} and set it to the required tags of the
+     * {@code FindEntryDescriptor} that we are building.
+     */
+    public FindEntryDescriptorBuilder withRequiredTags(String... tags) {
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        descriptor.setRequiredTags(tagSet);
+        return this;
+    }
+
+    /**
+     * Parses the {@code tags} into a {@code Set<Tag>} and set it to the excluded tags of the
+     * {@code FindEntryDescriptor} that we are building.
+     */
+    public FindEntryDescriptorBuilder withExcludedTags(String... tags) {
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        descriptor.setExcludedTags(tagSet);
+        return this;
+    }
+
     /**
      * Sets the {@code String} keyphrase for all field of the {@code FindEntryDescriptor} that we are building.
      */
@@ -76,6 +96,14 @@ public class FindEntryDescriptorBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@code String} phrase to be matched fuzzily of the {@code FindEntryDescriptor} that we are building.
+     */
+    public FindEntryDescriptorBuilder withFuzzy(String fuzzy) {
+        descriptor.setFuzzy(fuzzy);
+        return this;
+    }
+
     /**
      * Resets all the fields to empty.
      */
@@ -0,0 +1,335 @@
+package seedu.address.testutil;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.apache.commons.codec.digest.DigestUtils;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * An HTTP server on the loopback interface which serves synthetic feeds and articles,
+ * so that the network code and the feed commands can be tested and load tested reproducibly.
+ *
+ * Feed {@code f} is served as RSS at {@link #getRssFeedUrl(int)} and as Atom at {@link #getAtomFeedUrl(int)}.
+ * Each feed lists its latest {@code itemsPerFeed} items, linking to articles of {@code articleSize} bytes
+ * on the same host. Every response has an {@code ETag}, and conditional requests are answered with
+ * 304 Not Modified when the content has not changed.
+ *
+ * The latency, error rate, number of redirects and speed of the response bodies can be changed at any time.
+ */
+public class FixtureServer implements AutoCloseable {
+
+    public static final int STATUS_INJECTED_ERROR = 500;
+    public static final String MESSAGE_REDIRECT = "Redirecting";
+
+    private static final Pattern REDIRECT_PATH = Pattern.compile("/redirect/(\\d+)(/.*)");
+    private static final Pattern FEED_PATH = Pattern.compile("/(rss|atom)/(\\d+)");
+    private static final Pattern ARTICLE_PATH = Pattern.compile("/articles/(\\d+)/(\\d+)");
+    private static final int SLOW_BODY_CHUNK_SIZE = 1024;
+    private static final String PARAGRAPH = "<p>Lorem ipsum dolor sit amet, consectetur adipiscing elit, "
+            + "sed do eiusmod tempor incididunt ut labore et dolore magna aliqua.</p>\n";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final int itemsPerFeed;
+    private final int articleSize;
+    private final Random random = new Random(0);
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private final AtomicInteger errorCount = new AtomicInteger();
+
+    private volatile int numHosts = 1;
+    private volatile int publishedItems;
+    private volatile long latencyMillis = 0;
+    private volatile long latencyJitterMillis = 0;
+    private volatile double errorRate = 0;
+    private volatile int numRedirects = 0;
+    private volatile int bodyBytesPerSecond = 0;
+
+    /**
+     * Starts a server on a free port.
+     *
+     * @param itemsPerFeed number of items in each feed.
+     * @param articleSize approximate size of each article in bytes.
+     */
+    public FixtureServer(int itemsPerFeed, int articleSize) throws IOException {
+        this.itemsPerFeed = itemsPerFeed;
+        this.articleSize = articleSize;
+        publishedItems = itemsPerFeed;
+        // bound to every address, so that it can be reached on each of the loopback addresses used as hosts
+        server = HttpServer.create(new InetSocketAddress(0), 0);
+        executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "Fixture server");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    /**
+     * Spreads the feeds over {@code numHosts} loopback addresses, 127.0.0.1 onwards,
+     * so that requests are not all limited by the same per-host limits.
+     * Only works where the whole of 127.0.0.0/8 is routed to the loopback interface, e.g. on Linux.
+     */
+    public void setNumHosts(int numHosts) {
+        this.numHosts = numHosts;
+    }
+
+    /**
+     * Delays every response by {@code latencyMillis} plus a random amount up to {@code jitterMillis}.
+     */
+    public void setLatency(long latencyMillis, long jitterMillis) {
+        this.latencyMillis = latencyMillis;
+        this.latencyJitterMillis = jitterMillis;
+    }
+
+    /**
+     * Answers the given fraction of requests with {@link #STATUS_INJECTED_ERROR}.
+     */
+    public void setErrorRate(double errorRate) {
+        this.errorRate = errorRate;
+    }
+
+    /**
+     * Redirects every request {@code numRedirects} times before answering it.
+     */
+    public void setNumRedirects(int numRedirects) {
+        this.numRedirects = numRedirects;
+    }
+
+    /**
+     * Limits the speed at which response bodies are sent, or removes the limit if {@code bytesPerSecond} is 0.
+     */
+    public void setBodyBytesPerSecond(int bytesPerSecond) {
+        this.bodyBytesPerSecond = bytesPerSecond;
+    }
+
+    /**
+     * Publishes {@code count} new items in every feed, pushing out the oldest ones.
+     */
+    public void publishItems(int count) {
+        publishedItems += count;
+    }
+
+    public URL getRssFeedUrl(int feedIndex) {
+        return getUrl(feedIndex, "/rss/" + feedIndex);
+    }
+
+    public URL getAtomFeedUrl(int feedIndex) {
+        return getUrl(feedIndex, "/atom/" + feedIndex);
+    }
+
+    public URL getArticleUrl(int feedIndex, int itemIndex) {
+        return getUrl(feedIndex, "/articles/" + feedIndex + "/" + itemIndex);
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    public int getErrorCount() {
+        return errorCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Returns the url of {@code path} on the host serving feed {@code feedIndex}.
+     */
+    private URL getUrl(int feedIndex, String path) {
+        String host = "127.0.0." + (1 + feedIndex % numHosts);
+        try {
+            return new URL("http", host, server.getAddress().getPort(), path);
+        } catch (MalformedURLException mue) {
+            throw new AssertionError("Fixture urls are valid", mue);
+        }
+    }
+
+    /**
+     * Answers a request, after the injected latency, with an error, a redirect or the requested resource.
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requestCount.incrementAndGet();
+            Thread.sleep(getLatency());
+            String path = exchange.getRequestURI().getPath();
+
+            if (isInjectedError()) {
+                errorCount.incrementAndGet();
+                sendBody(exchange, STATUS_INJECTED_ERROR, "text/plain", "Injected error".getBytes());
+                return;
+            }
+
+            Matcher redirect = REDIRECT_PATH.matcher(path);
+            int remainingRedirects = numRedirects;
+            if (redirect.matches()) {
+                remainingRedirects = Integer.parseInt(redirect.group(1));
+                path = redirect.group(2);
+            }
+            if (remainingRedirects > 0) {
+                exchange.getResponseHeaders().set("Location", "/redirect/" + (remainingRedirects - 1) + path);
+                // with a body, as the connection is reset after a response which has none
+                sendBody(exchange, 302, "text/plain", MESSAGE_REDIRECT.getBytes());
+                return;
+            }
+
+            sendResource(exchange, path);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Sends the feed or article at {@code path}, or 304 Not Modified if the client already has it.
+     */
+    private void sendResource(HttpExchange exchange, String path) throws IOException, InterruptedException {
+        String host = exchange.getRequestHeaders().getFirst("Host");
+        Matcher feed = FEED_PATH.matcher(path);
+        Matcher article = ARTICLE_PATH.matcher(path);
+        String contentType;
+        byte[] content;
+        if (feed.matches()) {
+            boolean isAtom = feed.group(1).equals("atom");
+            int feedIndex = Integer.parseInt(feed.group(2));
+            contentType = isAtom ? "application/atom+xml" : "application/rss+xml";
+            content = (isAtom ? generateAtomFeed(host, feedIndex) : generateRssFeed(host, feedIndex))
+                    .getBytes(StandardCharsets.UTF_8);
+        } else if (article.matches()) {
+            contentType = "text/html; charset=utf-8";
+            content = generateArticle(Integer.parseInt(article.group(1)), Integer.parseInt(article.group(2)))
+                    .getBytes(StandardCharsets.UTF_8);
+        } else {
+            sendBody(exchange, 404, "text/plain", "Not found".getBytes());
+            return;
+        }
+
+        String etag = "\"" + DigestUtils.sha1Hex(content) + "\"";
+        exchange.getResponseHeaders().set("ETag", etag);
+        if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            notModifiedCount.incrementAndGet();
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+        sendBody(exchange, 200, contentType, content);
+    }
+
+    /**
+     * Sends a response with the given body, slowly if the speed of response bodies is limited.
+     */
+    private void sendBody(HttpExchange exchange, int statusCode, String contentType, byte[] body)
+            throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("Content-Type", contentType);
+        exchange.sendResponseHeaders(statusCode, body.length);
+        OutputStream responseBody = exchange.getResponseBody();
+        int bytesPerSecond = bodyBytesPerSecond;
+        if (bytesPerSecond == 0) {
+            responseBody.write(body);
+            return;
+        }
+        for (int offset = 0; offset < body.length; offset += SLOW_BODY_CHUNK_SIZE) {
+            int length = Math.min(SLOW_BODY_CHUNK_SIZE, body.length - offset);
+            responseBody.write(body, offset, length);
+            responseBody.flush();
+            Thread.sleep(1000L * length / bytesPerSecond);
+        }
+    }
+
+    private synchronized long getLatency() {
+        long jitter = latencyJitterMillis == 0 ? 0 : (long) (random.nextDouble() * latencyJitterMillis);
+        return latencyMillis + jitter;
+    }
+
+    private synchronized boolean isInjectedError() {
+        return errorRate > 0 && random.nextDouble() < errorRate;
+    }
+
+    /**
+     * Returns the index of the oldest item in every feed.
+     */
+    private int getFirstItemIndex() {
+        return publishedItems - itemsPerFeed;
+    }
+
+    /**
+     * Returns feed {@code feedIndex} as RSS, with links to articles on {@code host}.
+     */
+    private String generateRssFeed(String host, int feedIndex) {
+        StringBuilder feed = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<rss version=\"2.0\"><channel>\n")
+                .append("<title>Fixture feed ").append(feedIndex).append("</title>")
+                .append("<link>http://").append(host).append("/</link>")
+                .append("<description>Synthetic feed for testing</description>\n");
+        for (int i = publishedItems - 1; i >= getFirstItemIndex(); i--) {
+            feed.append("<item><title>Feed ").append(feedIndex).append(" item ").append(i).append("</title>")
+                    .append("<link>http://").append(host).append("/articles/").append(feedIndex).append('/')
+                    .append(i).append("</link>")
+                    .append("<description>Item ").append(i).append(" of feed ").append(feedIndex)
+                    .append("</description></item>\n");
+        }
+        return feed.append("</channel></rss>\n").toString();
+    }
+
+    /**
+     * Returns feed {@code feedIndex} as Atom, with links to articles on {@code host}.
+     */
+    private String generateAtomFeed(String host, int feedIndex) {
+        StringBuilder feed = new StringBuilder()
+                .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n")
+                .append("<feed xmlns=\"http://www.w3.org/2005/Atom\">\n")
+                .append("<title>Fixture feed ").append(feedIndex).append("</title>")
+                .append("<id>http://").append(host).append("/atom/").append(feedIndex).append("</id>")
+                .append("<updated>2019-04-01T00:00:00Z</updated>\n");
+        for (int i = publishedItems - 1; i >= getFirstItemIndex(); i--) {
+            String link = "http://" + host + "/articles/" + feedIndex + "/" + i;
+            feed.append("<entry><title>Feed ").append(feedIndex).append(" item ").append(i).append("</title>")
+                    .append("<link href=\"").append(link).append("\"/>")
+                    .append("<id>").append(link).append("</id>")
+                    .append("<updated>2019-04-01T00:00:00Z</updated>")
+                    .append("<summary>Item ").append(i).append(" of feed ").append(feedIndex)
+                    .append("</summary></entry>\n");
+        }
+        return feed.append("</feed>\n").toString();
+    }
+
+    /**
+     * Returns an article of about {@code articleSize} bytes, with relative links to other articles and images.
+     */
+    private String generateArticle(int feedIndex, int itemIndex) {
+        StringBuilder article = new StringBuilder()
+                .append("<!DOCTYPE html>\n<html><head><title>Feed ").append(feedIndex).append(" item ")
+                .append(itemIndex).append("</title></head>\n<body><article>\n")
+                .append("<h1>Feed ").append(feedIndex).append(" item ").append(itemIndex).append("</h1>\n")
+                .append("<img src=\"images/").append(itemIndex).append(".png\">\n")
+                .append("<a href=\"").append(itemIndex + 1).append("\">Next article</a>\n");
+        while (article.length() < articleSize) {
+            article.append(PARAGRAPH);
+        }
+        return article.append("</article></body></html>\n").toString();
+    }
+}
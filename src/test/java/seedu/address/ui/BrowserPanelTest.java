@@ -1,20 +1,20 @@
 package seedu.address.ui;
 
+import static guitests.guihandles.WebViewUtil.waitUntilBrowserContentLoaded;
 import static guitests.guihandles.WebViewUtil.waitUntilBrowserLoaded;
 import static org.junit.Assert.assertEquals;
-import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalEntries.BROWSER_PANEL_TEST_ENTRY;
 import static seedu.address.testutil.TypicalEntries.BROWSER_PANEL_TEST_ENTRY_BASE_URL;
 import static seedu.address.testutil.TypicalEntries.INVALID_FILE_LINK;
 import static seedu.address.testutil.TypicalEntries.VALID_FILE_LINK;
 import static seedu.address.testutil.TypicalEntries.WIKIPEDIA_ENTRY;
 
+import java.io.IOException;
 import java.net.URL;
 import java.util.Optional;
 import javax.xml.transform.TransformerException;
 
 import org.jsoup.Jsoup;
-import org.jsoup.nodes.Document;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -24,6 +24,7 @@ import javafx.beans.property.SimpleObjectProperty;
 import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.entry.Entry;
 import seedu.address.ui.util.ReaderViewUtil;
+import seedu.address.util.Network;
 
 public class BrowserPanelTest extends GuiUnitTest {
     private SimpleObjectProperty<Entry> selectedEntry = new SimpleObjectProperty<>();
@@ -34,7 +35,8 @@ public class BrowserPanelTest extends GuiUnitTest {
     @Before
     public void setUp() {
         guiRobot.interact(() -> {
-            browserPanel = new BrowserPanel(selectedEntry, viewMode, url -> Optional.empty(), url -> Optional.empty());
+            browserPanel = new BrowserPanel(selectedEntry, viewMode, url -> Optional.empty(),
+                    Network::fetchAsResponseAsync);
         });
         uiPartRule.setUiPart(browserPanel);
 
@@ -83,7 +85,7 @@ public class BrowserPanelTest extends GuiUnitTest {
 
         // set reader view mode with specified style
         guiRobot.interact(() -> viewMode.set(new ViewMode(ViewType.READER, ReaderViewStyle.DARK)));
-        waitUntilBrowserLoaded(browserPanelHandle);
+        waitUntilBrowserContentLoaded(browserPanelHandle);
 
         // check actual stylesheet is the same as specified stylesheet
         assertEquals(
@@ -112,6 +114,19 @@ public class BrowserPanelTest extends GuiUnitTest {
         assertEquals(expectedEntryUrl, browserPanelHandle.getLoadedUrl());
     }
 
+    @Test
+    public void displayReaderViewWithoutLoadingPage() {
+        // set reader view mode before selecting entry
+        guiRobot.interact(() -> viewMode.set(new ViewMode(ViewType.READER)));
+        waitUntilBrowserLoaded(browserPanelHandle);
+
+        // reader view is generated from the raw HTML and loaded directly
+        guiRobot.interact(() -> selectedEntry.set(WIKIPEDIA_ENTRY));
+        waitUntilBrowserContentLoaded(browserPanelHandle);
+        assertEquals(getExpectedReaderViewText(WIKIPEDIA_ENTRY, WIKIPEDIA_ENTRY.getLink().value.toString()),
+                getLoadedText());
+    }
+
     /**
      * Asserts that reader view works as expected on the given Entry
      * @param entry Entry to test reader view on
@@ -119,38 +134,40 @@ public class BrowserPanelTest extends GuiUnitTest {
      */
     private void assertReaderViewWorksOn(Entry entry, String baseUrl) {
 
-        // load associated web page of a Wikipedia entry
+        // load associated web page of the entry
         guiRobot.interact(() -> selectedEntry.set(entry));
         waitUntilBrowserLoaded(browserPanelHandle);
 
-        // generate reader view by processing loaded content
-        String originalHtml = "";
-        try {
-            originalHtml = XmlUtil.convertDocumentToString(browserPanelHandle.getDocument());
-        } catch (TransformerException te) {
-            fail();
-        }
-
-        Document originalDoc = Jsoup.parse(originalHtml, baseUrl);
-        Document doc = ReaderViewUtil.generateReaderViewFrom(originalDoc);
-        String expectedText = doc.text();
-
         // set reader view mode
         guiRobot.interact(() -> viewMode.set(new ViewMode(ViewType.READER)));
-        waitUntilBrowserLoaded(browserPanelHandle);
+        waitUntilBrowserContentLoaded(browserPanelHandle);
 
-        // extract loaded content
-        String readerHtml = "";
+        // check actual loaded content is the same as expected processed content
+        assertEquals(getExpectedReaderViewText(entry, baseUrl), getLoadedText());
+
+    }
+
+    /**
+     * Returns the text of the reader view generated from the raw HTML of the given Entry's page.
+     */
+    private String getExpectedReaderViewText(Entry entry, String baseUrl) {
         try {
-            readerHtml = XmlUtil.convertDocumentToString(browserPanelHandle.getDocument());
-        } catch (TransformerException te) {
-            fail();
+            String rawHtml = Network.fetchAsString(entry.getLink().value);
+            return Jsoup.parse(ReaderViewUtil.generateReaderViewStringFrom(rawHtml, baseUrl)).text();
+        } catch (IOException ioe) {
+            throw new AssertionError("Test page should be readable", ioe);
         }
-        String actualText = Jsoup.parse(readerHtml).text();
-
-        // check actual loaded content is the same as expected processed content
-        assertEquals(expectedText, actualText);
+    }
 
+    /**
+     * Returns the text of the content currently loaded in the browser.
+     */
+    private String getLoadedText() {
+        try {
+            return Jsoup.parse(XmlUtil.convertDocumentToString(browserPanelHandle.getDocument())).text();
+        } catch (TransformerException te) {
+            throw new AssertionError("Loaded content should be convertible to a string", te);
+        }
     }
 
 }
@@ -17,6 +17,8 @@ import guitests.guihandles.EntryListPanelHandle;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PagedList;
 import seedu.address.model.entry.Description;
 import seedu.address.model.entry.Entry;
 import seedu.address.model.entry.Link;
@@ -46,6 +48,21 @@ public class EntryListPanelTest extends GuiUnitTest {
         }
     }
 
+    @Test
+    public void display_laterPage_numberedByIndexInWholeList() {
+        PagedList<Entry> pagedEntries = new PagedList<>(TYPICAL_ENTRIES, 2);
+        initUi(pagedEntries);
+        guiRobot.interact(() -> pagedEntries.setPage(1));
+
+        for (int i = 0; i < pagedEntries.size(); i++) {
+            entryListPanelHandle.navigateToCard(pagedEntries.get(i));
+            EntryCardHandle actualCard = entryListPanelHandle.getEntryCardHandle(i);
+
+            assertCardDisplaysEntry(TYPICAL_ENTRIES.get(i + 2), actualCard);
+            assertEquals(i + 3 + ".", actualCard.getId());
+        }
+    }
+
     @Test
     public void selection_modelSelectedEntryChanged_selectionChanges() {
         initUi(TYPICAL_ENTRIES);
@@ -93,8 +110,16 @@ public class EntryListPanelTest extends GuiUnitTest {
      * Also shows the {@code Stage} that displays only {@code EntryListPanel}.
      */
     private void initUi(ObservableList<Entry> backingList) {
-        EntryListPanel entryListPanel =
-                new EntryListPanel(backingList, selectedEntry, selectedEntry::set);
+        initUi(new PagedList<>(backingList, ModelManager.DEFAULT_PAGE_SIZE));
+    }
+
+    /**
+     * Initializes {@code entryListPanelHandle} with a {@code EntryListPanel} displaying {@code pagedList}.
+     * Also shows the {@code Stage} that displays only {@code EntryListPanel}.
+     */
+    private void initUi(PagedList<Entry> pagedList) {
+        EntryListPanel entryListPanel = new EntryListPanel(pagedList, pagedList.positionProperty(),
+                selectedEntry, selectedEntry::set);
         uiPartRule.setUiPart(entryListPanel);
 
         entryListPanelHandle = new EntryListPanelHandle(getChildNode(entryListPanel.getRoot(),
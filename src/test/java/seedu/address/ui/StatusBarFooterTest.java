@@ -3,6 +3,10 @@ package seedu.address.ui;
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.TypicalEntries.ALICE;
 import static seedu.address.ui.StatusBarFooter.CONTEXT_ENTRY_COUNT_STATUS;
+import static seedu.address.ui.StatusBarFooter.DOWNLOAD_STATUS_FAILURES;
+import static seedu.address.ui.StatusBarFooter.DOWNLOAD_STATUS_IDLE;
+import static seedu.address.ui.StatusBarFooter.DOWNLOAD_STATUS_IN_PROGRESS;
+import static seedu.address.ui.StatusBarFooter.PAGE_STATUS;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
@@ -20,8 +24,12 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import javafx.beans.property.SimpleObjectProperty;
+import seedu.address.model.DownloadProgress;
 import seedu.address.model.EntryBook;
 import seedu.address.model.ModelContext;
+import seedu.address.model.ModelManager;
+import seedu.address.model.PagePosition;
+import seedu.address.model.PagedList;
 
 public class StatusBarFooterTest extends GuiUnitTest {
 
@@ -34,6 +42,8 @@ public class StatusBarFooterTest extends GuiUnitTest {
     private StatusBarFooterHandle statusBarFooterHandle;
     private final EntryBook entryBook = new EntryBook();
     private final SimpleObjectProperty<ModelContext> context = new SimpleObjectProperty<>(ModelContext.CONTEXT_LIST);
+    private final SimpleObjectProperty<DownloadProgress> downloadProgress =
+            new SimpleObjectProperty<>(DownloadProgress.IDLE);
 
     @BeforeClass
     public static void setUpBeforeClass() {
@@ -50,7 +60,8 @@ public class StatusBarFooterTest extends GuiUnitTest {
     @Before
     public void setUp() {
         StatusBarFooter statusBarFooter = new StatusBarFooter(STUB_SAVE_LOCATION, entryBook,
-                entryBook.getEntryList(), context);
+                new PagedList<>(entryBook.getEntryList(), ModelManager.DEFAULT_PAGE_SIZE).positionProperty(),
+                context, downloadProgress);
         uiPartRule.setUiPart(statusBarFooter);
 
         statusBarFooterHandle = new StatusBarFooterHandle(statusBarFooter.getRoot());
@@ -78,6 +89,40 @@ public class StatusBarFooterTest extends GuiUnitTest {
                 String.format(CONTEXT_ENTRY_COUNT_STATUS, initialEntryCount + 1, newContext));
     }
 
+    @Test
+    public void getContextEntryCountStatusText() {
+        String context = ModelContext.CONTEXT_LIST.toString();
+
+        // one page -> page not shown
+        assertEquals(String.format(CONTEXT_ENTRY_COUNT_STATUS, 0, context),
+                StatusBarFooter.getContextEntryCountStatusText(new PagePosition(0, 1, 0, 0), context));
+
+        // several pages -> page shown
+        assertEquals(String.format(CONTEXT_ENTRY_COUNT_STATUS, 1200, context) + String.format(PAGE_STATUS, 2, 3),
+                StatusBarFooter.getContextEntryCountStatusText(new PagePosition(1, 3, 500, 1200), context));
+    }
+
+    @Test
+    public void displayDownloadProgress() {
+        // initial state
+        assertEquals(DOWNLOAD_STATUS_IDLE, statusBarFooterHandle.getDownloadStatus());
+
+        // downloads in progress
+        String expectedStatus = String.format(DOWNLOAD_STATUS_IN_PROGRESS, 2, 5);
+        guiRobot.interact(() -> downloadProgress.set(new DownloadProgress(2, 0, 3)));
+        guiRobot.waitForEvent(() -> expectedStatus.equals(statusBarFooterHandle.getDownloadStatus()));
+
+        // some downloads failed
+        String expectedStatusWithFailures = String.format(DOWNLOAD_STATUS_IN_PROGRESS, 3, 5)
+                + String.format(DOWNLOAD_STATUS_FAILURES, 1);
+        guiRobot.interact(() -> downloadProgress.set(new DownloadProgress(2, 1, 2)));
+        guiRobot.waitForEvent(() -> expectedStatusWithFailures.equals(statusBarFooterHandle.getDownloadStatus()));
+
+        // all downloads finished
+        guiRobot.interact(() -> downloadProgress.set(new DownloadProgress(4, 1, 0)));
+        guiRobot.waitForEvent(() -> DOWNLOAD_STATUS_IDLE.equals(statusBarFooterHandle.getDownloadStatus()));
+    }
+
     /**
      * Asserts that the save location matches that of {@code expectedSaveLocation}, and the
      * sync status matches that of {@code expectedSyncStatus}.
@@ -0,0 +1,156 @@
+package seedu.address.util;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.util.HostThrottle.CircuitState;
+import seedu.address.util.exceptions.HostUnavailableException;
+
+public class HostThrottleTest {
+    private static final String HOST = "example.com";
+    private static final long COOL_DOWN_MILLIS = 1000;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final AtomicLong clock = new AtomicLong(0);
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private HostThrottle createThrottle(int maxConcurrentRequests, double permitsPerSecond, int burstSize,
+                                       int failureThreshold) {
+        return new HostThrottle(HOST, maxConcurrentRequests, permitsPerSecond, burstSize, failureThreshold,
+                COOL_DOWN_MILLIS, scheduler, clock::get);
+    }
+
+    private void advanceClockMillis(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    @Test
+    public void acquire_belowConcurrencyLimit_admittedImmediately() {
+        HostThrottle throttle = createThrottle(2, 100, 10, 3);
+        assertTrue(throttle.acquire().isDone());
+        assertTrue(throttle.acquire().isDone());
+        assertEquals(2, throttle.getInFlight());
+    }
+
+    @Test
+    public void acquire_aboveConcurrencyLimit_queuedUntilRelease() {
+        HostThrottle throttle = createThrottle(1, 100, 10, 3);
+        assertTrue(throttle.acquire().isDone());
+        CompletableFuture<Void> queued = throttle.acquire();
+        assertFalse(queued.isDone());
+        assertEquals(1, throttle.getQueued());
+
+        throttle.release(true);
+        assertTrue(queued.isDone());
+        assertEquals(1, throttle.getInFlight());
+        assertEquals(0, throttle.getQueued());
+    }
+
+    @Test
+    public void acquire_burstExhausted_queuedUntilTokensRefill() {
+        HostThrottle throttle = createThrottle(10, 1, 1, 3);
+        assertTrue(throttle.acquire().isDone());
+        throttle.release(true);
+        CompletableFuture<Void> queued = throttle.acquire();
+        assertFalse(queued.isDone());
+
+        advanceClockMillis(1000);
+        throttle.acquire();
+        assertTrue(queued.isDone());
+    }
+
+    @Test
+    public void release_failuresReachThreshold_opensCircuit() {
+        HostThrottle throttle = createThrottle(4, 100, 10, 2);
+        throttle.acquire();
+        throttle.release(false);
+        assertEquals(CircuitState.CLOSED, throttle.getCircuitState());
+        throttle.acquire();
+        throttle.release(false);
+        assertEquals(CircuitState.OPEN, throttle.getCircuitState());
+        assertTrue(throttle.getStatus().contains("cooling down"));
+    }
+
+    @Test
+    public void release_successResetsFailures() {
+        HostThrottle throttle = createThrottle(4, 100, 10, 2);
+        throttle.acquire();
+        throttle.release(false);
+        throttle.acquire();
+        throttle.release(true);
+        throttle.acquire();
+        throttle.release(false);
+        assertEquals(CircuitState.CLOSED, throttle.getCircuitState());
+    }
+
+    @Test
+    public void release_circuitOpens_failsQueuedRequests() {
+        HostThrottle throttle = createThrottle(1, 100, 10, 1);
+        throttle.acquire();
+        CompletableFuture<Void> queued = throttle.acquire();
+        throttle.release(false);
+        assertTrue(queued.isCompletedExceptionally());
+    }
+
+    @Test
+    public void acquire_circuitOpen_failsFast() throws Exception {
+        HostThrottle throttle = createThrottle(4, 100, 10, 1);
+        throttle.acquire();
+        throttle.release(false);
+
+        CompletableFuture<Void> rejected = throttle.acquire();
+        assertTrue(rejected.isCompletedExceptionally());
+        thrown.expectCause(instanceOf(HostUnavailableException.class));
+        rejected.get();
+    }
+
+    @Test
+    public void acquire_coolDownElapsed_allowsSingleTrialRequest() {
+        HostThrottle throttle = createThrottle(4, 100, 10, 1);
+        throttle.acquire();
+        throttle.release(false);
+
+        advanceClockMillis(COOL_DOWN_MILLIS);
+        assertEquals(CircuitState.HALF_OPEN, throttle.getCircuitState());
+        assertTrue(throttle.acquire().isDone());
+        assertFalse(throttle.acquire().isDone());
+
+        throttle.release(true);
+        assertEquals(CircuitState.CLOSED, throttle.getCircuitState());
+    }
+
+    @Test
+    public void release_trialRequestFails_reopensCircuit() throws ExecutionException, InterruptedException {
+        HostThrottle throttle = createThrottle(4, 100, 10, 3);
+        for (int i = 0; i < 3; i++) {
+            throttle.acquire();
+            throttle.release(false);
+        }
+
+        advanceClockMillis(COOL_DOWN_MILLIS);
+        throttle.acquire().get();
+        throttle.release(false);
+        assertEquals(CircuitState.OPEN, throttle.getCircuitState());
+    }
+}
@@ -0,0 +1,94 @@
+package seedu.address.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.TestUtil;
+
+public class NetworkArchiveTest {
+    private static final URL FEED_URL = TestUtil.toUrl("https://example.com/feed.xml");
+    private static final URL ARTICLE_URL = TestUtil.toUrl("https://example.com/article.html");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private NetworkArchive archive;
+
+    @Before
+    public void setUp() {
+        archive = new NetworkArchive(testFolder.getRoot().toPath().resolve("archive"));
+    }
+
+    @Test
+    public void replay_recordedResponse_returnsResponse() throws Exception {
+        NetworkResponse response = new NetworkResponse(200,
+                Map.of("Content-Type", List.of("application/rss+xml")), toBytes("<rss/>"));
+        archive.record(FEED_URL, response);
+
+        NetworkArchive replayingArchive = new NetworkArchive(archive.getDirectory());
+        Optional<NetworkResponse> replayed = replayingArchive.replay(FEED_URL);
+        assertEquals(Optional.of(response), replayed);
+        assertEquals(Optional.of("application/rss+xml"), replayed.get().getHeader("content-type"));
+        assertEquals(Collections.emptyList(), replayingArchive.getMismatches());
+    }
+
+    @Test
+    public void replay_repeatedRequests_replayedInOrderThenLast() throws Exception {
+        archive.record(FEED_URL, createResponse("first"));
+        archive.record(FEED_URL, createResponse("second"));
+
+        NetworkArchive replayingArchive = new NetworkArchive(archive.getDirectory());
+        assertEquals(Optional.of(createResponse("first")), replayingArchive.replay(FEED_URL));
+        assertEquals(Optional.of(createResponse("second")), replayingArchive.replay(FEED_URL));
+        assertEquals(Optional.of(createResponse("second")), replayingArchive.replay(FEED_URL));
+    }
+
+    @Test
+    public void replay_unrecordedUrl_reportedAsMismatch() throws Exception {
+        archive.record(FEED_URL, createResponse("feed"));
+
+        NetworkArchive replayingArchive = new NetworkArchive(archive.getDirectory());
+        assertFalse(replayingArchive.replay(ARTICLE_URL).isPresent());
+        assertFalse(replayingArchive.replay(ARTICLE_URL).isPresent());
+        assertEquals(List.of(ARTICLE_URL.toString()), replayingArchive.getMismatches());
+    }
+
+    @Test
+    public void replay_emptyDirectory_reportedAsMismatch() {
+        assertFalse(archive.replay(FEED_URL).isPresent());
+        assertEquals(List.of(FEED_URL.toString()), archive.getMismatches());
+    }
+
+    @Test
+    public void record_laterSession_replacesEarlierRecordings() throws Exception {
+        archive.record(FEED_URL, createResponse("old first"));
+        archive.record(FEED_URL, createResponse("old second"));
+
+        NetworkArchive laterArchive = new NetworkArchive(archive.getDirectory());
+        laterArchive.record(FEED_URL, createResponse("new"));
+
+        NetworkArchive replayingArchive = new NetworkArchive(archive.getDirectory());
+        assertEquals(Optional.of(createResponse("new")), replayingArchive.replay(FEED_URL));
+        assertEquals(Optional.of(createResponse("new")), replayingArchive.replay(FEED_URL));
+    }
+
+    private static NetworkResponse createResponse(String body) {
+        return new NetworkResponse(200, Collections.emptyMap(), toBytes(body));
+    }
+
+    private static byte[] toBytes(String body) {
+        return body.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Test;
+
+public class NetworkResponseTest {
+
+    private static NetworkResponse responseWithContentType(String contentType) {
+        Map<String, List<String>> headers = Collections.singletonMap("content-type", List.of(contentType));
+        return new NetworkResponse(200, headers, new byte[0]);
+    }
+
+    @Test
+    public void isSuccessful() {
+        assertTrue(new NetworkResponse(200, Collections.emptyMap(), new byte[0]).isSuccessful());
+        assertTrue(new NetworkResponse(204, Collections.emptyMap(), new byte[0]).isSuccessful());
+        assertFalse(new NetworkResponse(304, Collections.emptyMap(), new byte[0]).isSuccessful());
+        assertFalse(new NetworkResponse(404, Collections.emptyMap(), new byte[0]).isSuccessful());
+        assertFalse(new NetworkResponse(500, Collections.emptyMap(), new byte[0]).isSuccessful());
+    }
+
+    @Test
+    public void getCharset_charsetDeclared_returnsCharset() {
+        assertEquals(Optional.of("ISO-8859-1"), responseWithContentType("text/html; charset=ISO-8859-1").getCharset());
+        assertEquals(Optional.of("utf-8"), responseWithContentType("text/html;Charset=\"utf-8\"").getCharset());
+    }
+
+    @Test
+    public void getCharset_charsetMissingOrUnsupported_returnsEmpty() {
+        assertEquals(Optional.empty(),
+                new NetworkResponse(200, Collections.emptyMap(), new byte[0]).getCharset());
+        assertEquals(Optional.empty(), responseWithContentType("text/html").getCharset());
+        assertEquals(Optional.empty(), responseWithContentType("text/html; charset=no-such-charset").getCharset());
+        assertEquals(Optional.empty(), responseWithContentType("text/html; charset=***").getCharset());
+    }
+}
@@ -17,12 +17,19 @@ import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 import seedu.address.MainApp;
+import seedu.address.testutil.FixtureServer;
 import seedu.address.testutil.TestUtil;
+import seedu.address.util.exceptions.ReplayMismatchException;
 
 public class NetworkTest {
     private static final URL HTTPS_TEST_URL = VALID_HTTPS_LINK.getLink().value;
@@ -30,9 +37,92 @@ public class NetworkTest {
     private static final URL FILE_TEST_URL = VALID_FILE_LINK.getLink().value;
     private static final URL REDIRECTING_URL = TestUtil.toUrl("http://arxiv.org/abs/1904.02379");
 
+    private static final int FIXTURE_ARTICLE_SIZE = 4000;
+
+    private static FixtureServer fixtureServer;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @BeforeClass
+    public static void startFixtureServer() throws IOException {
+        fixtureServer = new FixtureServer(5, FIXTURE_ARTICLE_SIZE);
+    }
+
+    @AfterClass
+    public static void stopFixtureServer() {
+        fixtureServer.close();
+    }
+
+    @Before
+    @After
+    public void resetHostThrottles() {
+        // a circuit breaker tripped by one test would otherwise make requests to the same host fail in the next
+        Network.resetHostThrottles();
+    }
+
+    @Test
+    public void fetchAsBytes_fixtureRedirects_followed() throws Exception {
+        fixtureServer.setNumRedirects(3);
+        try {
+            URL articleUrl = fixtureServer.getArticleUrl(0, 1);
+            assertEquals(FixtureServer.MESSAGE_REDIRECT,
+                    new String(Network.fetchAsStreamAsync(articleUrl, 0).get().readAllBytes(), StandardCharsets.UTF_8));
+
+            String article = new String(Network.fetchAsBytes(articleUrl), StandardCharsets.UTF_8);
+            assertTrue(article.contains("<h1>Feed 0 item 1</h1>"));
+        } finally {
+            fixtureServer.setNumRedirects(0);
+        }
+    }
+
+    @Test
+    public void fetchAsBytes_fixtureSlowBody_readCompletely() throws IOException {
+        fixtureServer.setBodyBytesPerSecond(FIXTURE_ARTICLE_SIZE * 4);
+        try {
+            byte[] article = Network.fetchAsBytes(fixtureServer.getArticleUrl(1, 2));
+            assertTrue(article.length >= FIXTURE_ARTICLE_SIZE);
+            assertTrue(new String(article, StandardCharsets.UTF_8).endsWith("</html>\n"));
+        } finally {
+            fixtureServer.setBodyBytesPerSecond(0);
+        }
+    }
+
+    @Test
+    public void fetchArticle_fixtureArticle_linksMadeAbsolute() throws IOException {
+        URL articleUrl = fixtureServer.getArticleUrl(2, 3);
+        String article = new String(Network.fetchArticle(articleUrl), StandardCharsets.UTF_8);
+        assertTrue(article.contains("src=\"" + new URL(articleUrl, "images/3.png") + "\""));
+    }
+
+    @Test
+    public void fetchAsBytes_recordThenReplay_sameContentWithoutRequests() throws IOException {
+        NetworkArchive archive = new NetworkArchive(testFolder.getRoot().toPath());
+        FixtureServer recordedServer = new FixtureServer(1, FIXTURE_ARTICLE_SIZE);
+        URL feedUrl = recordedServer.getRssFeedUrl(0);
+        URL articleUrl = recordedServer.getArticleUrl(0, 0);
+        try {
+            Network.setMode(NetworkMode.RECORD, archive);
+            byte[] recordedFeed = Network.fetchAsBytes(feedUrl);
+            byte[] recordedArticle = Network.fetchAsBytes(articleUrl);
+            int recordedRequestCount = recordedServer.getRequestCount();
+
+            Network.setMode(NetworkMode.REPLAY, new NetworkArchive(archive.getDirectory()));
+            assertArrayEquals(recordedFeed, Network.fetchAsBytes(feedUrl));
+            assertArrayEquals(recordedArticle, Network.fetchAsBytes(articleUrl));
+            assertEquals(recordedRequestCount, recordedServer.getRequestCount());
+
+            thrown.expect(ReplayMismatchException.class);
+            Network.fetchAsBytes(recordedServer.getArticleUrl(0, 1));
+        } finally {
+            recordedServer.close();
+            Network.setMode(NetworkMode.LIVE, null);
+        }
+    }
+
     @Test
     public void fetchAsStream_followsRedirects() throws IOException, ExecutionException, InterruptedException {
         // Ensure that the REDIRECTING_URL actually is a redirect
@@ -11,8 +11,6 @@ import static seedu.address.testutil.TestUtil.getMidIndex;
 import static seedu.address.testutil.TypicalEntries.KEYWORD_MATCHING_TOKI;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
 
-import java.util.Optional;
-
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
@@ -268,7 +266,7 @@ public class ArchiveCommandSystemTest extends EntryBookSystemTest {
      */
     private Entry unarchiveEntry(Model model, Index index) {
         Entry targetEntry = getEntry(model, index);
-        model.unarchiveEntry(targetEntry, Optional.empty());
+        model.unarchiveEntry(targetEntry);
         return targetEntry;
     }
 
@@ -4,8 +4,6 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TestUtil.getEntry;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_ENTRY;
 
-import java.util.Optional;
-
 import org.junit.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -77,7 +75,7 @@ public class ContextSwitchSystemTest extends EntryBookSystemTest {
      */
     private Entry unarchiveEntry(Model model, Index index) {
         Entry targetEntry = getEntry(model, index);
-        model.unarchiveEntry(targetEntry, Optional.empty());
+        model.unarchiveEntry(targetEntry);
         return targetEntry;
     }
 